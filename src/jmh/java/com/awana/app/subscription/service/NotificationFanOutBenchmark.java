@@ -0,0 +1,144 @@
+package com.awana.app.subscription.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.awana.app.subscription.client.domain.NotificationSocket;
+import com.awana.app.subscription.cluster.ClusterTransport;
+import com.awana.app.subscription.cluster.StandaloneClusterTransport;
+import com.awana.app.subscription.notification.UserNotification;
+import com.awana.app.subscription.stomp.SubscriptionSessionIndex;
+import com.awana.common.metrics.MetricsRegistry;
+import com.awana.configs.ObjectMapperConfiguration;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Measures a role broadcast to simulated sessions. Compares the previous
+ * approach of calling {@code convertAndSend} for each session, which writes the
+ * notification to JSON once per recipient, against the serialize once fan out
+ * of {@link WebNotifierService} on the calling thread and in parallel. The
+ * broker channel only counts the payload bytes so the numbers are the cost of
+ * producing the messages.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationFanOutBenchmark {
+
+    @Param({"10000"})
+    private int sessions;
+
+    private final LongAdder bytesSent = new LongAdder();
+
+    private List<String> sessionIds;
+
+    private SimpMessagingTemplate template;
+
+    private WebNotifierService serialService;
+
+    private WebNotifierService parallelService;
+
+    private ExecutorService pool;
+
+    @Setup
+    public void setup() {
+        sessionIds = new ArrayList<>();
+        for(int i = 0; i < sessions; i++) {
+            sessionIds.add("00000000-0000-0000-0000-" + String.format("%012d", i));
+        }
+
+        ObjectMapper mapper = new ObjectMapperConfiguration().objectMapper();
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(mapper);
+
+        MessageChannel brokerChannel = (message, timeout) -> {
+            bytesSent.add(((byte[]) message.getPayload()).length);
+            return true;
+        };
+        template = new SimpMessagingTemplate(brokerChannel);
+        template.setMessageConverter(converter);
+
+        NotificationEncoder encoder = new NotificationEncoder(mapper);
+        pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        serialService = webNotifierService(encoder, Runnable::run);
+        parallelService = webNotifierService(encoder, pool);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public long convertPerSession() {
+        UserNotification body = notification();
+        for(String session : sessionIds) {
+            body.setCreated(LocalDateTime.now());
+            body.setDestination(NotificationSocket.QUEUE_USER_NOTIFICATION);
+            template.convertAndSend(String.format("%s-%s", body.getDestination(), session), body);
+        }
+        return bytesSent.sum();
+    }
+
+    @Benchmark
+    public long encodeOnceSerial() {
+        serialService.send(notification(), sessionIds);
+        return bytesSent.sum();
+    }
+
+    @Benchmark
+    public long encodeOnceParallel() {
+        parallelService.send(notification(), sessionIds);
+        return bytesSent.sum();
+    }
+
+    private UserNotification notification() {
+        UserNotification body = new UserNotification();
+        body.setUserId(12);
+        body.setName("Benchmark User");
+        body.setCreated(LocalDateTime.now());
+        body.setDestination(NotificationSocket.QUEUE_USER_NOTIFICATION);
+        return body;
+    }
+
+    private WebNotifierService webNotifierService(NotificationEncoder encoder, Executor executor) {
+        ClusterTransport transport = new StandaloneClusterTransport("bench");
+        WebNotifierService service = new WebNotifierService();
+        ReflectionTestUtils.setField(service, "template", template);
+        ReflectionTestUtils.setField(service, "encoder", encoder);
+        ReflectionTestUtils.setField(service, "executor", executor);
+        ReflectionTestUtils.setField(service, "transport", transport);
+        ReflectionTestUtils.setField(service, "sessionIndex",
+                                     new SubscriptionSessionIndex(new MetricsRegistry(), transport));
+        return service;
+    }
+}
@@ -0,0 +1,92 @@
+package com.awana.app.subscription.service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.awana.app.subscription.client.domain.Notification;
+import com.awana.app.subscription.client.domain.NotificationSocket;
+import com.awana.app.subscription.notification.SystemFailureNotification;
+import com.awana.app.subscription.notification.UserNotification;
+import com.awana.configs.ObjectMapperConfiguration;
+
+/**
+ * Compares the notification encodings a session can choose. {@code encode}
+ * writes the notification to JSON and transcodes it to the format, the work
+ * done for each notification. {@code transcode} is only the step from the
+ * shared JSON payload to the format. The frame size of each encoding is printed
+ * when the benchmark is set up.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationFormatBenchmark {
+
+    @Param({"USER", "SYSTEM_FAILURE"})
+    private String notification;
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    private NotificationFormat format;
+
+    private NotificationEncoder encoder;
+
+    private Notification body;
+
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        encoder = new NotificationEncoder(new ObjectMapperConfiguration().objectMapper());
+        body = "USER".equals(notification) ? userNotification() : systemFailureNotification();
+        json = encoder.encode(body).getPayload();
+        System.out.printf("%n%s as %s: %d bytes (JSON %d bytes)%n", notification, format,
+                          encoder.transcode(json, format).length, json.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return encoder.transcode(encoder.encode(body).getPayload(), format);
+    }
+
+    @Benchmark
+    public byte[] transcode() {
+        return encoder.transcode(json, format);
+    }
+
+    private Notification userNotification() {
+        UserNotification user = new UserNotification();
+        user.setUserId(12);
+        user.setName("Benchmark User");
+        return prepare(user);
+    }
+
+    private Notification systemFailureNotification() {
+        SystemFailureNotification failure = new SystemFailureNotification();
+        failure.setMessage("Water pump on system 3 stopped responding");
+        return prepare(failure);
+    }
+
+    private Notification prepare(Notification n) {
+        n.setCreated(LocalDateTime.now());
+        n.setDestination(NotificationSocket.QUEUE_USER_NOTIFICATION);
+        n.setSequence(System.currentTimeMillis() * 1000);
+        return n;
+    }
+}
@@ -0,0 +1,101 @@
+package com.awana.app.subscription.stomp;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.DefaultSubscriptionRegistry;
+import org.springframework.messaging.simp.broker.SubscriptionRegistry;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MultiValueMap;
+
+import com.awana.app.subscription.client.domain.NotificationSocket;
+import com.awana.common.metrics.MetricsRegistry;
+
+/**
+ * Measures finding the subscribers of a message sent to one session queue while
+ * every session is subscribed to its own queue and the general topic. The
+ * default registry caches a limited number of destinations and matches every
+ * subscription once they are evicted, the exact match registry does a hash
+ * lookup.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SubscriptionRegistryBenchmark {
+
+    @Param({"1000", "10000"})
+    private int sessions;
+
+    private SubscriptionRegistry defaultRegistry;
+
+    private SubscriptionRegistry exactRegistry;
+
+    private Message<?>[] messages;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        defaultRegistry = new DefaultSubscriptionRegistry();
+        exactRegistry = new ExactMatchSubscriptionRegistry(new MetricsRegistry());
+        messages = new Message<?>[sessions];
+        for(int i = 0; i < sessions; i++) {
+            String sessionId = "session-" + i;
+            String queue = NotificationSocket.QUEUE_USER_NOTIFICATION + "-" + sessionId;
+            for(SubscriptionRegistry registry : new SubscriptionRegistry[] {defaultRegistry, exactRegistry}) {
+                registry.registerSubscription(subscribe(sessionId, "sub-0",
+                                                        NotificationSocket.TOPIC_GENERAL_NOTIFICATION));
+                registry.registerSubscription(subscribe(sessionId, "sub-1", queue));
+            }
+            messages[i] = message(queue);
+        }
+    }
+
+    @Benchmark
+    public MultiValueMap<String, String> defaultRegistry() {
+        return defaultRegistry.findSubscriptions(nextMessage());
+    }
+
+    @Benchmark
+    public MultiValueMap<String, String> exactMatchRegistry() {
+        return exactRegistry.findSubscriptions(nextMessage());
+    }
+
+    private Message<?> nextMessage() {
+        next = (next + 1) % messages.length;
+        return messages[next];
+    }
+
+    private static Message<byte[]> subscribe(String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Message<byte[]> message(String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,72 @@
+package com.awana.app.user.mapper;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.awana.app.user.client.domain.User;
+import com.awana.sql.abstracts.AbstractSqlGlobals;
+
+/**
+ * Measures mapping a user row with {@link UserProfileMapper}. The row comes
+ * from a synthetic {@link ResultSet} that serves the columns of a user profile
+ * from a map, like the user queries it has no password column.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserProfileMapperBenchmark {
+    private ResultSet resultSet;
+
+    @Setup
+    public void setup() {
+        Map<String, Object> row = new HashMap<>();
+        row.put(AbstractSqlGlobals.ID, 12);
+        row.put(AbstractSqlGlobals.FIRST_NAME, "Bench");
+        row.put(AbstractSqlGlobals.LAST_NAME, "Mark");
+        row.put(AbstractSqlGlobals.EMAIL, "bench@mark.com");
+        row.put(AbstractSqlGlobals.WEB_ROLE, "ADMIN");
+        row.put(AbstractSqlGlobals.LAST_LOGIN_DATE, Timestamp.valueOf(LocalDateTime.of(2026, 10, 19, 8, 30)));
+        row.put(AbstractSqlGlobals.INSERT_DATE, Timestamp.valueOf(LocalDateTime.of(2025, 1, 1, 0, 0)));
+        resultSet = resultSet(row);
+    }
+
+    @Benchmark
+    public User mapRow() throws SQLException {
+        return UserProfileMapper.USER_MAPPER.mapRow(resultSet, 0);
+    }
+
+    private static ResultSet resultSet(Map<String, Object> row) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                                                  (proxy, method, args) -> {
+                                                      String column = (String) args[0];
+                                                      if(!row.containsKey(column)) {
+                                                          throw new SQLException("Column '" + column
+                                                                  + "' not found.");
+                                                      }
+                                                      return row.get(column);
+                                                  });
+    }
+}
@@ -0,0 +1,97 @@
+package com.awana.common.datetime;
+
+import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the timestamp formatting done for every date parameter. Compares
+ * the previous approach of building a {@link SimpleDateFormat} or
+ * {@link DateTimeFormatter} on every call against the {@link DateTimeMapper}
+ * backed by the {@link TimestampCodec}. Run with {@code -prof gc} to see the
+ * allocations per call.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateTimeMapperBenchmark {
+    private static final String CUSTOM_FORMAT = "MM/dd/yyyy HH:mm";
+
+    private Date date;
+
+    private LocalDateTime localDateTime;
+
+    private String timestamp;
+
+    private DateTimeFormatter parser;
+
+    @Setup
+    public void setup() {
+        date = new Date(1_792_395_000_000L);
+        localDateTime = LocalDateTime.of(2026, 10, 19, 8, 30, 15);
+        timestamp = "2026-10-19 08:30:15";
+        parser = DateTimeFormatter.ofPattern(TimestampCodec.PATTERN);
+    }
+
+    @Benchmark
+    public String legacyPrintDate() {
+        SimpleDateFormat simpleDateFormat = new SimpleDateFormat(TimestampCodec.PATTERN);
+        simpleDateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return simpleDateFormat.format(date);
+    }
+
+    @Benchmark
+    public String codecPrintDate() {
+        return DateTimeMapper.printDate(date);
+    }
+
+    @Benchmark
+    public String legacyPrintLocalDateTime() {
+        return localDateTime.format(DateTimeFormatter.ofPattern(TimestampCodec.PATTERN));
+    }
+
+    @Benchmark
+    public String codecPrintLocalDateTime() {
+        return DateTimeMapper.printDate(localDateTime);
+    }
+
+    @Benchmark
+    public String legacyPrintCustomFormat() {
+        return localDateTime.format(DateTimeFormatter.ofPattern(CUSTOM_FORMAT));
+    }
+
+    @Benchmark
+    public String cachedPrintCustomFormat() {
+        return DateTimeMapper.printDate(localDateTime, CUSTOM_FORMAT);
+    }
+
+    @Benchmark
+    public LocalDateTime formatterParse() {
+        return LocalDateTime.parse(timestamp, parser);
+    }
+
+    @Benchmark
+    public LocalDateTime codecParse() {
+        return DateTimeMapper.parseDate(timestamp);
+    }
+}
@@ -0,0 +1,69 @@
+package com.awana.common.jwt.utility;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.awana.app.user.client.domain.User;
+import com.awana.app.user.client.domain.WebRole;
+import com.awana.common.environment.AppEnvironmentService;
+import com.awana.common.jwt.domain.JwtPair;
+
+/**
+ * Measures creating a token for a user with {@link JwtTokenUtil} and parsing
+ * one into a {@link JwtPair}, which every authenticated request does.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenBenchmark {
+    private AppEnvironmentService appEnvironmentService;
+
+    private JwtTokenUtil jwtTokenUtil;
+
+    private User user;
+
+    private String token;
+
+    @Setup
+    public void setup() {
+        appEnvironmentService = new AppEnvironmentService();
+        ReflectionTestUtils.setField(appEnvironmentService, "LOCAL_SIGNING_KEY", "benchmark-signing-key");
+        jwtTokenUtil = new JwtTokenUtil();
+        ReflectionTestUtils.setField(jwtTokenUtil, "appEnvironmentService", appEnvironmentService);
+
+        user = new User();
+        user.setId(12);
+        user.setFirstName("Bench");
+        user.setLastName("Mark");
+        user.setEmail("bench@mark.com");
+        user.setWebRole(WebRole.ADMIN);
+        token = jwtTokenUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public JwtPair parseToken() {
+        return new JwtPair(token, appEnvironmentService);
+    }
+}
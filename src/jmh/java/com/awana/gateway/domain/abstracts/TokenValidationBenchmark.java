@@ -0,0 +1,69 @@
+package com.awana.gateway.domain.abstracts;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.awana.app.user.client.domain.User;
+import com.awana.app.user.client.domain.WebRole;
+import com.awana.common.environment.AppEnvironmentService;
+import com.awana.common.jwt.utility.JwtTokenUtil;
+
+/**
+ * Measures the token checks the gateway runs on every authenticated request
+ * in {@link CommonTokenValidator#runTokenValidation}: the prefix check, parsing
+ * the token and the environment and expiration checks.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenValidationBenchmark {
+    private CommonTokenValidator validator;
+
+    private String header;
+
+    @Setup
+    public void setup() {
+        AppEnvironmentService appEnvironmentService = new AppEnvironmentService();
+        ReflectionTestUtils.setField(appEnvironmentService, "LOCAL_SIGNING_KEY", "benchmark-signing-key");
+        JwtTokenUtil jwtTokenUtil = new JwtTokenUtil();
+        ReflectionTestUtils.setField(jwtTokenUtil, "appEnvironmentService", appEnvironmentService);
+
+        validator = new CommonTokenValidator() {
+            @Override
+            public void validateRequest(HttpServletRequest req) {}
+        };
+        ReflectionTestUtils.setField(validator, "appEnvironmentService", appEnvironmentService);
+
+        User user = new User();
+        user.setId(12);
+        user.setFirstName("Bench");
+        user.setLastName("Mark");
+        user.setEmail("bench@mark.com");
+        user.setWebRole(WebRole.ADMIN);
+        header = CommonTokenValidator.TOKEN_PREFIX + " " + jwtTokenUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public void runTokenValidation() {
+        validator.runTokenValidation(header, true);
+    }
+}
@@ -0,0 +1,110 @@
+package com.awana.gateway.route;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import com.awana.app.user.client.domain.WebRole;
+
+/**
+ * Measures the gateway exclusion check per request. Compares the previous
+ * approach of building and running a list of {@link AntPathRequestMatcher}
+ * instances against a precompiled {@link RouteTable} holding the same routes.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteTableBenchmark {
+    private static final String[] APPS = {"user-app", "subscription-app", "system-app", "club-app", "event-app",
+                                          "report-app"};
+
+    private static final String[] RESOURCES = {"profile", "credentials", "settings", "notification"};
+
+    @Param({"GET /api/user-app/profile/12", "POST /api/authenticate", "OPTIONS /api/user-app/profile",
+            "GET /api/report-app/settings/5/detail"})
+    private String request;
+
+    private MockHttpServletRequest servletRequest;
+
+    private RouteTable table;
+
+    private String method;
+
+    private String path;
+
+    @Setup
+    public void setup() {
+        String[] parts = request.split(" ");
+        method = parts[0];
+        path = parts[1];
+        servletRequest = new MockHttpServletRequest(method, path);
+        table = buildTable();
+    }
+
+    @Benchmark
+    public boolean antMatchers() {
+        List<AntPathRequestMatcher> matchers = new ArrayList<>();
+        for(String[] route : routes()) {
+            matchers.add(new AntPathRequestMatcher(route[1], route[0]));
+        }
+        return matchers.stream().anyMatch(m -> m.matches(servletRequest));
+    }
+
+    @Benchmark
+    public Route routeTable() {
+        return table.match(method, path);
+    }
+
+    /**
+     * Builds the route table for the realistic route list.
+     */
+    private RouteTable buildTable() {
+        RouteTable.Builder builder = RouteTable.builder();
+        for(String[] route : routes()) {
+            builder.permit(HttpMethod.valueOf(route[0]), route[1]);
+        }
+        builder.require("/api/subscription-app/**", WebRole.DEVELOPER, HttpMethod.GET, HttpMethod.POST);
+        return builder.build();
+    }
+
+    /**
+     * Generates the route list. Each app exposes an exact route and an id route
+     * per resource, giving 48 routes plus the shared public routes.
+     */
+    private static List<String[]> routes() {
+        List<String[]> routes = new ArrayList<>();
+        routes.add(new String[] {"POST", "/api/authenticate"});
+        routes.add(new String[] {"GET", "/api/user-app/user-profile/check-email"});
+        routes.add(new String[] {"POST", "/api/user-app/user-profile"});
+        routes.add(new String[] {"POST", "/api/user-app/user-profile/forgot-password"});
+        for(String app : APPS) {
+            for(String resource : RESOURCES) {
+                routes.add(new String[] {"PUT", String.format("/api/%s/%s/public", app, resource)});
+                routes.add(new String[] {"DELETE", String.format("/api/%s/%s/{id}/public", app, resource)});
+            }
+        }
+        routes.add(new String[] {"OPTIONS", "/**"});
+        return routes;
+    }
+}
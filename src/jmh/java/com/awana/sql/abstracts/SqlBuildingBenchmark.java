@@ -0,0 +1,67 @@
+package com.awana.sql.abstracts;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.awana.app.user.client.domain.WebRole;
+import com.awana.app.user.dao.UserProfileDAO;
+import com.awana.sql.builder.SqlParamBuilder;
+
+/**
+ * Measures the work a DAO does before a query runs. Building the params of a
+ * user search with the {@link SqlParamBuilder}, and resolving the elsql of the
+ * query with {@link AbstractSqlDao#getSql}, with and without params to filter
+ * the fragment by. The DAO is never connected.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlBuildingBenchmark {
+    private UserProfileDAO dao;
+
+    private MapSqlParameterSource params;
+
+    @Setup
+    public void setup() {
+        dao = new UserProfileDAO(new DriverManagerDataSource("jdbc:mysql://localhost/benchmark"));
+        params = buildParams();
+    }
+
+    @Benchmark
+    public MapSqlParameterSource buildParams() {
+        return SqlParamBuilder.with().withParam(AbstractSqlGlobals.ID, Set.of(12, 13))
+                .withParam(AbstractSqlGlobals.EMAIL, (Object) null).withParam(AbstractSqlGlobals.FIRST_NAME, "Bench")
+                .withParam(AbstractSqlGlobals.LAST_NAME, (Object) null)
+                .withParamTextEnumCollection(AbstractSqlGlobals.WEB_ROLE, Set.of(WebRole.ADMIN, WebRole.USER))
+                .build();
+    }
+
+    @Benchmark
+    public String getSql() {
+        return dao.getSql("deleteUser");
+    }
+
+    @Benchmark
+    public String getSqlWithParams() {
+        return dao.getSql("getUsers", params);
+    }
+}
@@ -3,15 +3,27 @@ package com.awana;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.boot.web.servlet.ServletComponentScan;
-import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.context.ConfigurableApplicationContext;
 
 @SpringBootApplication(exclude = {SecurityAutoConfiguration.class})
 @ServletComponentScan
-@EnableScheduling
 public class InsiteMicroserviceApplication {
 
+	/**
+	 * Number of startup steps buffered for the startup timeline.
+	 */
+	private static final int STARTUP_STEPS = 8192;
+
 	public static void main(String[] args) {
-		SpringApplication.run(InsiteMicroserviceApplication.class, args);
+		SpringApplication application = new SpringApplication(InsiteMicroserviceApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS));
+		ConfigurableApplicationContext context = application.run(args);
+
+		// The class data sharing archive is dumped from a run that exits once started
+		if(context.getEnvironment().getProperty("awana.startup.training-run", Boolean.class, false)) {
+			System.exit(SpringApplication.exit(context));
+		}
 	}
 }
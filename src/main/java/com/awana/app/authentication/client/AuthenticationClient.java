@@ -1,5 +1,7 @@
 package com.awana.app.authentication.client;
 
+import java.util.Optional;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 
@@ -26,10 +28,11 @@ public class AuthenticationClient {
      *
      * @param email    Entered email at login.
      * @param password Password entered at login.
-     * @return {@link AuthToken} with the jwt auth.
+     * @return {@link AuthToken} with the jwt auth, or an empty optional if the
+     *         credentials do not match a user.
      * @throws Exception
      */
-    public AuthToken authenticate(String email, String password) throws Exception {
+    public Optional<AuthToken> authenticate(String email, String password) throws Exception {
         return service.authenticate(new AuthenticationRequest(email, password));
     }
 }
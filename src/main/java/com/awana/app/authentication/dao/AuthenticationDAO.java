@@ -1,11 +1,12 @@
 package com.awana.app.authentication.dao;
 
+import java.util.Optional;
+
 import javax.sql.DataSource;
 
 import org.springframework.security.crypto.bcrypt.BCrypt;
 import org.springframework.stereotype.Repository;
 
-import com.awana.common.exception.NotFoundException;
 import com.awana.sql.abstracts.BaseDao;
 
 /**
@@ -25,15 +26,10 @@ public class AuthenticationDAO extends BaseDao {
      * Get the {@link BCrypt} hashed password for the given email.
      * 
      * @param email The email assocaited with the user.
-     * @return {@link String} of the hashed password.
-     * @throws Exception If there is not user for the given email.
+     * @return {@link String} of the hashed password, or an empty optional if there
+     *         is no user for the given email.
      */
-    public String getUserAuthPassword(String email) throws Exception {
-        try {
-            return get(getSql("getUserHashedPassword"), parameterSource(EMAIL, email), String.class);
-        }
-        catch(Exception e) {
-            throw new NotFoundException("User Email", email);
-        }
+    public Optional<String> getUserAuthPassword(String email) {
+        return getForOptional(getSql("getUserHashedPassword"), parameterSource(EMAIL, email), String.class);
     }
 }
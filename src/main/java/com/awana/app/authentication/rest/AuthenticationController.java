@@ -13,6 +13,8 @@ import com.awana.app.authentication.client.domain.request.AuthenticationRequest;
 import com.awana.app.authentication.openapi.TagAuthentication;
 import com.awana.app.authentication.service.AuthenticationService;
 import com.awana.common.annotations.interfaces.RestApiController;
+import com.awana.common.exception.InvalidCredentialsException;
+import com.awana.common.exception.NotFoundException;
 
 import io.swagger.v3.oas.annotations.Operation;
 
@@ -41,7 +43,8 @@ public class AuthenticationController {
     @PostMapping(path = "/authenticate", produces = APPLICATION_JSON_VALUE)
     public ResponseEntity<AuthToken> authenticateUser(@RequestBody AuthenticationRequest authenticationRequest)
             throws Exception {
-        return ResponseEntity.ok(service.authenticate(authenticationRequest));
+        return ResponseEntity.ok(service.authenticate(authenticationRequest)
+                .orElseThrow(() -> new InvalidCredentialsException(authenticationRequest.getEmail())));
     }
 
     /**
@@ -54,6 +57,7 @@ public class AuthenticationController {
     @Operation(summary = "Re-authenticate a user", description = "Will re-authenticate a user. An existing token is required.")
     @PostMapping(path = "/reauthenticate", produces = APPLICATION_JSON_VALUE)
     public ResponseEntity<AuthToken> reauthenticateUser() throws Exception {
-        return ResponseEntity.ok(service.reauthenticate());
+        return ResponseEntity
+                .ok(service.reauthenticate().orElseThrow(() -> new NotFoundException("User for the token not found")));
     }
 }
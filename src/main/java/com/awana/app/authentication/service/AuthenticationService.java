@@ -1,6 +1,7 @@
 package com.awana.app.authentication.service;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.bcrypt.BCrypt;
@@ -13,9 +14,10 @@ import com.awana.app.authentication.dao.AuthenticationDAO;
 import com.awana.app.user.client.UserProfileClient;
 import com.awana.app.user.client.domain.User;
 import com.awana.app.user.client.domain.request.UserGetRequest;
-import com.awana.common.exception.InvalidCredentialsException;
+import com.awana.common.jfr.PasswordCheckEvent;
 import com.awana.common.jwt.utility.JwtHolder;
 import com.awana.common.jwt.utility.JwtTokenUtil;
+import com.awana.common.metrics.ServerTiming;
 import com.google.common.collect.Sets;
 
 /**
@@ -45,28 +47,33 @@ public class AuthenticationService {
      * Generates a JWT token from a request
      *
      * @param authenticationRequest A email and password request.
-     * @return a new JWT.
-     * @throws Exception - if authentication request does not match a user.
+     * @return a new JWT, or an empty optional if the credentials do not match a
+     *         user.
+     * @throws Exception
      */
-    public AuthToken authenticate(AuthenticationRequest request) throws Exception {
-        User user = verifyUser(request.getEmail(), request.getPassword());
-
-        String token = jwtTokenUtil.generateToken(user);
-        return new AuthToken(token, LocalDateTime.now(), jwtTokenUtil.getExpirationDateFromToken(token), user);
+    public Optional<AuthToken> authenticate(AuthenticationRequest request) throws Exception {
+        return verifyUser(request.getEmail(), request.getPassword()).map(this::buildAuthToken);
     }
 
     /**
      * Will re-authenticate the logged in user and give a new token. If the user id
-     * can not be returned from the current token, it will error and return null.
+     * no longer exists it will return an empty optional.
      * 
      * @return {@link AuthToken} from the token.
-     * @throws Exception If the user for that id does not exist.
      */
-    public AuthToken reauthenticate() throws Exception {
-        User u = userProfileClient.getUserById(jwtHolder.getUserId());
+    public Optional<AuthToken> reauthenticate() {
+        return userProfileClient.getUserById(jwtHolder.getUserId()).map(this::buildAuthToken);
+    }
 
-        String token = jwtTokenUtil.generateToken(u);
-        return new AuthToken(token, LocalDateTime.now(), jwtTokenUtil.getExpirationDateFromToken(token), u);
+    /**
+     * Builds a new token for the given user.
+     * 
+     * @param user The user to build the token for.
+     * @return {@link AuthToken} for the user.
+     */
+    private AuthToken buildAuthToken(User user) {
+        String token = jwtTokenUtil.generateToken(user);
+        return new AuthToken(token, LocalDateTime.now(), jwtTokenUtil.getExpirationDateFromToken(token), user);
     }
 
     /**
@@ -74,15 +81,35 @@ public class AuthenticationService {
      *
      * @param email    Entered email at login.
      * @param password Password entered at login.
-     * @throws Exception Throw an exception if the credentials do not match.
+     * @return The authenticated {@link User}, or an empty optional if the email is
+     *         unknown or the password does not match.
+     * @throws Exception
      */
-    private User verifyUser(String email, String password) throws Exception {
-        if(BCrypt.checkpw(password, dao.getUserAuthPassword(email))) {
+    private Optional<User> verifyUser(String email, String password) throws Exception {
+        Optional<String> hashedPassword = dao.getUserAuthPassword(email);
+        if(hashedPassword.isPresent() && checkPassword(password, hashedPassword.get())) {
             return getAuthenticatedUser(email);
         }
-        else {
-            throw new InvalidCredentialsException(email);
+        return Optional.empty();
+    }
+
+    /**
+     * Checks the password against the stored hash.
+     *
+     * @param password       Password entered at login.
+     * @param hashedPassword The stored hash of the user.
+     * @return boolean if the password matches.
+     */
+    private boolean checkPassword(String password, String hashedPassword) {
+        PasswordCheckEvent event = new PasswordCheckEvent();
+        event.begin();
+        boolean matched;
+        ServerTiming.Span span = ServerTiming.start(ServerTiming.BCRYPT);
+        try(span) {
+            matched = BCrypt.checkpw(password, hashedPassword);
         }
+        event.finish(hashedPassword, matched);
+        return matched;
     }
 
     /**
@@ -93,9 +120,9 @@ public class AuthenticationService {
      * @return {@link User} object of the authenticated user.
      * @throws Exception
      */
-    private User getAuthenticatedUser(String email) throws Exception {
+    private Optional<User> getAuthenticatedUser(String email) throws Exception {
         UserGetRequest request = new UserGetRequest();
         request.setEmail(Sets.newHashSet(email));
-        return userProfileClient.getUsers(request).get(0);
+        return userProfileClient.getUsers(request).stream().findFirst();
     }
 }
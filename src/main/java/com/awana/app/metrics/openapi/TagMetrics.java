@@ -0,0 +1,24 @@
+package com.awana.app.metrics.openapi;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Tag Metrics
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Retention(RUNTIME)
+@Target({TYPE, METHOD, ANNOTATION_TYPE})
+@Inherited
+@Tag(name = "Metrics")
+public @interface TagMetrics {
+
+}
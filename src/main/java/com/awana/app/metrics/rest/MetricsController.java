@@ -0,0 +1,64 @@
+package com.awana.app.metrics.rest;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import com.awana.app.metrics.openapi.TagMetrics;
+import com.awana.app.metrics.service.MetricsService;
+import com.awana.app.user.client.domain.WebRole;
+import com.awana.common.annotations.interfaces.HasAccess;
+import com.awana.common.annotations.interfaces.RestApiController;
+import com.awana.common.exception.NotFoundException;
+import com.awana.common.metrics.domain.MetricsSnapshot;
+import com.awana.common.metrics.domain.RouteSnapshot;
+import com.awana.common.metrics.domain.StartupSnapshot;
+
+import io.swagger.v3.oas.annotations.Operation;
+
+@RequestMapping("/api/metrics-app")
+@RestApiController
+@TagMetrics
+public class MetricsController {
+
+    @Autowired
+    private MetricsService service;
+
+    /**
+     * Gets a snapshot of all the application metrics.
+     *
+     * @return {@link MetricsSnapshot} of the registry.
+     */
+    @Operation(summary = "Get the application metrics", description = "Returns the route, counter, gauge and histogram metrics.")
+    @GetMapping
+    @HasAccess(WebRole.DEVELOPER)
+    public MetricsSnapshot getMetrics() {
+        return service.getMetrics();
+    }
+
+    /**
+     * Gets the per route latency and throughput metrics.
+     *
+     * @return List of {@link RouteSnapshot} objects.
+     */
+    @Operation(summary = "Get the route metrics", description = "Returns request counts, status classes and latency percentiles per route.")
+    @GetMapping(path = "/routes")
+    @HasAccess(WebRole.DEVELOPER)
+    public List<RouteSnapshot> getRouteMetrics() {
+        return service.getRouteMetrics();
+    }
+
+    /**
+     * Gets the startup timeline of the application.
+     *
+     * @return {@link StartupSnapshot} with the slowest beans to create.
+     */
+    @Operation(summary = "Get the startup timeline", description = "Returns the startup time and the beans that took the longest to create.")
+    @GetMapping(path = "/startup")
+    @HasAccess(WebRole.DEVELOPER)
+    public StartupSnapshot getStartup() {
+        return service.getStartup().orElseThrow(() -> new NotFoundException("Startup timeline was not recorded"));
+    }
+}
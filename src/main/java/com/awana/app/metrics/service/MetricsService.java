@@ -0,0 +1,57 @@
+package com.awana.app.metrics.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.awana.common.metrics.MetricsRegistry;
+import com.awana.common.metrics.StartupReport;
+import com.awana.common.metrics.domain.MetricsSnapshot;
+import com.awana.common.metrics.domain.RouteSnapshot;
+import com.awana.common.metrics.domain.StartupSnapshot;
+
+/**
+ * Service for reading the application metrics.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Component
+public class MetricsService {
+
+    @Autowired
+    private MetricsRegistry registry;
+
+    @Autowired
+    private StartupReport startupReport;
+
+    /**
+     * Gets a snapshot of all the application metrics.
+     *
+     * @return {@link MetricsSnapshot} of the registry.
+     */
+    public MetricsSnapshot getMetrics() {
+        return registry.snapshot();
+    }
+
+    /**
+     * Gets a snapshot of the per route request metrics.
+     *
+     * @return List of {@link RouteSnapshot} objects.
+     */
+    public List<RouteSnapshot> getRouteMetrics() {
+        return registry.getRouteSnapshots();
+    }
+
+    /**
+     * Gets the startup timeline of the application.
+     *
+     * @return {@link StartupSnapshot} of the startup, or an empty optional if it
+     *         was not recorded.
+     */
+    public Optional<StartupSnapshot> getStartup() {
+        return Optional.ofNullable(startupReport.getSnapshot());
+    }
+}
@@ -8,13 +8,16 @@ import org.springframework.web.reactive.socket.server.WebSocketService;
 import com.awana.app.subscription.client.domain.Notification;
 import com.awana.app.subscription.client.domain.NotificationSocket;
 import com.awana.app.subscription.client.domain.UserPrincipal;
+import com.awana.app.subscription.service.NotificationDispatcher;
 import com.awana.app.subscription.service.SubscriptionNotifierService;
 import com.awana.app.user.client.domain.WebRole;
 import com.awana.common.annotations.interfaces.Client;
 
 /**
  * Client for {@link WebSocketService} to expose the given endpoint's to other
- * services.
+ * services. Notifications are copied on the calling thread and the copy is
+ * handed to the {@link NotificationDispatcher} and delivered off the calling
+ * thread, so the caller is free to reuse or change its notification.
  * 
  * @author Sam Butler
  * @since Dec 14, 2020
@@ -25,6 +28,9 @@ public class SubscriptionNotifierClient {
     @Autowired
     private SubscriptionNotifierService service;
 
+    @Autowired
+    private NotificationDispatcher dispatcher;
+
     /**
      * Push a web notification to a user for the given user id. The default socket
      * this notification will be sent to
@@ -35,7 +41,8 @@ public class SubscriptionNotifierClient {
      * @param userId The user id of the user to send it too.
      */
     public void sendToUser(Notification body, int userId) {
-        service.sendToUser(body, userId);
+        Notification copy = body.copy();
+        dispatcher.dispatch(NotificationSocket.QUEUE_USER_NOTIFICATION, () -> service.sendToUser(copy, userId));
     }
 
     /**
@@ -48,7 +55,8 @@ public class SubscriptionNotifierClient {
      * @param role The role of the user to send it too.
      */
     public void sendToUser(Notification body, WebRole role) {
-        service.sendToUser(body, role);
+        Notification copy = body.copy();
+        dispatcher.dispatch(NotificationSocket.QUEUE_USER_NOTIFICATION, () -> service.sendToUser(copy, role));
     }
 
     /**
@@ -58,7 +66,8 @@ public class SubscriptionNotifierClient {
      * @param body The body to be sent.
      */
     public void send(Notification body) {
-        service.send(body);
+        Notification copy = body.copy();
+        dispatcher.dispatch(NotificationSocket.TOPIC_GENERAL_NOTIFICATION, () -> service.send(copy));
     }
 
     /**
@@ -68,7 +77,8 @@ public class SubscriptionNotifierClient {
      * @param socket The socket path the notification should be sent too.
      */
     public void send(Notification body, String socket) {
-        service.send(body, socket);
+        Notification copy = body.copy();
+        dispatcher.dispatch(socket, () -> service.send(copy, socket));
     }
 
     /**
@@ -81,7 +91,22 @@ public class SubscriptionNotifierClient {
      *                  too.
      */
     public void send(Notification body, String socket, String sessionId) {
-        service.send(body, socket, sessionId);
+        Notification copy = body.copy();
+        dispatcher.dispatch(socket, () -> service.send(copy, socket, sessionId));
+    }
+
+    /**
+     * Push a web notification to each of the given sessions. The notification is
+     * serialized once and the same payload is sent to every session.
+     * 
+     * @param body       The body to be sent.
+     * @param socket     The socket path the notification should be sent too.
+     * @param sessionIds The session ids of the clients to send the notification
+     *                   too.
+     */
+    public void send(Notification body, String socket, List<String> sessionIds) {
+        Notification copy = body.copy();
+        dispatcher.dispatch(socket, () -> service.send(copy, socket, sessionIds));
     }
 
     /**
@@ -3,17 +3,20 @@ package com.awana.app.subscription.client.domain;
 import java.time.LocalDateTime;
 
 /**
- * Abstract class for extending when creating notifications
+ * Abstract class for extending when creating notifications. Notifications are
+ * copied before they are sent, so the caller's instance is never changed.
  * 
  * @author Sam Butler
  * @since March 24, 2022
  */
-public abstract class Notification implements NotificationBodyType {
+public abstract class Notification implements NotificationBodyType, Cloneable {
 
     private String destination;
 
     private LocalDateTime created;
 
+    private long sequence;
+
     public String getDestination() {
         return destination;
     }
@@ -29,4 +32,27 @@ public abstract class Notification implements NotificationBodyType {
     public void setCreated(LocalDateTime created) {
         this.created = created;
     }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    /**
+     * Creates a shallow copy of the notification, including the fields declared by
+     * its subclass.
+     * 
+     * @return The copy of the notification.
+     */
+    public Notification copy() {
+        try {
+            return (Notification) super.clone();
+        }
+        catch(CloneNotSupportedException e) {
+            throw new IllegalStateException("Notification could not be copied", e);
+        }
+    }
 }
@@ -14,7 +14,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 public enum NotificationType implements TextEnum {
     USER("USER"),
     SYSTEM_FAILURE("SYSTEM_FAILURE"),
-    SYSTEM_LINK("SYSTEM_LINK");
+    SYSTEM_LINK("SYSTEM_LINK"),
+    RESYNC("RESYNC");
 
     private String textId;
 
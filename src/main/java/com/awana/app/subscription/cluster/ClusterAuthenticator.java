@@ -0,0 +1,156 @@
+package com.awana.app.subscription.cluster;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Proves that a cluster peer holds the shared cluster secret and is one of the
+ * trusted nodes. Both sides of a connection send a random challenge, then the
+ * node that opened it answers first and the other side only answers once that
+ * answer checks out. An answer is an HMAC of the role of the node answering,
+ * both node ids and both challenges, so it is only valid for the connection and
+ * direction it was made for and can not be replayed on another connection or
+ * reflected back to the node that made it.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public class ClusterAuthenticator {
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final int CHALLENGE_BYTES = 32;
+
+    private final SecureRandom random = new SecureRandom();
+
+    private final SecretKeySpec key;
+
+    private final Set<String> trustedNodes;
+
+    /**
+     * The side of a connection an answer is made by.
+     */
+    public enum Role {
+        INITIATOR,
+        RESPONDER
+    }
+
+    /**
+     * Creates the authenticator.
+     *
+     * @param secret       The secret shared by every node of the cluster.
+     * @param trustedNodes The node ids allowed to join the cluster.
+     */
+    public ClusterAuthenticator(String secret, Set<String> trustedNodes) {
+        if(secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("A cluster secret is required for the tcp transport");
+        }
+        if(trustedNodes.isEmpty()) {
+            throw new IllegalArgumentException("At least one trusted node is required for the tcp transport");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.trustedNodes = Collections.unmodifiableSet(new HashSet<>(trustedNodes));
+    }
+
+    /**
+     * Creates a new random challenge for a peer to answer.
+     *
+     * @return byte array of the challenge.
+     */
+    public byte[] challenge() {
+        byte[] challenge = new byte[CHALLENGE_BYTES];
+        random.nextBytes(challenge);
+        return challenge;
+    }
+
+    /**
+     * Checks the bytes could be a challenge made by {@link #challenge}.
+     *
+     * @param challenge The challenge sent by a peer.
+     * @return boolean of whether it has the length of a challenge.
+     */
+    public boolean isChallenge(byte[] challenge) {
+        return challenge != null && challenge.length == CHALLENGE_BYTES;
+    }
+
+    /**
+     * Answers the handshake of a connection for the given side of it.
+     *
+     * @param role      The side making the answer.
+     * @param handshake The node ids and challenges of the connection.
+     * @return byte array of the answer.
+     */
+    public byte[] answer(Role role, Handshake handshake) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update((byte) role.ordinal());
+            update(mac, handshake.initiator.getBytes(StandardCharsets.UTF_8));
+            update(mac, handshake.responder.getBytes(StandardCharsets.UTF_8));
+            update(mac, handshake.initiatorChallenge);
+            update(mac, handshake.responderChallenge);
+            return mac.doFinal();
+        }
+        catch(GeneralSecurityException e) {
+            throw new IllegalStateException("Could not answer cluster challenge", e);
+        }
+    }
+
+    /**
+     * Checks the node that made the answer is trusted and that the answer was
+     * made with the shared secret for this side of the handshake.
+     *
+     * @param role      The side that made the answer.
+     * @param handshake The node ids and challenges of the connection.
+     * @param answer    The answer the node sent.
+     * @return boolean of whether the node is authenticated.
+     */
+    public boolean verify(Role role, Handshake handshake, byte[] answer) {
+        String nodeId = role == Role.INITIATOR ? handshake.initiator : handshake.responder;
+        return isTrusted(nodeId) && MessageDigest.isEqual(answer(role, handshake), answer);
+    }
+
+    /**
+     * Checks the node id is one of the trusted nodes.
+     *
+     * @param nodeId The node id to check.
+     * @return boolean of whether the node is trusted.
+     */
+    public boolean isTrusted(String nodeId) {
+        return trustedNodes.contains(nodeId);
+    }
+
+    private static void update(Mac mac, byte[] value) {
+        mac.update(ByteBuffer.allocate(Integer.BYTES).putInt(value.length).array());
+        mac.update(value);
+    }
+
+    /**
+     * The node ids and challenges exchanged on a connection, named by the side
+     * that opened it.
+     */
+    public static final class Handshake {
+        private final String initiator;
+
+        private final String responder;
+
+        private final byte[] initiatorChallenge;
+
+        private final byte[] responderChallenge;
+
+        public Handshake(String initiator, String responder, byte[] initiatorChallenge, byte[] responderChallenge) {
+            this.initiator = initiator;
+            this.responder = responder;
+            this.initiatorChallenge = initiatorChallenge;
+            this.responderChallenge = responderChallenge;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.awana.app.subscription.cluster;
+
+/**
+ * Receives the messages and peer changes of a {@link ClusterTransport}.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public interface ClusterListener {
+
+    /**
+     * Called for each message received from a peer.
+     *
+     * @param message The message that was received.
+     */
+    void onMessage(ClusterMessage message);
+
+    /**
+     * Called once a peer can be sent to.
+     *
+     * @param nodeId The id of the peer.
+     */
+    void onPeerUp(String nodeId);
+
+    /**
+     * Called once a peer can no longer be reached.
+     *
+     * @param nodeId The id of the peer.
+     */
+    void onPeerDown(String nodeId);
+}
@@ -0,0 +1,225 @@
+package com.awana.app.subscription.cluster;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Message exchanged between nodes of the subscription cluster. Notifications
+ * carry the already encoded payload so a peer only has to deliver it, and
+ * session messages keep the node aware session index of each peer up to date.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public final class ClusterMessage {
+
+    /**
+     * The kind of cluster message.
+     */
+    public enum Type {
+        /** First frame on a connection, holds the node id and challenge of the sender. */
+        HELLO,
+
+        /** Answer to the challenge of the other side of a connection. */
+        AUTH,
+
+        /** Keep alive sent to check a peer is still reachable. */
+        PING,
+
+        /** Notification for a topic, delivered to the local subscribers. */
+        TOPIC,
+
+        /** Notification for sessions owned by the receiving node. */
+        SESSIONS,
+
+        /** A session connected on the sending node. */
+        SESSION_UP,
+
+        /** A session disconnected on the sending node. */
+        SESSION_DOWN
+    }
+
+    private final Type type;
+
+    private final String origin;
+
+    private final String destination;
+
+    private final List<String> sessions;
+
+    private final int userId;
+
+    private final String webRole;
+
+    private final byte[] payload;
+
+    private ClusterMessage(Type type, String origin, String destination, List<String> sessions, int userId,
+            String webRole, byte[] payload) {
+        this.type = type;
+        this.origin = origin;
+        this.destination = destination;
+        this.sessions = Collections.unmodifiableList(sessions);
+        this.userId = userId;
+        this.webRole = webRole;
+        this.payload = payload;
+    }
+
+    /**
+     * Creates a hello message for the node.
+     *
+     * @param origin    The node id of the sender.
+     * @param challenge The challenge the other side has to answer.
+     * @return {@link ClusterMessage} for the hello.
+     */
+    public static ClusterMessage hello(String origin, byte[] challenge) {
+        return new ClusterMessage(Type.HELLO, origin, "", Collections.emptyList(), 0, "", challenge);
+    }
+
+    /**
+     * Creates the answer of the node to the challenge of the other side.
+     *
+     * @param origin The node id of the sender.
+     * @param answer The answer to the challenge.
+     * @return {@link ClusterMessage} for the answer.
+     */
+    public static ClusterMessage auth(String origin, byte[] answer) {
+        return new ClusterMessage(Type.AUTH, origin, "", Collections.emptyList(), 0, "", answer);
+    }
+
+    /**
+     * Creates a keep alive message for the node.
+     *
+     * @param origin The node id of the sender.
+     * @return {@link ClusterMessage} for the ping.
+     */
+    public static ClusterMessage ping(String origin) {
+        return new ClusterMessage(Type.PING, origin, "", Collections.emptyList(), 0, "", new byte[0]);
+    }
+
+    /**
+     * Creates a topic notification.
+     *
+     * @param origin      The node id of the sender.
+     * @param destination The topic the notification is for.
+     * @param payload     The encoded notification.
+     * @return {@link ClusterMessage} for the notification.
+     */
+    public static ClusterMessage topic(String origin, String destination, byte[] payload) {
+        return new ClusterMessage(Type.TOPIC, origin, destination, Collections.emptyList(), 0, "", payload);
+    }
+
+    /**
+     * Creates a notification for sessions owned by the receiving node.
+     *
+     * @param origin      The node id of the sender.
+     * @param destination The socket the notification is for, the session id is
+     *                    added to it for each session.
+     * @param sessions    The sessions to deliver to.
+     * @param payload     The encoded notification.
+     * @return {@link ClusterMessage} for the notification.
+     */
+    public static ClusterMessage sessions(String origin, String destination, List<String> sessions, byte[] payload) {
+        return new ClusterMessage(Type.SESSIONS, origin, destination, new ArrayList<>(sessions), 0, "", payload);
+    }
+
+    /**
+     * Creates a message announcing a session connected on the sender.
+     *
+     * @param origin  The node id of the sender.
+     * @param session The principal name of the session.
+     * @param userId  The id of the user of the session.
+     * @param webRole The web role of the user.
+     * @return {@link ClusterMessage} for the session.
+     */
+    public static ClusterMessage sessionUp(String origin, String session, int userId, String webRole) {
+        return new ClusterMessage(Type.SESSION_UP, origin, "", Collections.singletonList(session), userId,
+                                  webRole == null ? "" : webRole, new byte[0]);
+    }
+
+    /**
+     * Creates a message announcing a session disconnected on the sender.
+     *
+     * @param origin  The node id of the sender.
+     * @param session The principal name of the session.
+     * @return {@link ClusterMessage} for the session.
+     */
+    public static ClusterMessage sessionDown(String origin, String session) {
+        return new ClusterMessage(Type.SESSION_DOWN, origin, "", Collections.singletonList(session), 0, "",
+                                  new byte[0]);
+    }
+
+    /**
+     * Writes the message to the stream.
+     *
+     * @param out The stream to write to.
+     * @throws IOException If the stream can not be written to.
+     */
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeUTF(type.name());
+        out.writeUTF(origin);
+        out.writeUTF(destination);
+        out.writeInt(sessions.size());
+        for(String session : sessions) {
+            out.writeUTF(session);
+        }
+        out.writeInt(userId);
+        out.writeUTF(webRole);
+        out.writeInt(payload.length);
+        out.write(payload);
+    }
+
+    /**
+     * Reads a message from the stream.
+     *
+     * @param in The stream to read from.
+     * @return {@link ClusterMessage} that was read.
+     * @throws IOException If the stream can not be read.
+     */
+    public static ClusterMessage readFrom(DataInputStream in) throws IOException {
+        Type type = Type.valueOf(in.readUTF());
+        String origin = in.readUTF();
+        String destination = in.readUTF();
+        int sessionCount = in.readInt();
+        List<String> sessions = new ArrayList<>(sessionCount);
+        for(int i = 0; i < sessionCount; i++) {
+            sessions.add(in.readUTF());
+        }
+        int userId = in.readInt();
+        String webRole = in.readUTF();
+        byte[] payload = new byte[in.readInt()];
+        in.readFully(payload);
+        return new ClusterMessage(type, origin, destination, sessions, userId, webRole, payload);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public String getDestination() {
+        return destination;
+    }
+
+    public List<String> getSessions() {
+        return sessions;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public String getWebRole() {
+        return webRole;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+}
@@ -0,0 +1,118 @@
+package com.awana.app.subscription.cluster;
+
+import java.security.Principal;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import com.awana.app.subscription.client.domain.UserPrincipal;
+import com.awana.app.subscription.service.WebNotifierService;
+import com.awana.app.subscription.stomp.SubscriptionSessionIndex;
+import com.awana.app.user.client.domain.User;
+import com.awana.app.user.client.domain.WebRole;
+
+/**
+ * Connects this node to the rest of the subscription cluster. Local session
+ * changes are announced to the peers so their session index knows which node
+ * owns each session, and notifications forwarded by the peers are delivered to
+ * the local sessions and topic subscribers.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Component
+public class ClusterNotifier implements ClusterListener {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClusterNotifier.class);
+
+    @Autowired
+    private ClusterTransport transport;
+
+    @Autowired
+    private WebNotifierService webNotifierService;
+
+    @Autowired
+    private SubscriptionSessionIndex sessionIndex;
+
+    @PostConstruct
+    public void start() {
+        transport.start(this);
+    }
+
+    @PreDestroy
+    public void stop() {
+        transport.stop();
+    }
+
+    /**
+     * Announces a new local session to the peers.
+     *
+     * @param event The connected event of the session.
+     */
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        Principal user = event.getUser();
+        if(user instanceof UserPrincipal) {
+            transport.publish(sessionUp((UserPrincipal) user));
+        }
+    }
+
+    /**
+     * Announces a closed local session to the peers.
+     *
+     * @param event The disconnect event of the session.
+     */
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Principal user = event.getUser();
+        if(user instanceof UserPrincipal) {
+            transport.publish(ClusterMessage.sessionDown(transport.getNodeId(), user.getName()));
+        }
+    }
+
+    @Override
+    public void onMessage(ClusterMessage message) {
+        switch(message.getType()) {
+            case TOPIC:
+                webNotifierService.deliver(message.getDestination(), message.getPayload());
+                break;
+            case SESSIONS:
+                webNotifierService.deliver(message.getDestination(), message.getSessions(), message.getPayload());
+                break;
+            case SESSION_UP:
+                WebRole role = message.getWebRole().isEmpty() ? null : WebRole.valueOf(message.getWebRole());
+                sessionIndex.addRemote(message.getOrigin(), message.getSessions().get(0), message.getUserId(), role);
+                break;
+            case SESSION_DOWN:
+                sessionIndex.removeRemote(message.getSessions().get(0));
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void onPeerUp(String nodeId) {
+        LOGGER.info("Cluster peer '{}' joined, sending local sessions", nodeId);
+        sessionIndex.getLocalSessions().forEach(principal -> transport.send(nodeId, sessionUp(principal)));
+    }
+
+    @Override
+    public void onPeerDown(String nodeId) {
+        LOGGER.info("Cluster peer '{}' left, removing its sessions", nodeId);
+        sessionIndex.removeNode(nodeId);
+    }
+
+    private ClusterMessage sessionUp(UserPrincipal principal) {
+        User user = principal.getUser();
+        String role = user.getWebRole() == null ? null : user.getWebRole().name();
+        return ClusterMessage.sessionUp(transport.getNodeId(), principal.getName(), user.getId(), role);
+    }
+}
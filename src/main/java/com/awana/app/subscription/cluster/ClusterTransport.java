@@ -0,0 +1,48 @@
+package com.awana.app.subscription.cluster;
+
+/**
+ * Transport used to exchange {@link ClusterMessage} objects with the other
+ * nodes running the subscription broker. Implementations decide how peers are
+ * found and reached, the rest of the cluster layer only deals in node ids.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public interface ClusterTransport {
+
+    /**
+     * Gets the id of this node. It is unique across the cluster.
+     *
+     * @return {@link String} id of the node.
+     */
+    String getNodeId();
+
+    /**
+     * Starts the transport. Messages and peer changes are passed to the listener
+     * from this point on.
+     *
+     * @param listener The listener for the transport.
+     */
+    void start(ClusterListener listener);
+
+    /**
+     * Sends the message to every peer.
+     *
+     * @param message The message to send.
+     */
+    void publish(ClusterMessage message);
+
+    /**
+     * Sends the message to a single peer. If the peer is not reachable the
+     * message is dropped.
+     *
+     * @param nodeId  The id of the peer.
+     * @param message The message to send.
+     */
+    void send(String nodeId, ClusterMessage message);
+
+    /**
+     * Stops the transport and closes any connections to peers.
+     */
+    void stop();
+}
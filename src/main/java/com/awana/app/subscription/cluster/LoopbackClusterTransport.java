@@ -0,0 +1,81 @@
+package com.awana.app.subscription.cluster;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In process transport that connects every node joined to the same
+ * {@link Hub}. Messages are delivered on the calling thread so tests can run a
+ * whole cluster in one JVM and check the result right after sending.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public class LoopbackClusterTransport implements ClusterTransport {
+    private final String nodeId;
+
+    private final Hub hub;
+
+    private volatile ClusterListener listener;
+
+    public LoopbackClusterTransport(String nodeId, Hub hub) {
+        this.nodeId = nodeId;
+        this.hub = hub;
+    }
+
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void start(ClusterListener listener) {
+        this.listener = listener;
+        hub.join(this);
+    }
+
+    @Override
+    public void publish(ClusterMessage message) {
+        hub.members.forEach((id, peer) -> {
+            if(!id.equals(nodeId)) {
+                peer.listener.onMessage(message);
+            }
+        });
+    }
+
+    @Override
+    public void send(String nodeId, ClusterMessage message) {
+        LoopbackClusterTransport peer = hub.members.get(nodeId);
+        if(peer != null && peer != this) {
+            peer.listener.onMessage(message);
+        }
+    }
+
+    @Override
+    public void stop() {
+        hub.leave(this);
+    }
+
+    /**
+     * Group of nodes that can reach each other.
+     */
+    public static class Hub {
+        private final Map<String, LoopbackClusterTransport> members = new ConcurrentHashMap<>();
+
+        private synchronized void join(LoopbackClusterTransport node) {
+            members.put(node.nodeId, node);
+            members.forEach((id, peer) -> {
+                if(peer != node) {
+                    peer.listener.onPeerUp(node.nodeId);
+                    node.listener.onPeerUp(id);
+                }
+            });
+        }
+
+        private synchronized void leave(LoopbackClusterTransport node) {
+            if(members.remove(node.nodeId, node)) {
+                members.values().forEach(peer -> peer.listener.onPeerDown(node.nodeId));
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.awana.app.subscription.cluster;
+
+/**
+ * Transport for a node running on its own. There are no peers so nothing is
+ * ever sent or received.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public class StandaloneClusterTransport implements ClusterTransport {
+    private final String nodeId;
+
+    public StandaloneClusterTransport(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void start(ClusterListener listener) {
+        // No peers to listen to
+    }
+
+    @Override
+    public void publish(ClusterMessage message) {
+        // No peers to send to
+    }
+
+    @Override
+    public void send(String nodeId, ClusterMessage message) {
+        // No peers to send to
+    }
+
+    @Override
+    public void stop() {
+        // Nothing to close
+    }
+}
@@ -0,0 +1,439 @@
+package com.awana.app.subscription.cluster;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import com.awana.app.subscription.cluster.ClusterAuthenticator.Handshake;
+import com.awana.app.subscription.cluster.ClusterAuthenticator.Role;
+
+/**
+ * Transport that connects to each configured peer over TCP. Every node listens
+ * on its cluster host and port for peers to connect to it, and opens its own
+ * connection to every peer it sends to. A connection starts with both sides
+ * exchanging a {@link ClusterMessage.Type#HELLO} holding their node id and a
+ * challenge. The node that opened it then sends its
+ * {@link ClusterMessage.Type#AUTH}, and the other side only answers with its
+ * own once that checks out, see {@link ClusterAuthenticator}. Connections from
+ * nodes that are not trusted, claim the id of this node or fail the challenge
+ * are closed before any message is read, after that messages only flow from
+ * the node that opened it and must carry its node id. Frames are a length
+ * followed by the message.
+ *
+ * Messages to a peer are queued and written by a thread of its own, so a slow
+ * peer never blocks the caller. A peer whose queue fills up is closed and
+ * reported down. Peers that can not be reached are retried and connected peers
+ * are pinged on the heartbeat interval, so a peer that goes away is reported
+ * down within one interval.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public class TcpClusterTransport implements ClusterTransport {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TcpClusterTransport.class);
+
+    private static final int MAX_FRAME_BYTES = 16 * 1024 * 1024;
+
+    private static final int MAX_HANDSHAKE_FRAME_BYTES = 4096;
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 2000;
+
+    private final String nodeId;
+
+    private final InetSocketAddress address;
+
+    private final List<InetSocketAddress> peers;
+
+    private final long heartbeatMillis;
+
+    private final int queueLimit;
+
+    private final ClusterAuthenticator authenticator;
+
+    private final Map<InetSocketAddress, Peer> outbound = new ConcurrentHashMap<>();
+
+    private final Map<String, Peer> byNode = new ConcurrentHashMap<>();
+
+    private final Set<Socket> inbound = ConcurrentHashMap.newKeySet();
+
+    private volatile ClusterListener listener;
+
+    private volatile boolean running;
+
+    private ServerSocket server;
+
+    private ExecutorService readers;
+
+    private ExecutorService writers;
+
+    private ScheduledExecutorService heartbeat;
+
+    /**
+     * Creates the transport.
+     *
+     * @param nodeId          The id of this node.
+     * @param address         The host and port to listen on for peers, port 0
+     *                        picks any free port.
+     * @param peers           The addresses of the peers to connect to.
+     * @param heartbeatMillis How often peers are pinged and reconnected.
+     * @param queueLimit      How many messages can wait to be written to a peer
+     *                        before it is closed.
+     * @param authenticator   Checks peers hold the cluster secret.
+     */
+    public TcpClusterTransport(String nodeId, InetSocketAddress address, List<InetSocketAddress> peers,
+            long heartbeatMillis, int queueLimit, ClusterAuthenticator authenticator) {
+        this.nodeId = nodeId;
+        this.address = address;
+        this.peers = peers;
+        this.heartbeatMillis = heartbeatMillis;
+        this.queueLimit = queueLimit;
+        this.authenticator = authenticator;
+    }
+
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public synchronized void start(ClusterListener listener) {
+        this.listener = listener;
+        try {
+            server = new ServerSocket();
+            server.bind(address);
+        }
+        catch(IOException e) {
+            throw new IllegalStateException("Could not listen for cluster peers on " + address, e);
+        }
+        running = true;
+
+        CustomizableThreadFactory readerFactory = new CustomizableThreadFactory("cluster-reader-");
+        readerFactory.setDaemon(true);
+        readers = Executors.newCachedThreadPool(readerFactory);
+        readers.execute(this::acceptConnections);
+
+        CustomizableThreadFactory writerFactory = new CustomizableThreadFactory("cluster-writer-");
+        writerFactory.setDaemon(true);
+        writers = Executors.newCachedThreadPool(writerFactory);
+
+        CustomizableThreadFactory heartbeatFactory = new CustomizableThreadFactory("cluster-heartbeat-");
+        heartbeatFactory.setDaemon(true);
+        heartbeat = Executors.newSingleThreadScheduledExecutor(heartbeatFactory);
+        heartbeat.scheduleWithFixedDelay(this::checkPeers, 0, heartbeatMillis, TimeUnit.MILLISECONDS);
+        LOGGER.info("Cluster node '{}' listening on {} with {} peers", nodeId, server.getLocalSocketAddress(),
+                    peers.size());
+    }
+
+    @Override
+    public void publish(ClusterMessage message) {
+        byNode.values().forEach(peer -> enqueue(peer, message));
+    }
+
+    @Override
+    public void send(String nodeId, ClusterMessage message) {
+        Peer peer = byNode.get(nodeId);
+        if(peer != null) {
+            enqueue(peer, message);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if(heartbeat != null) {
+            heartbeat.shutdownNow();
+        }
+        closeQuietly(server);
+        outbound.values().forEach(Peer::close);
+        outbound.clear();
+        inbound.forEach(TcpClusterTransport::closeQuietly);
+        inbound.clear();
+        byNode.clear();
+        if(readers != null) {
+            readers.shutdownNow();
+        }
+        if(writers != null) {
+            writers.shutdownNow();
+        }
+    }
+
+    /**
+     * Gets the port the transport is listening on.
+     *
+     * @return int of the port, or -1 if it has not been started.
+     */
+    public int getPort() {
+        return server == null ? -1 : server.getLocalPort();
+    }
+
+    /**
+     * Accepts peer connections until the transport is stopped.
+     */
+    private void acceptConnections() {
+        while(running) {
+            try {
+                Socket socket = server.accept();
+                inbound.add(socket);
+                readers.execute(() -> readConnection(socket));
+            }
+            catch(IOException e) {
+                if(running) {
+                    LOGGER.warn("Failed to accept cluster connection: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Authenticates a peer and passes every message it sends to the listener until
+     * the connection is closed. The connection is closed if the peer is not
+     * trusted, fails the challenge or sends a message for another node.
+     */
+    private void readConnection(Socket socket) {
+        try(Socket s = socket;
+                DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream()));
+                DataOutputStream out = new DataOutputStream(s.getOutputStream())) {
+            s.setSoTimeout(CONNECT_TIMEOUT_MILLIS);
+            ClusterMessage hello = readFrame(in, MAX_HANDSHAKE_FRAME_BYTES);
+            if(!isPeerHello(hello)) {
+                LOGGER.warn("Rejected cluster connection from {}, not a trusted node", s.getRemoteSocketAddress());
+                return;
+            }
+            byte[] challenge = authenticator.challenge();
+            writeFrame(out, ClusterMessage.hello(nodeId, challenge));
+
+            Handshake handshake = new Handshake(hello.getOrigin(), nodeId, hello.getPayload(), challenge);
+            ClusterMessage auth = readFrame(in, MAX_HANDSHAKE_FRAME_BYTES);
+            if(auth.getType() != ClusterMessage.Type.AUTH
+                    || !authenticator.verify(Role.INITIATOR, handshake, auth.getPayload())) {
+                LOGGER.warn("Rejected cluster connection from {}, failed the challenge", s.getRemoteSocketAddress());
+                return;
+            }
+            writeFrame(out, ClusterMessage.auth(nodeId, authenticator.answer(Role.RESPONDER, handshake)));
+            s.setSoTimeout(0);
+
+            while(running) {
+                ClusterMessage message = readFrame(in, MAX_FRAME_BYTES);
+                if(!hello.getOrigin().equals(message.getOrigin())) {
+                    LOGGER.warn("Closing cluster connection from '{}', message sent for '{}'", hello.getOrigin(),
+                                message.getOrigin());
+                    return;
+                }
+                if(message.getType() != ClusterMessage.Type.PING) {
+                    handle(message);
+                }
+            }
+        }
+        catch(IOException e) {
+            LOGGER.debug("Cluster connection closed: {}", e.getMessage());
+        }
+        finally {
+            inbound.remove(socket);
+        }
+    }
+
+    /**
+     * Checks the hello is from a trusted node other than this one and carries a
+     * challenge.
+     */
+    private boolean isPeerHello(ClusterMessage hello) {
+        return hello.getType() == ClusterMessage.Type.HELLO && !nodeId.equals(hello.getOrigin())
+                && authenticator.isTrusted(hello.getOrigin()) && authenticator.isChallenge(hello.getPayload());
+    }
+
+    /**
+     * Passes the message to the listener. A message that fails is logged so the
+     * connection keeps reading.
+     */
+    private void handle(ClusterMessage message) {
+        try {
+            listener.onMessage(message);
+        }
+        catch(RuntimeException e) {
+            LOGGER.error("Failed to handle cluster message of type '{}'", message.getType(), e);
+        }
+    }
+
+    /**
+     * Connects to peers that are not connected and pings the ones that are.
+     */
+    private void checkPeers() {
+        for(InetSocketAddress address : peers) {
+            Peer peer = outbound.get(address);
+            if(peer == null) {
+                connect(address);
+            }
+            else {
+                enqueue(peer, ClusterMessage.ping(nodeId));
+            }
+        }
+    }
+
+    /**
+     * Opens a connection to the peer and authenticates with it. The address is
+     * resolved on each attempt so peers that move are picked up.
+     */
+    private void connect(InetSocketAddress address) {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(address.getHostString(), address.getPort()), CONNECT_TIMEOUT_MILLIS);
+            socket.setTcpNoDelay(true);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            byte[] challenge = authenticator.challenge();
+            writeFrame(out, ClusterMessage.hello(nodeId, challenge));
+
+            socket.setSoTimeout(CONNECT_TIMEOUT_MILLIS);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            ClusterMessage hello = readFrame(in, MAX_HANDSHAKE_FRAME_BYTES);
+            if(!isPeerHello(hello)) {
+                throw new IOException("peer '" + hello.getOrigin() + "' is not a trusted node");
+            }
+            Handshake handshake = new Handshake(nodeId, hello.getOrigin(), challenge, hello.getPayload());
+            writeFrame(out, ClusterMessage.auth(nodeId, authenticator.answer(Role.INITIATOR, handshake)));
+
+            ClusterMessage auth = readFrame(in, MAX_HANDSHAKE_FRAME_BYTES);
+            if(auth.getType() != ClusterMessage.Type.AUTH
+                    || !authenticator.verify(Role.RESPONDER, handshake, auth.getPayload())) {
+                throw new IOException("peer '" + hello.getOrigin() + "' failed the challenge");
+            }
+            socket.setSoTimeout(0);
+
+            Peer peer = new Peer(hello.getOrigin(), address, socket, out, queueLimit);
+            outbound.put(address, peer);
+            byNode.put(peer.nodeId, peer);
+            writers.execute(() -> drain(peer));
+            LOGGER.info("Connected to cluster peer '{}' at {}", peer.nodeId, address);
+            listener.onPeerUp(peer.nodeId);
+        }
+        catch(IOException e) {
+            closeQuietly(socket);
+            LOGGER.debug("Cluster peer {} not reachable: {}", address, e.getMessage());
+        }
+    }
+
+    /**
+     * Queues the message for the writer of the peer. If the queue is full the
+     * peer is not keeping up, so it is closed and reported down instead of
+     * blocking the caller.
+     */
+    private void enqueue(Peer peer, ClusterMessage message) {
+        if(!peer.queue.offer(message)) {
+            disconnect(peer, "send queue of " + queueLimit + " messages is full");
+        }
+    }
+
+    /**
+     * Writes the queued messages of the peer until it is closed, marking it down
+     * if a write fails.
+     */
+    private void drain(Peer peer) {
+        try {
+            while(running && !peer.closed) {
+                ClusterMessage message = peer.queue.poll(heartbeatMillis, TimeUnit.MILLISECONDS);
+                if(message != null) {
+                    writeFrame(peer.out, message);
+                }
+            }
+        }
+        catch(IOException e) {
+            disconnect(peer, e.getMessage());
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Closes the connection to the peer and reports it down. Closing the socket
+     * also unblocks a writer that is stuck on it.
+     */
+    private void disconnect(Peer peer, String reason) {
+        peer.close();
+        outbound.remove(peer.address, peer);
+        if(byNode.remove(peer.nodeId, peer)) {
+            LOGGER.warn("Lost connection to cluster peer '{}': {}", peer.nodeId, reason);
+            listener.onPeerDown(peer.nodeId);
+        }
+    }
+
+    private static void writeFrame(DataOutputStream out, ClusterMessage message) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        message.writeTo(new DataOutputStream(buffer));
+        out.writeInt(buffer.size());
+        buffer.writeTo(out);
+        out.flush();
+    }
+
+    private static ClusterMessage readFrame(DataInputStream in, int maxBytes) throws IOException {
+        int length = in.readInt();
+        if(length < 0 || length > maxBytes) {
+            throw new IOException("Invalid cluster frame length " + length);
+        }
+        byte[] frame = new byte[length];
+        in.readFully(frame);
+        return ClusterMessage.readFrom(new DataInputStream(new ByteArrayInputStream(frame)));
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            if(closeable != null) {
+                closeable.close();
+            }
+        }
+        catch(Exception e) {
+            LOGGER.debug("Failed to close cluster resource: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Outbound connection to a peer with the messages waiting to be written to it.
+     */
+    private static class Peer {
+        private final String nodeId;
+
+        private final InetSocketAddress address;
+
+        private final Socket socket;
+
+        private final DataOutputStream out;
+
+        private final BlockingQueue<ClusterMessage> queue;
+
+        private volatile boolean closed;
+
+        private Peer(String nodeId, InetSocketAddress address, Socket socket, DataOutputStream out, int queueLimit) {
+            this.nodeId = nodeId;
+            this.address = address;
+            this.socket = socket;
+            this.out = out;
+            this.queue = new ArrayBlockingQueue<>(queueLimit);
+        }
+
+        private void close() {
+            closed = true;
+            queue.clear();
+            closeQuietly(socket);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.awana.app.subscription.dao;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.awana.app.user.client.domain.WebRole;
+import com.awana.sql.abstracts.BaseDao;
+import com.awana.sql.builder.SqlParamBuilder;
+
+/**
+ * Class for handling the dao calls for the notification log. The log is append
+ * only, rows are keyed by the destination and its sequence.
+ * 
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Repository
+public class NotificationLogDAO extends BaseDao {
+
+    @Autowired
+    public NotificationLogDAO(DataSource source) {
+        super(source);
+    }
+
+    /**
+     * Appends an encoded notification to the log. A notification for everyone on
+     * the destination has no user id or web role.
+     * 
+     * @param destination The destination the notification was sent to.
+     * @param sequence    The sequence of the notification on the destination.
+     * @param userId      The user the notification was for, may be null.
+     * @param role        The role the notification was for, may be null.
+     * @param payload     The JSON of the notification.
+     */
+    public void insertNotification(String destination, long sequence, Integer userId, WebRole role,
+            byte[] payload) {
+        MapSqlParameterSource params = SqlParamBuilder.with().withParam(DESTINATION, destination)
+                .withParam(SEQUENCE, sequence).withParam(USER_ID, userId).withParam(WEB_ROLE, role)
+                .withParam(PAYLOAD, payload).build();
+        post(getSql("insertNotification", params), params);
+    }
+
+    /**
+     * Gets the notifications on the destination after the given sequence, up to
+     * and including the last sequence, that were sent to everyone, to the user or
+     * to the role of the user.
+     * 
+     * @param destination The destination to get the notifications for.
+     * @param sequence    The last sequence the client has seen.
+     * @param upTo        The last sequence to include.
+     * @param userId      The id of the user.
+     * @param role        The role of the user.
+     * @param limit       The most notifications to return.
+     * @return List of the notification payloads in sequence order.
+     */
+    public List<byte[]> getNotificationsAfter(String destination, long sequence, long upTo, int userId,
+            WebRole role, int limit) {
+        MapSqlParameterSource params = SqlParamBuilder.with().withParam(DESTINATION, destination)
+                .withParam(SEQUENCE, sequence).withParam(UP_TO_SEQUENCE, upTo).withParam(USER_ID, userId)
+                .withParam(WEB_ROLE, role).withParam(ROW_LIMIT, limit).build();
+        return getPage(getSql("getNotificationsAfter", params), params, (rs, n) -> rs.getBytes(PAYLOAD));
+    }
+
+    /**
+     * Gets the oldest sequence stored for the destination.
+     * 
+     * @param destination The destination to get the sequence for.
+     * @return The oldest sequence or an empty optional if nothing is stored.
+     */
+    public Optional<Long> getOldestSequence(String destination) {
+        MapSqlParameterSource params = parameterSource(DESTINATION, destination);
+        return getForOptional(getSql("getOldestSequence", params), params, Long.class);
+    }
+
+    /**
+     * Gets the latest sequence stored for the destination.
+     * 
+     * @param destination The destination to get the sequence for.
+     * @return The latest sequence or an empty optional if nothing is stored.
+     */
+    public Optional<Long> getLatestSequence(String destination) {
+        MapSqlParameterSource params = parameterSource(DESTINATION, destination);
+        return getForOptional(getSql("getLatestSequence", params), params, Long.class);
+    }
+}
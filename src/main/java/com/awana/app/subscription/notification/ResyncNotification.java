@@ -0,0 +1,23 @@
+package com.awana.app.subscription.notification;
+
+import com.awana.app.subscription.client.domain.Notification;
+import com.awana.app.subscription.client.domain.NotificationType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Sent to a reconnecting client when the notifications it missed can no longer
+ * be replayed. The client should reload its state and resume from the sequence
+ * of this notification.
+ * 
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Schema(description = "Resync Notification")
+public class ResyncNotification extends Notification {
+
+    @Override
+    public NotificationType getBodyType() {
+        return NotificationType.RESYNC;
+    }
+}
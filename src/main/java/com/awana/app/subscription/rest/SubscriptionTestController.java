@@ -1,8 +1,10 @@
 package com.awana.app.subscription.rest;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -19,6 +21,7 @@ import com.awana.common.annotations.interfaces.RestApiController;
 
 import io.swagger.v3.oas.annotations.Operation;
 
+@Lazy
 @RequestMapping("/api/subscription-app")
 @RestApiController
 @TagSubscription
@@ -39,6 +42,18 @@ public class SubscriptionTestController {
         return service.getActiveUserSessions();
     }
 
+    /**
+     * Will get the number of subscriptions to each destination on the broker.
+     * 
+     * @return Map of the destination to its number of subscriptions.
+     */
+    @Operation(summary = "Get's the subscriber count of each destination", description = "Will return a map of each subscribed destination to its number of subscriptions.")
+    @GetMapping(path = "/destinations")
+    @HasAccess(WebRole.DEVELOPER)
+    public Map<String, Integer> getSubscriberCounts() {
+        return service.getSubscriberCounts();
+    }
+
     /**
      * Test endpoint for sending a notification body to everyone.
      */
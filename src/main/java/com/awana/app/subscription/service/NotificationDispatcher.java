@@ -0,0 +1,250 @@
+package com.awana.app.subscription.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.awana.common.context.RequestContext;
+import com.awana.common.metrics.LatencyHistogram;
+import com.awana.common.metrics.MetricsRegistry;
+
+/**
+ * Takes notification delivery off the calling thread. Deliveries are added to a
+ * bounded queue and a single dispatcher thread drains it in batches, waiting up
+ * to the linger time for a batch to fill. Each batch is delivered grouped by
+ * destination, keeping the order of the deliveries to a destination.
+ *
+ * When the queue is full the caller waits up to the offer timeout for room,
+ * which keeps the order of its deliveries. If there is still no room the
+ * delivery runs on the calling thread so no notification is lost, ahead of
+ * any deliveries to the same destination that are still queued. Those are
+ * counted as overflows. The queue depth, the enqueue to delivery latency and
+ * the number of batches, deliveries, overflows and failures are reported to
+ * the metrics registry under {@code subscription.dispatch}.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Component
+public class NotificationDispatcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private static final long POLL_MILLIS = 100;
+
+    private static final long STOP_MILLIS = 5000;
+
+    private final BlockingQueue<Dispatch> queue;
+
+    private final int batchSize;
+
+    private final long lingerNanos;
+
+    private final long offerTimeoutMillis;
+
+    private final LatencyHistogram latency;
+
+    private final LongAdder batches;
+
+    private final LongAdder delivered;
+
+    private final LongAdder overflow;
+
+    private final LongAdder failed;
+
+    private volatile boolean running;
+
+    private Thread thread;
+
+    @Autowired
+    public NotificationDispatcher(MetricsRegistry metrics,
+            @Value("${awana.subscription.dispatch.queue-capacity:10000}") int queueCapacity,
+            @Value("${awana.subscription.dispatch.batch-size:64}") int batchSize,
+            @Value("${awana.subscription.dispatch.linger-millis:0}") long lingerMillis,
+            @Value("${awana.subscription.dispatch.offer-timeout-millis:1000}") long offerTimeoutMillis) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.latency = metrics.histogram("subscription.dispatch.latency");
+        this.batches = metrics.counter("subscription.dispatch.batches");
+        this.delivered = metrics.counter("subscription.dispatch.delivered");
+        this.overflow = metrics.counter("subscription.dispatch.overflow");
+        this.failed = metrics.counter("subscription.dispatch.failed");
+        metrics.registerGauge("subscription.dispatch.queued", queue::size);
+    }
+
+    @PostConstruct
+    public synchronized void start() {
+        running = true;
+        thread = new Thread(this::run, "notification-dispatcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the dispatcher thread once the queued deliveries have been made.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if(thread == null) {
+            return;
+        }
+        try {
+            thread.join(STOP_MILLIS);
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+
+        List<Dispatch> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        deliver(remaining);
+    }
+
+    /**
+     * Queues a delivery for the dispatcher thread. The delivery runs with the
+     * request context of the caller. If the queue is full the caller waits up to
+     * the offer timeout for room. If the dispatcher is not running or the queue
+     * stays full it runs on the calling thread instead.
+     *
+     * @param destination The destination the delivery is for.
+     * @param delivery    The delivery to run.
+     */
+    public void dispatch(String destination, Runnable delivery) {
+        Dispatch dispatch = new Dispatch(destination, RequestContext.wrap(delivery), System.nanoTime());
+        if(!running) {
+            deliver(dispatch);
+        }
+        else if(!offer(dispatch)) {
+            overflow.increment();
+            deliver(dispatch);
+        }
+    }
+
+    /**
+     * Adds the delivery to the queue, waiting up to the offer timeout for room.
+     * The dispatcher thread never waits as it is the one that makes room.
+     */
+    private boolean offer(Dispatch dispatch) {
+        if(queue.offer(dispatch)) {
+            return true;
+        }
+        if(Thread.currentThread() == thread) {
+            return false;
+        }
+        try {
+            return queue.offer(dispatch, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Drains the queue until the dispatcher is stopped and the queue is empty.
+     */
+    private void run() {
+        List<Dispatch> batch = new ArrayList<>(batchSize);
+        while(running || !queue.isEmpty()) {
+            try {
+                fill(batch);
+            }
+            catch(InterruptedException e) {
+                LOGGER.warn("Notification dispatcher interrupted with {} queued deliveries", queue.size());
+                Thread.currentThread().interrupt();
+                queue.drainTo(batch);
+                running = false;
+            }
+            deliver(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Fills the batch with up to the batch size of deliveries. Waits for the
+     * first delivery and then up to the linger time for the batch to fill.
+     */
+    private void fill(List<Dispatch> batch) throws InterruptedException {
+        Dispatch first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if(first == null) {
+            return;
+        }
+        batch.add(first);
+        queue.drainTo(batch, batchSize - batch.size());
+
+        long deadline = System.nanoTime() + lingerNanos;
+        while(batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            Dispatch next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+            if(next == null) {
+                return;
+            }
+            batch.add(next);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+    }
+
+    /**
+     * Delivers the batch grouped by destination.
+     */
+    private void deliver(List<Dispatch> batch) {
+        if(batch.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<Dispatch>> byDestination = new LinkedHashMap<>();
+        for(Dispatch dispatch : batch) {
+            byDestination.computeIfAbsent(dispatch.destination, k -> new ArrayList<>()).add(dispatch);
+        }
+        byDestination.values().forEach(group -> group.forEach(this::deliver));
+        batches.increment();
+    }
+
+    private void deliver(Dispatch dispatch) {
+        try {
+            dispatch.delivery.run();
+            delivered.increment();
+        }
+        catch(RuntimeException e) {
+            failed.increment();
+            LOGGER.error("Failed to deliver notification to '{}'", dispatch.destination, e);
+        }
+        finally {
+            latency.record(System.nanoTime() - dispatch.enqueued);
+        }
+    }
+
+    /**
+     * Queued delivery.
+     */
+    private static class Dispatch {
+        private final String destination;
+
+        private final Runnable delivery;
+
+        private final long enqueued;
+
+        private Dispatch(String destination, Runnable delivery, long enqueued) {
+            this.destination = destination;
+            this.delivery = delivery;
+            this.enqueued = enqueued;
+        }
+    }
+}
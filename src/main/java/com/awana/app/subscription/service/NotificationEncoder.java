@@ -0,0 +1,131 @@
+package com.awana.app.subscription.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import com.awana.app.subscription.client.domain.Notification;
+import com.awana.app.subscription.notification.ResyncNotification;
+import com.awana.app.subscription.notification.SystemFailureNotification;
+import com.awana.app.subscription.notification.SystemLinkNotification;
+import com.awana.app.subscription.notification.UserNotification;
+import com.awana.common.json.JsonCodecs;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Encodes notifications into messages that can be sent to any number of
+ * destinations. The body is written to JSON with the same object mapper the
+ * STOMP message converter uses, so the payload is identical to what
+ * {@code convertAndSend} would produce, but it is only written once. The known
+ * notification types are written with writers built up front. Sessions that
+ * asked for a binary {@link NotificationFormat} get the JSON transcoded.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Component
+public class NotificationEncoder {
+    public static final MimeType CONTENT_TYPE = new MimeType(MimeTypeUtils.APPLICATION_JSON, StandardCharsets.UTF_8);
+
+    /**
+     * Message header holding the sequence of a sequenced notification. It stays on
+     * the server and is not written to the client frame.
+     */
+    public static final String SEQUENCE_HEADER = "notificationSequence";
+
+    private static final List<Class<? extends Notification>> NOTIFICATION_TYPES = List
+            .of(UserNotification.class, SystemFailureNotification.class, SystemLinkNotification.class,
+                ResyncNotification.class);
+
+    private final ObjectMapper objectMapper;
+
+    private final JsonCodecs codecs;
+
+    @Autowired
+    public NotificationEncoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.codecs = new JsonCodecs(objectMapper, NOTIFICATION_TYPES);
+    }
+
+    /**
+     * Encodes the notification into an immutable message. The destination is not
+     * set on the message, the messaging template copies the headers for each
+     * destination it is sent to while the payload is shared between all of them.
+     * A sequenced notification carries its sequence in the
+     * {@link #SEQUENCE_HEADER}.
+     *
+     * @param body The notification to encode.
+     * @return {@link Message} holding the JSON of the notification.
+     */
+    public Message<byte[]> encode(Notification body) {
+        try {
+            ObjectWriter writer = codecs.getWriter(body.getClass());
+            byte[] payload = writer != null ? writer.writeValueAsBytes(body) : objectMapper.writeValueAsBytes(body);
+            return wrap(payload, body.getSequence() > 0 ? body.getSequence() : null);
+        }
+        catch(JsonProcessingException e) {
+            throw new MessageConversionException("Could not encode notification: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Wraps an already encoded notification, such as one forwarded by a peer node,
+     * into an immutable message.
+     *
+     * @param payload The JSON of the notification.
+     * @return {@link Message} holding the payload.
+     */
+    public Message<byte[]> wrap(byte[] payload) {
+        return wrap(payload, null);
+    }
+
+    private Message<byte[]> wrap(byte[] payload, Long sequence) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setContentType(CONTENT_TYPE);
+        if(sequence != null) {
+            accessor.setHeader(SEQUENCE_HEADER, sequence);
+        }
+        accessor.setImmutable();
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    /**
+     * Transcodes an encoded notification into the given format. The JSON is
+     * streamed token by token into the binary encoding without being bound to an
+     * object.
+     *
+     * @param payload The JSON of the notification.
+     * @param format  The format to transcode to.
+     * @return The payload in the given format, the same array for JSON.
+     */
+    public byte[] transcode(byte[] payload, NotificationFormat format) {
+        if(format.getFactory() == null) {
+            return payload;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length);
+        try(JsonParser parser = objectMapper.getFactory().createParser(payload);
+                JsonGenerator generator = format.getFactory().createGenerator(out)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        }
+        catch(IOException e) {
+            throw new MessageConversionException("Could not transcode notification to " + format + ": "
+                    + e.getMessage(), e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,101 @@
+package com.awana.app.subscription.service;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Encodings a client can receive notifications in. JSON is the default, CBOR
+ * and Smile are binary encodings of the same structure that are smaller and
+ * cheaper to write.
+ *
+ * Binary payloads are sent with an {@code application/octet-stream} content
+ * type so they go out as binary websocket frames, the {@code format} parameter
+ * of the content type names the encoding.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public enum NotificationFormat {
+    JSON(MimeTypeUtils.APPLICATION_JSON, NotificationEncoder.CONTENT_TYPE, null),
+    CBOR(new MimeType("application", "cbor"), binary("cbor"), new CBORFactory()),
+    SMILE(new MimeType("application", "x-jackson-smile"), binary("smile"), new SmileFactory());
+
+    private final MimeType mimeType;
+
+    private final MimeType contentType;
+
+    private final JsonFactory factory;
+
+    NotificationFormat(MimeType mimeType, MimeType contentType, JsonFactory factory) {
+        this.mimeType = mimeType;
+        this.contentType = contentType;
+        this.factory = factory;
+    }
+
+    /**
+     * The media type a client asks for the encoding with.
+     *
+     * @return {@link MimeType} of the encoding.
+     */
+    public MimeType getMimeType() {
+        return mimeType;
+    }
+
+    /**
+     * The content type the notifications are sent with.
+     *
+     * @return {@link MimeType} of the sent payload.
+     */
+    public MimeType getContentType() {
+        return contentType;
+    }
+
+    /**
+     * The factory that writes the encoding, null for JSON.
+     *
+     * @return {@link JsonFactory} of the encoding.
+     */
+    public JsonFactory getFactory() {
+        return factory;
+    }
+
+    /**
+     * Picks the first encoding in the accepted media types that is supported.
+     * Unknown or invalid media types are skipped.
+     *
+     * @param accept The media types the client accepts, in order of preference.
+     * @return The {@link NotificationFormat} to send, JSON if none are supported.
+     */
+    public static NotificationFormat negotiate(List<String> accept) {
+        if(accept == null) {
+            return JSON;
+        }
+        for(String value : accept) {
+            try {
+                for(MimeType type : MimeTypeUtils.parseMimeTypes(value)) {
+                    for(NotificationFormat format : values()) {
+                        if(format.mimeType.equalsTypeAndSubtype(type)) {
+                            return format;
+                        }
+                    }
+                }
+            }
+            catch(InvalidMimeTypeException e) {
+                // Skip media types the client got wrong
+            }
+        }
+        return JSON;
+    }
+
+    private static MimeType binary(String format) {
+        return new MimeType(MimeTypeUtils.APPLICATION_OCTET_STREAM, Map.of("format", format));
+    }
+}
@@ -0,0 +1,301 @@
+package com.awana.app.subscription.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.awana.app.subscription.client.domain.Notification;
+import com.awana.app.subscription.dao.NotificationLogDAO;
+import com.awana.app.user.client.domain.User;
+import com.awana.app.user.client.domain.WebRole;
+import com.awana.common.metrics.MetricsRegistry;
+
+/**
+ * Sequences the notifications sent to each destination and keeps the latest of
+ * them so a client that reconnects can be sent only the notifications it
+ * missed. Each destination keeps a bounded ring of its encoded notifications,
+ * when persistence is enabled they are also appended to the notification log
+ * table so a gap older than the ring can still be filled.
+ *
+ * The first sequence of a destination is taken from the clock, so the
+ * sequences a client saw before a restart are older than anything retained and
+ * the client is told to refresh instead of being sent the wrong notifications.
+ * Replays and refreshes are counted under {@code subscription.log}.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Component
+public class NotificationLog {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NotificationLog.class);
+
+    private final Map<String, DestinationLog> logs = new ConcurrentHashMap<>();
+
+    private final NotificationEncoder encoder;
+
+    private final NotificationLogDAO notificationLogDAO;
+
+    private final int capacity;
+
+    private final int maxReplay;
+
+    private final boolean persist;
+
+    private final LongAdder replayed;
+
+    private final LongAdder refreshed;
+
+    private final LongAdder failed;
+
+    @Autowired
+    public NotificationLog(NotificationEncoder encoder, NotificationLogDAO notificationLogDAO,
+            MetricsRegistry metrics, @Value("${awana.subscription.log.capacity:1000}") int capacity,
+            @Value("${awana.subscription.log.max-replay:500}") int maxReplay,
+            @Value("${awana.subscription.log.persist:false}") boolean persist) {
+        this.encoder = encoder;
+        this.notificationLogDAO = notificationLogDAO;
+        this.capacity = capacity;
+        this.maxReplay = maxReplay;
+        this.persist = persist;
+        this.replayed = metrics.counter("subscription.log.replayed");
+        this.refreshed = metrics.counter("subscription.log.refreshed");
+        this.failed = metrics.counter("subscription.log.failed");
+        metrics.registerGauge("subscription.log.retained", this::getRetained);
+    }
+
+    /**
+     * Assigns the next sequence of the destination to the notification and adds it
+     * to the log. The destination must already be set on the notification. The
+     * notification is encoded as it is appended, so later changes to it do not
+     * change what is replayed. A notification with no user id and no role is for
+     * everyone on the destination.
+     *
+     * @param body   The notification being sent.
+     * @param userId The user the notification is for, may be null.
+     * @param role   The role the notification is for, may be null.
+     * @return The sequence of the notification.
+     */
+    public long append(Notification body, Integer userId, WebRole role) {
+        DestinationLog log = getLog(body.getDestination());
+        Entry entry = log.append(body, userId, role, encoder);
+        long sequence = entry.sequence;
+        if(persist) {
+            try {
+                notificationLogDAO.insertNotification(body.getDestination(), sequence, userId, role, entry.payload);
+            }
+            catch(DataAccessException e) {
+                failed.increment();
+                LOGGER.warn("Could not store notification {} for '{}'", sequence, body.getDestination(), e);
+            }
+        }
+        return sequence;
+    }
+
+    /**
+     * Gets the notifications on the destination the user has not seen. The
+     * returned payloads are in sequence order and only include the notifications
+     * sent to everyone, to the user or to the role of the user. An empty optional
+     * means the gap can not be filled and the client has to refresh.
+     *
+     * @param destination The destination the client subscribed to.
+     * @param lastSeen    The last sequence the client received.
+     * @param user        The user of the client.
+     * @return The payloads of the missed notifications, or an empty optional if
+     *         the client has to refresh.
+     */
+    public Optional<List<byte[]>> getMissed(String destination, long lastSeen, User user) {
+        return getMissed(destination, lastSeen, Long.MAX_VALUE, user);
+    }
+
+    /**
+     * Gets the notifications on the destination the user has not seen, up to and
+     * including the given sequence. The returned payloads are in sequence order
+     * and only include the notifications sent to everyone, to the user or to the
+     * role of the user. An empty optional means the gap can not be filled and the
+     * client has to refresh.
+     *
+     * @param destination The destination the client subscribed to.
+     * @param lastSeen    The last sequence the client received.
+     * @param upTo        The last sequence to include.
+     * @param user        The user of the client.
+     * @return The payloads of the missed notifications, or an empty optional if
+     *         the client has to refresh.
+     */
+    public Optional<List<byte[]>> getMissed(String destination, long lastSeen, long upTo, User user) {
+        DestinationLog log = getLog(destination);
+        List<byte[]> entries = new ArrayList<>();
+        long latest;
+        long oldest;
+        synchronized(log) {
+            latest = log.latest;
+            oldest = log.entries.isEmpty() ? latest + 1 : log.entries.peekFirst().sequence;
+            if(lastSeen >= oldest - 1 && lastSeen <= latest) {
+                for(Entry entry : log.entries) {
+                    if(entry.sequence > lastSeen && entry.sequence <= upTo && entry.isFor(user)) {
+                        entries.add(entry.payload);
+                    }
+                }
+            }
+        }
+
+        Optional<List<byte[]>> missed;
+        if(lastSeen > latest) {
+            missed = Optional.empty();
+        }
+        else if(lastSeen >= oldest - 1) {
+            missed = entries.size() > maxReplay ? Optional.empty() : Optional.of(entries);
+        }
+        else {
+            missed = getStored(destination, lastSeen, upTo, user);
+        }
+
+        if(missed.isPresent()) {
+            replayed.add(missed.get().size());
+        }
+        else {
+            refreshed.increment();
+        }
+        return missed;
+    }
+
+    /**
+     * Gets the sequence of the last notification sent to the destination.
+     *
+     * @param destination The destination to get the sequence for.
+     * @return The latest sequence of the destination.
+     */
+    public long getLatestSequence(String destination) {
+        DestinationLog log = getLog(destination);
+        synchronized(log) {
+            return log.latest;
+        }
+    }
+
+    /**
+     * Gets the number of notifications held in memory across every destination.
+     *
+     * @return The number of retained notifications.
+     */
+    public int getRetained() {
+        int retained = 0;
+        for(DestinationLog log : logs.values()) {
+            synchronized(log) {
+                retained += log.entries.size();
+            }
+        }
+        return retained;
+    }
+
+    /**
+     * Fills a gap older than the ring from the notification log table. The stored
+     * notifications must reach back to the one after the last seen sequence.
+     */
+    private Optional<List<byte[]>> getStored(String destination, long lastSeen, long upTo, User user) {
+        if(!persist) {
+            return Optional.empty();
+        }
+        try {
+            Optional<Long> oldest = notificationLogDAO.getOldestSequence(destination);
+            if(oldest.isEmpty() || oldest.get() > lastSeen + 1) {
+                return Optional.empty();
+            }
+            List<byte[]> stored = notificationLogDAO.getNotificationsAfter(destination, lastSeen, upTo, user.getId(),
+                                                                           user.getWebRole(), maxReplay + 1);
+            return stored.size() > maxReplay ? Optional.empty() : Optional.of(stored);
+        }
+        catch(DataAccessException e) {
+            failed.increment();
+            LOGGER.warn("Could not read stored notifications for '{}'", destination, e);
+            return Optional.empty();
+        }
+    }
+
+    private DestinationLog getLog(String destination) {
+        return logs.computeIfAbsent(destination, d -> new DestinationLog(getFirstSequence(d), capacity));
+    }
+
+    /**
+     * The sequence before the first notification of the destination. It carries
+     * on from the stored notifications when there are any newer than the clock.
+     */
+    private long getFirstSequence(String destination) {
+        long first = System.currentTimeMillis() * 1000;
+        if(persist) {
+            try {
+                first = Math.max(first, notificationLogDAO.getLatestSequence(destination).orElse(0L));
+            }
+            catch(DataAccessException e) {
+                failed.increment();
+                LOGGER.warn("Could not read the latest sequence for '{}'", destination, e);
+            }
+        }
+        return first;
+    }
+
+    /**
+     * Ring of the latest notifications sent to a destination.
+     */
+    private static class DestinationLog {
+        private final Deque<Entry> entries = new ArrayDeque<>();
+
+        private final int capacity;
+
+        private long latest;
+
+        private DestinationLog(long latest, int capacity) {
+            this.latest = latest;
+            this.capacity = capacity;
+        }
+
+        private synchronized Entry append(Notification body, Integer userId, WebRole role,
+                NotificationEncoder encoder) {
+            body.setSequence(latest + 1);
+            Entry entry = new Entry(latest + 1, encoder.encode(body).getPayload(), userId, role);
+            latest = entry.sequence;
+            if(entries.size() >= capacity) {
+                entries.removeFirst();
+            }
+            entries.addLast(entry);
+            return entry;
+        }
+    }
+
+    /**
+     * Encoded notification held in the ring with the audience it was sent to.
+     */
+    private static class Entry {
+        private final long sequence;
+
+        private final byte[] payload;
+
+        private final Integer userId;
+
+        private final WebRole role;
+
+        private Entry(long sequence, byte[] payload, Integer userId, WebRole role) {
+            this.sequence = sequence;
+            this.payload = payload;
+            this.userId = userId;
+            this.role = role;
+        }
+
+        private boolean isFor(User user) {
+            if(userId == null && role == null) {
+                return true;
+            }
+            return (userId != null && userId == user.getId()) || (role != null && role == user.getWebRole());
+        }
+    }
+}
@@ -2,22 +2,24 @@ package com.awana.app.subscription.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.user.SimpUserRegistry;
 import org.springframework.stereotype.Component;
 
 import com.awana.app.subscription.client.domain.Notification;
 import com.awana.app.subscription.client.domain.NotificationSocket;
 import com.awana.app.subscription.client.domain.UserPrincipal;
+import com.awana.app.subscription.stomp.ExactMatchSubscriptionRegistry;
+import com.awana.app.subscription.stomp.SubscriptionSessionIndex;
 import com.awana.app.user.client.domain.WebRole;
 
 /**
- * Subscription service for managing and processing notifications.
+ * Subscription service for managing and processing notifications. Notifications
+ * sent to a user, a role or a socket are sequenced in the {@link NotificationLog}
+ * so a client that reconnects can be sent the ones it missed.
  * 
  * @author Sam Butler
  * @since July 27, 2022
@@ -31,11 +33,17 @@ public class SubscriptionNotifierService {
     private WebNotifierService webNotifierService;
 
     @Autowired
-    private SimpUserRegistry userRegistry;
+    private SubscriptionSessionIndex sessionIndex;
+
+    @Autowired
+    private NotificationLog notificationLog;
+
+    @Autowired
+    private ExactMatchSubscriptionRegistry subscriptionRegistry;
 
     /**
-     * Push a web notification to a user for the given user id. The default socket
-     * this notification will be sent to
+     * Push a web notification to every session of the user for the given user id.
+     * The default socket this notification will be sent to
      * {@link NotificationSocket#QUEUE_USER_NOTIFICATION}.
      * 
      * @param body   The body to be sent.
@@ -43,9 +51,15 @@ public class SubscriptionNotifierService {
      * @param userId The user id of the user to send it too.
      */
     public void sendToUser(Notification body, int userId) {
-        getActiveUserSessionByUserId(userId)
-                .ifPresentOrElse(u -> send(body, NotificationSocket.QUEUE_USER_NOTIFICATION, u.getName()),
-                                 () -> LOGGER.warn("No subscription found for user ID '{}'", userId));
+        Notification notification = buildNotification(body, NotificationSocket.QUEUE_USER_NOTIFICATION);
+        notificationLog.append(notification, userId, null);
+        List<String> sessionList = sessionIndex.getSessionsByUserId(userId);
+        if(sessionList.isEmpty()) {
+            LOGGER.warn("No subscription found for user ID '{}'", userId);
+        }
+        else {
+            webNotifierService.send(notification, sessionList);
+        }
     }
 
     /**
@@ -60,14 +74,14 @@ public class SubscriptionNotifierService {
      * @param role   The role of the user to send it too.
      */
     public void sendToUser(Notification body, WebRole role) {
-        List<UserPrincipal> sessionList = getActiveUserSessionByWebRole(role);
+        Notification notification = buildNotification(body, NotificationSocket.QUEUE_USER_NOTIFICATION);
+        notificationLog.append(notification, null, role);
+        List<String> sessionList = sessionIndex.getSessionsByWebRole(role);
         if(sessionList.isEmpty()) {
             LOGGER.warn("No subscription sessions found for web role '{}'", role.toString());
         }
         else {
-            for(UserPrincipal u : sessionList) {
-                send(body, NotificationSocket.QUEUE_USER_NOTIFICATION, u.getName());
-            }
+            webNotifierService.send(notification, sessionList);
         }
     }
 
@@ -88,7 +102,9 @@ public class SubscriptionNotifierService {
      * @param socket The socket path the notification should be sent too.
      */
     public void send(Notification body, String socket) {
-        webNotifierService.send(buildNotification(body, socket));
+        Notification notification = buildNotification(body, socket);
+        notificationLog.append(notification, null, null);
+        webNotifierService.send(notification);
     }
 
     /**
@@ -105,45 +121,48 @@ public class SubscriptionNotifierService {
     }
 
     /**
-     * Will get the active users connected to the websocket session.
+     * Push a web notification to each of the given sessions. The notification is
+     * serialized once and the same payload is sent to every session.
      * 
-     * @return List of SimpUser connections.
+     * @param body       The body to be sent.
+     * @param socket     The socket path the notification should be sent too.
+     * @param sessionIds The session ids of the clients to send the notification
+     *                   too.
      */
-    public List<UserPrincipal> getActiveUserSessions() {
-        return userRegistry.getUsers().stream().map(v -> (UserPrincipal) v.getPrincipal()).collect(Collectors.toList());
+    public void send(Notification body, String socket, List<String> sessionIds) {
+        webNotifierService.send(buildNotification(body, socket), sessionIds);
     }
 
     /**
-     * Get the subscription session of a user by their id.
+     * Will get the active users connected to the websocket session.
      * 
-     * @param userId The id of the user to find.
-     * @return Optional of the user Principal.
+     * @return List of the session principals.
      */
-    private Optional<UserPrincipal> getActiveUserSessionByUserId(int userId) {
-        return getActiveUserSessions().stream().filter(u -> u.getUser().getId() == userId).findFirst();
+    public List<UserPrincipal> getActiveUserSessions() {
+        return sessionIndex.getSessions();
     }
 
     /**
-     * Get the subscription session of users by role
+     * Gets the number of subscriptions to each destination on the broker.
      * 
-     * @param role The user role to find.
-     * @return List of the user Principal.
+     * @return Map of the destination to its number of subscriptions.
      */
-    private List<UserPrincipal> getActiveUserSessionByWebRole(WebRole role) {
-        return getActiveUserSessions().stream().filter(u -> u.getUser().getWebRole().equals(role))
-                .collect(Collectors.toList());
+    public Map<String, Integer> getSubscriberCounts() {
+        return subscriptionRegistry.getSubscriberCounts();
     }
 
     /**
-     * Builds the {@link Notification} object.
+     * Builds the {@link Notification} object. The base notification is copied and
+     * left unchanged.
      * 
      * @param n           The base notification
      * @param destination Where the notification is to be sent.
      * @return The new {@link Notification} body.
      */
     private Notification buildNotification(Notification n, String destination) {
-        n.setCreated(LocalDateTime.now());
-        n.setDestination(destination);
-        return n;
+        Notification notification = n.copy();
+        notification.setCreated(LocalDateTime.now());
+        notification.setDestination(destination);
+        return notification;
     }
 }
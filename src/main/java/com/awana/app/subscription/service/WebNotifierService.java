@@ -1,12 +1,26 @@
 package com.awana.app.subscription.service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.Message;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 import com.awana.app.subscription.client.domain.Notification;
+import com.awana.app.subscription.cluster.ClusterMessage;
+import com.awana.app.subscription.cluster.ClusterTransport;
+import com.awana.app.subscription.stomp.SubscriptionSessionIndex;
+import com.awana.common.jfr.NotificationSendEvent;
 
 /**
  * Web Notifier Service wraps the common elements of sending web notifications
@@ -20,18 +34,43 @@ public class WebNotifierService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(WebNotifierService.class);
 
+    /**
+     * Number of sessions each task sends to when a notification is fanned out in
+     * parallel. Audiences up to this size are sent to on the calling thread.
+     */
+    static final int FAN_OUT_CHUNK_SIZE = 1000;
+
     @Autowired
     private SimpMessagingTemplate template;
 
+    @Autowired
+    private NotificationEncoder encoder;
+
+    @Autowired
+    @Qualifier("asyncTaskExecutor")
+    private Executor executor;
+
+    @Autowired
+    private SubscriptionSessionIndex sessionIndex;
+
+    @Autowired
+    private ClusterTransport transport;
+
     /**
      * Send a Web Notification for a given subscription match with the User
-     * Notification set.
+     * Notification set. The notification is also forwarded to every peer node so
+     * their subscribers receive it.
      * 
      * @param envelope {@link Notification} to be sent.
      */
     public <T extends Notification> void send(T body) {
         LOGGER.info("Sending Web Notification to '{}' with type '{}'", body.getDestination(), body.getBodyType());
-        sendNotification(body.getDestination(), body);
+        NotificationSendEvent event = new NotificationSendEvent();
+        event.begin();
+        Message<byte[]> message = encoder.encode(body);
+        template.send(body.getDestination(), message);
+        transport.publish(ClusterMessage.topic(transport.getNodeId(), body.getDestination(), message.getPayload()));
+        event.finish(body.getDestination(), message.getPayload().length, 0, false);
     }
 
     /**
@@ -42,20 +81,143 @@ public class WebNotifierService {
      * @param sessionUUID The unique session id for the user.
      */
     public <T extends Notification> void send(T body, String sessionUUID) {
-        LOGGER.info("Sending Web Notification to '{}' with type '{}'",
-                    String.format("%s-%s", body.getDestination(), sessionUUID), body.getBodyType());
-        sendNotification(String.format("%s-%s", body.getDestination(), sessionUUID), body);
+        send(body, Collections.singletonList(sessionUUID));
     }
 
     /**
-     * Helper method for sending a web notification to the desired destination and
-     * body.
+     * Send a Web Notification to each of the given sessions. The body is encoded
+     * once and the same payload is sent to every session. Sessions owned by a peer
+     * node are forwarded to that node in one message per node.
+     * 
+     * @param body         {@link Notification} to be sent.
+     * @param sessionUUIDs The unique session ids of the users.
+     */
+    public <T extends Notification> void send(T body, List<String> sessionUUIDs) {
+        LOGGER.info("Sending Web Notification to '{}' for {} sessions with type '{}'", body.getDestination(),
+                    sessionUUIDs.size(), body.getBodyType());
+        NotificationSendEvent event = new NotificationSendEvent();
+        event.begin();
+        Message<byte[]> message = encoder.encode(body);
+
+        sessionIndex.groupByNode(sessionUUIDs).forEach((nodeId, sessions) -> {
+            if(sessionIndex.isLocal(nodeId)) {
+                fanOut(body.getDestination(), message, sessions);
+            }
+            else {
+                transport.send(nodeId, ClusterMessage.sessions(transport.getNodeId(), body.getDestination(), sessions,
+                                                               message.getPayload()));
+            }
+        });
+        event.finish(body.getDestination(), message.getPayload().length, sessionUUIDs.size(), false);
+    }
+
+    /**
+     * Delivers an encoded notification forwarded by a peer node to the local
+     * subscribers of the destination.
      * 
-     * @param <T>         The generic body type.
-     * @param envelope    The body to be sent.
      * @param destination Where the notification should go.
+     * @param payload     The encoded notification.
      */
-    private <T extends Notification> void sendNotification(String destination, T envelope) {
-        template.convertAndSend(destination, envelope);
+    public void deliver(String destination, byte[] payload) {
+        NotificationSendEvent event = new NotificationSendEvent();
+        event.begin();
+        template.send(destination, encoder.wrap(payload));
+        event.finish(destination, payload.length, 0, true);
+    }
+
+    /**
+     * Delivers an encoded notification forwarded by a peer node to the given local
+     * sessions.
+     * 
+     * @param destination  The socket the session id is added to.
+     * @param sessionUUIDs The sessions to deliver to.
+     * @param payload      The encoded notification.
+     */
+    public void deliver(String destination, List<String> sessionUUIDs, byte[] payload) {
+        NotificationSendEvent event = new NotificationSendEvent();
+        event.begin();
+        fanOut(destination, encoder.wrap(payload), sessionUUIDs);
+        event.finish(destination, payload.length, sessionUUIDs.size(), true);
+    }
+
+    /**
+     * Sends the message to the local sessions. Large audiences are split into
+     * chunks that are sent in parallel, and this returns once every chunk has been
+     * sent. Chunks the executor has not started yet, because it is busy or
+     * rejected them, are sent on the calling thread, so the fan-out never waits on
+     * a saturated pool or on a pool the caller itself is running on.
+     * 
+     * @param destination  The socket the session id is added to.
+     * @param message      The encoded message to send.
+     * @param sessionUUIDs The sessions to send to.
+     */
+    private void fanOut(String destination, Message<byte[]> message, List<String> sessionUUIDs) {
+        String prefix = destination + "-";
+        if(sessionUUIDs.size() <= FAN_OUT_CHUNK_SIZE) {
+            sendToSessions(prefix, message, sessionUUIDs);
+            return;
+        }
+
+        List<FanOutChunk> chunks = new ArrayList<>();
+        for(int i = FAN_OUT_CHUNK_SIZE; i < sessionUUIDs.size(); i += FAN_OUT_CHUNK_SIZE) {
+            List<String> sessions = sessionUUIDs.subList(i, Math.min(i + FAN_OUT_CHUNK_SIZE, sessionUUIDs.size()));
+            FanOutChunk chunk = new FanOutChunk(() -> sendToSessions(prefix, message, sessions));
+            chunks.add(chunk);
+            try {
+                executor.execute(chunk);
+            }
+            catch(RejectedExecutionException e) {
+                LOGGER.debug("Fan-out executor is full, sending chunk on the calling thread");
+            }
+        }
+        sendToSessions(prefix, message, sessionUUIDs.subList(0, FAN_OUT_CHUNK_SIZE));
+        chunks.forEach(FanOutChunk::run);
+        chunks.forEach(FanOutChunk::join);
+    }
+
+    /**
+     * Sends the encoded message to the session destination of each session.
+     * 
+     * @param prefix       The destination prefix the session id is added to.
+     * @param message      The encoded message to send.
+     * @param sessionUUIDs The sessions to send to.
+     */
+    private void sendToSessions(String prefix, Message<byte[]> message, List<String> sessionUUIDs) {
+        for(String sessionUUID : sessionUUIDs) {
+            template.send(prefix + sessionUUID, message);
+        }
+    }
+
+    /**
+     * A chunk of a fan-out that runs once, on whichever thread claims it first.
+     */
+    private static final class FanOutChunk implements Runnable {
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private final Runnable action;
+
+        FanOutChunk(Runnable action) {
+            this.action = action;
+        }
+
+        @Override
+        public void run() {
+            if(!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                action.run();
+                done.complete(null);
+            }
+            catch(RuntimeException e) {
+                done.completeExceptionally(e);
+            }
+        }
+
+        void join() {
+            done.join();
+        }
     }
 }
@@ -0,0 +1,239 @@
+package com.awana.app.subscription.stomp;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.broker.AbstractSubscriptionRegistry;
+import org.springframework.messaging.simp.broker.DefaultSubscriptionRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.PathMatcher;
+
+import com.awana.common.metrics.MetricsRegistry;
+
+/**
+ * Subscription registry for the simple broker that indexes subscriptions by
+ * their exact destination. Notification sockets are exact strings, so finding
+ * the subscribers of a message is a hash lookup and costs the same no matter
+ * how many subscriptions there are. Subscriptions to a pattern or with a
+ * selector are handed to a {@link DefaultSubscriptionRegistry}, which is only
+ * searched while it holds any.
+ *
+ * The subscribers of each exact destination are kept as a snapshot that is
+ * rebuilt on the first lookup after it changes. A
+ * {@link SubscriptionRegisteringEvent} is published just before a subscription
+ * is added and a {@link SubscriptionRegisteredEvent} once it is. The number
+ * of destinations, subscriptions and pattern subscriptions are reported under
+ * {@code subscription.registry}.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Component
+public class ExactMatchSubscriptionRegistry extends AbstractSubscriptionRegistry
+        implements ApplicationEventPublisherAware {
+    private static final String SELECTOR_HEADER = "selector";
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    private final DefaultSubscriptionRegistry patterns = new DefaultSubscriptionRegistry();
+
+    private final Map<String, Subscribers> destinations = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<String, String>> exactBySession = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<String, String>> patternsBySession = new ConcurrentHashMap<>();
+
+    private final AtomicInteger exactCount = new AtomicInteger();
+
+    private final AtomicInteger patternCount = new AtomicInteger();
+
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public ExactMatchSubscriptionRegistry(MetricsRegistry metrics) {
+        patterns.setPathMatcher(pathMatcher);
+        patterns.setSelectorHeaderName(SELECTOR_HEADER);
+        metrics.registerGauge("subscription.registry.destinations", destinations::size);
+        metrics.registerGauge("subscription.registry.subscriptions", () -> exactCount.get() + patternCount.get());
+        metrics.registerGauge("subscription.registry.patterns", patternCount::get);
+    }
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    protected void addSubscriptionInternal(String sessionId, String subscriptionId, String destination,
+            Message<?> message) {
+        publish(new SubscriptionRegisteringEvent(this, message));
+        if(pathMatcher.isPattern(destination) || hasSelector(message)) {
+            if(session(patternsBySession, sessionId).put(subscriptionId, destination) == null) {
+                patternCount.incrementAndGet();
+            }
+            patterns.registerSubscription(message);
+            publish(new SubscriptionRegisteredEvent(this, message));
+            return;
+        }
+
+        String previous = session(exactBySession, sessionId).put(subscriptionId, destination);
+        if(previous != null) {
+            remove(previous, sessionId, subscriptionId);
+        }
+        destinations.compute(destination, (key, subscribers) -> {
+            Subscribers result = subscribers == null ? new Subscribers() : subscribers;
+            result.add(sessionId, subscriptionId);
+            return result;
+        });
+        exactCount.incrementAndGet();
+        publish(new SubscriptionRegisteredEvent(this, message));
+    }
+
+    @Override
+    protected void removeSubscriptionInternal(String sessionId, String subscriptionId, Message<?> message) {
+        Map<String, String> exact = exactBySession.get(sessionId);
+        String destination = exact == null ? null : exact.remove(subscriptionId);
+        if(destination != null) {
+            remove(destination, sessionId, subscriptionId);
+            return;
+        }
+
+        Map<String, String> sessionPatterns = patternsBySession.get(sessionId);
+        if(sessionPatterns != null && sessionPatterns.remove(subscriptionId) != null) {
+            patternCount.decrementAndGet();
+            patterns.unregisterSubscription(message);
+        }
+    }
+
+    @Override
+    public void unregisterAllSubscriptions(String sessionId) {
+        Map<String, String> exact = exactBySession.remove(sessionId);
+        if(exact != null) {
+            exact.forEach((subscriptionId, destination) -> remove(destination, sessionId, subscriptionId));
+        }
+
+        Map<String, String> sessionPatterns = patternsBySession.remove(sessionId);
+        if(sessionPatterns != null) {
+            patternCount.addAndGet(-sessionPatterns.size());
+            patterns.unregisterAllSubscriptions(sessionId);
+        }
+    }
+
+    @Override
+    protected MultiValueMap<String, String> findSubscriptionsInternal(String destination, Message<?> message) {
+        Subscribers subscribers = destinations.get(destination);
+        MultiValueMap<String, String> exact = subscribers == null ? null : subscribers.getSnapshot();
+        if(patternCount.get() == 0) {
+            return exact == null ? new LinkedMultiValueMap<>() : exact;
+        }
+
+        MultiValueMap<String, String> result = new LinkedMultiValueMap<>();
+        if(exact != null) {
+            exact.forEach((sessionId, subscriptionIds) -> result.addAll(sessionId, subscriptionIds));
+        }
+        patterns.findSubscriptions(message).forEach((sessionId, subscriptionIds) -> {
+            for(String subscriptionId : subscriptionIds) {
+                if(!result.containsKey(sessionId) || !result.get(sessionId).contains(subscriptionId)) {
+                    result.add(sessionId, subscriptionId);
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Gets the number of subscriptions to each destination, pattern subscriptions
+     * are counted under their pattern.
+     *
+     * @return Map of the destination to its number of subscriptions.
+     */
+    public Map<String, Integer> getSubscriberCounts() {
+        Map<String, Integer> counts = new TreeMap<>();
+        destinations.forEach((destination, subscribers) -> counts.put(destination, subscribers.getCount()));
+        patternsBySession.values().forEach(sessionPatterns -> sessionPatterns.values()
+                .forEach(pattern -> counts.merge(pattern, 1, Integer::sum)));
+        return counts;
+    }
+
+    private void remove(String destination, String sessionId, String subscriptionId) {
+        destinations.computeIfPresent(destination, (key, subscribers) -> {
+            if(subscribers.remove(sessionId, subscriptionId)) {
+                exactCount.decrementAndGet();
+            }
+            return subscribers.getCount() == 0 ? null : subscribers;
+        });
+    }
+
+    private void publish(Object event) {
+        if(eventPublisher != null) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    private static Map<String, String> session(Map<String, Map<String, String>> bySession, String sessionId) {
+        return bySession.computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>());
+    }
+
+    private static boolean hasSelector(Message<?> message) {
+        return SimpMessageHeaderAccessor.getFirstNativeHeader(SELECTOR_HEADER, message.getHeaders()) != null;
+    }
+
+    /**
+     * Subscribers of one exact destination.
+     */
+    private static class Subscribers {
+        private final LinkedMultiValueMap<String, String> subscriptions = new LinkedMultiValueMap<>();
+
+        private int count;
+
+        private volatile MultiValueMap<String, String> snapshot;
+
+        private synchronized void add(String sessionId, String subscriptionId) {
+            subscriptions.add(sessionId, subscriptionId);
+            count++;
+            snapshot = null;
+        }
+
+        private synchronized boolean remove(String sessionId, String subscriptionId) {
+            List<String> subscriptionIds = subscriptions.get(sessionId);
+            if(subscriptionIds == null || !subscriptionIds.remove(subscriptionId)) {
+                return false;
+            }
+            if(subscriptionIds.isEmpty()) {
+                subscriptions.remove(sessionId);
+            }
+            count--;
+            snapshot = null;
+            return true;
+        }
+
+        private synchronized int getCount() {
+            return count;
+        }
+
+        private MultiValueMap<String, String> getSnapshot() {
+            MultiValueMap<String, String> current = snapshot;
+            if(current != null) {
+                return current;
+            }
+            synchronized(this) {
+                if(snapshot == null) {
+                    snapshot = CollectionUtils.unmodifiableMultiValueMap(subscriptions.deepCopy());
+                }
+                return snapshot;
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.awana.app.subscription.stomp;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import com.awana.app.subscription.service.NotificationEncoder;
+import com.awana.app.subscription.service.NotificationFormat;
+import com.awana.common.metrics.MetricsRegistry;
+
+/**
+ * Lets each session choose the encoding of its notifications. The client lists
+ * the media types it accepts in the {@code accept} header of the STOMP connect
+ * frame and the first supported one is used, JSON when none are.
+ *
+ * On the outbound channel the JSON notifications for a session with a binary
+ * format are transcoded. A broadcast shares one payload between all of its
+ * messages, so the transcoded payload is kept for as long as the JSON payload
+ * is in use and it is only transcoded once for each format. Registered on the
+ * inbound and the outbound channel.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Component
+public class NotificationFormatInterceptor implements ChannelInterceptor {
+    public static final String ACCEPT_HEADER = "accept";
+
+    private final Map<String, NotificationFormat> formats = new ConcurrentHashMap<>();
+
+    private final Map<NotificationFormat, Map<byte[], byte[]>> transcoded = new EnumMap<>(NotificationFormat.class);
+
+    private final NotificationEncoder encoder;
+
+    private final LongAdder transcodes;
+
+    @Autowired
+    public NotificationFormatInterceptor(NotificationEncoder encoder, MetricsRegistry metrics) {
+        this.encoder = encoder;
+        this.transcodes = metrics.counter("subscription.format.transcoded");
+        for(NotificationFormat format : NotificationFormat.values()) {
+            transcoded.put(format, Collections.synchronizedMap(new WeakHashMap<>()));
+        }
+        metrics.registerGauge("subscription.format.binary-sessions", formats::size);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String sessionId = accessor.getSessionId();
+        SimpMessageType type = accessor.getMessageType();
+        if(sessionId == null || type == null) {
+            return message;
+        }
+
+        switch(type) {
+            case CONNECT:
+                NotificationFormat format = NotificationFormat.negotiate(accessor.getNativeHeader(ACCEPT_HEADER));
+                if(format != NotificationFormat.JSON) {
+                    formats.put(sessionId, format);
+                }
+                return message;
+            case DISCONNECT:
+                formats.remove(sessionId);
+                return message;
+            case MESSAGE:
+                return transcode(message, accessor, formats.get(sessionId));
+            default:
+                return message;
+        }
+    }
+
+    private Message<?> transcode(Message<?> message, SimpMessageHeaderAccessor accessor, NotificationFormat format) {
+        MimeType contentType = accessor.getContentType();
+        if(format == null || !(message.getPayload() instanceof byte[]) || contentType == null
+                || !NotificationFormat.JSON.getMimeType().equalsTypeAndSubtype(contentType)) {
+            return message;
+        }
+
+        byte[] json = (byte[]) message.getPayload();
+        byte[] payload = transcoded.get(format).computeIfAbsent(json, k -> {
+            transcodes.increment();
+            return encoder.transcode(k, format);
+        });
+
+        accessor.setContentType(format.getContentType());
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+}
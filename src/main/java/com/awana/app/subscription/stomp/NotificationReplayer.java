@@ -0,0 +1,178 @@
+package com.awana.app.subscription.stomp;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+import com.awana.app.subscription.client.domain.UserPrincipal;
+import com.awana.app.subscription.notification.ResyncNotification;
+import com.awana.app.subscription.service.NotificationEncoder;
+import com.awana.app.subscription.service.NotificationLog;
+
+/**
+ * Sends a reconnecting client the notifications it missed when it subscribes to
+ * a socket it passed a resume point for. The live notifications of the
+ * subscription are held back by the {@link ReplayGate} from just before the
+ * broker adds the subscription until it has been registered. Both events come
+ * from the broker thread in that order, so the gate is always in place before
+ * the release, whenever the {@code SessionSubscribeEvent} arrives. The missed
+ * notifications up to the latest sequence at that point are then sent straight
+ * to the session, followed by the live ones after it, so none are lost or sent
+ * twice. When the gap can no longer be filled the client is sent a
+ * {@link ResyncNotification} and has to refresh.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Component
+public class NotificationReplayer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NotificationReplayer.class);
+
+    private static final String USER_PREFIX = "/user";
+
+    private final NotificationLog notificationLog;
+
+    private final NotificationEncoder encoder;
+
+    private final MessageChannel clientOutboundChannel;
+
+    private final ReplayGate replayGate;
+
+    @Autowired
+    public NotificationReplayer(NotificationLog notificationLog, NotificationEncoder encoder,
+            @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel, ReplayGate replayGate) {
+        this.notificationLog = notificationLog;
+        this.encoder = encoder;
+        this.clientOutboundChannel = clientOutboundChannel;
+        this.replayGate = replayGate;
+    }
+
+    /**
+     * Holds back the live notifications of a subscription to a socket the session
+     * passed a resume point for, until it has been replayed.
+     *
+     * @param event The registering event of the subscription.
+     */
+    @EventListener
+    public void onRegistering(SubscriptionRegisteringEvent event) {
+        SimpMessageHeaderAccessor subscribe = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Map<String, Long> resume = getResumePoints(subscribe);
+        if(resume != null && resume.containsKey(getSocket(subscribe))) {
+            replayGate.hold(subscribe.getSessionId(), subscribe.getSubscriptionId());
+        }
+    }
+
+    /**
+     * Replays the missed notifications for the socket once the broker has
+     * registered the subscription.
+     *
+     * @param event The registered event of the subscription.
+     */
+    @EventListener
+    public void onRegistered(SubscriptionRegisteredEvent event) {
+        SimpMessageHeaderAccessor subscribe = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Map<String, Long> resume = getResumePoints(subscribe);
+        String socket = resume == null ? null : getSocket(subscribe);
+        Long lastSeen = resume == null ? null : resume.remove(socket);
+        if(lastSeen == null) {
+            replayGate.release(subscribe.getSessionId(), subscribe.getSubscriptionId(), 0, Collections.emptyList(),
+                               clientOutboundChannel);
+            return;
+        }
+
+        UserPrincipal principal = (UserPrincipal) subscribe.getUser();
+        long mark = 0;
+        List<Message<?>> replay = new ArrayList<>();
+        if(principal.getUser() != null) {
+            long latest = notificationLog.getLatestSequence(socket);
+            List<byte[]> payloads = notificationLog.getMissed(socket, lastSeen, latest, principal.getUser())
+                    .orElseGet(() -> Collections.singletonList(resync(socket, latest)));
+            mark = latest;
+            LOGGER.debug("Replaying {} notifications on '{}' to session '{}'", payloads.size(), socket,
+                         subscribe.getSessionId());
+            for(byte[] payload : payloads) {
+                replay.add(MessageBuilder.createMessage(payload, headers(subscribe).getMessageHeaders()));
+            }
+        }
+        replayGate.release(subscribe.getSessionId(), subscribe.getSubscriptionId(), mark, replay,
+                           clientOutboundChannel);
+    }
+
+    /**
+     * Gets the resume points of the session of the subscription, null when the
+     * subscription can not be replayed.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Long> getResumePoints(SimpMessageHeaderAccessor subscribe) {
+        Map<String, Object> attributes = subscribe.getSessionAttributes();
+        if(attributes == null || !(subscribe.getUser() instanceof UserPrincipal)
+                || getDestination(subscribe) == null) {
+            return null;
+        }
+        return (Map<String, Long>) attributes.get(ResumeHandshakeInterceptor.RESUME_ATTRIBUTE);
+    }
+
+    /**
+     * Gets the destination the client subscribed to. Subscriptions through the
+     * user prefix reach the broker with the session destination they resolve to.
+     */
+    private static String getDestination(SimpMessageHeaderAccessor subscribe) {
+        String original = subscribe.getFirstNativeHeader(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION);
+        return original != null ? original : subscribe.getDestination();
+    }
+
+    private static String getSocket(SimpMessageHeaderAccessor subscribe) {
+        return getSocket(getDestination(subscribe), subscribe.getUser().getName());
+    }
+
+    /**
+     * Gets the socket of the subscribed destination. Sessions subscribe to their
+     * queues with the name of the principal appended or through the user prefix.
+     *
+     * @param destination   The subscribed destination.
+     * @param principalName The name of the session principal.
+     * @return The socket the notifications were logged under.
+     */
+    static String getSocket(String destination, String principalName) {
+        String suffix = "-" + principalName;
+        if(destination.endsWith(suffix)) {
+            return destination.substring(0, destination.length() - suffix.length());
+        }
+        if(destination.startsWith(USER_PREFIX + "/")) {
+            return destination.substring(USER_PREFIX.length());
+        }
+        return destination;
+    }
+
+    private byte[] resync(String socket, long sequence) {
+        ResyncNotification resync = new ResyncNotification();
+        resync.setDestination(socket);
+        resync.setCreated(LocalDateTime.now());
+        resync.setSequence(sequence);
+        return encoder.encode(resync).getPayload();
+    }
+
+    private SimpMessageHeaderAccessor headers(SimpMessageHeaderAccessor subscribe) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(subscribe.getSessionId());
+        accessor.setSubscriptionId(subscribe.getSubscriptionId());
+        accessor.setDestination(getDestination(subscribe));
+        accessor.setContentType(NotificationEncoder.CONTENT_TYPE);
+        accessor.setLeaveMutable(true);
+        return accessor;
+    }
+}
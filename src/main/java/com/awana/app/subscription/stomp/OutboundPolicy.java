@@ -0,0 +1,26 @@
+package com.awana.app.subscription.stomp;
+
+/**
+ * What happens when a session has more outbound notifications waiting than its
+ * queue can hold.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public enum OutboundPolicy {
+
+    /** Drops the oldest waiting notification to make room for the new one. */
+    DROP_OLDEST,
+
+    /**
+     * Replaces any waiting notification for the same destination so only the
+     * latest one is delivered. If the queue is still full the oldest is dropped.
+     */
+    LATEST_ONLY,
+
+    /**
+     * Closes the session. Used when the client can not miss a notification, it
+     * reconnects and reloads the state instead.
+     */
+    DISCONNECT
+}
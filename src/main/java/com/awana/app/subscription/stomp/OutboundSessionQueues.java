@@ -0,0 +1,312 @@
+package com.awana.app.subscription.stomp;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import com.awana.app.subscription.client.domain.NotificationSocket;
+import com.awana.common.metrics.MetricsRegistry;
+
+/**
+ * Bounded outbound queue for each subscription session. Only one notification
+ * per session is handed to the client outbound channel at a time, the rest wait
+ * in the queue of the session until it has been written. A client on a slow
+ * link therefore holds at most one channel thread and its own queue, and when
+ * the queue is full the {@link OutboundPolicy} of the notification socket
+ * decides what is given up.
+ *
+ * Drops, replaced notifications and disconnects are counted in the metrics
+ * registry along with the number of waiting notifications and the number of
+ * sessions whose current send has taken longer than the slow threshold.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Component
+public class OutboundSessionQueues implements ExecutorChannelInterceptor, WebSocketHandlerDecoratorFactory {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboundSessionQueues.class);
+
+    private static final Map<String, OutboundPolicy> POLICIES = new LinkedHashMap<>();
+
+    static {
+        POLICIES.put(NotificationSocket.QUEUE_USER_NOTIFICATION, OutboundPolicy.DROP_OLDEST);
+        POLICIES.put(NotificationSocket.QUEUE_SYSTEM_NOTIFICATION, OutboundPolicy.LATEST_ONLY);
+        POLICIES.put(NotificationSocket.QUEUE_SYSTEM_LINK_NOTIFICATION, OutboundPolicy.DISCONNECT);
+        POLICIES.put(NotificationSocket.TOPIC_GENERAL_NOTIFICATION, OutboundPolicy.DROP_OLDEST);
+    }
+
+    private final int queueLimit;
+
+    private final long slowNanos;
+
+    private final Map<String, SessionQueue> queues = new ConcurrentHashMap<>();
+
+    private final LongAdder dropped;
+
+    private final LongAdder replaced;
+
+    private final LongAdder disconnected;
+
+    @Autowired
+    public OutboundSessionQueues(MetricsRegistry metrics,
+            @Value("${awana.subscription.outbound.queue-limit:100}") int queueLimit,
+            @Value("${awana.subscription.outbound.slow-millis:1000}") long slowMillis) {
+        this.queueLimit = queueLimit;
+        this.slowNanos = slowMillis * 1_000_000;
+        this.dropped = metrics.counter("subscription.outbound.dropped");
+        this.replaced = metrics.counter("subscription.outbound.replaced");
+        this.disconnected = metrics.counter("subscription.outbound.disconnected");
+        metrics.registerGauge("subscription.outbound.queued", this::getQueued);
+        metrics.registerGauge("subscription.outbound.slow", this::getSlowSessions);
+    }
+
+    /**
+     * Gets the policy for notifications sent to the destination. Session
+     * destinations have the session id appended to the socket, so the longest
+     * socket the destination starts with is used.
+     *
+     * @param destination The destination of the notification.
+     * @return {@link OutboundPolicy} for the destination.
+     */
+    static OutboundPolicy getPolicy(String destination) {
+        OutboundPolicy policy = OutboundPolicy.DROP_OLDEST;
+        int matched = -1;
+        if(destination != null) {
+            for(Map.Entry<String, OutboundPolicy> entry : POLICIES.entrySet()) {
+                if(destination.startsWith(entry.getKey()) && entry.getKey().length() > matched) {
+                    policy = entry.getValue();
+                    matched = entry.getKey().length();
+                }
+            }
+        }
+        return policy;
+    }
+
+    /**
+     * Tracks the queue of each session for as long as its connection is open.
+     *
+     * @param handler The handler to decorate.
+     * @return {@link WebSocketHandler} that registers the sessions.
+     */
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                queues.put(session.getId(), new SessionQueue(session));
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
+                SessionQueue queue = queues.remove(session.getId());
+                if(queue != null && queue.dropped > 0) {
+                    LOGGER.warn("Subscription session '{}' closed after {} dropped notifications", session.getId(),
+                                queue.dropped);
+                }
+                super.afterConnectionClosed(session, status);
+            }
+        };
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SessionQueue queue = getQueue(message);
+        return queue == null ? message : offer(queue, message);
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        if(!sent || ex != null) {
+            release(message, channel);
+        }
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+            Exception ex) {
+        release(message, channel);
+    }
+
+    /**
+     * Gets the number of notifications waiting in all of the session queues.
+     *
+     * @return int of the waiting notifications.
+     */
+    public int getQueued() {
+        int queued = 0;
+        for(SessionQueue queue : queues.values()) {
+            synchronized(queue) {
+                queued += queue.backlog.size();
+            }
+        }
+        return queued;
+    }
+
+    /**
+     * Gets the number of sessions whose current send has been in progress for
+     * longer than the slow threshold.
+     *
+     * @return int of the slow sessions.
+     */
+    public int getSlowSessions() {
+        long now = System.nanoTime();
+        int slow = 0;
+        for(SessionQueue queue : queues.values()) {
+            synchronized(queue) {
+                if(queue.inFlight != null && now - queue.inFlightSince > slowNanos) {
+                    slow++;
+                }
+            }
+        }
+        return slow;
+    }
+
+    /**
+     * Lets the message through if nothing is being sent to the session, otherwise
+     * adds it to the queue of the session applying the policy of its destination
+     * when the queue is full.
+     */
+    private Message<?> offer(SessionQueue queue, Message<?> message) {
+        synchronized(queue) {
+            if(queue.inFlight == message) {
+                return message;
+            }
+            if(queue.closing) {
+                return null;
+            }
+            if(queue.inFlight == null) {
+                queue.start(message);
+                return message;
+            }
+
+            String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+            OutboundPolicy policy = getPolicy(destination);
+            if(policy == OutboundPolicy.LATEST_ONLY && queue.removeDestination(destination)) {
+                replaced.increment();
+            }
+            if(queue.backlog.size() < queueLimit) {
+                queue.backlog.add(message);
+                return null;
+            }
+            if(policy != OutboundPolicy.DISCONNECT) {
+                queue.backlog.pollFirst();
+                queue.backlog.add(message);
+                dropped.increment();
+                if(queue.dropped++ == 0) {
+                    LOGGER.warn("Subscription session '{}' is not keeping up, dropping notifications",
+                                queue.session.getId());
+                }
+                return null;
+            }
+            queue.closing = true;
+            queue.backlog.clear();
+        }
+
+        disconnect(queue);
+        return null;
+    }
+
+    /**
+     * Marks the send of the message as done and hands the next waiting message of
+     * the session to the channel.
+     */
+    private void release(Message<?> message, MessageChannel channel) {
+        SessionQueue queue = getQueue(message);
+        if(queue == null) {
+            return;
+        }
+
+        Message<?> next;
+        synchronized(queue) {
+            if(queue.inFlight != message) {
+                return;
+            }
+            next = queue.backlog.pollFirst();
+            queue.start(next);
+        }
+        if(next != null) {
+            channel.send(next);
+        }
+    }
+
+    private void disconnect(SessionQueue queue) {
+        disconnected.increment();
+        LOGGER.warn("Closing subscription session '{}', outbound queue is full", queue.session.getId());
+        try {
+            queue.session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        }
+        catch(IOException e) {
+            LOGGER.warn("Failed to close subscription session '{}': {}", queue.session.getId(), e.getMessage());
+        }
+    }
+
+    private SessionQueue getQueue(Message<?> message) {
+        if(SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return null;
+        }
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        return sessionId == null ? null : queues.get(sessionId);
+    }
+
+    /**
+     * Outbound state of a single session. Guarded by its own monitor.
+     */
+    private static class SessionQueue {
+        private final WebSocketSession session;
+
+        private final Deque<Message<?>> backlog = new ArrayDeque<>();
+
+        private Message<?> inFlight;
+
+        private long inFlightSince;
+
+        private long dropped;
+
+        private boolean closing;
+
+        private SessionQueue(WebSocketSession session) {
+            this.session = session;
+        }
+
+        private void start(Message<?> message) {
+            inFlight = message;
+            inFlightSince = System.nanoTime();
+        }
+
+        private boolean removeDestination(String destination) {
+            boolean removed = false;
+            for(Iterator<Message<?>> it = backlog.iterator(); it.hasNext();) {
+                Message<?> waiting = it.next();
+                if(destination != null
+                        && destination.equals(SimpMessageHeaderAccessor.getDestination(waiting.getHeaders()))) {
+                    it.remove();
+                    removed = true;
+                }
+            }
+            return removed;
+        }
+    }
+}
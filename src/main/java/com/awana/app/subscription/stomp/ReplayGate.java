@@ -0,0 +1,147 @@
+package com.awana.app.subscription.stomp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import com.awana.app.subscription.service.NotificationEncoder;
+import com.awana.common.metrics.MetricsRegistry;
+
+/**
+ * Keeps a replay and the live notifications of a subscription from overlapping.
+ * While the missed notifications of a subscription are being read, its live
+ * sequenced notifications are held back. Once the replay is released with the
+ * latest sequence it covers, the held notifications are sent after it and any
+ * live notification at or below that sequence is dropped, as the replay
+ * already sent it. Registered first on the outbound channel.
+ *
+ * Dropped notifications are counted under {@code subscription.replay.dropped}.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Component
+public class ReplayGate implements ChannelInterceptor {
+    private final Map<String, Map<String, Gate>> gates = new ConcurrentHashMap<>();
+
+    private final LongAdder dropped;
+
+    @Autowired
+    public ReplayGate(MetricsRegistry metrics) {
+        this.dropped = metrics.counter("subscription.replay.dropped");
+    }
+
+    /**
+     * Starts holding back the live notifications of the subscription.
+     *
+     * @param sessionId      The session of the subscription.
+     * @param subscriptionId The id of the subscription.
+     */
+    public void hold(String sessionId, String subscriptionId) {
+        gates.computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>()).put(subscriptionId, new Gate());
+    }
+
+    /**
+     * Sends the replay and then the held notifications of the subscription. From
+     * then on live notifications at or below the mark are dropped. A subscription
+     * that is not held, or was already released, only has the replay sent.
+     *
+     * @param sessionId      The session of the subscription.
+     * @param subscriptionId The id of the subscription.
+     * @param mark           The latest sequence the replay covers.
+     * @param replay         The replayed messages, in order.
+     * @param channel        The channel to send the messages on.
+     */
+    public void release(String sessionId, String subscriptionId, long mark, List<Message<?>> replay,
+            MessageChannel channel) {
+        Gate gate = getGate(sessionId, subscriptionId);
+        if(gate == null) {
+            replay.forEach(channel::send);
+            return;
+        }
+        synchronized(gate) {
+            List<Message<?>> held = gate.held;
+            if(held == null) {
+                replay.forEach(channel::send);
+                return;
+            }
+            gate.held = null;
+            gate.mark = mark;
+            replay.forEach(channel::send);
+            held.forEach(channel::send);
+        }
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if(gates.isEmpty()) {
+            return message;
+        }
+        MessageHeaders headers = message.getHeaders();
+        Long sequence = headers.get(NotificationEncoder.SEQUENCE_HEADER, Long.class);
+        if(sequence == null) {
+            return message;
+        }
+        Gate gate = getGate(SimpMessageHeaderAccessor.getSessionId(headers),
+                            SimpMessageHeaderAccessor.getSubscriptionId(headers));
+        if(gate == null) {
+            return message;
+        }
+        synchronized(gate) {
+            if(gate.held != null) {
+                gate.held.add(message);
+                return null;
+            }
+            if(sequence <= gate.mark) {
+                dropped.increment();
+                return null;
+            }
+        }
+        return message;
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        if(accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        gates.computeIfPresent(accessor.getSessionId(), (sessionId, session) -> {
+            session.remove(accessor.getSubscriptionId());
+            return session.isEmpty() ? null : session;
+        });
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        gates.remove(event.getSessionId());
+    }
+
+    private Gate getGate(String sessionId, String subscriptionId) {
+        Map<String, Gate> session = sessionId == null ? null : gates.get(sessionId);
+        return session == null || subscriptionId == null ? null : session.get(subscriptionId);
+    }
+
+    /**
+     * Live notifications held back for a subscription, then the mark of its
+     * replay.
+     */
+    private static class Gate {
+        private List<Message<?>> held = new ArrayList<>();
+
+        private long mark;
+    }
+}
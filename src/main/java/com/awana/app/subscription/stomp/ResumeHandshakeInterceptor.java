@@ -0,0 +1,72 @@
+package com.awana.app.subscription.stomp;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Reads the resume points of a reconnecting client from the handshake. The
+ * client passes a {@code resume} query parameter for each socket in the form
+ * {@code <socket>:<last sequence>} after its token, such as
+ * {@code ?<token>&resume=/queue/user/notification:42}, and the points are kept
+ * on the session until the client subscribes to the socket.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public class ResumeHandshakeInterceptor implements HandshakeInterceptor {
+    public static final String RESUME_ATTRIBUTE = ResumeHandshakeInterceptor.class.getName();
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResumeHandshakeInterceptor.class);
+
+    private static final String RESUME_PARAM = "resume";
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response, WebSocketHandler wsHandler,
+            Map<String, Object> attributes) {
+        List<String> values = UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams()
+                .get(RESUME_PARAM);
+        if(values != null && !values.isEmpty()) {
+            attributes.put(RESUME_ATTRIBUTE, parse(values));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response, WebSocketHandler wsHandler,
+            Exception exception) {
+        // Nothing to do after the handshake
+    }
+
+    /**
+     * Parses the resume points. Points that are not in the expected form are
+     * skipped and the client is treated as a new subscriber for that socket.
+     *
+     * @param values The encoded values of the resume parameters.
+     * @return Map of the socket to the last sequence the client received.
+     */
+    static Map<String, Long> parse(List<String> values) {
+        Map<String, Long> resume = new ConcurrentHashMap<>();
+        for(String value : values) {
+            String point = UriUtils.decode(value, StandardCharsets.UTF_8);
+            int split = point.lastIndexOf(':');
+            try {
+                resume.put(point.substring(0, split), Long.parseLong(point.substring(split + 1)));
+            }
+            catch(IndexOutOfBoundsException | NumberFormatException e) {
+                LOGGER.debug("Skipping invalid resume point '{}'", point);
+            }
+        }
+        return resume;
+    }
+}
@@ -2,21 +2,47 @@ package com.awana.app.subscription.stomp;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
-import com.awana.common.jwt.utility.JwtHolder;
+import com.awana.common.concurrent.ExecutionMode;
+import com.awana.common.concurrent.InstrumentedExecutors;
+import com.awana.common.context.ContextChannelInterceptor;
+import com.awana.common.context.ContextHandshakeInterceptor;
+import com.awana.common.context.ContextPropagatingTaskDecorator;
 
 /**
  * Websocket config for setting ws endpoints and defining the handshake handler
- * that should be used on new session connections.
+ * that should be used on new session connections. The request context of the
+ * handshake is kept on the session and restored for each inbound message, and
+ * outbound messages keep the context of the sender. Sessions can ask for a
+ * binary notification encoding when they connect. Outbound notifications go
+ * through a bounded queue per session and the transport limits how long a send
+ * may block and how much may be buffered for one session. The handshake keeps
+ * the resume points of a reconnecting client for the notification replay, and
+ * the {@link ReplayGate} keeps live notifications from overlapping a replay.
+ * 
+ * The heartbeat scheduler and the channel executors are sized from the
+ * {@code awana.subscription.executors} properties and report their queue depth,
+ * active threads, task latency and rejections to the metrics registry. The
+ * broker channel hands messages to the broker on the sending thread unless it
+ * is given a pool size. The broker finds the subscribers of a destination with
+ * the {@link ExactMatchSubscriptionRegistry}.
  * 
  * @author Sam Butler
  * @since March 24, 2022
@@ -27,28 +53,120 @@ public class SubscriptionConfig implements WebSocketMessageBrokerConfigurer {
     private static final Logger LOGGER = LoggerFactory.getLogger(SubscriptionConfig.class);
     private final long DEFAULT_HEARTBEAT = 20000;
     private final String SOCKET_URI = "/subscription/socket";
+    private static final String EXECUTORS = "awana.subscription.executors.";
+
+    @Autowired
+    private ContextPropagatingTaskDecorator taskDecorator;
+
+    @Autowired
+    private ExecutionMode executionMode;
+
+    @Autowired
+    private OutboundSessionQueues outboundSessionQueues;
 
     @Autowired
-    private JwtHolder jwtHolder;
+    private NotificationFormatInterceptor notificationFormatInterceptor;
+
+    @Autowired
+    private ReplayGate replayGate;
+
+    @Autowired
+    private InstrumentedExecutors instrumentedExecutors;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${awana.subscription.outbound.send-time-limit-millis:10000}")
+    private int sendTimeLimit;
+
+    @Value("${awana.subscription.outbound.send-buffer-bytes:524288}")
+    private int sendBufferSizeLimit;
 
     @Bean
     public TaskScheduler taskScheduler() {
         ThreadPoolTaskScheduler ts = new ThreadPoolTaskScheduler();
-        ts.setPoolSize(10);
+        ts.setPoolSize(environment.getProperty(EXECUTORS + "scheduler.pool-size", Integer.class, 10));
+        ts.setThreadNamePrefix("subscriptionScheduler-");
+        instrumentedExecutors.instrument("subscription.scheduler", ts);
         ts.initialize();
         return ts;
     }
 
+    /**
+     * Replaces the subscription registry of the simple broker before it starts.
+     *
+     * @param registry The registry to use.
+     * @return {@link BeanPostProcessor} for the broker.
+     */
+    @Bean
+    public static BeanPostProcessor subscriptionRegistryPostProcessor(
+            ObjectProvider<ExactMatchSubscriptionRegistry> registry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if(bean instanceof SimpleBrokerMessageHandler) {
+                    ((SimpleBrokerMessageHandler) bean).setSubscriptionRegistry(registry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(new ContextChannelInterceptor(), notificationFormatInterceptor)
+                .taskExecutor(channelExecutor("inbound", "clientInboundChannel-"));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(replayGate, notificationFormatInterceptor, outboundSessionQueues)
+                .taskExecutor(channelExecutor("outbound", "clientOutboundChannel-"));
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimit).setSendBufferSizeLimit(sendBufferSizeLimit)
+                .addDecoratorFactory(outboundSessionQueues);
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.setUserDestinationPrefix("/user").enableSimpleBroker("/queue", "/topic", "/user")
                 .setTaskScheduler(taskScheduler()).setHeartbeatValue(new long[] {DEFAULT_HEARTBEAT, DEFAULT_HEARTBEAT});
+        if(environment.getProperty(EXECUTORS + "broker.core-size", Integer.class, 0) > 0) {
+            config.configureBrokerChannel().taskExecutor(channelExecutor("broker", "brokerChannel-"));
+        }
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         LOGGER.info("Websocket connection opened on uri '{}'", SOCKET_URI);
-        registry.addEndpoint(SOCKET_URI).setHandshakeHandler(new SubscriptionHandshakeHandler(jwtHolder))
+        registry.addEndpoint(SOCKET_URI).setHandshakeHandler(new SubscriptionHandshakeHandler())
+                .addInterceptors(new ContextHandshakeInterceptor(), new ResumeHandshakeInterceptor())
                 .setAllowedOrigins("*");
     }
+
+    /**
+     * Creates an instrumented channel executor that propagates the request context
+     * to each task. Unless configured it has the same sizing spring uses by
+     * default, twice the number of processors with an unbounded queue. The
+     * workers are virtual threads when that execution mode is active.
+     *
+     * @param name             The name of the channel in the executor properties.
+     * @param threadNamePrefix The prefix for the thread names.
+     * @return {@link ThreadPoolTaskExecutor} for the channel.
+     */
+    private ThreadPoolTaskExecutor channelExecutor(String name, String threadNamePrefix) {
+        String prefix = EXECUTORS + name;
+        int coreSize = environment.getProperty(prefix + ".core-size", Integer.class, 0);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize > 0 ? coreSize : Runtime.getRuntime().availableProcessors() * 2);
+        executor.setMaxPoolSize(environment.getProperty(prefix + ".max-size", Integer.class, Integer.MAX_VALUE));
+        executor.setQueueCapacity(environment.getProperty(prefix + ".queue-capacity", Integer.class,
+                                                          Integer.MAX_VALUE));
+        executor.setAllowCoreThreadTimeOut(true);
+        instrumentedExecutors.instrument("subscription." + name, executor, taskDecorator);
+        return executionMode.apply(executor, threadNamePrefix);
+    }
 }
@@ -11,10 +11,11 @@ import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
 
 import com.awana.app.subscription.client.domain.UserPrincipal;
-import com.awana.common.jwt.utility.JwtHolder;
+import com.awana.common.context.RequestContext;
 
 /**
- * Custom handshake handler for assigning a unique id to a new connection.
+ * Custom handshake handler for assigning a unique id to a new connection. The
+ * user is read from the {@link RequestContext} of the handshake request.
  * 
  * @author Sam Butler
  * @since March 24, 2022
@@ -23,18 +24,12 @@ public class SubscriptionHandshakeHandler extends DefaultHandshakeHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SubscriptionHandshakeHandler.class);
 
-    private JwtHolder jwtHolder;
-
-    public SubscriptionHandshakeHandler(JwtHolder jwtHolder) {
-        this.jwtHolder = jwtHolder;
-    }
-
     @Override
     protected Principal determineUser(ServerHttpRequest request, WebSocketHandler wsHandler,
             Map<String, Object> attributes) {
         String randomId = UUID.randomUUID().toString();
 
         LOGGER.info("User Client connected to socket with ID '{}'", randomId);
-        return new UserPrincipal(randomId, jwtHolder.getUser());
+        return new UserPrincipal(randomId, RequestContext.current().getUser());
     }
 }
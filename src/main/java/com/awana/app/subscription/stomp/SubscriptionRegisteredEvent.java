@@ -0,0 +1,34 @@
+package com.awana.app.subscription.stomp;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.messaging.Message;
+
+/**
+ * Published by the {@link ExactMatchSubscriptionRegistry} once a subscription
+ * has been added to the broker, so messages sent to its destination from this
+ * point on reach the session. The broker registers subscriptions on its own
+ * thread, so this may come before or after the {@code SessionSubscribeEvent}.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public class SubscriptionRegisteredEvent extends ApplicationEvent {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Message<?> message;
+
+    /**
+     * Creates the event.
+     *
+     * @param source  The registry the subscription was added to.
+     * @param message The subscribe message of the subscription.
+     */
+    public SubscriptionRegisteredEvent(Object source, Message<?> message) {
+        super(source);
+        this.message = message;
+    }
+
+    public Message<?> getMessage() {
+        return message;
+    }
+}
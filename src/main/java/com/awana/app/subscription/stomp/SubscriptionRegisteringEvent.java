@@ -0,0 +1,34 @@
+package com.awana.app.subscription.stomp;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.messaging.Message;
+
+/**
+ * Published by the {@link ExactMatchSubscriptionRegistry} on the broker thread
+ * just before a subscription is added, so no message sent to its destination
+ * has reached the session yet. It is always followed by the
+ * {@link SubscriptionRegisteredEvent} of the subscription on the same thread.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public class SubscriptionRegisteringEvent extends ApplicationEvent {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Message<?> message;
+
+    /**
+     * Creates the event.
+     *
+     * @param source  The registry the subscription is being added to.
+     * @param message The subscribe message of the subscription.
+     */
+    public SubscriptionRegisteringEvent(Object source, Message<?> message) {
+        super(source);
+        this.message = message;
+    }
+
+    public Message<?> getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,281 @@
+package com.awana.app.subscription.stomp;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import com.awana.app.subscription.client.domain.UserPrincipal;
+import com.awana.app.subscription.cluster.ClusterTransport;
+import com.awana.app.user.client.domain.User;
+import com.awana.app.user.client.domain.WebRole;
+import com.awana.common.metrics.MetricsRegistry;
+
+/**
+ * Index of the connected subscription sessions keyed by user id and by web
+ * role. Local sessions are kept up to date from the STOMP connect and
+ * disconnect events and sessions of peer nodes are added by the cluster layer,
+ * so targeted sends only touch the sessions of the users they are for and each
+ * session can be sent to the node that owns it. A user with several tabs open
+ * has one session per tab and every one of them is indexed.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Component
+public class SubscriptionSessionIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SubscriptionSessionIndex.class);
+
+    private final String localNode;
+
+    private final Map<String, UserPrincipal> bySession = new ConcurrentHashMap<>();
+
+    private final Map<String, SessionEntry> byName = new ConcurrentHashMap<>();
+
+    private final Map<Integer, Set<String>> byUser = new ConcurrentHashMap<>();
+
+    private final Map<WebRole, Set<String>> byRole = new EnumMap<>(WebRole.class);
+
+    @Autowired
+    public SubscriptionSessionIndex(MetricsRegistry metrics, ClusterTransport transport) {
+        this.localNode = transport.getNodeId();
+        for(WebRole role : WebRole.values()) {
+            byRole.put(role, ConcurrentHashMap.newKeySet());
+        }
+        metrics.registerGauge("subscription.sessions", byName::size);
+        metrics.registerGauge("subscription.sessions.local", bySession::size);
+        metrics.registerGauge("subscription.sessions.users", byUser::size);
+    }
+
+    /**
+     * Indexes the session once the STOMP connection has been accepted.
+     *
+     * @param event The connected event of the session.
+     */
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        Principal user = event.getUser();
+        if(sessionId == null || !(user instanceof UserPrincipal)) {
+            LOGGER.warn("Subscription session '{}' connected without a user principal", sessionId);
+            return;
+        }
+        add(sessionId, (UserPrincipal) user);
+    }
+
+    /**
+     * Removes the session from the index. Disconnect events can be published more
+     * than once for the same session so this is idempotent.
+     *
+     * @param event The disconnect event of the session.
+     */
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        remove(event.getSessionId());
+    }
+
+    /**
+     * Indexes a session owned by a peer node.
+     *
+     * @param nodeId  The id of the node that owns the session.
+     * @param name    The principal name of the session.
+     * @param userId  The id of the user of the session.
+     * @param webRole The web role of the user, may be null.
+     */
+    public void addRemote(String nodeId, String name, int userId, WebRole webRole) {
+        User user = new User();
+        user.setId(userId);
+        user.setWebRole(webRole);
+        index(nodeId, new UserPrincipal(name, user));
+    }
+
+    /**
+     * Removes a session owned by a peer node.
+     *
+     * @param name The principal name of the session.
+     */
+    public void removeRemote(String name) {
+        SessionEntry entry = byName.get(name);
+        if(entry != null && !isLocal(entry.nodeId)) {
+            unindex(name);
+        }
+    }
+
+    /**
+     * Removes every session owned by the node. Used when a peer leaves the
+     * cluster.
+     *
+     * @param nodeId The id of the node.
+     */
+    public void removeNode(String nodeId) {
+        if(isLocal(nodeId)) {
+            return;
+        }
+        byName.forEach((name, entry) -> {
+            if(entry.nodeId.equals(nodeId)) {
+                unindex(name);
+            }
+        });
+    }
+
+    /**
+     * Gets the names of every session the user has open on any node.
+     *
+     * @param userId The id of the user.
+     * @return List of the principal names of the sessions.
+     */
+    public List<String> getSessionsByUserId(int userId) {
+        Set<String> sessions = byUser.get(userId);
+        return sessions == null ? Collections.emptyList() : new ArrayList<>(sessions);
+    }
+
+    /**
+     * Gets the names of every session open for users with the role on any node.
+     *
+     * @param role The web role of the users.
+     * @return List of the principal names of the sessions.
+     */
+    public List<String> getSessionsByWebRole(WebRole role) {
+        return new ArrayList<>(byRole.get(role));
+    }
+
+    /**
+     * Gets the principals of all the open sessions on any node.
+     *
+     * @return List of {@link UserPrincipal} objects.
+     */
+    public List<UserPrincipal> getSessions() {
+        List<UserPrincipal> sessions = new ArrayList<>();
+        byName.values().forEach(entry -> sessions.add(entry.principal));
+        return sessions;
+    }
+
+    /**
+     * Gets the principals of the sessions connected to this node.
+     *
+     * @return List of {@link UserPrincipal} objects.
+     */
+    public List<UserPrincipal> getLocalSessions() {
+        return new ArrayList<>(bySession.values());
+    }
+
+    /**
+     * Groups the sessions by the node that owns them. Sessions that are not in the
+     * index are treated as local.
+     *
+     * @param names The principal names of the sessions.
+     * @return Map of node id to the sessions it owns.
+     */
+    public Map<String, List<String>> groupByNode(List<String> names) {
+        Map<String, List<String>> groups = new LinkedHashMap<>();
+        for(String name : names) {
+            SessionEntry entry = byName.get(name);
+            String nodeId = entry == null ? localNode : entry.nodeId;
+            groups.computeIfAbsent(nodeId, k -> new ArrayList<>()).add(name);
+        }
+        return groups;
+    }
+
+    /**
+     * Checks if the node is this node.
+     *
+     * @param nodeId The id of the node.
+     * @return boolean if it is the local node.
+     */
+    public boolean isLocal(String nodeId) {
+        return localNode.equals(nodeId);
+    }
+
+    /**
+     * Gets the number of open sessions on any node.
+     *
+     * @return int of the number of sessions.
+     */
+    public int size() {
+        return byName.size();
+    }
+
+    /**
+     * Adds a local session to the index.
+     *
+     * @param sessionId The STOMP session id.
+     * @param principal The principal of the session.
+     */
+    void add(String sessionId, UserPrincipal principal) {
+        if(bySession.putIfAbsent(sessionId, principal) == null) {
+            index(localNode, principal);
+        }
+    }
+
+    /**
+     * Removes a local session from the index.
+     *
+     * @param sessionId The STOMP session id.
+     */
+    void remove(String sessionId) {
+        UserPrincipal principal = sessionId == null ? null : bySession.remove(sessionId);
+        if(principal != null) {
+            unindex(principal.getName());
+        }
+    }
+
+    private void index(String nodeId, UserPrincipal principal) {
+        String name = principal.getName();
+        if(byName.putIfAbsent(name, new SessionEntry(nodeId, principal)) != null) {
+            return;
+        }
+
+        byUser.compute(principal.getUser().getId(), (k, v) -> {
+            Set<String> sessions = v == null ? ConcurrentHashMap.newKeySet() : v;
+            sessions.add(name);
+            return sessions;
+        });
+        if(principal.getUser().getWebRole() != null) {
+            byRole.get(principal.getUser().getWebRole()).add(name);
+        }
+    }
+
+    private void unindex(String name) {
+        SessionEntry entry = byName.remove(name);
+        if(entry == null) {
+            return;
+        }
+
+        User user = entry.principal.getUser();
+        byUser.computeIfPresent(user.getId(), (k, v) -> {
+            v.remove(name);
+            return v.isEmpty() ? null : v;
+        });
+        if(user.getWebRole() != null) {
+            byRole.get(user.getWebRole()).remove(name);
+        }
+    }
+
+    /**
+     * Indexed session and the node that owns it.
+     */
+    private static class SessionEntry {
+        private final String nodeId;
+
+        private final UserPrincipal principal;
+
+        private SessionEntry(String nodeId, UserPrincipal principal) {
+            this.nodeId = nodeId;
+            this.principal = principal;
+        }
+    }
+}
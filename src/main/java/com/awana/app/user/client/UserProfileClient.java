@@ -1,6 +1,7 @@
 package com.awana.app.user.client;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
@@ -38,10 +39,10 @@ public class UserProfileClient {
 	/**
 	 * Gets the current logged in user information.
 	 * 
-	 * @return The user currently logged in.
-	 * @throws Exception
+	 * @return The user currently logged in, or an empty optional if the user no
+	 *         longer exists.
 	 */
-	public User getCurrentUser() throws Exception {
+	public Optional<User> getCurrentUser() {
 		return userProfileService.getCurrentUser();
 	}
 
@@ -49,10 +50,10 @@ public class UserProfileClient {
 	 * Client method to get the user given a user id
 	 * 
 	 * @param id of the user
-	 * @return User profile object
-	 * @throws Exception
+	 * @return User profile object, or an empty optional if no user exists for the
+	 *         id.
 	 */
-	public User getUserById(int id) throws Exception {
+	public Optional<User> getUserById(int id) {
 		return userProfileService.getUserById(id);
 	}
 }
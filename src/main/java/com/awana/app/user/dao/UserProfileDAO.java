@@ -5,6 +5,7 @@ import static com.awana.common.datetime.DateTimeMapper.*;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 import javax.sql.DataSource;
 
@@ -17,7 +18,6 @@ import org.springframework.stereotype.Repository;
 
 import com.awana.app.user.client.domain.User;
 import com.awana.app.user.client.domain.request.UserGetRequest;
-import com.awana.common.exception.NotFoundException;
 import com.awana.sql.abstracts.BaseDao;
 import com.awana.sql.builder.SqlParamBuilder;
 import com.google.common.collect.Sets;
@@ -44,11 +44,7 @@ public class UserProfileDAO extends BaseDao {
 	 * @throws Exception
 	 */
 	public List<User> getUsers(UserGetRequest request) {
-		MapSqlParameterSource params = SqlParamBuilder.with().withParam(ID, request.getId())
-				.withParam(EMAIL, request.getEmail()).withParam(FIRST_NAME, request.getFirstName())
-				.withParam(LAST_NAME, request.getLastName()).withParamTextEnumCollection(WEB_ROLE, request.getWebRole())
-				.build();
-
+		MapSqlParameterSource params = getUserParams(request);
 		return getPage(getSql("getUsers", params), params, USER_MAPPER);
 	}
 
@@ -57,18 +53,46 @@ public class UserProfileDAO extends BaseDao {
 	 * about the user
 	 * 
 	 * @param id of the user
-	 * @return User profile object {@link UserProfile}
-	 * @throws Exception
+	 * @return User profile object {@link UserProfile}, or an empty optional if no
+	 *         user exists for the id.
 	 */
-	public User getUserById(int id) throws Exception {
-		try {
-			UserGetRequest request = new UserGetRequest();
-			request.setId(Sets.newHashSet(id));
-			return getUsers(request).get(0);
-		}
-		catch(Exception e) {
-			throw new NotFoundException("User", id);
-		}
+	public Optional<User> getUserById(int id) {
+		UserGetRequest request = new UserGetRequest();
+		request.setId(Sets.newHashSet(id));
+
+		MapSqlParameterSource params = getUserParams(request);
+		return getForOptional(getSql("getUsers", params), params, USER_MAPPER);
+	}
+
+	/**
+	 * Gets the row version of the user. The version is bumped by every update to
+	 * the user so it can be used to tell if the user has changed without loading
+	 * it.
+	 * 
+	 * @param id of the user
+	 * @return {@link Long} version of the user, or an empty optional if no user
+	 *         exists for the id.
+	 */
+	public Optional<Long> getUserVersion(int id) {
+		UserGetRequest request = new UserGetRequest();
+		request.setId(Sets.newHashSet(id));
+
+		MapSqlParameterSource params = getUserParams(request);
+		return getForOptional(getSql("getUserVersion", params), params, Long.class);
+	}
+
+	/**
+	 * Gets a version for the list of users matching the request. It is made up of
+	 * the row count, the largest id and the sum of the row versions. Updates raise
+	 * the sum, deletes lower the count and inserts always raise the largest id, so
+	 * any change to the matching users changes the version.
+	 * 
+	 * @param request of the user
+	 * @return {@link String} version of the matching users.
+	 */
+	public String getUsersVersion(UserGetRequest request) {
+		MapSqlParameterSource params = getUserParams(request);
+		return get(getSql("getUsersVersion", params), params, String.class);
 	}
 
 	/**
@@ -94,12 +118,15 @@ public class UserProfileDAO extends BaseDao {
 	 * 
 	 * @param userId Id of the usre being updated.
 	 * @param user   what information on the user needs to be updated.
-	 * @return user associated to that id with the updated information
-	 * @throws Exception
+	 * @return user associated to that id with the updated information, or an empty
+	 *         optional if no user exists for the id.
 	 */
-	public User updateUserProfile(int userId, User user) throws Exception {
-		User userProfile = getUserById(userId);
-		user = mapNonNullUserFields(user, userProfile);
+	public Optional<User> updateUserProfile(int userId, User user) {
+		Optional<User> userProfile = getUserById(userId);
+		if(userProfile.isEmpty()) {
+			return userProfile;
+		}
+		user = mapNonNullUserFields(user, userProfile.get());
 
 		MapSqlParameterSource params = SqlParamBuilder.with().withParam(FIRST_NAME, user.getFirstName())
 				.withParam(LAST_NAME, user.getLastName()).withParam(EMAIL, user.getEmail())
@@ -114,10 +141,10 @@ public class UserProfileDAO extends BaseDao {
 	 * Method that will update the user's last login time to current date and time;
 	 * 
 	 * @param userId The user Id to be updated.
-	 * @return The user object with the updated information.
-	 * @throws Exception
+	 * @return The user object with the updated information, or an empty optional if
+	 *         no user exists for the id.
 	 */
-	public User updateUserLastLoginToNow(int userId) throws Exception {
+	public Optional<User> updateUserLastLoginToNow(int userId) {
 		MapSqlParameterSource params = SqlParamBuilder.with().withParam(LAST_LOGIN_DATE, printDate(new Date()))
 				.withParam(ID, userId).build();
 
@@ -135,6 +162,18 @@ public class UserProfileDAO extends BaseDao {
 		delete(getSql("deleteUser"), parameterSource(ID, id));
 	}
 
+	/**
+	 * Builds the params for the user get request.
+	 * 
+	 * @param request The request to build the params for.
+	 * @return {@link MapSqlParameterSource} of the request.
+	 */
+	private MapSqlParameterSource getUserParams(UserGetRequest request) {
+		return SqlParamBuilder.with().withParam(ID, request.getId()).withParam(EMAIL, request.getEmail())
+				.withParam(FIRST_NAME, request.getFirstName()).withParam(LAST_NAME, request.getLastName())
+				.withParamTextEnumCollection(WEB_ROLE, request.getWebRole()).build();
+	}
+
 	/**
 	 * Maps non null user fields from the source to the desitnation.
 	 * 
@@ -3,12 +3,14 @@ package com.awana.app.user.rest;
 import static org.springframework.http.MediaType.*;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.awana.app.user.client.domain.User;
 import com.awana.app.user.client.domain.WebRole;
@@ -16,6 +18,7 @@ import com.awana.app.user.client.domain.request.UserGetRequest;
 import com.awana.app.user.openapi.TagUser;
 import com.awana.app.user.service.UserProfileService;
 import com.awana.common.annotations.interfaces.HasAccess;
+import com.awana.common.exception.NotFoundException;
 
 import io.swagger.v3.oas.annotations.Operation;
 
@@ -28,41 +31,75 @@ public class UserProfileController {
 	private UserProfileService userProfileService;
 
 	/**
-	 * Gets a list of users based of the request filter
+	 * Gets a list of users based of the request filter. If the users have not
+	 * changed since the tag sent in {@code If-None-Match} then a 304 is returned
+	 * without loading them.
 	 * 
-	 * @param request to filter on
+	 * @param request    to filter on
+	 * @param webRequest The current request, used for the conditional check.
 	 * @return list of user objects
 	 * @throws Exception
 	 */
 	@Operation(summary = "Get a list of users.", description = "Given a User Get Request, it will return a list of users that match the request.")
 	@GetMapping(produces = APPLICATION_JSON_VALUE)
-	public List<User> getUsers(UserGetRequest request) throws Exception {
+	public List<User> getUsers(UserGetRequest request, WebRequest webRequest) throws Exception {
+		if(webRequest.checkNotModified(userProfileService.getUsersTag(request))) {
+			return null;
+		}
 		return userProfileService.getUsers(request);
 	}
 
 	/**
-	 * Gets the current logged in user information.
+	 * Gets the current logged in user information. If the user has not changed
+	 * since the tag sent in {@code If-None-Match} then a 304 is returned without
+	 * loading the user.
 	 * 
+	 * @param webRequest The current request, used for the conditional check.
 	 * @return The user currently logged in.
 	 * @throws Exception
 	 */
 	@Operation(summary = "Gets current user of the session call.", description = "Will return the current user based on the active session jwt holder.")
 	@GetMapping(path = "/current-user", produces = APPLICATION_JSON_VALUE)
-	public User getCurrentUser() throws Exception {
-		return userProfileService.getCurrentUser();
+	public User getCurrentUser(WebRequest webRequest) throws Exception {
+		if(isNotModified(webRequest, userProfileService.getCurrentUserTag())) {
+			return null;
+		}
+		return userProfileService.getCurrentUser()
+				.orElseThrow(() -> new NotFoundException("User for the token not found"));
 	}
 
 	/**
-	 * Get user object for the given Id
+	 * Get user object for the given Id. If the user has not changed since the tag
+	 * sent in {@code If-None-Match} then a 304 is returned without loading the
+	 * user.
 	 * 
-	 * @param id of the user
+	 * @param id         of the user
+	 * @param webRequest The current request, used for the conditional check.
 	 * @return user associated to that id
 	 * @throws Exception
 	 */
 	@Operation(summary = "Gets a user by id.", description = "For the given id value, it will return the corresponding user.")
 	@GetMapping(path = "/{id}", produces = APPLICATION_JSON_VALUE)
 	@HasAccess(WebRole.ADMIN)
-	public User getUserById(@PathVariable int id) throws Exception {
-		return userProfileService.getUserById(id);
+	public User getUserById(@PathVariable int id, WebRequest webRequest) throws Exception {
+		if(isNotModified(webRequest, userProfileService.getUserTag(id))) {
+			return null;
+		}
+		return userProfileService.getUserById(id).orElseThrow(() -> new NotFoundException("User", id));
+	}
+
+	/**
+	 * Checks the request against the tag of the user and sets the ETag on the
+	 * response. A missing user is never considered unmodified so that the lookup
+	 * still returns the not found error. If the user changes between the probe and
+	 * the load the client gets the newer body with the older tag, which only costs
+	 * it a 304 on the next poll.
+	 * 
+	 * @param webRequest The current request.
+	 * @param tag        The tag of the user, if it exists.
+	 * @return boolean if a 304 should be returned.
+	 */
+	private boolean isNotModified(WebRequest webRequest, Optional<String> tag) {
+		return tag.isPresent() && webRequest.checkNotModified(tag.get());
 	}
 }
\ No newline at end of file
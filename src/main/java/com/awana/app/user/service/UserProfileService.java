@@ -1,6 +1,7 @@
 package com.awana.app.user.service;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -40,10 +41,10 @@ public class UserProfileService {
 	/**
 	 * Get the current user from the jwt token.
 	 * 
-	 * @return User profile object {@link User}
-	 * @throws Exception
+	 * @return User profile object {@link User}, or an empty optional if the user no
+	 *         longer exists.
 	 */
-	public User getCurrentUser() throws Exception {
+	public Optional<User> getCurrentUser() {
 		return getUserById(jwtHolder.getUserId());
 	}
 
@@ -51,10 +52,43 @@ public class UserProfileService {
 	 * Service to get a users profile given the user id
 	 * 
 	 * @param id of the user
-	 * @return User profile object {@link User}
-	 * @throws Exception
+	 * @return User profile object {@link User}, or an empty optional if no user
+	 *         exists for the id.
 	 */
-	public User getUserById(int id) throws Exception {
+	public Optional<User> getUserById(int id) {
 		return dao.getUserById(id);
 	}
+
+	/**
+	 * Gets the entity tag for the list of users matching the request. This only
+	 * probes the row versions and does not load the users.
+	 * 
+	 * @param request of the user
+	 * @return {@link String} entity tag of the matching users.
+	 */
+	public String getUsersTag(UserGetRequest request) {
+		return "users-" + dao.getUsersVersion(request);
+	}
+
+	/**
+	 * Gets the entity tag for the current user from the jwt token.
+	 * 
+	 * @return {@link String} entity tag of the user, or an empty optional if the
+	 *         user no longer exists.
+	 */
+	public Optional<String> getCurrentUserTag() {
+		return getUserTag(jwtHolder.getUserId());
+	}
+
+	/**
+	 * Gets the entity tag for the user. This only probes the row version and does
+	 * not load the user.
+	 * 
+	 * @param id of the user
+	 * @return {@link String} entity tag of the user, or an empty optional if no
+	 *         user exists for the id.
+	 */
+	public Optional<String> getUserTag(int id) {
+		return dao.getUserVersion(id).map(version -> String.format("user-%d-%d", id, version));
+	}
 }
@@ -0,0 +1,104 @@
+package com.awana.common.annotations.interceptors;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import com.awana.app.user.client.domain.WebRole;
+import com.awana.common.annotations.interfaces.HasAccess;
+import com.awana.common.context.RequestContext;
+import com.awana.common.exception.InsufficientPermissionsException;
+import com.awana.common.metrics.ServerTiming;
+
+/**
+ * Checks if the caller has access to a handler method marked with
+ * {@link HasAccess} before the controller is invoked. The required role of
+ * every handler method is resolved once at startup, so a request only costs a
+ * lookup of its handler method and a compare against the role already parsed
+ * onto the {@link RequestContext}.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Component
+public class HasAccessInterceptor implements HandlerInterceptor, SmartInitializingSingleton {
+
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMappings;
+
+    private volatile Map<Method, WebRole> requiredRoles = Collections.emptyMap();
+
+    @Autowired
+    public HasAccessInterceptor(ObjectProvider<RequestMappingHandlerMapping> handlerMappings) {
+        this.handlerMappings = handlerMappings;
+    }
+
+    /**
+     * Builds the table of required roles from the handler methods of every
+     * request mapping. The mappings are looked up once all singletons exist
+     * since they are built with this interceptor.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        Map<Method, WebRole> roles = new HashMap<>();
+        handlerMappings.orderedStream().forEach(mapping -> mapping.getHandlerMethods().values().forEach(handler -> {
+            HasAccess access = handler.getMethodAnnotation(HasAccess.class);
+            if(access != null) {
+                roles.put(handler.getMethod(), access.value());
+            }
+        }));
+        requiredRoles = Collections.unmodifiableMap(roles);
+    }
+
+    /**
+     * Determines if the caller has access to the handler.
+     *
+     * @param request  The request being handled.
+     * @param response The response of the request.
+     * @param handler  The handler chosen for the request.
+     * @return true to continue on to the handler.
+     * @throws InsufficientPermissionsException If the caller does not have the
+     *                                          required role.
+     */
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if(!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+
+        WebRole required = requiredRoles.get(((HandlerMethod) handler).getMethod());
+        if(required == null) {
+            return true;
+        }
+
+        ServerTiming.Span span = ServerTiming.start(ServerTiming.ACCESS);
+        try(span) {
+            WebRole role = RequestContext.current().getWebRole();
+            if(role == null || role.getRank() < required.getRank()) {
+                throw new InsufficientPermissionsException(role);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the role required by the handler method.
+     *
+     * @param method The handler method.
+     * @return {@link WebRole} required, or null if anyone can call it.
+     */
+    public WebRole getRequiredRole(Method method) {
+        return requiredRoles.get(method);
+    }
+}
@@ -0,0 +1,134 @@
+package com.awana.common.concurrent;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Data source that bounds how many connections can be checked out at once.
+ * With virtual threads there can be far more concurrent requests than pooled
+ * connections, so callers queue on a fair semaphore instead of piling into the
+ * connection pool. The permit is released when the connection is closed.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public class BoundedDataSource extends DelegatingDataSource {
+    private final Semaphore permits;
+
+    private final int maxConnections;
+
+    private final long timeoutMillis;
+
+    public BoundedDataSource(DataSource target, int maxConnections, long timeoutMillis) {
+        super(target);
+        this.permits = new Semaphore(maxConnections, true);
+        this.maxConnections = maxConnections;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return bound(super.getConnection());
+        }
+        catch(SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return bound(super.getConnection(username, password));
+        }
+        catch(SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the number of connections currently checked out through this data
+     * source.
+     *
+     * @return int of the active connections.
+     */
+    public int getActiveConnections() {
+        return maxConnections - permits.availablePermits();
+    }
+
+    /**
+     * Gets the number of threads waiting for a connection.
+     *
+     * @return int of the waiting threads.
+     */
+    public int getWaitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if(!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        String.format("Connection not available, request timed out after %dms.", timeoutMillis));
+            }
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted waiting for a connection.", e);
+        }
+    }
+
+    /**
+     * Wraps the connection so closing it releases the permit exactly once.
+     */
+    private Connection bound(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                                                   new Class<?>[] {Connection.class},
+                                                   new PermitReleasingHandler(connection));
+    }
+
+    /**
+     * Invocation handler that forwards to the real connection and releases the
+     * permit on the first close.
+     */
+    private class PermitReleasingHandler implements InvocationHandler {
+        private final Connection connection;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitReleasingHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(connection, args);
+            }
+            catch(InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+            finally {
+                if(method.getName().equals("close") && released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.awana.common.concurrent;
+
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides if app managed work runs on platform or virtual threads. Virtual
+ * threads are opt in with {@code awana.threads.virtual=true} and only used when
+ * the runtime supports them, otherwise the platform thread pools are kept. They
+ * need java 21, so on the java 17 this app is pinned to the flag is unavailable
+ * and only logs a warning.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Component
+public class ExecutionMode {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionMode.class);
+
+    private final boolean virtual;
+
+    public ExecutionMode(@Value("${awana.threads.virtual:false}") boolean virtualRequested) {
+        this.virtual = virtualRequested && VirtualThreads.isSupported();
+        if(virtualRequested && !virtual) {
+            LOGGER.warn("Virtual threads requested but not supported by java {}, using platform threads.",
+                        System.getProperty("java.version"));
+        }
+    }
+
+    /**
+     * Checks if work should run on virtual threads.
+     *
+     * @return boolean if virtual threads are active.
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * Applies the execution mode to a pooled executor. In virtual mode the pool
+     * keeps its size, so it still bounds concurrency and ordering, but its
+     * workers are virtual threads that release their carrier while blocked.
+     *
+     * @param executor The executor to configure.
+     * @param prefix   The prefix for the thread names.
+     * @return The same {@link ThreadPoolTaskExecutor} instance.
+     */
+    public ThreadPoolTaskExecutor apply(ThreadPoolTaskExecutor executor, String prefix) {
+        executor.setThreadNamePrefix(prefix);
+        if(virtual) {
+            executor.setThreadFactory(VirtualThreads.threadFactory(prefix));
+        }
+        return executor;
+    }
+
+    /**
+     * Creates an unbounded executor that starts a virtual thread per task.
+     *
+     * @param prefix    The prefix for the thread names.
+     * @param decorator The decorator to apply to each task.
+     * @return {@link Executor} of virtual threads.
+     */
+    public TaskExecutorAdapter virtualExecutor(String prefix, TaskDecorator decorator) {
+        TaskExecutorAdapter executor = new TaskExecutorAdapter(VirtualThreads.newThreadPerTaskExecutor(prefix));
+        executor.setTaskDecorator(decorator);
+        return executor;
+    }
+}
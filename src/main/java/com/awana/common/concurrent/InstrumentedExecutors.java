@@ -0,0 +1,138 @@
+package com.awana.common.concurrent;
+
+import java.util.concurrent.Delayed;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.awana.common.metrics.LatencyHistogram;
+import com.awana.common.metrics.MetricsRegistry;
+
+/**
+ * Registers the metrics of app managed thread pools so a saturated pool can be
+ * spotted under load. Each pool reports the following under
+ * {@code executor.<name>}:
+ *
+ * <ul>
+ * <li>{@code queued} - tasks waiting for a thread, for a scheduler only the
+ * tasks that are already due</li>
+ * <li>{@code active} - threads running a task</li>
+ * <li>{@code pool} - threads in the pool</li>
+ * <li>{@code rejected} - tasks the pool refused</li>
+ * <li>{@code wait} and {@code run} - time from submit to start and the run
+ * time of each task, thread pool executors only</li>
+ * </ul>
+ *
+ * Pools must be instrumented before they are initialized.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Component
+public class InstrumentedExecutors {
+    private static final String PREFIX = "executor.";
+
+    private final MetricsRegistry metrics;
+
+    @Autowired
+    public InstrumentedExecutors(MetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Instruments a thread pool executor. The given decorator is still applied to
+     * every task.
+     *
+     * @param name      The name the metrics are registered under.
+     * @param executor  The executor to instrument.
+     * @param decorator The decorator of the executor, may be null.
+     * @return The same {@link ThreadPoolTaskExecutor} instance.
+     */
+    public ThreadPoolTaskExecutor instrument(String name, ThreadPoolTaskExecutor executor, TaskDecorator decorator) {
+        String prefix = PREFIX + name;
+        LatencyHistogram wait = metrics.histogram(prefix + ".wait");
+        LatencyHistogram run = metrics.histogram(prefix + ".run");
+        executor.setTaskDecorator(runnable -> {
+            Runnable task = decorator == null ? runnable : decorator.decorate(runnable);
+            long submitted = System.nanoTime();
+            return () -> {
+                long started = System.nanoTime();
+                wait.record(started - submitted);
+                try {
+                    task.run();
+                }
+                finally {
+                    run.record(System.nanoTime() - started);
+                }
+            };
+        });
+        executor.setRejectedExecutionHandler(counting(prefix));
+
+        metrics.registerGauge(prefix + ".queued", () -> queued(executor));
+        metrics.registerGauge(prefix + ".active", executor::getActiveCount);
+        metrics.registerGauge(prefix + ".pool", executor::getPoolSize);
+        return executor;
+    }
+
+    /**
+     * Instruments a scheduler. Scheduled tasks wait in the queue until they are
+     * due, so only the due tasks count as queued.
+     *
+     * @param name      The name the metrics are registered under.
+     * @param scheduler The scheduler to instrument.
+     * @return The same {@link ThreadPoolTaskScheduler} instance.
+     */
+    public ThreadPoolTaskScheduler instrument(String name, ThreadPoolTaskScheduler scheduler) {
+        String prefix = PREFIX + name;
+        scheduler.setRejectedExecutionHandler(counting(prefix));
+
+        metrics.registerGauge(prefix + ".queued", () -> due(scheduler));
+        metrics.registerGauge(prefix + ".active", scheduler::getActiveCount);
+        metrics.registerGauge(prefix + ".pool", scheduler::getPoolSize);
+        return scheduler;
+    }
+
+    /**
+     * Creates a handler that counts the rejected task and then rejects it the same
+     * way the default policy does.
+     */
+    private RejectedExecutionHandler counting(String prefix) {
+        LongAdder rejected = metrics.counter(prefix + ".rejected");
+        RejectedExecutionHandler abort = new ThreadPoolExecutor.AbortPolicy();
+        return (task, pool) -> {
+            rejected.increment();
+            abort.rejectedExecution(task, pool);
+        };
+    }
+
+    private static int queued(ThreadPoolTaskExecutor executor) {
+        try {
+            return executor.getThreadPoolExecutor().getQueue().size();
+        }
+        catch(IllegalStateException e) {
+            return 0;
+        }
+    }
+
+    private static int due(ThreadPoolTaskScheduler scheduler) {
+        int due = 0;
+        try {
+            for(Runnable task : scheduler.getScheduledThreadPoolExecutor().getQueue()) {
+                if(task instanceof Delayed && ((Delayed) task).getDelay(TimeUnit.NANOSECONDS) <= 0) {
+                    due++;
+                }
+            }
+        }
+        catch(IllegalStateException e) {
+            return 0;
+        }
+        return due;
+    }
+}
@@ -0,0 +1,104 @@
+package com.awana.common.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to virtual threads on runtimes that support them. The project still
+ * compiles against an older release so the thread builder api is looked up
+ * reflectively once and callers should check {@link #isSupported()} first.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public final class VirtualThreads {
+    private static final Method OF_VIRTUAL = lookup(Thread.class, "ofVirtual");
+
+    private static final Method BUILDER_NAME = lookup("java.lang.Thread$Builder", "name", String.class, long.class);
+
+    private static final Method BUILDER_FACTORY = lookup("java.lang.Thread$Builder", "factory");
+
+    private VirtualThreads() {}
+
+    /**
+     * Checks if the running jvm can create virtual threads.
+     *
+     * @return boolean if virtual threads are supported.
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null && BUILDER_NAME != null && BUILDER_FACTORY != null && isEnabled();
+    }
+
+    /**
+     * Creates a thread factory for virtual threads named with the given prefix and
+     * an incrementing counter.
+     *
+     * @param prefix The prefix for the thread names.
+     * @return {@link ThreadFactory} of virtual threads.
+     * @throws IllegalStateException If virtual threads are not supported.
+     */
+    public static ThreadFactory threadFactory(String prefix) {
+        if(!isSupported()) {
+            throw new IllegalStateException("Virtual threads are not supported on this runtime!");
+        }
+
+        try {
+            Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), prefix, 0L);
+            return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+        }
+        catch(ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create virtual thread factory", e);
+        }
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task.
+     *
+     * @param prefix The prefix for the thread names.
+     * @return {@link ExecutorService} of virtual threads.
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String prefix) {
+        ThreadFactory factory = threadFactory(prefix);
+        try {
+            Method method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) method.invoke(null, factory);
+        }
+        catch(ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create virtual thread executor", e);
+        }
+    }
+
+    /**
+     * Virtual threads were a preview feature before they were final. Creating one
+     * confirms the api is usable on the running jvm.
+     */
+    private static boolean isEnabled() {
+        try {
+            OF_VIRTUAL.invoke(null);
+            return true;
+        }
+        catch(ReflectiveOperationException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static Method lookup(String className, String name, Class<?>... params) {
+        try {
+            return lookup(Class.forName(className), name, params);
+        }
+        catch(ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static Method lookup(Class<?> type, String name, Class<?>... params) {
+        try {
+            return type.getMethod(name, params);
+        }
+        catch(NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
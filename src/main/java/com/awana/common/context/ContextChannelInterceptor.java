@@ -0,0 +1,36 @@
+package com.awana.common.context;
+
+import java.util.Map;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+
+/**
+ * Restores the {@link RequestContext} captured at handshake time while an
+ * inbound message from the session is handled, and clears it afterwards so
+ * the channel threads never leak a caller between sessions.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public class ContextChannelInterceptor implements ExecutorChannelInterceptor {
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        Map<String, Object> attributes = SimpMessageHeaderAccessor.getSessionAttributes(message.getHeaders());
+        Object context = attributes == null ? null : attributes.get(ContextHandshakeInterceptor.CONTEXT_ATTRIBUTE);
+        if(context instanceof RequestContext) {
+            ((RequestContext) context).restore();
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+            Exception ex) {
+        RequestContext.clear();
+    }
+}
@@ -0,0 +1,33 @@
+package com.awana.common.context;
+
+import java.util.Map;
+
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+/**
+ * Captures the {@link RequestContext} of the handshake request into the
+ * websocket session attributes so it can be restored for each message the
+ * session sends.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public class ContextHandshakeInterceptor implements HandshakeInterceptor {
+    public static final String CONTEXT_ATTRIBUTE = RequestContext.class.getName();
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response, WebSocketHandler wsHandler,
+            Map<String, Object> attributes) {
+        attributes.put(CONTEXT_ATTRIBUTE, RequestContext.capture());
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response, WebSocketHandler wsHandler,
+            Exception exception) {
+        // Nothing to do after the handshake
+    }
+}
@@ -0,0 +1,22 @@
+package com.awana.common.context;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Task decorator that runs each task with the {@link RequestContext} of the
+ * thread that submitted it. Spring Boot applies the bean to the auto
+ * configured async executor and the subscription channels apply it to their
+ * executors.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Component
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return RequestContext.wrap(runnable);
+    }
+}
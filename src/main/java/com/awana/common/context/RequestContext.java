@@ -0,0 +1,217 @@
+package com.awana.common.context;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.util.Assert;
+
+import com.awana.app.user.client.domain.User;
+import com.awana.app.user.client.domain.WebRole;
+import com.awana.common.jwt.domain.AwanaJwtClaims;
+import com.awana.common.jwt.domain.JwtPair;
+import com.awana.common.jwt.domain.JwtType;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Immutable context for the caller of the current unit of work. The context is
+ * bound to the thread handling the request and can be captured and restored on
+ * any other thread so that work handed off to an executor keeps the identity
+ * of the caller.
+ *
+ * <pre>
+ * RequestContext context = RequestContext.capture();
+ * executor.execute(() -> {
+ *     RequestContext.Scope scope = context.restore();
+ *     try(scope) {
+ *         ...
+ *     }
+ * });
+ * </pre>
+ *
+ * Executors managed by the app are decorated with
+ * {@link ContextPropagatingTaskDecorator} so this happens automatically.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public final class RequestContext {
+    private static final ThreadLocal<RequestContext> CURRENT = new ThreadLocal<>();
+
+    private static final RequestContext EMPTY = new RequestContext(null);
+
+    private final JwtPair jwtPair;
+
+    private final WebRole webRole;
+
+    private final Integer userId;
+
+    private RequestContext(JwtPair jwtPair) {
+        this.jwtPair = jwtPair;
+
+        Claims claims = jwtPair == null ? null : jwtPair.getClaimSet();
+        Object role = claims == null ? null : claims.get(AwanaJwtClaims.WEB_ROLE);
+        Object id = claims == null ? null : claims.get(AwanaJwtClaims.USER_ID);
+        this.webRole = role == null ? null : WebRole.valueOf(role.toString());
+        this.userId = id == null ? null : Integer.valueOf(id.toString());
+    }
+
+    /**
+     * Gets the context bound to the current thread. If nothing is bound then an
+     * empty unauthenticated context is returned.
+     *
+     * @return {@link RequestContext} of the current thread.
+     */
+    public static RequestContext current() {
+        RequestContext context = CURRENT.get();
+        return context == null ? EMPTY : context;
+    }
+
+    /**
+     * Captures the context of the current thread so it can be restored on
+     * another thread. The context is immutable so the captured instance is safe
+     * to share.
+     *
+     * @return {@link RequestContext} of the current thread.
+     */
+    public static RequestContext capture() {
+        return current();
+    }
+
+    /**
+     * Binds a new context for the given token to the current thread.
+     *
+     * @param jwtPair The parsed token of the caller.
+     * @return {@link Scope} that restores the previous context when closed.
+     */
+    public static Scope open(JwtPair jwtPair) {
+        return new RequestContext(jwtPair).restore();
+    }
+
+    /**
+     * Removes any context bound to the current thread.
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Wraps the runnable so that it runs with the context of the calling thread.
+     *
+     * @param task The task to wrap.
+     * @return {@link Runnable} bound to the current context.
+     */
+    public static Runnable wrap(Runnable task) {
+        RequestContext context = capture();
+        return () -> {
+            Scope scope = context.restore();
+            try(scope) {
+                task.run();
+            }
+        };
+    }
+
+    /**
+     * Wraps the callable so that it runs with the context of the calling thread.
+     *
+     * @param task The task to wrap.
+     * @return {@link Callable} bound to the current context.
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        RequestContext context = capture();
+        return () -> {
+            Scope scope = context.restore();
+            try(scope) {
+                return task.call();
+            }
+        };
+    }
+
+    /**
+     * Binds this context to the current thread.
+     *
+     * @return {@link Scope} that restores the previous context when closed.
+     */
+    public Scope restore() {
+        RequestContext previous = CURRENT.get();
+        CURRENT.set(this);
+        return new Scope(previous);
+    }
+
+    /**
+     * Checks if the context has a token for the caller.
+     *
+     * @return boolean if the caller is authenticated.
+     */
+    public boolean isAuthenticated() {
+        return jwtPair != null;
+    }
+
+    /**
+     * Gets the parsed token of the caller.
+     *
+     * @return {@link JwtPair} of the caller, or null if not authenticated.
+     */
+    public JwtPair getJwtPair() {
+        return jwtPair;
+    }
+
+    /**
+     * Gets the web role of the caller.
+     *
+     * @return {@link WebRole} of the caller, or null if there is none.
+     */
+    public WebRole getWebRole() {
+        return webRole;
+    }
+
+    /**
+     * Gets the user id of the caller.
+     *
+     * @return {@link Integer} of the user id, or null if there is none.
+     */
+    public Integer getUserId() {
+        return userId;
+    }
+
+    /**
+     * Builds the user from the token. Only web tokens hold a user.
+     *
+     * @return {@link User} of the caller.
+     */
+    public User getUser() {
+        Assert.isTrue(jwtPair != null, "No token on the current request context!");
+        Claims claims = jwtPair.getClaimSet();
+        Assert.isTrue(JwtType.WEB.name().equals(String.valueOf(claims.get(AwanaJwtClaims.JWT_TYPE))),
+                      "Jwt is not of type User!");
+
+        User currentUser = new User();
+        currentUser.setId(userId);
+        currentUser.setEmail(claims.get(AwanaJwtClaims.EMAIL).toString());
+        currentUser.setWebRole(webRole);
+        currentUser.setFirstName(claims.get(AwanaJwtClaims.FIRST_NAME).toString());
+        currentUser.setLastName(claims.get(AwanaJwtClaims.LAST_NAME).toString());
+        return currentUser;
+    }
+
+    /**
+     * Scope of a bound context. Closing the scope puts back whatever context was
+     * bound to the thread before it was opened.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final RequestContext previous;
+
+        private Scope(RequestContext previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if(previous == null) {
+                CURRENT.remove();
+            }
+            else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
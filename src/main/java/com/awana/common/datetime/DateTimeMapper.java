@@ -4,18 +4,32 @@ import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class containing static methods for mapping DateTime objects to/from
  * String values for use in DAOs. It is expected that these methods will be
  * statically imported if using Local Date Time objects.
  * 
+ * The default sql format in UTC is written by the {@link TimestampCodec}. Any
+ * other format is compiled once and cached, {@link SimpleDateFormat} instances
+ * are cached per thread since they are not thread safe.
+ * 
  * @author Sam Butler
  * @since May 27, 2022
  */
 public class DateTimeMapper {
-    private static final String DATE_TIME_PRINT = "yyyy-MM-dd HH:mm:ss";
+    private static final String DATE_TIME_PRINT = TimestampCodec.PATTERN;
+
+    private static final String UTC = "UTC";
+
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<Map<String, Map<String, SimpleDateFormat>>> DATE_FORMATS = ThreadLocal
+            .withInitial(HashMap::new);
 
     /**
      * Format a {@link Date} object based on the given format. The default timezone
@@ -26,7 +40,7 @@ public class DateTimeMapper {
      * @return {@link String} of the formatted date.
      */
     public static String printDate(Date dt, String format) {
-        return printDate(dt, format, "UTC");
+        return printDate(dt, format, UTC);
     }
 
     /**
@@ -38,9 +52,14 @@ public class DateTimeMapper {
      * @return {@link String} of the formatted date.
      */
     public static String printDate(Date dt, String format, String timezone) {
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat(format);
-        simpleDateFormat.setTimeZone(TimeZone.getTimeZone(timezone));
-        return simpleDateFormat.format(dt);
+        if(DATE_TIME_PRINT.equals(format) && UTC.equals(timezone) && TimestampCodec.canWrite(dt.getTime())) {
+            return TimestampCodec.print(dt);
+        }
+        return DATE_FORMATS.get().computeIfAbsent(timezone, k -> new HashMap<>()).computeIfAbsent(format, k -> {
+            SimpleDateFormat simpleDateFormat = new SimpleDateFormat(format);
+            simpleDateFormat.setTimeZone(TimeZone.getTimeZone(timezone));
+            return simpleDateFormat;
+        }).format(dt);
     }
 
     /**
@@ -51,8 +70,10 @@ public class DateTimeMapper {
      * @return {@link String} of the formatted date.
      */
     public static String printDate(LocalDateTime dt, String format) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(format);
-        return dt.format(formatter);
+        if(DATE_TIME_PRINT.equals(format) && TimestampCodec.canWrite(dt)) {
+            return TimestampCodec.print(dt);
+        }
+        return dt.format(FORMATTERS.computeIfAbsent(format, DateTimeFormatter::ofPattern));
     }
 
     /**
@@ -82,4 +103,18 @@ public class DateTimeMapper {
         }
         return printDate(dt, DATE_TIME_PRINT);
     }
+
+    /**
+     * Parses a date in the default format for sql. If the passed in value is
+     * null then the method will return null
+     * 
+     * @param value The value to parse.
+     * @return {@link LocalDateTime} of the parsed value.
+     */
+    public static LocalDateTime parseDate(String value) {
+        if(value == null) {
+            return null;
+        }
+        return TimestampCodec.parse(value);
+    }
 }
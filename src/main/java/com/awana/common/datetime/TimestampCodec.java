@@ -0,0 +1,196 @@
+package com.awana.common.datetime;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+
+/**
+ * Codec for the {@code yyyy-MM-dd HH:mm:ss} timestamps used in sql. Timestamps
+ * are written digit by digit into a caller supplied buffer, so printing one
+ * allocates nothing but the returned string. Dates are written in UTC.
+ *
+ * Only years 1 to 9999 fit the fixed width of the year of era, and dates
+ * before the gregorian cutover are formatted differently by
+ * {@link java.text.SimpleDateFormat}. The {@link #canWrite} checks tell callers
+ * when to fall back to a formatter.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public final class TimestampCodec {
+    public static final String PATTERN = "yyyy-MM-dd HH:mm:ss";
+
+    public static final int LENGTH = PATTERN.length();
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private static final long GREGORIAN_CUTOVER_MILLIS = -12_219_292_800_000L;
+
+    private static final long MAX_MILLIS = 253_402_300_800_000L;
+
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[LENGTH]);
+
+    private TimestampCodec() {}
+
+    /**
+     * Checks if the date can be written by this codec.
+     *
+     * @param epochMillis The date as millis since the epoch.
+     * @return boolean if it is between the gregorian cutover and year 9999.
+     */
+    public static boolean canWrite(long epochMillis) {
+        return epochMillis >= GREGORIAN_CUTOVER_MILLIS && epochMillis < MAX_MILLIS;
+    }
+
+    /**
+     * Checks if the date time can be written by this codec.
+     *
+     * @param dt The date time to check.
+     * @return boolean if the year is between 1 and 9999.
+     */
+    public static boolean canWrite(LocalDateTime dt) {
+        return dt.getYear() >= 1 && dt.getYear() <= 9999;
+    }
+
+    /**
+     * Prints the date in UTC.
+     *
+     * @param dt The date to print.
+     * @return {@link String} of the timestamp.
+     */
+    public static String print(Date dt) {
+        byte[] buffer = BUFFER.get();
+        write(dt.getTime(), buffer, 0);
+        return new String(buffer, 0, LENGTH, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Prints the date time.
+     *
+     * @param dt The date time to print.
+     * @return {@link String} of the timestamp.
+     */
+    public static String print(LocalDateTime dt) {
+        byte[] buffer = BUFFER.get();
+        write(dt, buffer, 0);
+        return new String(buffer, 0, LENGTH, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Writes the date in UTC into the buffer. The civil date is worked out from
+     * the day count with the days-to-civil algorithm of Howard Hinnant.
+     *
+     * @param epochMillis The date as millis since the epoch.
+     * @param buffer      The buffer to write into.
+     * @param offset      Where in the buffer to start.
+     * @return The offset after the written timestamp.
+     */
+    public static int write(long epochMillis, byte[] buffer, int offset) {
+        long days = Math.floorDiv(epochMillis, MILLIS_PER_DAY);
+        int secondOfDay = (int) (Math.floorMod(epochMillis, MILLIS_PER_DAY) / 1000);
+
+        long shifted = days + 719_468;
+        long era = Math.floorDiv(shifted, 146_097);
+        int dayOfEra = (int) (shifted - era * 146_097);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        int year = (int) (era * 400) + yearOfEra + (month <= 2 ? 1 : 0);
+
+        return write(year, month, day, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60, buffer, offset);
+    }
+
+    /**
+     * Writes the date time into the buffer.
+     *
+     * @param dt     The date time to write.
+     * @param buffer The buffer to write into.
+     * @param offset Where in the buffer to start.
+     * @return The offset after the written timestamp.
+     */
+    public static int write(LocalDateTime dt, byte[] buffer, int offset) {
+        return write(dt.getYear(), dt.getMonthValue(), dt.getDayOfMonth(), dt.getHour(), dt.getMinute(),
+                     dt.getSecond(), buffer, offset);
+    }
+
+    /**
+     * Parses a timestamp.
+     *
+     * @param text The timestamp to parse.
+     * @return {@link LocalDateTime} of the timestamp.
+     * @throws DateTimeParseException If the text is not a valid timestamp.
+     */
+    public static LocalDateTime parse(CharSequence text) {
+        if(text.length() != LENGTH || text.charAt(4) != '-' || text.charAt(7) != '-' || text.charAt(10) != ' '
+                || text.charAt(13) != ':' || text.charAt(16) != ':') {
+            throw new DateTimeParseException("Timestamp must match " + PATTERN, text, 0);
+        }
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 2);
+        int day = digits(text, 8, 2);
+        int hour = digits(text, 11, 2);
+        int minute = digits(text, 14, 2);
+        int second = digits(text, 17, 2);
+        try {
+            return LocalDateTime.of(year, month, day, hour, minute, second);
+        }
+        catch(DateTimeException e) {
+            throw new DateTimeParseException(e.getMessage(), text, 0, e);
+        }
+    }
+
+    /**
+     * Parses a timestamp in UTC.
+     *
+     * @param text The timestamp to parse.
+     * @return {@link Date} of the timestamp.
+     * @throws DateTimeParseException If the text is not a valid timestamp.
+     */
+    public static Date parseDate(CharSequence text) {
+        return new Date(parse(text).toInstant(ZoneOffset.UTC).toEpochMilli());
+    }
+
+    private static int write(int year, int month, int day, int hour, int minute, int second, byte[] buffer,
+            int offset) {
+        buffer[offset] = digit(year / 1000);
+        buffer[offset + 1] = digit(year / 100 % 10);
+        writePair(year % 100, buffer, offset + 2);
+        buffer[offset + 4] = '-';
+        writePair(month, buffer, offset + 5);
+        buffer[offset + 7] = '-';
+        writePair(day, buffer, offset + 8);
+        buffer[offset + 10] = ' ';
+        writePair(hour, buffer, offset + 11);
+        buffer[offset + 13] = ':';
+        writePair(minute, buffer, offset + 14);
+        buffer[offset + 16] = ':';
+        writePair(second, buffer, offset + 17);
+        return offset + LENGTH;
+    }
+
+    private static void writePair(int value, byte[] buffer, int offset) {
+        buffer[offset] = digit(value / 10);
+        buffer[offset + 1] = digit(value % 10);
+    }
+
+    private static byte digit(int value) {
+        return (byte) ('0' + value);
+    }
+
+    private static int digits(CharSequence text, int start, int count) {
+        int value = 0;
+        for(int i = start; i < start + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if(digit < 0 || digit > 9) {
+                throw new DateTimeParseException("Timestamp must match " + PATTERN, text, i);
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
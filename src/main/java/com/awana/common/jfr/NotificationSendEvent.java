@@ -0,0 +1,58 @@
+package com.awana.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a web notification sent to the subscribers of a
+ * destination.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Name("com.awana.NotificationSend")
+@Label("Notification Send")
+@Category({"Awana", "Subscription"})
+@Description("A web notification encoded and sent to a destination.")
+@StackTrace(false)
+public class NotificationSendEvent extends Event {
+
+    @Label("Destination")
+    private String destination;
+
+    @Label("Payload Size")
+    @DataAmount
+    private int payloadSize;
+
+    @Label("Sessions")
+    @Description("Sessions sent to, 0 for every subscriber of the destination.")
+    private int sessions;
+
+    @Label("Forwarded")
+    @Description("If the notification was forwarded by a peer node.")
+    private boolean forwarded;
+
+    /**
+     * Ends the event and commits it if it is being recorded.
+     *
+     * @param destination Where the notification was sent.
+     * @param payloadSize Size of the encoded notification in bytes.
+     * @param sessions    Sessions sent to, 0 for every subscriber.
+     * @param forwarded   If the notification came from a peer node.
+     */
+    public void finish(String destination, int payloadSize, int sessions, boolean forwarded) {
+        end();
+        if(shouldCommit()) {
+            this.destination = destination;
+            this.payloadSize = payloadSize;
+            this.sessions = sessions;
+            this.forwarded = forwarded;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.awana.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a BCrypt password check.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Name("com.awana.PasswordCheck")
+@Label("Password Check")
+@Category({"Awana", "Security"})
+@Description("A BCrypt check of a password against the stored hash.")
+@StackTrace(false)
+public class PasswordCheckEvent extends Event {
+
+    @Label("Matched")
+    private boolean matched;
+
+    @Label("Cost")
+    @Description("Log2 of the BCrypt rounds in the stored hash.")
+    private int cost;
+
+    /**
+     * Ends the event and commits it if it is being recorded.
+     *
+     * @param hash    The stored hash that was checked against.
+     * @param matched If the password matched.
+     */
+    public void finish(String hash, boolean matched) {
+        end();
+        if(shouldCommit()) {
+            this.matched = matched;
+            this.cost = cost(hash);
+            commit();
+        }
+    }
+
+    /**
+     * Reads the cost from a hash in the {@code $2a$10$...} form.
+     */
+    private static int cost(String hash) {
+        try {
+            return Integer.parseInt(hash.substring(4, 6));
+        }
+        catch(RuntimeException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.awana.common.jfr;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Names the endpoint of the request on the current thread for the events. The
+ * matched handler pattern is used once the request has been mapped, before
+ * that the raw path.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+final class RequestEndpoint {
+
+    private RequestEndpoint() {}
+
+    /**
+     * Gets the endpoint of the current request.
+     *
+     * @return {@link String} of the method and path, or null off a request thread.
+     */
+    static String current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if(!(attributes instanceof ServletRequestAttributes)) {
+            return null;
+        }
+
+        HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+}
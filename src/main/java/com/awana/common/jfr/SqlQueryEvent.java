@@ -0,0 +1,46 @@
+package com.awana.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for a query run by a DAO.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Name("com.awana.SqlQuery")
+@Label("SQL Query")
+@Category({"Awana", "SQL"})
+@Description("A query run by a DAO, named by its elsql fragment.")
+public class SqlQueryEvent extends Event {
+
+    @Label("Fragment")
+    private String fragment;
+
+    @Label("Rows")
+    @Description("Rows returned or updated, -1 if the query failed.")
+    private int rows;
+
+    @Label("Endpoint")
+    private String endpoint;
+
+    /**
+     * Ends the event and commits it if it is being recorded.
+     *
+     * @param fragment The elsql fragment of the query.
+     * @param rows     Rows returned or updated, -1 if the query failed.
+     */
+    public void finish(String fragment, int rows) {
+        end();
+        if(shouldCommit()) {
+            this.fragment = fragment;
+            this.rows = rows;
+            this.endpoint = RequestEndpoint.current();
+            commit();
+        }
+    }
+}
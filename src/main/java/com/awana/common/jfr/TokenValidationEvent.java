@@ -0,0 +1,46 @@
+package com.awana.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for the validation of a request token.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Name("com.awana.TokenValidation")
+@Label("Token Validation")
+@Category({"Awana", "Security"})
+@Description("Parsing and checking the token of a request.")
+@StackTrace(false)
+public class TokenValidationEvent extends Event {
+
+    @Label("Valid")
+    private boolean valid;
+
+    @Label("Failure")
+    private String failure;
+
+    @Label("Endpoint")
+    private String endpoint;
+
+    /**
+     * Ends the event and commits it if it is being recorded.
+     *
+     * @param failure Why the token was rejected, or null if it is valid.
+     */
+    public void finish(String failure) {
+        end();
+        if(shouldCommit()) {
+            this.valid = failure == null;
+            this.failure = failure;
+            this.endpoint = RequestEndpoint.current();
+            commit();
+        }
+    }
+}
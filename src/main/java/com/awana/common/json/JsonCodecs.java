@@ -0,0 +1,87 @@
+package com.awana.common.json;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Readers and writers built up front for types that are read or written on
+ * every request. Building an {@link ObjectWriter} or {@link ObjectReader} for a
+ * type resolves the type and fetches its root serializer or deserializer once,
+ * so using one skips the type resolution and serializer cache lookups the
+ * {@link ObjectMapper} does on each call.
+ *
+ * Types are matched exactly, a type that was not registered has no reader or
+ * writer and the caller should fall back to the object mapper.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public class JsonCodecs {
+    private final ObjectMapper objectMapper;
+
+    private final Map<Type, ObjectWriter> writers = new HashMap<>();
+
+    private final Map<Type, ObjectReader> readers = new HashMap<>();
+
+    /**
+     * Builds the readers and writers for the given types.
+     *
+     * @param objectMapper The mapper to build them from.
+     * @param types        The types to build them for, classes or generic types.
+     */
+    public JsonCodecs(ObjectMapper objectMapper, Collection<? extends Type> types) {
+        this.objectMapper = objectMapper;
+        for(Type type : types) {
+            JavaType javaType = objectMapper.constructType(type);
+            writers.put(type, objectMapper.writerFor(javaType));
+            readers.put(type, objectMapper.readerFor(javaType));
+        }
+    }
+
+    /**
+     * Gets the writer built for the type.
+     *
+     * @param type The type to write.
+     * @return {@link ObjectWriter} for the type, or null if it was not registered.
+     */
+    public ObjectWriter getWriter(Type type) {
+        return writers.get(type);
+    }
+
+    /**
+     * Gets the reader built for the type.
+     *
+     * @param type The type to read.
+     * @return {@link ObjectReader} for the type, or null if it was not registered.
+     */
+    public ObjectReader getReader(Type type) {
+        return readers.get(type);
+    }
+
+    /**
+     * Gets the types that have a reader and writer.
+     *
+     * @return {@link Set} of the registered types.
+     */
+    public Set<Type> getTypes() {
+        return Collections.unmodifiableSet(writers.keySet());
+    }
+
+    /**
+     * Gets the mapper the readers and writers were built from.
+     *
+     * @return {@link ObjectMapper} of the codecs.
+     */
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+}
@@ -0,0 +1,98 @@
+package com.awana.common.json;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.util.StreamUtils;
+
+import com.awana.common.metrics.ServerTiming;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Message converter for the types that have a reader and writer in the
+ * {@link JsonCodecs}. It only takes UTF-8 JSON for a registered type, every
+ * other body is left to the regular Jackson converter, so it has to be placed
+ * ahead of it. Reads and writes are recorded as {@link ServerTiming} spans.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public class PrebuiltJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+    private final JsonCodecs codecs;
+
+    public PrebuiltJsonHttpMessageConverter(JsonCodecs codecs) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.codecs = codecs;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return codecs.getWriter(clazz) != null;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return codecs.getReader(type) != null && isUtf8(mediaType) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return writer(type, clazz) != null && isUtf8(mediaType) && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        return readInternal(codecs.getReader(type), inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<? extends Object> clazz, HttpInputMessage inputMessage) throws IOException {
+        return readInternal(codecs.getReader(clazz), inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException {
+        ServerTiming.Span span = ServerTiming.start(ServerTiming.SERIALIZE);
+        try(span) {
+            writer(type, value.getClass()).writeValue(StreamUtils.nonClosing(outputMessage.getBody()), value);
+        }
+        catch(JsonProcessingException e) {
+            throw new HttpMessageNotWritableException("Could not write JSON: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private Object readInternal(ObjectReader reader, HttpInputMessage inputMessage) throws IOException {
+        ServerTiming.Span span = ServerTiming.start(ServerTiming.PARSE);
+        try(span) {
+            return reader.readValue(inputMessage.getBody());
+        }
+        catch(JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + e.getOriginalMessage(), e,
+                                                      inputMessage);
+        }
+    }
+
+    /**
+     * Gets the writer for the declared type, falling back to the class of the
+     * value when the declared type is a super type such as {@link Object}.
+     */
+    private ObjectWriter writer(Type type, Class<?> clazz) {
+        ObjectWriter writer = type == null ? null : codecs.getWriter(type);
+        return writer != null || clazz == null ? writer : codecs.getWriter(clazz);
+    }
+
+    private static boolean isUtf8(MediaType mediaType) {
+        Charset charset = mediaType == null ? null : mediaType.getCharset();
+        return charset == null || StandardCharsets.UTF_8.equals(charset);
+    }
+}
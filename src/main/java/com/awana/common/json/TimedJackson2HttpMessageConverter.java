@@ -0,0 +1,50 @@
+package com.awana.common.json;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.awana.common.metrics.ServerTiming;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Regular Jackson converter for the bodies the
+ * {@link PrebuiltJsonHttpMessageConverter} does not take, with its reads and
+ * writes recorded as {@link ServerTiming} spans.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public class TimedJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        ServerTiming.Span span = ServerTiming.start(ServerTiming.PARSE);
+        try(span) {
+            return super.read(type, contextClass, inputMessage);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        ServerTiming.Span span = ServerTiming.start(ServerTiming.PARSE);
+        try(span) {
+            return super.readInternal(clazz, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        ServerTiming.Span span = ServerTiming.start(ServerTiming.SERIALIZE);
+        try(span) {
+            super.writeInternal(object, type, outputMessage);
+        }
+    }
+}
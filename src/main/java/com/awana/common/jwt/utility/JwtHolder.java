@@ -2,10 +2,10 @@ package com.awana.common.jwt.utility;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.util.Assert;
 
 import com.awana.app.user.client.domain.User;
 import com.awana.app.user.client.domain.WebRole;
+import com.awana.common.context.RequestContext;
 import com.awana.common.dictionary.enums.Environment;
 import com.awana.common.environment.AppEnvironmentService;
 import com.awana.common.jwt.domain.AwanaJwtClaims;
@@ -16,44 +16,42 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
 
 /**
- * JwtHolder class to store authentication token in a thread local instance to
- * be accessed. Although the JWT is held in a static thread local, the methods
- * are non-static so that JwtHolder can be mocked in tests.
+ * JwtHolder class to store authentication token on the current
+ * {@link RequestContext} to be accessed. Although the context is held in a
+ * static thread local, the methods are non-static so that JwtHolder can be
+ * mocked in tests.
  * 
  * @author Sam Butler
  * @since August 8, 2020
  */
 @Service
 public class JwtHolder {
-	private static final ThreadLocal<JwtPair> TOKEN = new ThreadLocal<>();
-
 	@Autowired
 	private AppEnvironmentService appEnvironmentService;
 
 	/**
-	 * Set the token on the current thread local instance.
+	 * Set the token on the current request context.
 	 * 
 	 * @param token The token to store.
 	 */
 	public void setToken(String token) {
-		JwtPair pair = new JwtPair(token, appEnvironmentService);
-		TOKEN.set(pair);
+		RequestContext.open(new JwtPair(token, appEnvironmentService));
 	}
 
 	/**
-	 * Clears the token from the current thread local instance.
+	 * Clears the token from the current request context.
 	 */
 	public void clearToken() {
-		TOKEN.remove();
+		RequestContext.clear();
 	}
 
 	/**
-	 * Gets the current JwtPair from the thread local instance.
+	 * Gets the current JwtPair from the request context.
 	 * 
-	 * @return {@link JwtPair} of the thread local.
+	 * @return {@link JwtPair} of the request context.
 	 */
 	public JwtPair getPair() {
-		return TOKEN.get();
+		return RequestContext.current().getJwtPair();
 	}
 
 	/**
@@ -94,8 +92,7 @@ public class JwtHolder {
 	 * @return Boolean of the token status.
 	 */
 	public boolean isTokenAvaiable() {
-		JwtPair pair = TOKEN.get();
-		return pair != null;
+		return RequestContext.current().isAuthenticated();
 	}
 
 	/**
@@ -122,7 +119,7 @@ public class JwtHolder {
 	 * @return int of the userId from the current token
 	 */
 	public int getUserId() {
-		return Integer.parseInt(parse(AwanaJwtClaims.USER_ID).toString());
+		return RequestContext.current().getUserId();
 	}
 
 	/**
@@ -140,7 +137,7 @@ public class JwtHolder {
 	 * @return String of the webRole from the current token
 	 */
 	public WebRole getWebRole() {
-		return WebRole.valueOf(parse(AwanaJwtClaims.WEB_ROLE).toString());
+		return RequestContext.current().getWebRole();
 	}
 
 	/**
@@ -159,14 +156,6 @@ public class JwtHolder {
 	 * @return {@link User} object.
 	 */
 	public User getUser() {
-		Assert.isTrue(getJwtType().equals(JwtType.WEB), "Jwt is not of type User!");
-
-		User currentUser = new User();
-		currentUser.setId(getUserId());
-		currentUser.setEmail(getEmail());
-		currentUser.setWebRole(getWebRole());
-		currentUser.setFirstName(parse(AwanaJwtClaims.FIRST_NAME).toString());
-		currentUser.setLastName(parse(AwanaJwtClaims.LAST_NAME).toString());
-		return currentUser;
+		return RequestContext.current().getUser();
 	}
 }
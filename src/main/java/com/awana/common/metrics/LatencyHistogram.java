@@ -0,0 +1,115 @@
+package com.awana.common.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.awana.common.metrics.domain.HistogramSnapshot;
+
+/**
+ * Lock free latency histogram. Values are recorded in nanoseconds into log
+ * linear buckets (eight sub buckets per power of two) so the relative error of
+ * a percentile is at most 12.5%. Recording is a handful of atomic increments
+ * and snapshots never block writers.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int BUCKETS = 42 * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    private final LongAdder sum = new LongAdder();
+
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a single value.
+     *
+     * @param nanos The latency in nanoseconds.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucket(value));
+        sum.add(value);
+
+        long current = max.get();
+        while(value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Takes a point in time snapshot of the histogram. Values recorded while the
+     * snapshot is taken may or may not be included.
+     *
+     * @return {@link HistogramSnapshot} of the recorded values.
+     */
+    public HistogramSnapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long count = 0;
+        for(int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+
+        HistogramSnapshot snapshot = new HistogramSnapshot();
+        snapshot.setCount(count);
+        if(count == 0) {
+            return snapshot;
+        }
+
+        snapshot.setMeanMicros(sum.sum() / count / 1000);
+        snapshot.setP50Micros(percentile(copy, count, 0.50) / 1000);
+        snapshot.setP90Micros(percentile(copy, count, 0.90) / 1000);
+        snapshot.setP99Micros(percentile(copy, count, 0.99) / 1000);
+        snapshot.setMaxMicros(max.get() / 1000);
+        return snapshot;
+    }
+
+    /**
+     * Gets the upper bound of the bucket holding the given percentile.
+     */
+    private static long percentile(long[] copy, long count, double percentile) {
+        long target = (long) Math.ceil(count * percentile);
+        long seen = 0;
+        for(int i = 0; i < copy.length; i++) {
+            seen += copy[i];
+            if(seen >= target) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(copy.length - 1);
+    }
+
+    /**
+     * Gets the bucket index for the given value.
+     */
+    static int bucket(long value) {
+        if(value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        int exp = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exp - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return Math.min((exp - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub, BUCKETS - 1);
+    }
+
+    /**
+     * Gets the largest value that falls into the given bucket.
+     */
+    static long upperBound(int index) {
+        if(index < SUB_BUCKETS) {
+            return index;
+        }
+
+        int exp = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int sub = index % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + sub + 1) << (exp - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -0,0 +1,140 @@
+package com.awana.common.metrics;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.awana.common.metrics.domain.HistogramSnapshot;
+import com.awana.common.metrics.domain.MetricsSnapshot;
+import com.awana.common.metrics.domain.RouteSnapshot;
+
+/**
+ * In memory registry for the application metrics. Holds the per route request
+ * stats recorded by the gateway along with named counters, gauges and
+ * histograms that other components can register.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Component
+public class MetricsRegistry {
+
+    /**
+     * Upper bound on the number of distinct routes tracked. Routes are keyed by
+     * the matched handler pattern so this should never be hit, but anything past
+     * it is folded into the overflow route.
+     */
+    static final int MAX_ROUTES = 256;
+
+    static final String OVERFLOW_ROUTE = "OTHER";
+
+    private final Map<String, RouteStats> routes = new ConcurrentHashMap<>();
+
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    private final Map<String, Supplier<? extends Number>> gauges = new ConcurrentHashMap<>();
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Records a completed request for the given route.
+     *
+     * @param route           The route key.
+     * @param status          The response status code.
+     * @param validationNanos Time spent validating the request.
+     * @param handlerNanos    Time spent in the handler, or a negative value if the
+     *                        handler was never invoked.
+     */
+    public void recordRequest(String route, int status, long validationNanos, long handlerNanos) {
+        routeStats(route).record(status, validationNanos, handlerNanos);
+    }
+
+    /**
+     * Gets the counter for the given name, creating it if needed.
+     *
+     * @param name The name of the counter.
+     * @return {@link LongAdder} for the counter.
+     */
+    public LongAdder counter(String name) {
+        return counters.computeIfAbsent(name, k -> new LongAdder());
+    }
+
+    /**
+     * Gets the histogram for the given name, creating it if needed.
+     *
+     * @param name The name of the histogram.
+     * @return {@link LatencyHistogram} for the name.
+     */
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, k -> new LatencyHistogram());
+    }
+
+    /**
+     * Registers a gauge that is read each time a snapshot is taken. Registering
+     * the same name again replaces the previous gauge.
+     *
+     * @param name  The name of the gauge.
+     * @param gauge Supplier for the current value.
+     */
+    public void registerGauge(String name, Supplier<? extends Number> gauge) {
+        gauges.put(name, gauge);
+    }
+
+    /**
+     * Takes a snapshot of all the metrics in the registry.
+     *
+     * @return {@link MetricsSnapshot} of the registry.
+     */
+    public MetricsSnapshot snapshot() {
+        MetricsSnapshot snapshot = new MetricsSnapshot();
+        snapshot.setTimestamp(LocalDateTime.now());
+        snapshot.setRoutes(getRouteSnapshots());
+
+        Map<String, Long> counterValues = new TreeMap<>();
+        counters.forEach((k, v) -> counterValues.put(k, v.sum()));
+        snapshot.setCounters(counterValues);
+
+        Map<String, Number> gaugeValues = new TreeMap<>();
+        gauges.forEach((k, v) -> gaugeValues.put(k, v.get()));
+        snapshot.setGauges(gaugeValues);
+
+        Map<String, HistogramSnapshot> histogramValues = new TreeMap<>();
+        histograms.forEach((k, v) -> histogramValues.put(k, v.snapshot()));
+        snapshot.setHistograms(histogramValues);
+        return snapshot;
+    }
+
+    /**
+     * Takes a snapshot of the route metrics ordered by route.
+     *
+     * @return List of {@link RouteSnapshot} objects.
+     */
+    public List<RouteSnapshot> getRouteSnapshots() {
+        return routes.values().stream().map(RouteStats::snapshot)
+                .sorted(Comparator.comparing(RouteSnapshot::getRoute)).collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the stats for the route, falling back to the overflow route once the
+     * route limit has been reached.
+     */
+    private RouteStats routeStats(String route) {
+        RouteStats stats = routes.get(route);
+        if(stats != null) {
+            return stats;
+        }
+
+        if(routes.size() >= MAX_ROUTES) {
+            return routes.computeIfAbsent(OVERFLOW_ROUTE, RouteStats::new);
+        }
+        return routes.computeIfAbsent(route, RouteStats::new);
+    }
+}
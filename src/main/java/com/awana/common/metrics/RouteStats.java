@@ -0,0 +1,81 @@
+package com.awana.common.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.awana.common.metrics.domain.RouteSnapshot;
+
+/**
+ * Counters and latency histograms for a single route. All updates are lock
+ * free so routes can be recorded concurrently from any request thread.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public class RouteStats {
+    private static final String[] STATUS_CLASSES = {"1xx", "2xx", "3xx", "4xx", "5xx"};
+
+    private final String route;
+
+    private final LongAdder requests = new LongAdder();
+
+    private final LongAdder[] statusClasses = new LongAdder[STATUS_CLASSES.length];
+
+    private final LatencyHistogram validation = new LatencyHistogram();
+
+    private final LatencyHistogram handler = new LatencyHistogram();
+
+    public RouteStats(String route) {
+        this.route = route;
+        for(int i = 0; i < statusClasses.length; i++) {
+            statusClasses[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a completed request for the route.
+     *
+     * @param status          The response status code.
+     * @param validationNanos Time spent validating the request.
+     * @param handlerNanos    Time spent in the handler, or a negative value if the
+     *                        handler was never invoked.
+     */
+    public void record(int status, long validationNanos, long handlerNanos) {
+        requests.increment();
+        statusClasses[statusClass(status)].increment();
+        validation.record(validationNanos);
+        if(handlerNanos >= 0) {
+            handler.record(handlerNanos);
+        }
+    }
+
+    /**
+     * Takes a snapshot of the route counters.
+     *
+     * @return {@link RouteSnapshot} of the route.
+     */
+    public RouteSnapshot snapshot() {
+        Map<String, Long> statuses = new LinkedHashMap<>();
+        for(int i = 0; i < statusClasses.length; i++) {
+            statuses.put(STATUS_CLASSES[i], statusClasses[i].sum());
+        }
+
+        RouteSnapshot snapshot = new RouteSnapshot();
+        snapshot.setRoute(route);
+        snapshot.setRequests(requests.sum());
+        snapshot.setStatuses(statuses);
+        snapshot.setValidation(validation.snapshot());
+        snapshot.setHandler(handler.snapshot());
+        return snapshot;
+    }
+
+    /**
+     * Maps the status code to its index in the status class counters. Anything
+     * out of the normal range is counted as a server error.
+     */
+    private static int statusClass(int status) {
+        int index = status / 100 - 1;
+        return index >= 0 && index < STATUS_CLASSES.length ? index : STATUS_CLASSES.length - 1;
+    }
+}
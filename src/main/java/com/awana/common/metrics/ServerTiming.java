@@ -0,0 +1,148 @@
+package com.awana.common.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Timing spans for the request being handled on the current thread, written
+ * back as a {@code Server-Timing} header. Spans with the same metric name add
+ * up, so a request that runs three queries reports one {@code sql} entry with
+ * the total time and the count.
+ *
+ * <pre>
+ * ServerTiming.Span span = ServerTiming.start(ServerTiming.SQL);
+ * try(span) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * Nothing is bound unless the request was picked for timing by the
+ * {@link ServerTimingPolicy}, in which case {@link #start} only does a thread
+ * local lookup and hands back a span that does nothing.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public final class ServerTiming {
+    public static final String HEADER = "Server-Timing";
+
+    public static final String TOTAL = "total";
+
+    public static final String TOKEN = "token";
+
+    public static final String ACCESS = "access";
+
+    public static final String SQL = "sql";
+
+    public static final String BCRYPT = "bcrypt";
+
+    public static final String PARSE = "parse";
+
+    public static final String SERIALIZE = "serialize";
+
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, long[]> metrics = new LinkedHashMap<>();
+
+    private ServerTiming() {}
+
+    /**
+     * Binds a new timing to the current thread.
+     *
+     * @return {@link ServerTiming} that was bound.
+     */
+    public static ServerTiming begin() {
+        ServerTiming timing = new ServerTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    /**
+     * Removes the timing bound to the current thread.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Gets the timing bound to the current thread.
+     *
+     * @return {@link ServerTiming} of the current request, or null if the request
+     *         is not being timed.
+     */
+    public static ServerTiming current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Starts a span for the given metric on the current request.
+     *
+     * @param metric The name of the metric.
+     * @return {@link Span} to close when the work is done.
+     */
+    public static Span start(String metric) {
+        ServerTiming timing = CURRENT.get();
+        return timing == null ? Span.NOOP : new Span(timing, metric, System.nanoTime());
+    }
+
+    /**
+     * Adds the duration to the given metric.
+     *
+     * @param metric The name of the metric.
+     * @param nanos  The duration in nanoseconds.
+     */
+    public void record(String metric, long nanos) {
+        long[] totals = metrics.computeIfAbsent(metric, k -> new long[2]);
+        totals[0] += nanos;
+        totals[1]++;
+    }
+
+    /**
+     * Builds the {@code Server-Timing} header value, durations are in
+     * milliseconds. Metrics recorded more than once carry the count in the
+     * description.
+     *
+     * @return {@link String} of the header value.
+     */
+    public String toHeaderValue() {
+        StringBuilder header = new StringBuilder();
+        for(Map.Entry<String, long[]> metric : metrics.entrySet()) {
+            long[] totals = metric.getValue();
+            if(header.length() > 0) {
+                header.append(", ");
+            }
+            header.append(metric.getKey()).append(";dur=").append(String.format("%.3f", totals[0] / 1e6));
+            if(totals[1] > 1) {
+                header.append(";desc=\"").append(totals[1]).append(" calls\"");
+            }
+        }
+        return header.toString();
+    }
+
+    /**
+     * Span of work for a single metric. Closing it records the time since it was
+     * started.
+     */
+    public static final class Span implements AutoCloseable {
+        private static final Span NOOP = new Span(null, null, 0);
+
+        private final ServerTiming timing;
+
+        private final String metric;
+
+        private final long start;
+
+        private Span(ServerTiming timing, String metric, long start) {
+            this.timing = timing;
+            this.metric = metric;
+            this.start = start;
+        }
+
+        @Override
+        public void close() {
+            if(timing != null) {
+                timing.record(metric, System.nanoTime() - start);
+            }
+        }
+    }
+}
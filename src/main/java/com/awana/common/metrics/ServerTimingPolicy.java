@@ -0,0 +1,52 @@
+package com.awana.common.metrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides which requests get a {@link ServerTiming} header. A caller can ask
+ * for one with the {@code X-Server-Timing} request header when
+ * {@code awana.server-timing.enabled} is on, and {@code awana.server-timing.sample-rate}
+ * times that fraction of all requests. Both are off by default. Socket
+ * handshakes are never timed since their response can not be held back.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Component
+public class ServerTimingPolicy {
+    public static final String REQUEST_HEADER = "X-Server-Timing";
+
+    private static final String WEBSOCKET = "websocket";
+
+    private final boolean enabled;
+
+    private final double sampleRate;
+
+    public ServerTimingPolicy(@Value("${awana.server-timing.enabled:false}") boolean enabled,
+            @Value("${awana.server-timing.sample-rate:0}") double sampleRate) {
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Checks if the request should be timed.
+     *
+     * @param request The request being handled.
+     * @return boolean if the request should be timed.
+     */
+    public boolean shouldTime(HttpServletRequest request) {
+        if((!enabled && sampleRate <= 0) || WEBSOCKET.equalsIgnoreCase(request.getHeader(HttpHeaders.UPGRADE))) {
+            return false;
+        }
+        if(enabled && request.getHeader(REQUEST_HEADER) != null) {
+            return true;
+        }
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
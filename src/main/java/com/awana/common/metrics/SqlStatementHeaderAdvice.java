@@ -0,0 +1,55 @@
+package com.awana.common.metrics;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.awana.sql.abstracts.SqlStatementCounter;
+
+/**
+ * Adds the statements and rows counted by the {@link SqlStatementCounter} of
+ * the request as debug headers, and the fragments run more than once as
+ * {@code fragment=count} pairs so an N+1 query can be spotted. The headers are set right before the body is
+ * written, once the handler is done querying, and only when the request is
+ * being counted, which is when {@code awana.sql.statement-header} is on.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@ControllerAdvice
+public class SqlStatementHeaderAdvice implements ResponseBodyAdvice<Object> {
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+
+    public static final String ROWS_HEADER = "X-Sql-Rows";
+
+    public static final String REPEATED_HEADER = "X-Sql-Repeated";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        SqlStatementCounter counter = SqlStatementCounter.current();
+        if(counter != null) {
+            response.getHeaders().set(STATEMENTS_HEADER, String.valueOf(counter.getStatements()));
+            response.getHeaders().set(ROWS_HEADER, String.valueOf(counter.getRows()));
+            Map<String, Integer> repeated = counter.getRepeatedFragments();
+            if(!repeated.isEmpty()) {
+                response.getHeaders().set(REPEATED_HEADER, repeated.entrySet().stream()
+                        .map(e -> e.getKey() + "=" + e.getValue()).collect(Collectors.joining(",")));
+            }
+        }
+        return body;
+    }
+}
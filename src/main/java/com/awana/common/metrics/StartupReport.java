@@ -0,0 +1,120 @@
+package com.awana.common.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import com.awana.common.metrics.domain.BeanStartupSnapshot;
+import com.awana.common.metrics.domain.StartupSnapshot;
+
+/**
+ * Keeps the startup timeline of the application once it is ready. The steps
+ * buffered by the {@link BufferingApplicationStartup} the application is
+ * launched with are reduced to the beans that took the longest to create, and
+ * the buffer is drained so the full timeline is not held for the life of the
+ * process. Nothing is kept if the application was launched without a
+ * buffering startup, as the tests are.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Component
+public class StartupReport implements ApplicationListener<ApplicationReadyEvent> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupReport.class);
+
+    static final String BEAN_STEP = "spring.beans.instantiate";
+
+    static final int SLOWEST_BEANS = 25;
+
+    private static final int LOGGED_BEANS = 10;
+
+    private volatile StartupSnapshot snapshot;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if(!(startup instanceof BufferingApplicationStartup)) {
+            return;
+        }
+
+        List<TimelineEvent> events = ((BufferingApplicationStartup) startup).drainBufferedTimeline().getEvents();
+        StartupSnapshot s = build(events, event.getTimeTaken().toMillis());
+        snapshot = s;
+
+        LOGGER.info("Ready in {}ms after creating {} beans, slowest: {}", s.getReadyMillis(), s.getBeans(),
+                    s.getSlowestBeans().stream().limit(LOGGED_BEANS)
+                            .map(b -> String.format("%s=%dms", b.getBean(), b.getSelfMicros() / 1000))
+                            .collect(Collectors.joining(", ")));
+    }
+
+    /**
+     * Gets the startup timeline of the application.
+     *
+     * @return {@link StartupSnapshot} of the startup, or null if it was not
+     *         recorded or the application is not ready yet.
+     */
+    public StartupSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Reduces the timeline to the slowest beans. The time of a bean includes the
+     * beans created while resolving its dependencies, so they are taken off to
+     * get the time spent on the bean itself.
+     *
+     * @param events      The events of the startup timeline.
+     * @param readyMillis Time until the application was ready.
+     * @return {@link StartupSnapshot} of the timeline.
+     */
+    static StartupSnapshot build(List<TimelineEvent> events, long readyMillis) {
+        Map<Long, Long> childNanos = new HashMap<>();
+        for(TimelineEvent e : events) {
+            Long parent = e.getStartupStep().getParentId();
+            if(parent != null && BEAN_STEP.equals(e.getStartupStep().getName())) {
+                childNanos.merge(parent, e.getDuration().toNanos(), Long::sum);
+            }
+        }
+
+        List<BeanStartupSnapshot> beans = new ArrayList<>();
+        for(TimelineEvent e : events) {
+            StartupStep step = e.getStartupStep();
+            if(BEAN_STEP.equals(step.getName())) {
+                long total = e.getDuration().toNanos();
+                BeanStartupSnapshot bean = new BeanStartupSnapshot();
+                bean.setBean(beanName(step));
+                bean.setTotalMicros(total / 1000);
+                bean.setSelfMicros(Math.max(total - childNanos.getOrDefault(step.getId(), 0L), 0) / 1000);
+                beans.add(bean);
+            }
+        }
+
+        StartupSnapshot s = new StartupSnapshot();
+        s.setReadyMillis(readyMillis);
+        s.setBeans(beans.size());
+        s.setSlowestBeans(beans.stream().sorted(Comparator.comparingLong(BeanStartupSnapshot::getSelfMicros).reversed())
+                .limit(SLOWEST_BEANS).collect(Collectors.toList()));
+        return s;
+    }
+
+    private static String beanName(StartupStep step) {
+        for(StartupStep.Tag tag : step.getTags()) {
+            if("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return String.valueOf(step.getId());
+    }
+}
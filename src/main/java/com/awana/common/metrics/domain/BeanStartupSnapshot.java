@@ -0,0 +1,46 @@
+package com.awana.common.metrics.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Time spent creating a single bean during startup.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Schema(description = "Snapshot of the creation of a bean.")
+public class BeanStartupSnapshot {
+
+    @Schema(description = "Name of the bean.")
+    private String bean;
+
+    @Schema(description = "Time spent creating the bean itself in microseconds.")
+    private long selfMicros;
+
+    @Schema(description = "Time spent creating the bean and the beans it depends on in microseconds.")
+    private long totalMicros;
+
+    public String getBean() {
+        return bean;
+    }
+
+    public void setBean(String bean) {
+        this.bean = bean;
+    }
+
+    public long getSelfMicros() {
+        return selfMicros;
+    }
+
+    public void setSelfMicros(long selfMicros) {
+        this.selfMicros = selfMicros;
+    }
+
+    public long getTotalMicros() {
+        return totalMicros;
+    }
+
+    public void setTotalMicros(long totalMicros) {
+        this.totalMicros = totalMicros;
+    }
+}
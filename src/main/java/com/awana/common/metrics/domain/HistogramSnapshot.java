@@ -0,0 +1,79 @@
+package com.awana.common.metrics.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Point in time view of a latency histogram.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Schema(description = "Snapshot of a latency histogram.")
+public class HistogramSnapshot {
+
+    @Schema(description = "Number of recorded values.")
+    private long count;
+
+    @Schema(description = "Mean latency in microseconds.")
+    private long meanMicros;
+
+    @Schema(description = "50th percentile latency in microseconds.")
+    private long p50Micros;
+
+    @Schema(description = "90th percentile latency in microseconds.")
+    private long p90Micros;
+
+    @Schema(description = "99th percentile latency in microseconds.")
+    private long p99Micros;
+
+    @Schema(description = "Largest recorded latency in microseconds.")
+    private long maxMicros;
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public long getMeanMicros() {
+        return meanMicros;
+    }
+
+    public void setMeanMicros(long meanMicros) {
+        this.meanMicros = meanMicros;
+    }
+
+    public long getP50Micros() {
+        return p50Micros;
+    }
+
+    public void setP50Micros(long p50Micros) {
+        this.p50Micros = p50Micros;
+    }
+
+    public long getP90Micros() {
+        return p90Micros;
+    }
+
+    public void setP90Micros(long p90Micros) {
+        this.p90Micros = p90Micros;
+    }
+
+    public long getP99Micros() {
+        return p99Micros;
+    }
+
+    public void setP99Micros(long p99Micros) {
+        this.p99Micros = p99Micros;
+    }
+
+    public long getMaxMicros() {
+        return maxMicros;
+    }
+
+    public void setMaxMicros(long maxMicros) {
+        this.maxMicros = maxMicros;
+    }
+}
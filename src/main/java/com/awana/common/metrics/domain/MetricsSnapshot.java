@@ -0,0 +1,72 @@
+package com.awana.common.metrics.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Point in time view of all of the metrics held by the registry.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Schema(description = "Snapshot of the application metrics.")
+public class MetricsSnapshot {
+
+    @Schema(description = "When the snapshot was taken.")
+    private LocalDateTime timestamp;
+
+    @Schema(description = "Metrics for each route that has received a request.")
+    private List<RouteSnapshot> routes;
+
+    @Schema(description = "Named counters.")
+    private Map<String, Long> counters;
+
+    @Schema(description = "Named gauges.")
+    private Map<String, Number> gauges;
+
+    @Schema(description = "Named latency histograms.")
+    private Map<String, HistogramSnapshot> histograms;
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public List<RouteSnapshot> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(List<RouteSnapshot> routes) {
+        this.routes = routes;
+    }
+
+    public Map<String, Long> getCounters() {
+        return counters;
+    }
+
+    public void setCounters(Map<String, Long> counters) {
+        this.counters = counters;
+    }
+
+    public Map<String, Number> getGauges() {
+        return gauges;
+    }
+
+    public void setGauges(Map<String, Number> gauges) {
+        this.gauges = gauges;
+    }
+
+    public Map<String, HistogramSnapshot> getHistograms() {
+        return histograms;
+    }
+
+    public void setHistograms(Map<String, HistogramSnapshot> histograms) {
+        this.histograms = histograms;
+    }
+}
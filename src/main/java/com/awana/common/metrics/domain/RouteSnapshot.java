@@ -0,0 +1,70 @@
+package com.awana.common.metrics.domain;
+
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Point in time view of the metrics for a single route.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Schema(description = "Snapshot of the metrics for a route.")
+public class RouteSnapshot {
+
+    @Schema(description = "The http method and matched handler pattern.")
+    private String route;
+
+    @Schema(description = "Total number of requests for the route.")
+    private long requests;
+
+    @Schema(description = "Request counts by response status class.")
+    private Map<String, Long> statuses;
+
+    @Schema(description = "Time spent validating the request before the handler.")
+    private HistogramSnapshot validation;
+
+    @Schema(description = "Time spent in the handler after validation.")
+    private HistogramSnapshot handler;
+
+    public String getRoute() {
+        return route;
+    }
+
+    public void setRoute(String route) {
+        this.route = route;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public void setRequests(long requests) {
+        this.requests = requests;
+    }
+
+    public Map<String, Long> getStatuses() {
+        return statuses;
+    }
+
+    public void setStatuses(Map<String, Long> statuses) {
+        this.statuses = statuses;
+    }
+
+    public HistogramSnapshot getValidation() {
+        return validation;
+    }
+
+    public void setValidation(HistogramSnapshot validation) {
+        this.validation = validation;
+    }
+
+    public HistogramSnapshot getHandler() {
+        return handler;
+    }
+
+    public void setHandler(HistogramSnapshot handler) {
+        this.handler = handler;
+    }
+}
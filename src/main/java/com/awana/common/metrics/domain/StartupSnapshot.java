@@ -0,0 +1,48 @@
+package com.awana.common.metrics.domain;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Timeline of the application startup.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Schema(description = "Snapshot of the application startup.")
+public class StartupSnapshot {
+
+    @Schema(description = "Time from launch until the application was ready in milliseconds.")
+    private long readyMillis;
+
+    @Schema(description = "Number of beans created during startup.")
+    private int beans;
+
+    @Schema(description = "The beans that took the longest to create, slowest first.")
+    private List<BeanStartupSnapshot> slowestBeans;
+
+    public long getReadyMillis() {
+        return readyMillis;
+    }
+
+    public void setReadyMillis(long readyMillis) {
+        this.readyMillis = readyMillis;
+    }
+
+    public int getBeans() {
+        return beans;
+    }
+
+    public void setBeans(int beans) {
+        this.beans = beans;
+    }
+
+    public List<BeanStartupSnapshot> getSlowestBeans() {
+        return slowestBeans;
+    }
+
+    public void setSlowestBeans(List<BeanStartupSnapshot> slowestBeans) {
+        this.slowestBeans = slowestBeans;
+    }
+}
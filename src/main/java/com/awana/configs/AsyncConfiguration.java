@@ -0,0 +1,49 @@
+package com.awana.configs;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import com.awana.common.concurrent.ExecutionMode;
+import com.awana.common.context.ContextPropagatingTaskDecorator;
+
+/**
+ * Async configuration. The websocket channel executors stop spring boot from
+ * creating its default async executor so one is defined here. Tasks keep the
+ * request context of the caller and run on virtual threads when that execution
+ * mode is active.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfiguration implements AsyncConfigurer {
+
+    @Autowired
+    private TaskExecutorBuilder taskExecutorBuilder;
+
+    @Autowired
+    private ContextPropagatingTaskDecorator taskDecorator;
+
+    @Autowired
+    private ExecutionMode executionMode;
+
+    @Bean
+    public Executor asyncTaskExecutor() {
+        if(executionMode.isVirtual()) {
+            return executionMode.virtualExecutor("async-", taskDecorator);
+        }
+        return taskExecutorBuilder.taskDecorator(taskDecorator).threadNamePrefix("async-").build();
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return asyncTaskExecutor();
+    }
+}
@@ -0,0 +1,51 @@
+package com.awana.configs;
+
+import java.io.IOException;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * Adds the defaults in {@code config/awana.yml} to the environment. They are
+ * added last so application.yml, the profile files and the environment
+ * variables all take precedence over them.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public class AwanaConfigEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+    static final String LOCATION = "config/awana.yml";
+
+    private final String location;
+
+    public AwanaConfigEnvironmentPostProcessor() {
+        this(LOCATION);
+    }
+
+    AwanaConfigEnvironmentPostProcessor(String location) {
+        this.location = location;
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        try {
+            ClassPathResource resource = new ClassPathResource(location);
+            for(PropertySource<?> source : new YamlPropertySourceLoader().load(location, resource)) {
+                environment.getPropertySources().addLast(source);
+            }
+        }
+        catch(IOException e) {
+            throw new IllegalStateException("Could not load " + location, e);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
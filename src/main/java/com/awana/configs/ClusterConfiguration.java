@@ -0,0 +1,73 @@
+package com.awana.configs;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import com.awana.app.subscription.cluster.ClusterAuthenticator;
+import com.awana.app.subscription.cluster.ClusterTransport;
+import com.awana.app.subscription.cluster.StandaloneClusterTransport;
+import com.awana.app.subscription.cluster.TcpClusterTransport;
+
+/**
+ * Configures the transport used to reach the other nodes of the subscription
+ * cluster. A node runs standalone unless the tcp transport is selected, in
+ * which case it listens on the cluster host and port and connects to every
+ * configured peer. The tcp transport only talks to the trusted nodes that
+ * prove they hold the cluster secret, and listens on loopback unless a host on
+ * the private network is configured.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Configuration
+public class ClusterConfiguration {
+
+    @Bean
+    public ClusterTransport clusterTransport(@Value("${awana.cluster.transport:standalone}") String transport,
+            @Value("${awana.cluster.node-id:}") String nodeId, @Value("${awana.cluster.host:127.0.0.1}") String host,
+            @Value("${awana.cluster.port:7400}") int port, @Value("${awana.cluster.peers:}") String peers,
+            @Value("${awana.cluster.heartbeat-millis:5000}") long heartbeatMillis,
+            @Value("${awana.cluster.queue-limit:1000}") int queueLimit,
+            @Value("${awana.cluster.secret:}") String secret,
+            @Value("${awana.cluster.trusted-nodes:}") String trustedNodes) {
+        String id = StringUtils.hasText(nodeId) ? nodeId : "node-" + UUID.randomUUID().toString().substring(0, 8);
+        if("tcp".equalsIgnoreCase(transport)) {
+            Set<String> trusted = StringUtils.commaDelimitedListToSet(StringUtils.trimAllWhitespace(trustedNodes));
+            ClusterAuthenticator authenticator = new ClusterAuthenticator(secret, trusted);
+            return new TcpClusterTransport(id, new InetSocketAddress(host, port), parsePeers(peers), heartbeatMillis,
+                                           queueLimit, authenticator);
+        }
+        return new StandaloneClusterTransport(id);
+    }
+
+    /**
+     * Parses a comma separated list of {@code host:port} peers.
+     *
+     * @param peers The peers to parse.
+     * @return List of the peer addresses.
+     */
+    static List<InetSocketAddress> parsePeers(String peers) {
+        List<InetSocketAddress> addresses = new ArrayList<>();
+        for(String peer : StringUtils.commaDelimitedListToStringArray(peers)) {
+            String trimmed = peer.trim();
+            if(trimmed.isEmpty()) {
+                continue;
+            }
+            int separator = trimmed.lastIndexOf(':');
+            if(separator < 0) {
+                throw new IllegalArgumentException("Cluster peer '" + trimmed + "' must be host:port");
+            }
+            addresses.add(InetSocketAddress.createUnresolved(trimmed.substring(0, separator),
+                                                             Integer.parseInt(trimmed.substring(separator + 1))));
+        }
+        return addresses;
+    }
+}
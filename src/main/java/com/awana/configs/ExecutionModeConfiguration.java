@@ -0,0 +1,82 @@
+package com.awana.configs;
+
+import javax.sql.DataSource;
+
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.awana.common.concurrent.BoundedDataSource;
+import com.awana.common.concurrent.ExecutionMode;
+import com.awana.common.concurrent.VirtualThreads;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Configures request handling for the active {@link ExecutionMode}. In virtual
+ * mode tomcat runs each request on its own virtual thread and the data source
+ * is bounded so the extra concurrency queues for a connection instead of
+ * overrunning the pool.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Configuration
+public class ExecutionModeConfiguration {
+    private static final String VIRTUAL_PROPERTY = "awana.threads.virtual";
+
+    /**
+     * Pool size and connection timeout hikari uses when they are not set.
+     */
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private static final long DEFAULT_CONNECTION_TIMEOUT = 30000L;
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> executionModeProtocolHandlerCustomizer(ExecutionMode mode) {
+        return protocolHandler -> {
+            if(mode.isVirtual()) {
+                protocolHandler.setExecutor(VirtualThreads.newThreadPerTaskExecutor("http-vthread-"));
+            }
+        };
+    }
+
+    /**
+     * Wraps the data source in a {@link BoundedDataSource} when running on virtual
+     * threads. The production and local data sources are {@link HikariDataSource}
+     * pools, so the bound is the pool size and connection timeout they were bound
+     * with from {@code spring.datasource}. Other data sources use the hikari
+     * defaults. The bound can be lowered with
+     * {@code awana.threads.max-connections}.
+     *
+     * @param env The environment to read the settings from.
+     * @return {@link BeanPostProcessor} for the data source.
+     */
+    @Bean
+    public static BeanPostProcessor boundedDataSourcePostProcessor(Environment env) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if(!(bean instanceof DataSource) || bean instanceof BoundedDataSource || !isVirtual(env)) {
+                    return bean;
+                }
+
+                int poolSize = DEFAULT_POOL_SIZE;
+                long timeout = DEFAULT_CONNECTION_TIMEOUT;
+                if(bean instanceof HikariDataSource) {
+                    HikariDataSource pool = (HikariDataSource) bean;
+                    poolSize = pool.getMaximumPoolSize() > 0 ? pool.getMaximumPoolSize() : DEFAULT_POOL_SIZE;
+                    timeout = pool.getConnectionTimeout();
+                }
+                int maxConnections = env.getProperty("awana.threads.max-connections", Integer.class, poolSize);
+                return new BoundedDataSource((DataSource) bean, maxConnections, timeout);
+            }
+        };
+    }
+
+    private static boolean isVirtual(Environment env) {
+        return env.getProperty(VIRTUAL_PROPERTY, Boolean.class, false) && VirtualThreads.isSupported();
+    }
+}
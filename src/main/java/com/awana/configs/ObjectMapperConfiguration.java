@@ -1,31 +1,82 @@
 package com.awana.configs;
 
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.awana.app.authentication.client.domain.AuthToken;
+import com.awana.app.user.client.domain.User;
+import com.awana.common.exception.domain.ExceptionError;
+import com.awana.common.json.JsonCodecs;
+import com.awana.common.json.PrebuiltJsonHttpMessageConverter;
+import com.awana.common.json.TimedJackson2HttpMessageConverter;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 
 /**
- * Object Mapper config for parsing objects.
- * 
+ * Object Mapper config for parsing objects. The blackbird module replaces the
+ * reflective property access of the mapper with generated accessors, it can be
+ * turned off with {@code awana.json.blackbird}. The rest responses written on
+ * every request have readers and writers built up front, and the Jackson
+ * converter for everything else is swapped for one that records its timing.
+ *
  * @author Sam Butler
  * @since April 27, 2022
  */
 @Configuration
 public class ObjectMapperConfiguration {
+
+    @Value("${awana.json.blackbird:true}")
+    private boolean blackbird = true;
+
     @Bean
     @Primary
     public ObjectMapper objectMapper() {
         ObjectMapper mapper = new ObjectMapper();
         mapper.setSerializationInclusion(Include.NON_NULL);
         mapper.registerModule(new JavaTimeModule());
+        if(blackbird) {
+            mapper.registerModule(new BlackbirdModule());
+        }
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
         mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
         return mapper;
     }
+
+    @Bean
+    public JsonCodecs jsonCodecs(ObjectMapper objectMapper) {
+        return new JsonCodecs(objectMapper, List.of(User.class, new TypeReference<List<User>>() {}.getType(),
+                                                    AuthToken.class, ExceptionError.class));
+    }
+
+    @Bean
+    public WebMvcConfigurer jsonConverterConfigurer(JsonCodecs jsonCodecs) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                int jackson = 0;
+                while(jackson < converters.size()
+                        && !(converters.get(jackson) instanceof MappingJackson2HttpMessageConverter)) {
+                    jackson++;
+                }
+                if(jackson < converters.size()) {
+                    ObjectMapper mapper = ((MappingJackson2HttpMessageConverter) converters.get(jackson))
+                            .getObjectMapper();
+                    converters.set(jackson, new TimedJackson2HttpMessageConverter(mapper));
+                }
+                converters.add(jackson, new PrebuiltJsonHttpMessageConverter(jsonCodecs));
+            }
+        };
+    }
 }
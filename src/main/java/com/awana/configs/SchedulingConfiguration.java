@@ -0,0 +1,18 @@
+package com.awana.configs;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling configuration. Scheduled tasks run unless
+ * {@code awana.scheduling.enabled} is off, which the training run of the
+ * class data sharing archive does so it never runs a job.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "awana.scheduling.enabled", matchIfMissing = true)
+public class SchedulingConfiguration {}
@@ -0,0 +1,102 @@
+package com.awana.configs;
+
+import java.sql.Connection;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Startup settings for the application. Beans that are rarely used are created
+ * on first use instead of on every restart, and the connection pool is started
+ * before the server takes requests so the first request does not pay for it.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Configuration
+public class StartupConfiguration {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupConfiguration.class);
+
+    /**
+     * Packages whose beans are only needed when their endpoints are called.
+     */
+    private static final String[] LAZY_PACKAGES = {"org.springdoc."};
+
+    /**
+     * Marks the beans of the {@link #LAZY_PACKAGES} lazy. Beans declared by a
+     * configuration class in one of the packages are matched on the class that
+     * declares them. Beans that something else needs at startup, such as web mvc
+     * configurers and property holders, are still created when they are
+     * injected.
+     *
+     * @return {@link BeanFactoryPostProcessor} marking the beans lazy.
+     */
+    @Bean
+    public static BeanFactoryPostProcessor lazyBeanFactoryPostProcessor() {
+        return beanFactory -> {
+            for(String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if(isLazyPackage(declaringClassName(beanFactory, definition))) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    /**
+     * Opens a connection once all the beans are created, which starts the pool
+     * before the server is started. A database that can not be reached is only
+     * logged, the pool will try again on the first request.
+     *
+     * @param dataSource The data source of the application.
+     * @param enabled    If the pool should be started.
+     * @return {@link SmartInitializingSingleton} starting the pool.
+     */
+    @Bean
+    public SmartInitializingSingleton dataSourceWarmup(ObjectProvider<DataSource> dataSource,
+            @Value("${awana.startup.warm-datasource:false}") boolean enabled) {
+        return () -> {
+            DataSource source = dataSource.getIfUnique();
+            if(!enabled || source == null) {
+                return;
+            }
+
+            try(Connection connection = source.getConnection()) {
+                LOGGER.info("Connection pool started on catalog '{}'", connection.getCatalog());
+            }
+            catch(Exception e) {
+                LOGGER.warn("Could not start the connection pool: {}", e.getMessage());
+            }
+        };
+    }
+
+    private static String declaringClassName(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String factoryBean = definition.getFactoryBeanName();
+        if(factoryBean != null && beanFactory.containsBeanDefinition(factoryBean)) {
+            return beanFactory.getBeanDefinition(factoryBean).getBeanClassName();
+        }
+        return definition.getBeanClassName();
+    }
+
+    private static boolean isLazyPackage(String className) {
+        if(className == null) {
+            return false;
+        }
+        for(String prefix : LAZY_PACKAGES) {
+            if(className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
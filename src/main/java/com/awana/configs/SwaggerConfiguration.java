@@ -3,6 +3,7 @@ package com.awana.configs;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Contact;
@@ -10,11 +11,13 @@ import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.info.License;
 
 /**
- * Swagger config for showing API's
+ * Swagger config for showing API's. Lazy since the api docs are only built when
+ * they are first requested.
  * 
  * @author Sam Butler
  * @since April 27, 2022
  */
+@Lazy
 @Configuration
 public class SwaggerConfiguration {
 
@@ -0,0 +1,26 @@
+package com.awana.gateway.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.awana.common.annotations.interceptors.HasAccessInterceptor;
+
+/**
+ * Registers the access check that runs before the controllers.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Configuration
+public class AccessWebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private HasAccessInterceptor hasAccessInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(hasAccessInterceptor);
+    }
+}
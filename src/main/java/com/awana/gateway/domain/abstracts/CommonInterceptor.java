@@ -1,5 +1,7 @@
 package com.awana.gateway.domain.abstracts;
 
+import java.io.IOException;
+
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletRequest;
@@ -7,13 +9,22 @@ import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import com.awana.common.jwt.utility.JwtHolder;
+import com.awana.common.metrics.MetricsRegistry;
+import com.awana.common.metrics.ServerTiming;
+import com.awana.common.metrics.ServerTimingPolicy;
 import com.awana.gateway.domain.interfaces.BaseRequestValidator;
+import com.awana.sql.abstracts.SqlStatementCounter;
 
 /**
  * Common interceptor to extend common functionality for API's.
@@ -23,6 +34,7 @@ import com.awana.gateway.domain.interfaces.BaseRequestValidator;
  */
 @Component
 public abstract class CommonInterceptor implements Filter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CommonInterceptor.class);
 
     @Autowired
     private JwtHolder jwtHolder;
@@ -31,29 +43,126 @@ public abstract class CommonInterceptor implements Filter {
     @Qualifier("handlerExceptionResolver")
     private HandlerExceptionResolver resolver;
 
+    @Autowired
+    private MetricsRegistry metrics;
+
+    @Autowired
+    private ServerTimingPolicy serverTimingPolicy;
+
+    @Value("${awana.sql.statement-header:false}")
+    private boolean sqlStatementHeader;
+
+    @Value("${awana.sql.repeat-warn-threshold:5}")
+    private int sqlRepeatWarnThreshold;
+
     /**
      * Performs a validate request on the given params and decides if it will
      * perform the filter chain. This request will be used to validate that it can
-     * access the endpoint and it has the correct permissions.
+     * access the endpoint and it has the correct permissions. The time spent
+     * validating and the time spent in the handler are recorded against the
+     * matched route. If the request is picked by the {@link ServerTimingPolicy}
+     * its spans are sent back in the {@code Server-Timing} header. When
+     * {@code awana.sql.statement-header} is on the statements of the request are
+     * counted for the {@code X-Sql-Statements} header, and a fragment run at
+     * least {@code awana.sql.repeat-warn-threshold} times is logged as a likely
+     * N+1 query.
      *
      * @param v     The validator to perform.
      * @param req   The request to pass to the function.
      * @param res   The response to parse.
      * @param chain The filter chain to perform on the request.
+     * @throws IOException If a timed response can not be written.
      */
-    protected void performFilter(BaseRequestValidator v, ServletRequest req, ServletResponse res, FilterChain chain) {
+    protected void performFilter(BaseRequestValidator v, ServletRequest req, ServletResponse res, FilterChain chain)
+            throws IOException {
+        SqlStatementCounter counter = sqlStatementHeader ? SqlStatementCounter.begin() : null;
+        try {
+            if(serverTimingPolicy.shouldTime((HttpServletRequest) req)) {
+                performTimedFilter(v, req, res, chain);
+            }
+            else {
+                runFilter(v, req, res, chain);
+            }
+        }
+        finally {
+            SqlStatementCounter.end();
+            if(counter != null) {
+                warnRepeatedFragments((HttpServletRequest) req, counter);
+            }
+        }
+    }
+
+    private void warnRepeatedFragments(HttpServletRequest request, SqlStatementCounter counter) {
+        counter.getRepeatedFragments().forEach((fragment, count) -> {
+            if(count >= sqlRepeatWarnThreshold) {
+                LOGGER.warn("Fragment '{}' ran {} times for {} {}, likely an N+1 query", fragment, count,
+                            request.getMethod(), request.getRequestURI());
+            }
+        });
+    }
+
+    /**
+     * Runs the filter with a {@link ServerTiming} bound to the thread. The body
+     * is held back until the request is done so the header can still be added
+     * once the response has been serialized.
+     */
+    private void performTimedFilter(BaseRequestValidator v, ServletRequest req, ServletResponse res,
+            FilterChain chain) throws IOException {
+        ContentCachingResponseWrapper response = new ContentCachingResponseWrapper((HttpServletResponse) res);
+        ServerTiming timing = ServerTiming.begin();
+        long start = System.nanoTime();
+        try {
+            runFilter(v, req, response, chain);
+        }
+        finally {
+            ServerTiming.end();
+            timing.record(ServerTiming.TOTAL, System.nanoTime() - start);
+            response.setHeader(ServerTiming.HEADER, timing.toHeaderValue());
+            response.copyBodyToResponse();
+        }
+    }
+
+    private void runFilter(BaseRequestValidator v, ServletRequest req, ServletResponse res, FilterChain chain) {
+        long start = System.nanoTime();
+        long validated = -1;
         try {
             v.validateRequest((HttpServletRequest) req);
+            validated = System.nanoTime();
             chain.doFilter(req, res);
         }
         catch(Exception e) {
             resolveException(req, res, e);
         }
         finally {
+            recordMetrics(req, res, start, validated);
             clearThreadToken();
         }
     }
 
+    /**
+     * Records the request against the matched handler pattern. Requests that
+     * never reached a handler are grouped under the unmatched route for the
+     * method so the number of routes stays bounded.
+     *
+     * @param req       The request that was made.
+     * @param res       The response that was sent.
+     * @param start     When the request started.
+     * @param validated When validation finished, or -1 if it failed.
+     */
+    private void recordMetrics(ServletRequest req, ServletResponse res, long start, long validated) {
+        long end = System.nanoTime();
+        HttpServletRequest request = (HttpServletRequest) req;
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = request.getMethod() + " " + (pattern != null ? pattern : "UNMATCHED");
+
+        if(validated < 0) {
+            metrics.recordRequest(route, ((HttpServletResponse) res).getStatus(), end - start, -1);
+        }
+        else {
+            metrics.recordRequest(route, ((HttpServletResponse) res).getStatus(), validated - start, end - validated);
+        }
+    }
+
     /**
      * Clears the current process token stored on the local thread of the request
      * instance.
@@ -1,21 +1,24 @@
 package com.awana.gateway.domain.abstracts;
 
 import java.util.Date;
-import java.util.List;
 
 import javax.servlet.http.HttpServletRequest;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import com.awana.common.dictionary.enums.Environment;
 import com.awana.common.environment.AppEnvironmentService;
+import com.awana.common.exception.InsufficientPermissionsException;
 import com.awana.common.exception.JwtTokenException;
+import com.awana.common.jfr.TokenValidationEvent;
 import com.awana.common.jwt.domain.JwtPair;
 import com.awana.common.jwt.utility.JwtHolder;
+import com.awana.common.metrics.ServerTiming;
 import com.awana.gateway.domain.interfaces.BaseRequestValidator;
+import com.awana.gateway.route.Route;
+import com.awana.gateway.route.RouteTable;
 
 /**
  * Common abstract validator for tokens.
@@ -46,23 +49,77 @@ public abstract class CommonTokenValidator implements BaseRequestValidator {
      * @throws JwtTokenException If the token is invalid.
      */
     protected void runTokenValidation(String token, boolean prefixCheck) {
-        checkValidToken(token, prefixCheck);
+        TokenValidationEvent event = new TokenValidationEvent();
+        event.begin();
+        ServerTiming.Span span = ServerTiming.start(ServerTiming.TOKEN);
+        try(span) {
+            checkValidToken(token, prefixCheck);
+
+            JwtPair pair = new JwtPair(extractToken(token), appEnvironmentService);
+            checkCorrectEnvironment(pair);
+            checkTokenExpiration(pair);
+        }
+        catch(RuntimeException e) {
+            event.finish(e.getMessage());
+            throw e;
+        }
+        event.finish(null);
+    }
 
-        JwtPair pair = new JwtPair(extractToken(token), appEnvironmentService);
-        checkCorrectEnvironment(pair);
-        checkTokenExpiration(pair);
+    /**
+     * Finds the route in the given table for the request. If the request does not
+     * match any route then null is returned.
+     * 
+     * @param request The request to find the route for.
+     * @param routes  The route table to check against.
+     * @return {@link Route} of the request or null.
+     */
+    protected Route findRoute(HttpServletRequest request, RouteTable routes) {
+        return routes.match(request.getMethod(), getRequestPath(request));
     }
 
     /**
-     * Boolean method that determines if a request should be filtered or not. It
-     * will process the antmatchers and determine the result.
+     * Gets the path of the request the handler will be matched on. This is the
+     * servlet path and path info, which the container has already decoded,
+     * normalized and stripped of path parameters, instead of the raw request uri.
      * 
-     * @param request  The request to validate
-     * @param matchers The matchers to check against.
+     * @param request The request to get the path of.
+     * @return {@link String} of the path within the application.
+     */
+    static String getRequestPath(HttpServletRequest request) {
+        String pathInfo = request.getPathInfo();
+        return pathInfo == null ? request.getServletPath() : request.getServletPath() + pathInfo;
+    }
+
+    /**
+     * Boolean method that determines if a request should be filtered or not. A
+     * request is not filtered when it matches a public route.
+     * 
+     * @param route The route of the request.
      * @return {@link Boolean} of the filter status.
      */
-    protected boolean shouldNotFilter(HttpServletRequest request, List<AntPathRequestMatcher> matchers) {
-        return matchers.stream().anyMatch(matcher -> matcher.matches(request));
+    protected boolean shouldNotFilter(Route route) {
+        return route != null && route.isPublic();
+    }
+
+    /**
+     * Confirms that the token stored for the request has the role required by the
+     * route. If the route does not require a role then nothing is checked.
+     * 
+     * @param route The route of the request.
+     * @throws InsufficientPermissionsException If the role is not high enough.
+     */
+    protected void checkRouteAccess(Route route) {
+        if(route == null || route.getRequiredRole() == null) {
+            return;
+        }
+
+        ServerTiming.Span span = ServerTiming.start(ServerTiming.ACCESS);
+        try(span) {
+            if(jwtHolder.getWebRole().getRank() < route.getRequiredRole().getRank()) {
+                throw new InsufficientPermissionsException(jwtHolder.getWebRole());
+            }
+        }
     }
 
     /**
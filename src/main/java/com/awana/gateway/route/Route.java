@@ -0,0 +1,76 @@
+package com.awana.gateway.route;
+
+import org.springframework.http.HttpMethod;
+
+import com.awana.app.user.client.domain.WebRole;
+
+/**
+ * A single compiled entry in the {@link RouteTable}. Holds the method and
+ * pattern the route was registered with and the access rule that applies to
+ * it.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public class Route {
+    private final HttpMethod method;
+
+    private final String pattern;
+
+    private final String literalPrefix;
+
+    private final boolean wildcard;
+
+    private final boolean publicAccess;
+
+    private final WebRole requiredRole;
+
+    Route(HttpMethod method, String pattern, boolean publicAccess, WebRole requiredRole) {
+        this.method = method;
+        this.pattern = pattern;
+        this.literalPrefix = RouteTable.literalPrefix(pattern);
+        this.wildcard = !literalPrefix.equals(pattern);
+        this.publicAccess = publicAccess;
+        this.requiredRole = requiredRole;
+    }
+
+    public HttpMethod getMethod() {
+        return method;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public String getLiteralPrefix() {
+        return literalPrefix;
+    }
+
+    public boolean isWildcard() {
+        return wildcard;
+    }
+
+    /**
+     * Determines if the route can be accessed without a token.
+     *
+     * @return {@link Boolean} of the public status of the route.
+     */
+    public boolean isPublic() {
+        return publicAccess;
+    }
+
+    /**
+     * The minimum role needed to access the route. If no role is required then
+     * this will be null.
+     *
+     * @return {@link WebRole} required by the route.
+     */
+    public WebRole getRequiredRole() {
+        return requiredRole;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s", method, pattern);
+    }
+}
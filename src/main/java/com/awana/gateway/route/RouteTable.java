@@ -0,0 +1,202 @@
+package com.awana.gateway.route;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.Assert;
+
+import com.awana.app.user.client.domain.WebRole;
+
+/**
+ * Route table that is compiled once and used by the gateway to decide how a
+ * request should be validated. Routes are indexed by {@link HttpMethod} and by
+ * the literal path prefix of their pattern, so a lookup is a hash probe for
+ * exact paths and a handful of probes (one per path segment) for wildcard
+ * routes. The ant pattern is only evaluated against the few routes that share
+ * a literal prefix with the request path.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public class RouteTable {
+    private static final AntPathMatcher MATCHER = new AntPathMatcher();
+
+    private final Map<HttpMethod, MethodRoutes> routes;
+
+    private final int size;
+
+    private RouteTable(Map<HttpMethod, MethodRoutes> routes, int size) {
+        this.routes = routes;
+        this.size = size;
+    }
+
+    /**
+     * Begins the creation of a new route table.
+     *
+     * @return {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Finds the route for the given method and path. Exact routes take precedence
+     * over wildcard routes and wildcard routes with a longer literal prefix take
+     * precedence over shorter ones. If no route matches then null is returned.
+     *
+     * @param method The http method of the request.
+     * @param path   The request path, without the context path.
+     * @return {@link Route} that matched or null.
+     */
+    public Route match(String method, String path) {
+        HttpMethod httpMethod = HttpMethod.resolve(method);
+        if(httpMethod == null) {
+            return null;
+        }
+
+        MethodRoutes methodRoutes = routes.get(httpMethod);
+        return methodRoutes == null ? null : methodRoutes.match(path);
+    }
+
+    /**
+     * Gets the number of routes in the table.
+     *
+     * @return {@link Integer} of the route count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the literal portion of the pattern before the first wildcard segment.
+     * If the pattern has no wildcards then the pattern itself is returned.
+     *
+     * @param pattern The pattern to parse.
+     * @return {@link String} of the literal prefix.
+     */
+    static String literalPrefix(String pattern) {
+        int end = 0;
+        while(end < pattern.length()) {
+            int next = pattern.indexOf('/', end + 1);
+            int segmentEnd = next < 0 ? pattern.length() : next;
+            if(isWildcardSegment(pattern, end, segmentEnd)) {
+                return pattern.substring(0, end);
+            }
+            end = segmentEnd;
+        }
+        return pattern;
+    }
+
+    /**
+     * Checks if the segment between the given indexes contains any ant wildcard
+     * characters.
+     */
+    private static boolean isWildcardSegment(String pattern, int start, int end) {
+        for(int i = start; i < end; i++) {
+            char c = pattern.charAt(i);
+            if(c == '*' || c == '?' || c == '{') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Routes registered for a single http method.
+     */
+    private static class MethodRoutes {
+        private final Map<String, Route> exact = new HashMap<>();
+
+        private final Map<String, List<Route>> prefixed = new HashMap<>();
+
+        private void add(Route route) {
+            if(route.isWildcard()) {
+                prefixed.computeIfAbsent(route.getLiteralPrefix(), k -> new ArrayList<>()).add(route);
+            }
+            else {
+                exact.putIfAbsent(route.getPattern(), route);
+            }
+        }
+
+        private Route match(String path) {
+            Route route = exact.get(path);
+            if(route != null || prefixed.isEmpty()) {
+                return route;
+            }
+
+            for(int end = path.length(); end >= 0; end = path.lastIndexOf('/', end - 1)) {
+                List<Route> candidates = prefixed.get(path.substring(0, end));
+                if(candidates != null) {
+                    for(Route candidate : candidates) {
+                        if(MATCHER.match(candidate.getPattern(), path)) {
+                            return candidate;
+                        }
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Builder for compiling the route table.
+     */
+    public static class Builder {
+        private final List<Route> routes = new ArrayList<>();
+
+        private Builder() {}
+
+        /**
+         * Registers a public route that does not need a token.
+         *
+         * @param method  The method of the route.
+         * @param pattern The ant pattern of the route.
+         * @return this builder object {@link Builder}
+         */
+        public Builder permit(HttpMethod method, String pattern) {
+            return add(new Route(method, pattern, true, null));
+        }
+
+        /**
+         * Registers a route that needs a token with at least the given role for each
+         * of the passed in methods.
+         *
+         * @param pattern The ant pattern of the route.
+         * @param role    The minimum role needed to access the route.
+         * @param methods The methods the rule applies too.
+         * @return this builder object {@link Builder}
+         */
+        public Builder require(String pattern, WebRole role, HttpMethod... methods) {
+            Assert.notNull(role, "Role can not be null");
+            for(HttpMethod method : methods) {
+                add(new Route(method, pattern, false, role));
+            }
+            return this;
+        }
+
+        /**
+         * Compiles the registered routes into a {@link RouteTable}.
+         *
+         * @return {@link RouteTable} of the registered routes.
+         */
+        public RouteTable build() {
+            Map<HttpMethod, MethodRoutes> table = new EnumMap<>(HttpMethod.class);
+            for(Route route : routes) {
+                table.computeIfAbsent(route.getMethod(), k -> new MethodRoutes()).add(route);
+            }
+            return new RouteTable(Collections.unmodifiableMap(table), routes.size());
+        }
+
+        private Builder add(Route route) {
+            Assert.isTrue(route.getPattern().startsWith("/"), "Route pattern must start with '/'");
+            routes.add(route);
+            return this;
+        }
+    }
+}
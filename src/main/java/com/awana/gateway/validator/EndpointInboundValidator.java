@@ -1,15 +1,15 @@
 package com.awana.gateway.validator;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import javax.servlet.http.HttpServletRequest;
 
-import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 
+import com.awana.app.user.client.domain.WebRole;
 import com.awana.common.exception.JwtTokenException;
 import com.awana.gateway.domain.abstracts.CommonTokenValidator;
+import com.awana.gateway.route.Route;
+import com.awana.gateway.route.RouteTable;
 import com.google.common.net.HttpHeaders;
 
 /**
@@ -21,6 +21,19 @@ import com.google.common.net.HttpHeaders;
 @Component
 public class EndpointInboundValidator extends CommonTokenValidator {
 
+    /**
+     * Defined routes for the api. Public routes do not need authentication and
+     * role routes need a token with at least the given role.
+     */
+    private static final RouteTable ROUTES = RouteTable.builder()
+            .permit(HttpMethod.POST, "/api/authenticate")
+            .permit(HttpMethod.GET, "/api/user-app/user-profile/check-email")
+            .permit(HttpMethod.POST, "/api/user-app/user-profile")
+            .permit(HttpMethod.POST, "/api/user-app/user-profile/forgot-password")
+            .permit(HttpMethod.OPTIONS, "/**")
+            .require("/api/subscription-app/**", WebRole.DEVELOPER, HttpMethod.GET, HttpMethod.POST)
+            .require("/api/metrics-app/**", WebRole.DEVELOPER, HttpMethod.GET).build();
+
     /**
      * Checks to see if the token on the request is valid. If it is not valid then
      * it wil throw an exception, otherwise it wil continue. It will confirm that
@@ -31,27 +44,14 @@ public class EndpointInboundValidator extends CommonTokenValidator {
      * @throws JwtTokenException If the jwt token is not valid.
      */
     public void validateRequest(HttpServletRequest request) throws JwtTokenException {
-        if(shouldNotFilter(request, excludedMatchers())) {
+        Route route = findRoute(request, ROUTES);
+        if(shouldNotFilter(route)) {
             return;
         }
 
         final String token = request.getHeader(HttpHeaders.AUTHORIZATION);
         runTokenValidation(token, true);
         storeToken(token);
-    }
-
-    /**
-     * Defined filtered matchers that do not need authentication.
-     * 
-     * @return List of {@link AntPathRequestMatcher} matchers.
-     */
-    private List<AntPathRequestMatcher> excludedMatchers() {
-        List<AntPathRequestMatcher> matchers = new ArrayList<>();
-        matchers.add(new AntPathRequestMatcher("/api/authenticate", "POST"));
-        matchers.add(new AntPathRequestMatcher("/api/user-app/user-profile/check-email", "GET"));
-        matchers.add(new AntPathRequestMatcher("/api/user-app/user-profile", "POST"));
-        matchers.add(new AntPathRequestMatcher("/api/user-app/user-profile/forgot-password", "POST"));
-        matchers.add(new AntPathRequestMatcher("/**", "OPTIONS"));
-        return matchers;
+        checkRouteAccess(route);
     }
 }
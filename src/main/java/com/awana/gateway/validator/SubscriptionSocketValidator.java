@@ -20,14 +20,17 @@ public class SubscriptionSocketValidator extends CommonTokenValidator {
      * Checks to see if the token on the request is valid. If it is not valid then
      * it will throw an exception, otherwise it wil continue. It will confirm that
      * the token is in the right environment, check that it has the correct fields,
-     * that it is not expired, and the token signature is valid.
+     * that it is not expired, and the token signature is valid. The token is the
+     * first value of the query string, any parameters after it are left for the
+     * socket handshake.
      *
      * @param request The request that is being made to the endpint
      * @return {@link Boolean} of the validation status of the request.
      * @throws JwtTokenException If the jwt token is not valid.
      */
     public void validateRequest(HttpServletRequest request) throws JwtTokenException {
-        final String jwtToken = request.getQueryString();
+        final String query = request.getQueryString();
+        final String jwtToken = query == null ? null : query.split("&", 2)[0];
         runTokenValidation(jwtToken, false);
         storeToken(jwtToken);
     }
@@ -3,10 +3,8 @@ package com.awana.sql.abstracts;
 import java.util.List;
 import java.util.Optional;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SingleColumnRowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
@@ -18,14 +16,13 @@ import com.opengamma.elsql.ElSqlConfig;
 
 /**
  * Abstract class for building the DAO classes and running queries against the
- * database.
+ * database. Every query is traced with a {@link QueryTrace}.
  * 
  * @author Sam Butler
  * @since July 31, 2021
  */
 @Service
 public abstract class AbstractSqlDao extends AbstractSqlGlobals {
-    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractSqlDao.class);
     private final NamedParameterJdbcTemplate template;
     private final ElSqlBundle bundle;
 
@@ -59,7 +56,9 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @return Object of the returned data.
      */
     protected <T> T get(String sql, MapSqlParameterSource params, RowMapper<T> mapper) {
-        return getTemplate().queryForObject(sql, params, mapper);
+        try(QueryTrace trace = QueryTrace.start()) {
+            return trace.row(getTemplate().queryForObject(sql, params, mapper));
+        }
     }
 
     /**
@@ -87,7 +86,9 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @return Object of the returned data.
      */
     protected <T> T get(String sql, MapSqlParameterSource params, Class<T> clazz) {
-        return getTemplate().queryForObject(sql, params, clazz);
+        try(QueryTrace trace = QueryTrace.start()) {
+            return trace.row(getTemplate().queryForObject(sql, params, clazz));
+        }
     }
 
     /**
@@ -105,8 +106,9 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
     }
 
     /**
-     * Wraps the get query in an optional. If the result set returns an empty data,
-     * it will log a warning and return an empty optional object.
+     * Wraps the get query in an optional. Only the first row of the result set is
+     * mapped. If the result set is empty then an empty optional is returned, so a
+     * missing row costs no more than a found one.
      * 
      * @param <T>    The object type of the method to cast the rows too.
      * @param sql    The sql to run against the database.
@@ -115,18 +117,17 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @return Object of the returned data.
      */
     protected <T> Optional<T> getForOptional(String sql, MapSqlParameterSource params, RowMapper<T> mapper) {
-        try {
-            return Optional.of(get(sql, params, mapper));
-        }
-        catch(EmptyResultDataAccessException e) {
-            LOGGER.warn("Query returned empty result");
-            return Optional.empty();
+        try(QueryTrace trace = QueryTrace.start()) {
+            Optional<T> row = getTemplate().query(sql, params,
+                                                  rs -> rs.next() ? Optional.ofNullable(mapper.mapRow(rs, 0))
+                                                                  : Optional.<T>empty());
+            return trace.rows(row);
         }
     }
 
     /**
-     * Wraps the get query in an optional. If the result set returns an empty data,
-     * it will log a warning and return an empty optional object.
+     * Wraps the get query in an optional. If the result set is empty then an empty
+     * optional is returned.
      * 
      * @param <T>    The object type of the method to cast the rows too.
      * @param sql    The sql to run against the database.
@@ -134,12 +135,12 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @return Object of the returned data.
      */
     protected <T> Optional<T> getForOptional(String sql, RowMapper<T> mapper) {
-        return getForOptional(sql, mapper);
+        return getForOptional(sql, new MapSqlParameterSource(), mapper);
     }
 
     /**
-     * Wraps the get query in an optional. If the result set returns an empty data,
-     * it will log a warning and return an empty optional object.
+     * Wraps the get query in an optional. If the result set is empty then an empty
+     * optional is returned.
      * 
      * @param <T>    The object type of the method to cast the rows too.
      * @param sql    The sql to run against the database.
@@ -148,18 +149,12 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @return Object of the returned data.
      */
     protected <T> Optional<T> getForOptional(String sql, MapSqlParameterSource params, Class<T> clazz) {
-        try {
-            return Optional.of(get(sql, params, clazz));
-        }
-        catch(EmptyResultDataAccessException e) {
-            LOGGER.warn("Query returned empty result");
-            return Optional.empty();
-        }
+        return getForOptional(sql, params, SingleColumnRowMapper.newInstance(clazz));
     }
 
     /**
-     * Wraps the get query in an optional. If the result set returns an empty data,
-     * it will log a warning and return an empty optional object.
+     * Wraps the get query in an optional. If the result set is empty then an empty
+     * optional is returned.
      * 
      * @param <T>   The object type of the method to cast the rows too.
      * @param sql   The sql to run against the database.
@@ -167,7 +162,7 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @return Object of the returned data.
      */
     protected <T> Optional<T> getForOptional(String sql, Class<T> clazz) {
-        return getForOptional(sql, clazz);
+        return getForOptional(sql, new MapSqlParameterSource(), clazz);
     }
 
     /**
@@ -181,7 +176,9 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @return List of the returned data.
      */
     protected <T> List<T> getPage(String sql, MapSqlParameterSource params, RowMapper<T> mapper) {
-        return getTemplate().query(sql, params, mapper);
+        try(QueryTrace trace = QueryTrace.start()) {
+            return trace.rows(getTemplate().query(sql, params, mapper));
+        }
     }
 
     /**
@@ -194,7 +191,9 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @return List of the returned data.
      */
     protected <T> List<T> getPage(String sql, RowMapper<T> mapper) {
-        return getTemplate().query(sql, new MapSqlParameterSource(), mapper);
+        try(QueryTrace trace = QueryTrace.start()) {
+            return trace.rows(getTemplate().query(sql, new MapSqlParameterSource(), mapper));
+        }
     }
 
     /**
@@ -207,7 +206,9 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @return List of the returned data.
      */
     protected <T> List<T> getPage(String sql, Class<T> clazz) {
-        return getTemplate().queryForList(sql, new MapSqlParameterSource(), clazz);
+        try(QueryTrace trace = QueryTrace.start()) {
+            return trace.rows(getTemplate().queryForList(sql, new MapSqlParameterSource(), clazz));
+        }
     }
 
     /**
@@ -219,7 +220,9 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @param keyHolder used to get the auto increment id.
      */
     protected int post(String sql, MapSqlParameterSource params, KeyHolder keyHolder) {
-        return getTemplate().update(sql, params, keyHolder);
+        try(QueryTrace trace = QueryTrace.start()) {
+            return trace.updated(getTemplate().update(sql, params, keyHolder));
+        }
     }
 
     /**
@@ -229,7 +232,9 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @param params Params to be inserted into the query.
      */
     protected int post(String sql, MapSqlParameterSource params) {
-        return getTemplate().update(sql, params);
+        try(QueryTrace trace = QueryTrace.start()) {
+            return trace.updated(getTemplate().update(sql, params));
+        }
     }
 
     /**
@@ -239,7 +244,9 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @param params Params to be inserted into the query.
      */
     protected int delete(String sql, MapSqlParameterSource params) {
-        return getTemplate().update(sql, params);
+        try(QueryTrace trace = QueryTrace.start()) {
+            return trace.updated(getTemplate().update(sql, params));
+        }
     }
 
     /**
@@ -249,7 +256,9 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @param params Params to be inserted into the query.
      */
     protected int update(String sql, MapSqlParameterSource params) {
-        return getTemplate().update(sql, params);
+        try(QueryTrace trace = QueryTrace.start()) {
+            return trace.updated(getTemplate().update(sql, params));
+        }
     }
 
     /**
@@ -258,7 +267,9 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @param sql The sql to be run.
      */
     protected void execute(String sql) {
-        getTemplate().update(sql, new MapSqlParameterSource());
+        try(QueryTrace trace = QueryTrace.start()) {
+            trace.updated(getTemplate().update(sql, new MapSqlParameterSource()));
+        }
     }
 
     /**
@@ -270,6 +281,7 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @return {@link String} of the filtered query.
      */
     protected String getSql(String name, SqlParameterSource params) {
+        QueryTrace.fragment(name);
         return bundle.getSql(name, params).trim();
     }
 
@@ -280,6 +292,7 @@ public abstract class AbstractSqlDao extends AbstractSqlGlobals {
      * @return {@link String} of the sql fragment.
      */
     protected String getSql(String name) {
+        QueryTrace.fragment(name);
         return bundle.getSql(name).trim();
     }
 
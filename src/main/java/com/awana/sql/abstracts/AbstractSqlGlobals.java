@@ -29,4 +29,9 @@ public abstract class AbstractSqlGlobals {
     public static final String UUID = "uuid";
     public static final String PART_NUMBER = "part_number";
     public static final String NAME = "name";
+    public static final String DESTINATION = "destination";
+    public static final String SEQUENCE = "sequence";
+    public static final String UP_TO_SEQUENCE = "up_to_sequence";
+    public static final String PAYLOAD = "payload";
+    public static final String ROW_LIMIT = "row_limit";
 }
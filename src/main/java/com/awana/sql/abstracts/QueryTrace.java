@@ -0,0 +1,90 @@
+package com.awana.sql.abstracts;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.awana.common.jfr.SqlQueryEvent;
+import com.awana.common.metrics.ServerTiming;
+
+import jdk.jfr.EventType;
+
+/**
+ * Traces a query run by the {@link AbstractSqlDao}. It counts the query in the
+ * {@link SqlStatementCounter}, records the {@link ServerTiming#SQL} span and
+ * the {@link SqlQueryEvent} with the fragment
+ * last resolved by {@link AbstractSqlDao#getSql} on the thread, which is the
+ * fragment of the query since the DAOs resolve it as an argument of the call.
+ * The fragment is only kept while the event is being recorded or the
+ * statements of the thread are being counted.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+final class QueryTrace implements AutoCloseable {
+    private static final ThreadLocal<String> FRAGMENT = new ThreadLocal<>();
+
+    private static final EventType EVENT_TYPE = EventType.getEventType(SqlQueryEvent.class);
+
+    private final ServerTiming.Span span;
+
+    private final SqlQueryEvent event;
+
+    private int rows = -1;
+
+    private QueryTrace() {
+        this.span = ServerTiming.start(ServerTiming.SQL);
+        this.event = new SqlQueryEvent();
+        event.begin();
+    }
+
+    /**
+     * Starts tracing a query.
+     *
+     * @return {@link QueryTrace} to close once the query is done.
+     */
+    static QueryTrace start() {
+        return new QueryTrace();
+    }
+
+    /**
+     * Notes the fragment about to be run on this thread.
+     *
+     * @param name The name of the fragment.
+     */
+    static void fragment(String name) {
+        if(SqlStatementCounter.current() != null || EVENT_TYPE.isEnabled()) {
+            FRAGMENT.set(name);
+        }
+    }
+
+    <T> List<T> rows(List<T> result) {
+        rows = result.size();
+        return result;
+    }
+
+    <T> Optional<T> rows(Optional<T> result) {
+        rows = result.isPresent() ? 1 : 0;
+        return result;
+    }
+
+    <T> T row(T result) {
+        rows = 1;
+        return result;
+    }
+
+    int updated(int count) {
+        rows = count;
+        return count;
+    }
+
+    @Override
+    public void close() {
+        span.close();
+        String fragment = FRAGMENT.get();
+        if(fragment != null) {
+            FRAGMENT.remove();
+        }
+        SqlStatementCounter.record(fragment, rows);
+        event.finish(fragment, rows);
+    }
+}
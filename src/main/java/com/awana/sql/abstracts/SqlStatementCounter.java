@@ -0,0 +1,119 @@
+package com.awana.sql.abstracts;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts the statements run by the {@link AbstractSqlDao} on the current
+ * thread, and the rows they returned or updated. Nothing is counted unless a
+ * counter has been bound with {@link #begin}, which the gateway does per
+ * request when the statement header is on, and tests do to pin the query
+ * budget of a call. Each statement is also counted against the fragment it
+ * ran, so a fragment run over and over in one request, the usual sign of an
+ * N+1 query, shows up in {@link #getRepeatedFragments}.
+ *
+ * <pre>
+ * SqlStatementCounter counter = SqlStatementCounter.begin();
+ * try {
+ *     ...
+ * }
+ * finally {
+ *     SqlStatementCounter.end();
+ * }
+ * </pre>
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public final class SqlStatementCounter {
+    private static final ThreadLocal<SqlStatementCounter> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+
+    private long rows;
+
+    private final Map<String, Integer> fragments = new LinkedHashMap<>();
+
+    private SqlStatementCounter() {}
+
+    /**
+     * Binds a new counter to the current thread.
+     *
+     * @return {@link SqlStatementCounter} that was bound.
+     */
+    public static SqlStatementCounter begin() {
+        SqlStatementCounter counter = new SqlStatementCounter();
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    /**
+     * Removes the counter bound to the current thread.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Gets the counter bound to the current thread.
+     *
+     * @return {@link SqlStatementCounter} of the thread, or null if nothing is
+     *         being counted.
+     */
+    public static SqlStatementCounter current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Counts a statement against the counter of the current thread, if there is
+     * one.
+     *
+     * @param fragment The fragment that was run, or null if it is not known.
+     * @param rows     Rows returned or updated, negative if the statement failed.
+     */
+    static void record(String fragment, int rows) {
+        SqlStatementCounter counter = CURRENT.get();
+        if(counter != null) {
+            counter.statements++;
+            counter.rows += Math.max(rows, 0);
+            if(fragment != null) {
+                counter.fragments.merge(fragment, 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of statements run.
+     *
+     * @return int of the statement count.
+     */
+    public int getStatements() {
+        return statements;
+    }
+
+    /**
+     * Gets the total rows returned or updated by the statements.
+     *
+     * @return long of the row count.
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the fragments that were run more than once, in the order they were
+     * first run.
+     *
+     * @return {@link Map} of the fragment name to the times it was run.
+     */
+    public Map<String, Integer> getRepeatedFragments() {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        fragments.forEach((fragment, count) -> {
+            if(count > 1) {
+                repeated.put(fragment, count);
+            }
+        });
+        return Collections.unmodifiableMap(repeated);
+    }
+}
@@ -0,0 +1,20 @@
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+-- Script: V1.1.2.3__Add_User_Profile_Row_Version.sql
+-- Author: Sam Butler
+-- Date: October 19, 2026
+-- Issue: user-031: Version based ETags for the user endpoints
+-- Version: v1.1.2
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+
+-- ---------------------------------------------------------------------------------
+-- user-031: START
+-- ---------------------------------------------------------------------------------
+
+ALTER TABLE user_profile ADD COLUMN row_version BIGINT UNSIGNED NOT NULL DEFAULT 1;
+
+-- ---------------------------------------------------------------------------------
+-- user-031: END
+-- ---------------------------------------------------------------------------------
+
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+-- END OF SCRIPT VERSION
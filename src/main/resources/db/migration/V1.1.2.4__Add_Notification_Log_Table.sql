@@ -0,0 +1,28 @@
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+-- Script: V1.1.2.4__Add_Notification_Log_Table.sql
+-- Author: Sam Butler
+-- Date: October 19, 2026
+-- Issue: user-038: Sequenced notification log with resume on reconnect
+-- Version: v1.1.2
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+
+-- ---------------------------------------------------------------------------------
+-- user-038: START
+-- ---------------------------------------------------------------------------------
+
+CREATE TABLE notification_log (
+  destination                  VARCHAR(128)        NOT NULL,
+  sequence                     BIGINT     UNSIGNED NOT NULL,
+  user_id                      INT        UNSIGNED DEFAULT NULL,
+  web_role                     VARCHAR(32)         DEFAULT NULL,
+  payload                      BLOB                NOT NULL,
+  insert_date_utc              DATETIME            NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (destination, sequence)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- ---------------------------------------------------------------------------------
+-- user-038: END
+-- ---------------------------------------------------------------------------------
+
+-- %%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%%
+-- END OF SCRIPT VERSION
@@ -2,13 +2,14 @@ package com.awana.app.authentication.dao;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.bcrypt.BCrypt;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.jdbc.Sql;
 
-import com.awana.common.exception.NotFoundException;
 import com.awana.test.factory.annotations.AwanaDaoTest;
 import com.awana.utility.AwanaDAOTestConfig;
 
@@ -28,15 +29,14 @@ public class AuthenticationDAOTest {
 
     @Test
     public void testGetUserAuthPasswordValidEmail() throws Exception {
-        String hashedPass = dao.getUserAuthPassword("test@mail.com");
+        Optional<String> hashedPass = dao.getUserAuthPassword("test@mail.com");
 
-        assertNotNull(hashedPass, "Hashed Password not null");
-        assertTrue(BCrypt.checkpw("testPassword", hashedPass), "Passwords should match");
+        assertTrue(hashedPass.isPresent(), "Hashed Password should be found");
+        assertTrue(BCrypt.checkpw("testPassword", hashedPass.get()), "Passwords should match");
     }
 
     @Test
     public void testGetUserAuthPasswordEmailNotFound() {
-        NotFoundException e = assertThrows(NotFoundException.class, () -> dao.getUserAuthPassword("notFound@mail.com"));
-        assertEquals("User Email not found for id: 'notFound@mail.com'", e.getMessage(), "Message should match");
+        assertTrue(dao.getUserAuthPassword("notFound@mail.com").isEmpty(), "Password should not be found");
     }
 }
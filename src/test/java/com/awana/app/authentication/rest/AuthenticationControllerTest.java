@@ -3,6 +3,8 @@ package com.awana.app.authentication.rest;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpStatus;
@@ -31,7 +33,7 @@ public class AuthenticationControllerTest extends BaseControllerTest {
 
     @Test
     public void testAuthenticate() throws Exception {
-        when(service.authenticate(any(AuthenticationRequest.class))).thenReturn(new AuthToken());
+        when(service.authenticate(any(AuthenticationRequest.class))).thenReturn(Optional.of(new AuthToken()));
         AuthenticationRequest request = new AuthenticationRequest("test@mail.com", "testPassword");
         check(post("/api/authenticate", request, AuthToken.class), serializedNonNull());
     }
@@ -39,10 +41,18 @@ public class AuthenticationControllerTest extends BaseControllerTest {
     @Test
     @ControllerJwt
     public void testReAuthenticate() throws Exception {
-        when(service.reauthenticate()).thenReturn(new AuthToken());
+        when(service.reauthenticate()).thenReturn(Optional.of(new AuthToken()));
         check(post("/api/reauthenticate", AuthToken.class), serializedNonNull());
     }
 
+    @Test
+    public void testAuthenticateInvalidCredentials() throws Exception {
+        when(service.authenticate(any(AuthenticationRequest.class))).thenReturn(Optional.empty());
+        AuthenticationRequest request = new AuthenticationRequest("test@mail.com", "wrongPassword");
+        check(post("/api/authenticate", request),
+              error(HttpStatus.UNAUTHORIZED, "Invalid Credentials for user email: 'test@mail.com'"));
+    }
+
     @Test
     public void testReAuthenticateNoToken() {
         check(post("/api/reauthenticate"), error(HttpStatus.UNAUTHORIZED, "Missing JWT Token."));
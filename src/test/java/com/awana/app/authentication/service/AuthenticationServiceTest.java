@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -16,8 +17,6 @@ import com.awana.app.authentication.dao.AuthenticationDAO;
 import com.awana.app.user.client.UserProfileClient;
 import com.awana.app.user.client.domain.User;
 import com.awana.app.user.client.domain.request.UserGetRequest;
-import com.awana.common.exception.InvalidCredentialsException;
-import com.awana.common.exception.NotFoundException;
 import com.awana.common.jwt.utility.JwtHolder;
 import com.awana.common.jwt.utility.JwtTokenUtil;
 import com.awana.test.factory.annotations.AwanaServiceTest;
@@ -56,15 +55,15 @@ public class AuthenticationServiceTest {
         authRequest.setPassword("testPassword");
 
         when(authenticationDAO.getUserAuthPassword(anyString()))
-                .thenReturn("$2a$10$KusdNWjdceySzNAG3EH8a.5HuIOMWH4hl4Ke64Daqaeqivy1y0Rd.");
+                .thenReturn(Optional.of("$2a$10$KusdNWjdceySzNAG3EH8a.5HuIOMWH4hl4Ke64Daqaeqivy1y0Rd."));
         when(userProfileClient.getUsers(any(UserGetRequest.class))).thenReturn(Arrays.asList(userLoggingIn));
 
-        AuthToken authToken = service.authenticate(authRequest);
+        Optional<AuthToken> authToken = service.authenticate(authRequest);
 
         verify(authenticationDAO).getUserAuthPassword(anyString());
         verify(userProfileClient).getUsers(any(UserGetRequest.class));
         verify(jwtTokenUtil).generateToken(userLoggingIn);
-        assertNotNull(authToken, "Auth Token is valid");
+        assertTrue(authToken.isPresent(), "Auth Token is valid");
     }
 
     @Test
@@ -77,31 +76,42 @@ public class AuthenticationServiceTest {
         authRequest.setPassword("WrongPassword!");
 
         when(authenticationDAO.getUserAuthPassword(anyString()))
-                .thenReturn("$2a$10$KusdNWjdceySzNAG3EH8a.5HuIOMWH4hl4Ke64Daqaeqivy1y0Rd.");
+                .thenReturn(Optional.of("$2a$10$KusdNWjdceySzNAG3EH8a.5HuIOMWH4hl4Ke64Daqaeqivy1y0Rd."));
 
-        InvalidCredentialsException e = assertThrows(InvalidCredentialsException.class,
-                                                     () -> service.authenticate(authRequest));
-
-        assertEquals("Invalid Credentials for user email: 'fake@mail.com'", e.getMessage(), "Exception Message");
+        assertTrue(service.authenticate(authRequest).isEmpty(), "No token for invalid credentials");
         verify(authenticationDAO).getUserAuthPassword(anyString());
         verify(userProfileClient, never()).getUsers(any(UserGetRequest.class));
         verify(jwtTokenUtil, never()).generateToken(userLoggingIn);
     }
 
+    @Test
+    public void testAuthenticateUserEmailNotFound() throws Exception {
+        AuthenticationRequest authRequest = new AuthenticationRequest();
+        authRequest.setEmail("notFound@mail.com");
+        authRequest.setPassword("testPassword");
+
+        when(authenticationDAO.getUserAuthPassword(anyString())).thenReturn(Optional.empty());
+
+        assertTrue(service.authenticate(authRequest).isEmpty(), "No token for unknown email");
+        verify(authenticationDAO).getUserAuthPassword(anyString());
+        verify(userProfileClient, never()).getUsers(any(UserGetRequest.class));
+        verify(jwtTokenUtil, never()).generateToken(any());
+    }
+
     @Test
     public void testReAuthenticateUser() throws Exception {
         User userLoggingIn = new User();
         userLoggingIn.setId(1);
 
-        when(userProfileClient.getUserById(anyInt())).thenReturn(userLoggingIn);
+        when(userProfileClient.getUserById(anyInt())).thenReturn(Optional.of(userLoggingIn));
         when(jwtHolder.getUserId()).thenReturn(1);
 
-        AuthToken authToken = service.reauthenticate();
+        Optional<AuthToken> authToken = service.reauthenticate();
 
         verify(authenticationDAO, never()).getUserAuthPassword(any());
         verify(userProfileClient).getUserById(anyInt());
         verify(jwtTokenUtil).generateToken(userLoggingIn);
-        assertNotNull(authToken, "Auth Token is valid");
+        assertTrue(authToken.isPresent(), "Auth Token is valid");
     }
 
     @Test
@@ -109,10 +119,10 @@ public class AuthenticationServiceTest {
         User userLoggingIn = new User();
         userLoggingIn.setId(1);
 
-        when(userProfileClient.getUserById(anyInt())).thenThrow(NotFoundException.class);
+        when(userProfileClient.getUserById(anyInt())).thenReturn(Optional.empty());
         when(jwtHolder.getUserId()).thenReturn(1);
 
-        assertThrows(NotFoundException.class, () -> service.reauthenticate());
+        assertTrue(service.reauthenticate().isEmpty(), "No token for missing user");
         verify(authenticationDAO, never()).getUserAuthPassword(any());
         verify(jwtTokenUtil, never()).generateToken(userLoggingIn);
         verify(userProfileClient).getUserById(anyInt());
@@ -0,0 +1,311 @@
+package com.awana.app.subscription.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import com.awana.app.subscription.client.domain.NotificationSocket;
+import com.awana.app.subscription.notification.UserNotification;
+import com.awana.app.user.client.domain.User;
+import com.awana.app.user.client.domain.WebRole;
+import com.awana.common.jwt.utility.JwtTokenUtil;
+import com.awana.common.metrics.LatencyHistogram;
+import com.awana.common.metrics.MetricsRegistry;
+import com.awana.common.metrics.domain.HistogramSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Load test for the subscription socket. It opens in-process STOMP sessions
+ * against the app on a random port, each authenticated with a generated token
+ * for one of the load users, and subscribes every session to the general topic
+ * and its user queue. The sends start once the broker holds every
+ * subscription. Topic, role and per-user notifications are then sent
+ * through the {@link SubscriptionNotifierClient}.
+ *
+ * The report has the connect rate, the latency from the send to each delivery,
+ * the heap used per session and the deliveries that never arrived. The heap
+ * includes the client side of the sessions since both run in this JVM. Run
+ * with {@code ./gradlew loadTest}, tuning with {@code -Dload.sessions},
+ * {@code -Dload.users} and {@code -Dload.sends}.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Tag("load")
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT,
+                properties = {"security.signing-key=load-test-signing-key", "spring.datasource.url=jdbc:mysql://localhost/load",
+                              "spring.datasource.username=load", "spring.datasource.password=load"})
+public class SubscriptionLoadTest {
+    private static final int SESSIONS = Integer.getInteger("load.sessions", 1000);
+
+    private static final int USERS = Integer.getInteger("load.users", Math.max(1, SESSIONS / 4));
+
+    private static final int SENDS = Integer.getInteger("load.sends", 20);
+
+    private static final int CONNECT_CONCURRENCY = Integer.getInteger("load.connect-concurrency", 200);
+
+    private static final long DELIVERY_TIMEOUT_SECONDS = 60;
+
+    private static final WebRole[] ROLES = {WebRole.USER, WebRole.USER, WebRole.USER, WebRole.ADMIN};
+
+    @MockBean
+    private DataSource dataSource;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtTokenUtil jwtTokenUtil;
+
+    @Autowired
+    private SubscriptionNotifierClient notifierClient;
+
+    @Autowired
+    private MetricsRegistry metrics;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, Long> sent = new ConcurrentHashMap<>();
+
+    private final Map<Kind, LatencyHistogram> latency = new EnumMap<>(Kind.class);
+
+    private final LongAdder received = new LongAdder();
+
+    private final AtomicReference<Exception> deliveryError = new AtomicReference<>();
+
+    private final List<LoadSession> sessions = Collections.synchronizedList(new ArrayList<>());
+
+    private WebSocketStompClient stompClient;
+
+    @AfterEach
+    public void teardown() {
+        sessions.forEach(s -> s.session.disconnect());
+        if(stompClient != null) {
+            stompClient.stop();
+        }
+    }
+
+    @Test
+    public void testSubscriptionLoad() throws Exception {
+        for(Kind kind : Kind.values()) {
+            latency.put(kind, new LatencyHistogram());
+        }
+        List<User> users = users();
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+
+        long heapBefore = usedHeap();
+        long connectStart = System.nanoTime();
+        connect(users);
+        double connectSeconds = (System.nanoTime() - connectStart) / 1e9;
+        long heapPerSession = (usedHeap() - heapBefore) / SESSIONS;
+
+        long expected = 0;
+        for(int i = 0; i < SENDS; i++) {
+            expected += send(Kind.TOPIC, i, null, null);
+            WebRole role = ROLES[i % ROLES.length];
+            expected += send(Kind.ROLE, i, null, role);
+            expected += send(Kind.USER, i, users.get(i % users.size()), null);
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DELIVERY_TIMEOUT_SECONDS);
+        while(received.sum() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        Thread.sleep(500);
+
+        StringBuilder report = new StringBuilder(String.format("%nSubscription load test (%d sessions, %d users, %d sends of each kind)%n",
+                                                               SESSIONS, USERS, SENDS));
+        report.append(String.format("%-20s %8.1f sessions/s%n", "Connect rate", SESSIONS / connectSeconds));
+        report.append(String.format("%-20s %8d bytes%n", "Heap per session", heapPerSession));
+        latency.forEach((kind, histogram) -> {
+            HistogramSnapshot snapshot = histogram.snapshot();
+            report.append(String.format("%-20s %8d deliveries  p50 %6dus  p90 %6dus  p99 %6dus  max %6dus%n",
+                                        "Fan-out " + kind.name().toLowerCase(), snapshot.getCount(),
+                                        snapshot.getP50Micros(), snapshot.getP90Micros(), snapshot.getP99Micros(),
+                                        snapshot.getMaxMicros()));
+        });
+        report.append(String.format("%-20s %8d of %d%n", "Delivery loss", expected - received.sum(), expected));
+        System.out.println(report);
+
+        assertNull(deliveryError.get(), "Could not read delivered notification");
+        assertEquals(expected, received.sum(), "Every notification should be delivered");
+    }
+
+    /**
+     * Connects a session for each load session, spreading them over the users,
+     * and waits until every session is subscribed.
+     */
+    private void connect(List<User> users) throws InterruptedException {
+        Map<Integer, String> tokens = new ConcurrentHashMap<>();
+        CountDownLatch connected = new CountDownLatch(SESSIONS);
+        Semaphore inFlight = new Semaphore(CONNECT_CONCURRENCY);
+        AtomicLong failures = new AtomicLong();
+
+        for(int i = 0; i < SESSIONS; i++) {
+            User user = users.get(i % users.size());
+            String token = tokens.computeIfAbsent(user.getId(), id -> jwtTokenUtil.generateToken(user));
+            URI uri = URI.create(String.format("ws://localhost:%d/subscription/socket?%s", port, token));
+
+            inFlight.acquire();
+            stompClient.connect(uri, new WebSocketHttpHeaders(), new StompHeaders(), new StompSessionHandlerAdapter() {
+                @Override
+                public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+                    LoadSession loadSession = new LoadSession(session, user);
+                    sessions.add(loadSession);
+                    session.subscribe(NotificationSocket.TOPIC_GENERAL_NOTIFICATION, loadSession);
+                    session.subscribe(NotificationSocket.QUEUE_USER_NOTIFICATION + "-"
+                            + connectedHeaders.getFirst("user-name"), loadSession);
+                    connected.countDown();
+                    inFlight.release();
+                }
+
+                @Override
+                public void handleTransportError(StompSession session, Throwable exception) {
+                    if(!session.isConnected()) {
+                        failures.incrementAndGet();
+                        connected.countDown();
+                        inFlight.release();
+                    }
+                }
+
+                @Override
+                public void handleException(StompSession session, StompCommand command, StompHeaders headers,
+                        byte[] payload, Throwable exception) {
+                    failures.incrementAndGet();
+                }
+            });
+        }
+        assertTrue(connected.await(DELIVERY_TIMEOUT_SECONDS, TimeUnit.SECONDS), "Sessions should connect");
+        assertEquals(0, failures.get(), "Connect failures");
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DELIVERY_TIMEOUT_SECONDS);
+        while(subscriptions() < SESSIONS * 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(SESSIONS * 2, subscriptions(), "Every session should be subscribed");
+    }
+
+    /**
+     * Sends a notification and returns how many deliveries it should make.
+     */
+    private long send(Kind kind, int index, User user, WebRole role) {
+        UserNotification body = new UserNotification();
+        body.setName(kind + "-" + index);
+        sent.put(body.getName(), System.nanoTime());
+
+        switch(kind) {
+            case TOPIC:
+                notifierClient.send(body);
+                return SESSIONS;
+            case ROLE:
+                notifierClient.sendToUser(body, role);
+                return sessions.stream().filter(s -> s.user.getWebRole() == role).count();
+            default:
+                notifierClient.sendToUser(body, user.getId());
+                return sessions.stream().filter(s -> s.user.getId() == user.getId()).count();
+        }
+    }
+
+    private int subscriptions() {
+        return metrics.snapshot().getGauges().get("subscription.registry.subscriptions").intValue();
+    }
+
+    private void delivered(byte[] payload) {
+        long now = System.nanoTime();
+        try {
+            String name = objectMapper.readTree(payload).path("name").asText();
+            Long start = sent.get(name);
+            if(start != null) {
+                latency.get(Kind.valueOf(name.substring(0, name.indexOf('-')))).record(now - start);
+                received.increment();
+            }
+        }
+        catch(Exception e) {
+            deliveryError.compareAndSet(null, e);
+        }
+    }
+
+    private List<User> users() {
+        List<User> users = new ArrayList<>();
+        for(int i = 1; i <= USERS; i++) {
+            User user = new User();
+            user.setId(i);
+            user.setFirstName("Load");
+            user.setLastName("User " + i);
+            user.setEmail("load" + i + "@test.com");
+            user.setWebRole(ROLES[i % ROLES.length]);
+            users.add(user);
+        }
+        return users;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for(int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private enum Kind {
+        TOPIC, ROLE, USER
+    }
+
+    /**
+     * Client session of a load user.
+     */
+    private class LoadSession implements StompFrameHandler {
+        private final StompSession session;
+
+        private final User user;
+
+        private LoadSession(StompSession session, User user) {
+            this.session = session;
+            this.user = user;
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return byte[].class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            delivered((byte[]) payload);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.awana.app.subscription.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import com.awana.app.subscription.client.domain.Notification;
+import com.awana.app.subscription.notification.UserNotification;
+import com.awana.app.subscription.service.NotificationDispatcher;
+import com.awana.app.subscription.service.SubscriptionNotifierService;
+import com.awana.test.factory.annotations.AwanaServiceTest;
+
+/**
+ * Test class for the Subscription Notifier Client.
+ * 
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaServiceTest
+public class SubscriptionNotifierClientTest {
+
+    @Mock
+    private SubscriptionNotifierService service;
+
+    @Mock
+    private NotificationDispatcher dispatcher;
+
+    @InjectMocks
+    private SubscriptionNotifierClient client;
+
+    @Captor
+    private ArgumentCaptor<Runnable> deliveryCaptor;
+
+    @Captor
+    private ArgumentCaptor<Notification> notificationCaptor;
+
+    @Test
+    public void testChangesAfterSendAreNotDelivered() {
+        UserNotification userSub = new UserNotification();
+        userSub.setName("Test User");
+
+        client.sendToUser(userSub, 5);
+        userSub.setName("Changed");
+        verify(dispatcher).dispatch(eq("/queue/user/notification"), deliveryCaptor.capture());
+        deliveryCaptor.getValue().run();
+
+        verify(service).sendToUser(notificationCaptor.capture(), eq(5));
+        assertNotSame(userSub, notificationCaptor.getValue(), "A copy should be delivered");
+        assertEquals("Test User", ((UserNotification) notificationCaptor.getValue()).getName(), "User Name");
+    }
+}
@@ -0,0 +1,186 @@
+package com.awana.app.subscription.cluster;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.security.Principal;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import com.awana.app.subscription.client.domain.NotificationSocket;
+import com.awana.app.subscription.client.domain.UserPrincipal;
+import com.awana.app.subscription.notification.UserNotification;
+import com.awana.app.subscription.service.NotificationEncoder;
+import com.awana.app.subscription.service.WebNotifierService;
+import com.awana.app.subscription.stomp.SubscriptionSessionIndex;
+import com.awana.app.user.client.domain.User;
+import com.awana.app.user.client.domain.WebRole;
+import com.awana.common.metrics.MetricsRegistry;
+import com.awana.configs.ObjectMapperConfiguration;
+import com.awana.test.factory.annotations.AwanaTest;
+
+/**
+ * Test class for the Cluster Notifier. Runs a cluster of nodes in process over
+ * the loopback transport.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaTest
+public class ClusterNotifierTest {
+
+    private LoopbackClusterTransport.Hub hub;
+
+    private Node node1;
+
+    private Node node2;
+
+    @BeforeEach
+    public void setup() {
+        hub = new LoopbackClusterTransport.Hub();
+        node1 = new Node("node-1", hub);
+        node2 = new Node("node-2", hub);
+    }
+
+    @Test
+    public void testSessionsAreVisibleOnEveryNode() {
+        node1.connect("session-1", "tab-1", 12, WebRole.ADMIN);
+        node2.connect("session-2", "tab-2", 12, WebRole.ADMIN);
+
+        assertEquals(2, node1.index.getSessionsByUserId(12).size(), "Node 1 sees both sessions");
+        assertEquals(2, node2.index.getSessionsByUserId(12).size(), "Node 2 sees both sessions");
+        assertEquals(1, node1.index.getLocalSessions().size(), "Node 1 local sessions");
+
+        node2.disconnect("session-2", "tab-2", 12, WebRole.ADMIN);
+        assertEquals(Arrays.asList("tab-1"), node1.index.getSessionsByUserId(12), "Node 1 after disconnect");
+        assertEquals(Arrays.asList("tab-1"), node2.index.getSessionsByUserId(12), "Node 2 after disconnect");
+    }
+
+    @Test
+    public void testTargetedSendOnlyReachesOwningNode() {
+        node1.connect("session-1", "tab-1", 12, WebRole.ADMIN);
+        node2.connect("session-2", "tab-2", 12, WebRole.ADMIN);
+
+        node1.service.send(notification(), node1.index.getSessionsByUserId(12));
+
+        verify(node1.template).send(eq("/queue/user/notification-tab-1"), any(Message.class));
+        verify(node2.template).send(eq("/queue/user/notification-tab-2"), any(Message.class));
+        verify(node1.template, never()).send(eq("/queue/user/notification-tab-2"), any(Message.class));
+        verify(node2.template, never()).send(eq("/queue/user/notification-tab-1"), any(Message.class));
+    }
+
+    @Test
+    public void testTopicReachesEveryNode() {
+        UserNotification body = notification();
+        body.setDestination(NotificationSocket.TOPIC_GENERAL_NOTIFICATION);
+
+        node2.service.send(body);
+
+        verify(node1.template).send(eq(NotificationSocket.TOPIC_GENERAL_NOTIFICATION), any(Message.class));
+        verify(node2.template).send(eq(NotificationSocket.TOPIC_GENERAL_NOTIFICATION), any(Message.class));
+    }
+
+    @Test
+    public void testStoppedNodeSessionsAreRemoved() {
+        node1.connect("session-1", "tab-1", 12, WebRole.ADMIN);
+        node2.connect("session-2", "tab-2", 5, WebRole.USER);
+
+        node2.notifier.stop();
+
+        assertTrue(node1.index.getSessionsByUserId(5).isEmpty(), "Stopped node sessions removed");
+        assertEquals(1, node1.index.size(), "Local session kept");
+    }
+
+    @Test
+    public void testJoiningNodeLearnsExistingSessions() {
+        node1.connect("session-1", "tab-1", 12, WebRole.ADMIN);
+        node2.connect("session-2", "tab-2", 5, WebRole.USER);
+
+        Node node3 = new Node("node-3", hub);
+
+        assertEquals(Arrays.asList("tab-1"), node3.index.getSessionsByUserId(12), "Node 1 session");
+        assertEquals(Arrays.asList("tab-2"), node3.index.getSessionsByWebRole(WebRole.USER), "Node 2 session");
+        assertTrue(node3.index.getLocalSessions().isEmpty(), "No local sessions");
+    }
+
+    private UserNotification notification() {
+        UserNotification body = new UserNotification();
+        body.setUserId(12);
+        body.setDestination(NotificationSocket.QUEUE_USER_NOTIFICATION);
+        return body;
+    }
+
+    /**
+     * Notifier stack of a single node.
+     */
+    private static class Node {
+        private final SimpMessagingTemplate template = mock(SimpMessagingTemplate.class);
+
+        private final SubscriptionSessionIndex index;
+
+        private final WebNotifierService service;
+
+        private final ClusterNotifier notifier;
+
+        private Node(String nodeId, LoopbackClusterTransport.Hub hub) {
+            ClusterTransport transport = new LoopbackClusterTransport(nodeId, hub);
+            index = new SubscriptionSessionIndex(new MetricsRegistry(), transport);
+
+            service = new WebNotifierService();
+            ReflectionTestUtils.setField(service, "template", template);
+            ReflectionTestUtils.setField(service, "encoder",
+                                         new NotificationEncoder(new ObjectMapperConfiguration().objectMapper()));
+            ReflectionTestUtils.setField(service, "executor", (Executor) Runnable::run);
+            ReflectionTestUtils.setField(service, "sessionIndex", index);
+            ReflectionTestUtils.setField(service, "transport", transport);
+
+            notifier = new ClusterNotifier();
+            ReflectionTestUtils.setField(notifier, "transport", transport);
+            ReflectionTestUtils.setField(notifier, "webNotifierService", service);
+            ReflectionTestUtils.setField(notifier, "sessionIndex", index);
+            notifier.start();
+        }
+
+        private void connect(String sessionId, String name, int userId, WebRole role) {
+            SessionConnectedEvent event = new SessionConnectedEvent(this, message(StompCommand.CONNECTED, sessionId),
+                                                                    principal(name, userId, role));
+            index.onConnected(event);
+            notifier.onConnected(event);
+        }
+
+        private void disconnect(String sessionId, String name, int userId, WebRole role) {
+            SessionDisconnectEvent event = new SessionDisconnectEvent(this,
+                                                                      message(StompCommand.DISCONNECT, sessionId),
+                                                                      sessionId, CloseStatus.NORMAL,
+                                                                      principal(name, userId, role));
+            index.onDisconnect(event);
+            notifier.onDisconnect(event);
+        }
+
+        private static Principal principal(String name, int userId, WebRole role) {
+            User user = new User();
+            user.setId(userId);
+            user.setWebRole(role);
+            return new UserPrincipal(name, user);
+        }
+
+        private static Message<byte[]> message(StompCommand command, String sessionId) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+            accessor.setSessionId(sessionId);
+            return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        }
+    }
+}
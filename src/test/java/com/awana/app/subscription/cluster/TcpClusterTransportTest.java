@@ -0,0 +1,294 @@
+package com.awana.app.subscription.cluster;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.awana.app.subscription.cluster.ClusterAuthenticator.Handshake;
+import com.awana.app.subscription.cluster.ClusterAuthenticator.Role;
+import com.awana.test.factory.annotations.AwanaTest;
+
+/**
+ * Test class for the Tcp Cluster Transport.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaTest
+public class TcpClusterTransportTest {
+
+    private static final String SECRET = "cluster-test-secret";
+
+    private static final Set<String> TRUSTED = new HashSet<>(Arrays.asList("node-a", "node-b"));
+
+    private TcpClusterTransport nodeA;
+
+    private TcpClusterTransport nodeB;
+
+    @AfterEach
+    public void teardown() {
+        if(nodeB != null) {
+            nodeB.stop();
+        }
+        if(nodeA != null) {
+            nodeA.stop();
+        }
+    }
+
+    @Test
+    public void testMessageRoundTrip() throws IOException {
+        ClusterMessage message = ClusterMessage.sessions("node-a", "/queue/user/notification",
+                                                         Arrays.asList("tab-1", "tab-2"), "{}".getBytes());
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        message.writeTo(new DataOutputStream(buffer));
+        ClusterMessage read = ClusterMessage
+                .readFrom(new DataInputStream(new ByteArrayInputStream(buffer.toByteArray())));
+
+        assertEquals(ClusterMessage.Type.SESSIONS, read.getType(), "Type");
+        assertEquals("node-a", read.getOrigin(), "Origin");
+        assertEquals("/queue/user/notification", read.getDestination(), "Destination");
+        assertEquals(Arrays.asList("tab-1", "tab-2"), read.getSessions(), "Sessions");
+        assertArrayEquals("{}".getBytes(), read.getPayload(), "Payload");
+    }
+
+    @Test
+    public void testPeerConnectsAndPublishes() throws InterruptedException {
+        RecordingListener listenerA = new RecordingListener();
+        RecordingListener listenerB = new RecordingListener();
+
+        nodeA = node("node-a", Collections.emptyList(), SECRET);
+        nodeA.start(listenerA);
+        nodeB = node("node-b", peer(nodeA.getPort()), SECRET);
+        nodeB.start(listenerB);
+
+        assertEquals("node-a", listenerB.peersUp.poll(5, TimeUnit.SECONDS), "Node B connected to node A");
+
+        nodeB.publish(ClusterMessage.topic("node-b", "/topic/general/notification", "{}".getBytes()));
+        ClusterMessage received = listenerA.messages.poll(5, TimeUnit.SECONDS);
+        assertNotNull(received, "Node A received the topic");
+        assertEquals(ClusterMessage.Type.TOPIC, received.getType(), "Type");
+        assertEquals("node-b", received.getOrigin(), "Origin");
+        assertEquals("/topic/general/notification", received.getDestination(), "Destination");
+    }
+
+    @Test
+    public void testStoppedPeerIsReportedDown() throws InterruptedException {
+        RecordingListener listenerB = new RecordingListener();
+
+        nodeA = node("node-a", Collections.emptyList(), SECRET);
+        nodeA.start(new RecordingListener());
+        nodeB = node("node-b", peer(nodeA.getPort()), SECRET);
+        nodeB.start(listenerB);
+        assertEquals("node-a", listenerB.peersUp.poll(5, TimeUnit.SECONDS), "Node B connected to node A");
+
+        nodeA.stop();
+        nodeA = null;
+
+        assertEquals("node-a", listenerB.peersDown.poll(5, TimeUnit.SECONDS), "Node A reported down");
+    }
+
+    @Test
+    public void testPeerWithWrongSecretIsRejected() throws InterruptedException {
+        RecordingListener listenerA = new RecordingListener();
+        RecordingListener listenerB = new RecordingListener();
+
+        nodeA = node("node-a", Collections.emptyList(), SECRET);
+        nodeA.start(listenerA);
+        nodeB = node("node-b", peer(nodeA.getPort()), "wrong-secret");
+        nodeB.start(listenerB);
+        nodeB.publish(ClusterMessage.topic("node-b", "/topic/general/notification", "{}".getBytes()));
+
+        assertNull(listenerB.peersUp.poll(1, TimeUnit.SECONDS), "Node B not connected");
+        assertNull(listenerA.messages.poll(100, TimeUnit.MILLISECONDS), "Node A received nothing");
+    }
+
+    @Test
+    public void testUnknownNodeIsRejected() throws InterruptedException {
+        RecordingListener listenerB = new RecordingListener();
+
+        nodeA = node("node-a", Collections.emptyList(), SECRET);
+        nodeA.start(new RecordingListener());
+        nodeB = node("node-c", peer(nodeA.getPort()), SECRET);
+        nodeB.start(listenerB);
+
+        assertNull(listenerB.peersUp.poll(1, TimeUnit.SECONDS), "Unknown node not connected");
+    }
+
+    @Test
+    public void testFramesBeforeTheChallengeAreNotHandled() throws IOException, InterruptedException {
+        RecordingListener listenerA = new RecordingListener();
+        nodeA = node("node-a", Collections.emptyList(), SECRET);
+        nodeA.start(listenerA);
+
+        try(Socket socket = new Socket("localhost", nodeA.getPort())) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            writeFrame(out, ClusterMessage.hello("node-b", new byte[32]));
+            writeFrame(out, ClusterMessage.sessionUp("node-b", "tab-1", 5, "USER"));
+
+            assertNull(listenerA.messages.poll(1, TimeUnit.SECONDS), "Session was not planted");
+        }
+    }
+
+    @Test
+    public void testAnswerFromAnotherConnectionIsRejected() throws IOException, InterruptedException {
+        RecordingListener listenerA = new RecordingListener();
+        ClusterAuthenticator authenticator = new ClusterAuthenticator(SECRET, TRUSTED);
+        nodeA = node("node-a", Collections.emptyList(), SECRET);
+        nodeA.start(listenerA);
+
+        try(Socket first = new Socket("localhost", nodeA.getPort());
+                Socket second = new Socket("localhost", nodeA.getPort())) {
+            byte[] challenge = authenticator.challenge();
+            hello(first, "node-b", challenge);
+            ClusterMessage secondHello = hello(second, "node-b", challenge);
+            Handshake secondHandshake = new Handshake("node-b", "node-a", challenge, secondHello.getPayload());
+
+            DataOutputStream out = new DataOutputStream(first.getOutputStream());
+            writeFrame(out, ClusterMessage.auth("node-b", authenticator.answer(Role.INITIATOR, secondHandshake)));
+            writeFrame(out, ClusterMessage.sessionUp("node-b", "tab-1", 5, "USER"));
+
+            assertThrows(IOException.class, () -> readFrame(new DataInputStream(first.getInputStream())),
+                         "First connection closed");
+            assertNull(listenerA.messages.poll(500, TimeUnit.MILLISECONDS), "Session was not planted");
+        }
+    }
+
+    @Test
+    public void testNodeDoesNotAnswerBeforeThePeer() throws IOException {
+        ClusterAuthenticator authenticator = new ClusterAuthenticator(SECRET, TRUSTED);
+        nodeB = node("node-b", Collections.emptyList(), SECRET);
+        nodeB.start(new RecordingListener());
+
+        try(Socket socket = new Socket("localhost", nodeB.getPort())) {
+            hello(socket, "node-a", authenticator.challenge());
+            socket.setSoTimeout(500);
+
+            assertThrows(SocketTimeoutException.class, () -> readFrame(new DataInputStream(socket.getInputStream())),
+                         "No answer before the peer answered");
+        }
+    }
+
+    @Test
+    public void testHelloWithOwnNodeIdIsRejected() throws IOException {
+        nodeA = node("node-a", Collections.emptyList(), SECRET);
+        nodeA.start(new RecordingListener());
+
+        try(Socket socket = new Socket("localhost", nodeA.getPort())) {
+            writeFrame(new DataOutputStream(socket.getOutputStream()),
+                       ClusterMessage.hello("node-a", new ClusterAuthenticator(SECRET, TRUSTED).challenge()));
+
+            assertThrows(EOFException.class, () -> readFrame(new DataInputStream(socket.getInputStream())),
+                         "Connection closed without a hello");
+        }
+    }
+
+    @Test
+    public void testStalledPeerDoesNotBlockTheCaller() throws IOException, InterruptedException {
+        RecordingListener listenerB = new RecordingListener();
+        ClusterAuthenticator authenticator = new ClusterAuthenticator(SECRET, TRUSTED);
+
+        try(ServerSocket stalled = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            nodeB = new TcpClusterTransport("node-b", new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                                            peer(stalled.getLocalPort()), 100, 4, authenticator);
+            nodeB.start(listenerB);
+
+            try(Socket socket = stalled.accept()) {
+                DataInputStream in = new DataInputStream(socket.getInputStream());
+                DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+                ClusterMessage hello = readFrame(in);
+                byte[] challenge = authenticator.challenge();
+                writeFrame(out, ClusterMessage.hello("node-a", challenge));
+                readFrame(in);
+                Handshake handshake = new Handshake("node-b", "node-a", hello.getPayload(), challenge);
+                writeFrame(out, ClusterMessage.auth("node-a", authenticator.answer(Role.RESPONDER, handshake)));
+                assertEquals("node-a", listenerB.peersUp.poll(5, TimeUnit.SECONDS), "Node B connected");
+
+                byte[] payload = new byte[1024 * 1024];
+                long start = System.nanoTime();
+                for(int i = 0; i < 200 && listenerB.peersDown.isEmpty(); i++) {
+                    nodeB.send("node-a", ClusterMessage.topic("node-b", "/topic/general/notification", payload));
+                }
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                assertEquals("node-a", listenerB.peersDown.poll(5, TimeUnit.SECONDS), "Stalled peer reported down");
+                assertTrue(elapsedMillis < 2000, "Sends did not block on the stalled peer, took " + elapsedMillis);
+            }
+        }
+    }
+
+    private static TcpClusterTransport node(String nodeId, List<InetSocketAddress> peers, String secret) {
+        return new TcpClusterTransport(nodeId, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), peers, 100,
+                                       100, new ClusterAuthenticator(secret, TRUSTED));
+    }
+
+    private static List<InetSocketAddress> peer(int port) {
+        return Arrays.asList(InetSocketAddress.createUnresolved("localhost", port));
+    }
+
+    private static ClusterMessage hello(Socket socket, String nodeId, byte[] challenge) throws IOException {
+        writeFrame(new DataOutputStream(socket.getOutputStream()), ClusterMessage.hello(nodeId, challenge));
+        return readFrame(new DataInputStream(socket.getInputStream()));
+    }
+
+    private static void writeFrame(DataOutputStream out, ClusterMessage message) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        message.writeTo(new DataOutputStream(buffer));
+        out.writeInt(buffer.size());
+        buffer.writeTo(out);
+        out.flush();
+    }
+
+    private static ClusterMessage readFrame(DataInputStream in) throws IOException {
+        byte[] frame = new byte[in.readInt()];
+        in.readFully(frame);
+        return ClusterMessage.readFrom(new DataInputStream(new ByteArrayInputStream(frame)));
+    }
+
+    /**
+     * Listener that records what the transport passes to it.
+     */
+    private static class RecordingListener implements ClusterListener {
+        private final BlockingQueue<ClusterMessage> messages = new LinkedBlockingQueue<>();
+
+        private final BlockingQueue<String> peersUp = new LinkedBlockingQueue<>();
+
+        private final BlockingQueue<String> peersDown = new LinkedBlockingQueue<>();
+
+        @Override
+        public void onMessage(ClusterMessage message) {
+            messages.add(message);
+        }
+
+        @Override
+        public void onPeerUp(String nodeId) {
+            peersUp.add(nodeId);
+        }
+
+        @Override
+        public void onPeerDown(String nodeId) {
+            peersDown.add(nodeId);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.awana.app.subscription.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.awana.common.metrics.MetricsRegistry;
+import com.awana.common.metrics.domain.MetricsSnapshot;
+import com.awana.test.factory.annotations.AwanaTest;
+
+/**
+ * Test class for the Notification Dispatcher.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaTest
+public class NotificationDispatcherTest {
+
+    private MetricsRegistry metrics;
+
+    private NotificationDispatcher dispatcher;
+
+    private List<String> delivered;
+
+    @BeforeEach
+    public void setup() {
+        metrics = new MetricsRegistry();
+        dispatcher = new NotificationDispatcher(metrics, 3, 10, 0, 50);
+        delivered = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    public void teardown() {
+        dispatcher.stop();
+    }
+
+    @Test
+    public void testDispatchRunsOffCallingThread() throws InterruptedException {
+        dispatcher.start();
+        CountDownLatch done = new CountDownLatch(1);
+        Thread caller = Thread.currentThread();
+
+        dispatcher.dispatch("/topic/a", () -> {
+            delivered.add(Thread.currentThread() == caller ? "caller" : Thread.currentThread().getName());
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS), "Delivered");
+        assertEquals(Arrays.asList("notification-dispatcher"), delivered, "Delivery thread");
+
+        dispatcher.stop();
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(1L, snapshot.getCounters().get("subscription.dispatch.delivered"), "Delivered count");
+        assertEquals(1, snapshot.getHistograms().get("subscription.dispatch.latency").getCount(), "Latency samples");
+    }
+
+    @Test
+    public void testBatchIsGroupedByDestination() throws InterruptedException {
+        dispatcher.start();
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        dispatcher.dispatch("/topic/first", () -> {
+            blocked.countDown();
+            await(release);
+        });
+        assertTrue(blocked.await(5, TimeUnit.SECONDS), "Dispatcher busy");
+
+        dispatcher.dispatch("/topic/a", () -> delivered.add("a1"));
+        dispatcher.dispatch("/topic/b", () -> delivered.add("b1"));
+        dispatcher.dispatch("/topic/a", () -> delivered.add("a2"));
+        release.countDown();
+        dispatcher.stop();
+
+        assertEquals(Arrays.asList("a1", "a2", "b1"), delivered, "Delivery order");
+        assertEquals(2L, metrics.snapshot().getCounters().get("subscription.dispatch.batches"), "Batch count");
+    }
+
+    @Test
+    public void testFullQueueDeliversOnCallingThread() throws InterruptedException {
+        dispatcher.start();
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        dispatcher.dispatch("/topic/first", () -> {
+            blocked.countDown();
+            await(release);
+        });
+        assertTrue(blocked.await(5, TimeUnit.SECONDS), "Dispatcher busy");
+
+        for(int i = 0; i < 3; i++) {
+            dispatcher.dispatch("/topic/a", () -> delivered.add("queued"));
+        }
+        assertEquals(3, metrics.snapshot().getGauges().get("subscription.dispatch.queued").intValue(), "Queue depth");
+
+        Thread caller = Thread.currentThread();
+        dispatcher.dispatch("/topic/a", () -> delivered.add(Thread.currentThread() == caller ? "caller" : "other"));
+        assertEquals(Arrays.asList("caller"), delivered, "Overflow delivered inline");
+        assertEquals(1L, metrics.snapshot().getCounters().get("subscription.dispatch.overflow"), "Overflow count");
+
+        release.countDown();
+        dispatcher.stop();
+        assertEquals(4, delivered.size(), "Queued deliveries made before stopping");
+    }
+
+    @Test
+    public void testFullQueueWaitsForRoomKeepingOrder() throws InterruptedException {
+        dispatcher = new NotificationDispatcher(metrics, 3, 10, 0, 5000);
+        dispatcher.start();
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        dispatcher.dispatch("/topic/first", () -> {
+            blocked.countDown();
+            await(release);
+        });
+        assertTrue(blocked.await(5, TimeUnit.SECONDS), "Dispatcher busy");
+        for(int i = 0; i < 3; i++) {
+            int index = i;
+            dispatcher.dispatch("/topic/a", () -> delivered.add("queued-" + index));
+        }
+
+        Thread releaser = new Thread(() -> {
+            sleep(100);
+            release.countDown();
+        });
+        releaser.start();
+        dispatcher.dispatch("/topic/a", () -> delivered.add("last"));
+        dispatcher.stop();
+        releaser.join();
+
+        assertEquals(Arrays.asList("queued-0", "queued-1", "queued-2", "last"), delivered, "Delivered in order");
+        assertEquals(0L, metrics.snapshot().getCounters().get("subscription.dispatch.overflow"), "Overflow count");
+    }
+
+    @Test
+    public void testFailedDeliveryDoesNotStopDispatcher() throws InterruptedException {
+        dispatcher.start();
+        CountDownLatch done = new CountDownLatch(1);
+
+        dispatcher.dispatch("/topic/a", () -> {
+            throw new IllegalStateException("Broker unavailable");
+        });
+        dispatcher.dispatch("/topic/a", done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS), "Later delivery made");
+        assertEquals(1L, metrics.snapshot().getCounters().get("subscription.dispatch.failed"), "Failed count");
+    }
+
+    @Test
+    public void testDispatchBeforeStartRunsInline() {
+        Thread caller = Thread.currentThread();
+        dispatcher.dispatch("/topic/a", () -> delivered.add(Thread.currentThread() == caller ? "caller" : "other"));
+
+        assertEquals(Arrays.asList("caller"), delivered, "Delivered inline");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.awana.app.subscription.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.awana.app.subscription.client.domain.Notification;
+import com.awana.app.subscription.client.domain.NotificationSocket;
+import com.awana.app.subscription.notification.SystemFailureNotification;
+import com.awana.app.subscription.notification.UserNotification;
+import com.awana.configs.ObjectMapperConfiguration;
+import com.awana.test.factory.annotations.AwanaTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Test class for the Notification Format.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaTest
+public class NotificationFormatTest {
+
+    private ObjectMapper objectMapper;
+
+    private NotificationEncoder encoder;
+
+    @BeforeEach
+    public void setup() {
+        objectMapper = new ObjectMapperConfiguration().objectMapper();
+        encoder = new NotificationEncoder(objectMapper);
+    }
+
+    @Test
+    public void testNegotiateUsesFirstSupportedType() {
+        assertEquals(NotificationFormat.CBOR, NotificationFormat.negotiate(Arrays.asList("application/cbor")), "CBOR");
+        assertEquals(NotificationFormat.SMILE,
+                     NotificationFormat.negotiate(Arrays.asList("text/plain, application/x-jackson-smile",
+                                                                "application/cbor")),
+                     "First supported");
+        assertEquals(NotificationFormat.JSON, NotificationFormat.negotiate(Arrays.asList("application/json")),
+                     "JSON");
+        assertEquals(NotificationFormat.JSON, NotificationFormat.negotiate(Arrays.asList("not a type")), "Invalid");
+        assertEquals(NotificationFormat.JSON, NotificationFormat.negotiate(null), "No accept header");
+    }
+
+    @Test
+    public void testTranscodedUserNotificationIsSmallerAndEquivalent() throws Exception {
+        UserNotification user = new UserNotification();
+        user.setUserId(12);
+        user.setName("Sam Butler");
+        assertTranscoded(prepare(user));
+    }
+
+    @Test
+    public void testTranscodedSystemFailureNotificationIsSmallerAndEquivalent() throws Exception {
+        SystemFailureNotification failure = new SystemFailureNotification();
+        failure.setMessage("Water pump stopped responding");
+        assertTranscoded(prepare(failure));
+    }
+
+    @Test
+    public void testJsonIsNotTranscoded() {
+        byte[] json = encoder.encode(prepare(new UserNotification())).getPayload();
+
+        assertSame(json, encoder.transcode(json, NotificationFormat.JSON), "Same payload");
+    }
+
+    private void assertTranscoded(Notification body) throws Exception {
+        byte[] json = encoder.encode(body).getPayload();
+        JsonNode expected = objectMapper.readTree(json);
+
+        for(NotificationFormat format : Arrays.asList(NotificationFormat.CBOR, NotificationFormat.SMILE)) {
+            byte[] payload = encoder.transcode(json, format);
+            assertTrue(payload.length < json.length, format + " smaller than JSON");
+            assertEquals(expected, new ObjectMapper(format.getFactory()).readTree(payload), format + " decodes");
+        }
+    }
+
+    private <T extends Notification> T prepare(T body) {
+        body.setDestination(NotificationSocket.QUEUE_USER_NOTIFICATION);
+        body.setCreated(LocalDateTime.of(2026, 10, 19, 12, 0));
+        body.setSequence(1792000000000000L);
+        return body;
+    }
+}
@@ -0,0 +1,194 @@
+package com.awana.app.subscription.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.awana.app.subscription.client.domain.NotificationSocket;
+import com.awana.app.subscription.dao.NotificationLogDAO;
+import com.awana.app.subscription.notification.UserNotification;
+import com.awana.app.user.client.domain.User;
+import com.awana.app.user.client.domain.WebRole;
+import com.awana.common.metrics.MetricsRegistry;
+import com.awana.configs.ObjectMapperConfiguration;
+import com.awana.test.factory.annotations.AwanaTest;
+
+/**
+ * Test class for the Notification Log.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaTest
+public class NotificationLogTest {
+    private static final String SOCKET = NotificationSocket.QUEUE_USER_NOTIFICATION;
+
+    private MetricsRegistry metrics;
+
+    private NotificationLogDAO notificationLogDAO;
+
+    private NotificationLog log;
+
+    private User user;
+
+    @BeforeEach
+    public void setup() {
+        metrics = new MetricsRegistry();
+        notificationLogDAO = mock(NotificationLogDAO.class);
+        log = create(3, 10, false);
+
+        user = new User();
+        user.setId(12);
+        user.setWebRole(WebRole.USER);
+    }
+
+    @Test
+    public void testAppendAssignsIncreasingSequences() {
+        long first = log.append(notification(SOCKET, "first"), null, null);
+        long second = log.append(notification(SOCKET, "second"), null, null);
+        long other = log.append(notification("/topic/other", "other"), null, null);
+
+        assertEquals(first + 1, second, "Sequences are consecutive");
+        assertEquals(second, log.getLatestSequence(SOCKET), "Latest sequence");
+        assertTrue(first >= System.currentTimeMillis() * 1000 - 1000000000L, "First sequence taken from the clock");
+        assertEquals(other, log.getLatestSequence("/topic/other"), "Sequenced per destination");
+    }
+
+    @Test
+    public void testMissedNotificationsAreReturned() {
+        long first = log.append(notification(SOCKET, "first"), null, null);
+        log.append(notification(SOCKET, "second"), null, null);
+        log.append(notification(SOCKET, "third"), 12, null);
+
+        List<byte[]> missed = log.getMissed(SOCKET, first, user).get();
+
+        assertEquals(2, missed.size(), "Missed notifications");
+        assertTrue(text(missed.get(0)).contains("\"name\":\"second\""), "Second notification");
+        assertTrue(text(missed.get(1)).contains("\"sequence\":" + (first + 2)), "Sequence in payload");
+        assertEquals(2L, metrics.snapshot().getCounters().get("subscription.log.replayed"), "Replayed count");
+    }
+
+    @Test
+    public void testMissedNotificationsOnlyIncludeTheAudienceOfTheUser() {
+        log = create(10, 10, false);
+        long first = log.append(notification(SOCKET, "everyone"), null, null);
+        log.append(notification(SOCKET, "other user"), 5, null);
+        log.append(notification(SOCKET, "admins"), null, WebRole.ADMIN);
+        log.append(notification(SOCKET, "users"), null, WebRole.USER);
+
+        List<byte[]> missed = log.getMissed(SOCKET, first - 1, user).get();
+
+        assertEquals(2, missed.size(), "Visible notifications");
+        assertTrue(text(missed.get(0)).contains("everyone"), "Everyone notification");
+        assertTrue(text(missed.get(1)).contains("users"), "Role notification");
+    }
+
+    @Test
+    public void testReplayIsNotChangedByReusingTheNotification() {
+        UserNotification reused = notification(SOCKET, "first");
+        long first = log.append(reused, null, null);
+        reused.setName("second");
+        long second = log.append(reused, null, null);
+
+        List<byte[]> missed = log.getMissed(SOCKET, first - 1, user).get();
+        assertTrue(text(missed.get(0)).contains("\"name\":\"first\""), "First payload kept");
+        assertTrue(text(missed.get(0)).contains("\"sequence\":" + first), "First sequence kept");
+        assertEquals(1, log.getMissed(SOCKET, first - 1, first, user).get().size(), "Bounded by the mark");
+        assertTrue(text(log.getMissed(SOCKET, first, second, user).get().get(0)).contains("second"), "Second");
+    }
+
+    @Test
+    public void testUpToDateClientGetsNothing() {
+        long latest = log.append(notification(SOCKET, "first"), null, null);
+
+        assertEquals(Optional.of(List.of()), log.getMissed(SOCKET, latest, user), "Nothing missed");
+    }
+
+    @Test
+    public void testGapOlderThanRingNeedsRefresh() {
+        long first = log.append(notification(SOCKET, "first"), null, null);
+        for(int i = 0; i < 3; i++) {
+            log.append(notification(SOCKET, "later"), null, null);
+        }
+
+        assertTrue(log.getMissed(SOCKET, first, user).isPresent(), "Gap still retained");
+        assertTrue(log.getMissed(SOCKET, first - 1, user).isEmpty(), "Gap evicted");
+        assertEquals(1L, metrics.snapshot().getCounters().get("subscription.log.refreshed"), "Refresh count");
+        assertEquals(3, metrics.snapshot().getGauges().get("subscription.log.retained").intValue(), "Retained");
+        verifyNoInteractions(notificationLogDAO);
+    }
+
+    @Test
+    public void testSequenceFromBeforeRestartNeedsRefresh() {
+        long latest = log.append(notification(SOCKET, "first"), null, null);
+
+        assertTrue(log.getMissed(SOCKET, latest + 100, user).isEmpty(), "Unknown sequence");
+        assertTrue(log.getMissed(SOCKET, 42, user).isEmpty(), "Old sequence");
+    }
+
+    @Test
+    public void testGapLargerThanMaxReplayNeedsRefresh() {
+        log = create(10, 2, false);
+        long first = log.append(notification(SOCKET, "first"), null, null);
+        for(int i = 0; i < 3; i++) {
+            log.append(notification(SOCKET, "later"), null, null);
+        }
+
+        assertTrue(log.getMissed(SOCKET, first + 1, user).isPresent(), "Within max replay");
+        assertTrue(log.getMissed(SOCKET, first, user).isEmpty(), "Over max replay");
+    }
+
+    @Test
+    public void testPersistedLogFillsOlderGap() {
+        log = create(1, 10, true);
+        when(notificationLogDAO.getLatestSequence(SOCKET)).thenReturn(Optional.empty());
+        long first = log.append(notification(SOCKET, "first"), null, null);
+        log.append(notification(SOCKET, "second"), 12, null);
+        verify(notificationLogDAO).insertNotification(eq(SOCKET), eq(first), isNull(), isNull(), any(byte[].class));
+        verify(notificationLogDAO).insertNotification(eq(SOCKET), eq(first + 1), eq(12), isNull(),
+                                                      any(byte[].class));
+
+        List<byte[]> stored = Arrays.asList("a".getBytes(), "b".getBytes());
+        when(notificationLogDAO.getOldestSequence(SOCKET)).thenReturn(Optional.of(first));
+        when(notificationLogDAO.getNotificationsAfter(SOCKET, first - 1, Long.MAX_VALUE, 12, WebRole.USER,
+                                                       11)).thenReturn(stored);
+
+        assertEquals(Optional.of(stored), log.getMissed(SOCKET, first - 1, user), "Stored notifications");
+
+        when(notificationLogDAO.getOldestSequence(SOCKET)).thenReturn(Optional.of(first + 1));
+        assertTrue(log.getMissed(SOCKET, first - 1, user).isEmpty(), "Gap older than stored notifications");
+    }
+
+    @Test
+    public void testPersistedLogContinuesStoredSequence() {
+        long stored = System.currentTimeMillis() * 1000 + 1000000000L;
+        log = create(3, 10, true);
+        when(notificationLogDAO.getLatestSequence(SOCKET)).thenReturn(Optional.of(stored));
+
+        assertEquals(stored + 1, log.append(notification(SOCKET, "first"), null, null), "Continues from store");
+    }
+
+    private NotificationLog create(int capacity, int maxReplay, boolean persist) {
+        NotificationEncoder encoder = new NotificationEncoder(new ObjectMapperConfiguration().objectMapper());
+        return new NotificationLog(encoder, notificationLogDAO, metrics, capacity, maxReplay, persist);
+    }
+
+    private UserNotification notification(String destination, String name) {
+        UserNotification notification = new UserNotification();
+        notification.setDestination(destination);
+        notification.setName(name);
+        return notification;
+    }
+
+    private static String text(byte[] payload) {
+        return new String(payload, StandardCharsets.UTF_8);
+    }
+}
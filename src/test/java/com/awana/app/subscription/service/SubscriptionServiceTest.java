@@ -1,10 +1,13 @@
 package com.awana.app.subscription.service;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
-import java.security.Principal;
-import java.util.Set;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,17 +15,14 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.springframework.messaging.simp.user.SimpSession;
-import org.springframework.messaging.simp.user.SimpUser;
-import org.springframework.messaging.simp.user.SimpUserRegistry;
 
 import com.awana.app.subscription.client.domain.Notification;
-import com.awana.app.subscription.client.domain.UserPrincipal;
 import com.awana.app.subscription.notification.UserNotification;
-import com.awana.app.user.client.domain.User;
+import com.awana.app.subscription.stomp.ExactMatchSubscriptionRegistry;
+import com.awana.app.subscription.stomp.SubscriptionSessionIndex;
+import com.awana.app.user.client.domain.WebRole;
 import com.awana.common.jwt.utility.JwtHolder;
 import com.awana.test.factory.annotations.AwanaServiceTest;
-import com.google.common.collect.Sets;
 
 /**
  * Test class for the Subscription Service.
@@ -40,7 +40,13 @@ public class SubscriptionServiceTest {
     private JwtHolder jwtHolder;
 
     @Mock
-    private SimpUserRegistry userRegistry;
+    private SubscriptionSessionIndex sessionIndex;
+
+    @Mock
+    private NotificationLog notificationLog;
+
+    @Mock
+    private ExactMatchSubscriptionRegistry subscriptionRegistry;
 
     @InjectMocks
     private SubscriptionNotifierService service;
@@ -49,35 +55,11 @@ public class SubscriptionServiceTest {
     private ArgumentCaptor<Notification> sendNotificationCaptor;
 
     @Captor
-    private ArgumentCaptor<String> sessionCaptor;
+    private ArgumentCaptor<List<String>> sessionCaptor;
 
     @BeforeEach
     public void setup() {
-        SimpUser su = new SimpUser() {
-            @Override
-            public Principal getPrincipal() {
-                User u = new User();
-                u.setId(12);
-                return new UserPrincipal("fake-uuid", u);
-            }
-
-            public String getName() {
-                return null;
-            }
-
-            public boolean hasSessions() {
-                return false;
-            }
-
-            public SimpSession getSession(String sessionId) {
-                return null;
-            }
-
-            public Set<SimpSession> getSessions() {
-                return null;
-            }
-        };
-        lenient().when(userRegistry.getUsers()).thenReturn(Sets.newHashSet(su));
+        lenient().when(sessionIndex.getSessionsByUserId(12)).thenReturn(Arrays.asList("fake-uuid"));
     }
 
     @Test
@@ -98,6 +80,7 @@ public class SubscriptionServiceTest {
         assertEquals(u.getName(), "Test User", "User Name");
         assertEquals(u.getUserId(), 5, "User Id");
         assertEquals("/topic/general/notification", u.getDestination(), "Notification Destination");
+        verify(notificationLog).append(same(body), isNull(), isNull());
     }
 
     @Test
@@ -109,6 +92,71 @@ public class SubscriptionServiceTest {
         Notification body = sendNotificationCaptor.getValue();
         assertEquals(body.getClass(), UserNotification.class, "Should be UserSubscription class");
         assertEquals("/queue/user/notification", body.getDestination(), "Notification Destination");
-        assertEquals("fake-uuid", sessionCaptor.getValue(), "Session UUID");
+        assertEquals(Arrays.asList("fake-uuid"), sessionCaptor.getValue(), "Session UUID");
+    }
+
+    @Test
+    public void testSendToUserWithMultipleSessions() {
+        when(sessionIndex.getSessionsByUserId(12)).thenReturn(Arrays.asList("tab-1", "tab-2"));
+
+        service.sendToUser(new UserNotification(), 12);
+
+        verify(webNotifierService).send(any(Notification.class), sessionCaptor.capture());
+        assertEquals(Arrays.asList("tab-1", "tab-2"), sessionCaptor.getValue(), "Every session should be sent to");
+    }
+
+    @Test
+    public void testSendToUserNoSessions() {
+        when(sessionIndex.getSessionsByUserId(5)).thenReturn(Collections.emptyList());
+
+        service.sendToUser(new UserNotification(), 5);
+
+        verify(webNotifierService, never()).send(any(Notification.class), anyList());
+        verify(notificationLog).append(any(UserNotification.class), eq(5), isNull());
+    }
+
+    @Test
+    public void testSendToWebRole() {
+        when(sessionIndex.getSessionsByWebRole(WebRole.ADMIN)).thenReturn(Arrays.asList("admin-1", "admin-2"));
+
+        service.sendToUser(new UserNotification(), WebRole.ADMIN);
+
+        verify(webNotifierService).send(any(Notification.class), sessionCaptor.capture());
+        assertEquals(Arrays.asList("admin-1", "admin-2"), sessionCaptor.getValue(), "Role sessions");
+        verify(sessionIndex, never()).getSessions();
+        verify(notificationLog).append(any(UserNotification.class), isNull(), eq(WebRole.ADMIN));
+    }
+
+    @Test
+    public void testSendToSessionIsNotLogged() {
+        service.send(new UserNotification(), "/queue/user/notification", "tab-1");
+
+        verify(webNotifierService).send(any(Notification.class), eq("tab-1"));
+        verifyNoInteractions(notificationLog);
+    }
+
+    @Test
+    public void testSendDoesNotChangeTheArgument() {
+        UserNotification userSub = new UserNotification();
+        userSub.setName("Test User");
+
+        service.sendToUser(userSub, 12);
+
+        verify(webNotifierService).send(sendNotificationCaptor.capture(), anyList());
+        Notification sent = sendNotificationCaptor.getValue();
+        assertNotSame(userSub, sent, "A copy should be sent");
+        assertEquals("Test User", ((UserNotification) sent).getName(), "User Name");
+        assertEquals("/queue/user/notification", sent.getDestination(), "Notification Destination");
+        assertNotNull(sent.getCreated(), "Created");
+        assertNull(userSub.getDestination(), "Argument destination");
+        assertNull(userSub.getCreated(), "Argument created");
+        verify(notificationLog).append(same(sent), eq(12), isNull());
+    }
+
+    @Test
+    public void testGetSubscriberCounts() {
+        when(subscriptionRegistry.getSubscriberCounts()).thenReturn(Map.of("/topic/general/notification", 3));
+
+        assertEquals(Map.of("/topic/general/notification", 3), service.getSubscriberCounts(), "Subscriber counts");
     }
 }
@@ -0,0 +1,184 @@
+package com.awana.app.subscription.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import com.awana.app.subscription.client.domain.NotificationSocket;
+import com.awana.app.subscription.cluster.ClusterMessage;
+import com.awana.app.subscription.cluster.ClusterTransport;
+import com.awana.app.subscription.notification.UserNotification;
+import com.awana.app.subscription.stomp.SubscriptionSessionIndex;
+import com.awana.configs.ObjectMapperConfiguration;
+import com.awana.test.factory.annotations.AwanaServiceTest;
+
+/**
+ * Test class for the Web Notifier Service.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaServiceTest
+public class WebNotifierServiceTest {
+
+    @Mock
+    private SimpMessagingTemplate template;
+
+    @Mock
+    private NotificationEncoder encoder;
+
+    @Mock
+    private Executor executor;
+
+    @Mock
+    private SubscriptionSessionIndex sessionIndex;
+
+    @Mock
+    private ClusterTransport transport;
+
+    @InjectMocks
+    private WebNotifierService service;
+
+    @Captor
+    private ArgumentCaptor<String> destinationCaptor;
+
+    @Captor
+    private ArgumentCaptor<Message<byte[]>> messageCaptor;
+
+    @Captor
+    private ArgumentCaptor<ClusterMessage> clusterCaptor;
+
+    private UserNotification body;
+
+    @BeforeEach
+    public void setup() {
+        body = new UserNotification();
+        body.setUserId(5);
+        body.setDestination(NotificationSocket.QUEUE_USER_NOTIFICATION);
+
+        NotificationEncoder realEncoder = new NotificationEncoder(new ObjectMapperConfiguration().objectMapper());
+        when(encoder.encode(any())).thenAnswer(inv -> realEncoder.encode(inv.getArgument(0)));
+        lenient().when(transport.getNodeId()).thenReturn("node-1");
+        lenient().when(sessionIndex.isLocal("node-1")).thenReturn(true);
+        lenient().when(sessionIndex.groupByNode(anyList())).thenAnswer(inv -> {
+            Map<String, List<String>> groups = new LinkedHashMap<>();
+            groups.put("node-1", inv.getArgument(0));
+            return groups;
+        });
+        lenient().doAnswer(inv -> {
+            inv.<Runnable>getArgument(0).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+    }
+
+    @Test
+    public void testSendToSessionsEncodesOnce() {
+        service.send(body, Arrays.asList("tab-1", "tab-2"));
+
+        verify(encoder).encode(body);
+        verify(template, times(2)).send(destinationCaptor.capture(), messageCaptor.capture());
+        assertEquals(Arrays.asList("/queue/user/notification-tab-1", "/queue/user/notification-tab-2"),
+                     destinationCaptor.getAllValues(), "Session destinations");
+        assertSame(messageCaptor.getAllValues().get(0), messageCaptor.getAllValues().get(1),
+                   "Same message for every session");
+        assertTrue(new String(messageCaptor.getValue().getPayload()).contains("\"userId\":5"), "Payload is the body");
+        verify(executor, never()).execute(any());
+    }
+
+    @Test
+    public void testSendForwardsRemoteSessionsToOwningNode() {
+        Map<String, List<String>> groups = new LinkedHashMap<>();
+        groups.put("node-1", Arrays.asList("tab-1"));
+        groups.put("node-2", Arrays.asList("tab-2", "tab-3"));
+        when(sessionIndex.groupByNode(anyList())).thenReturn(groups);
+
+        service.send(body, Arrays.asList("tab-1", "tab-2", "tab-3"));
+
+        verify(template).send(eq("/queue/user/notification-tab-1"), any(Message.class));
+        verify(transport).send(eq("node-2"), clusterCaptor.capture());
+        verify(transport, never()).publish(any());
+
+        ClusterMessage forwarded = clusterCaptor.getValue();
+        assertEquals(ClusterMessage.Type.SESSIONS, forwarded.getType(), "Message type");
+        assertEquals("node-1", forwarded.getOrigin(), "Origin node");
+        assertEquals(Arrays.asList("tab-2", "tab-3"), forwarded.getSessions(), "Forwarded sessions");
+        assertTrue(new String(forwarded.getPayload()).contains("\"userId\":5"), "Forwarded payload");
+    }
+
+    @Test
+    public void testSendTopicIsPublishedToPeers() {
+        body.setDestination(NotificationSocket.TOPIC_GENERAL_NOTIFICATION);
+        service.send(body);
+
+        verify(template).send(eq(NotificationSocket.TOPIC_GENERAL_NOTIFICATION), any(Message.class));
+        verify(transport).publish(clusterCaptor.capture());
+        assertEquals(ClusterMessage.Type.TOPIC, clusterCaptor.getValue().getType(), "Message type");
+        assertEquals(NotificationSocket.TOPIC_GENERAL_NOTIFICATION, clusterCaptor.getValue().getDestination(),
+                     "Topic");
+    }
+
+    @Test
+    public void testSendToLargeAudienceFansOut() {
+        List<String> sessions = new ArrayList<>();
+        for(int i = 0; i < WebNotifierService.FAN_OUT_CHUNK_SIZE * 2 + 10; i++) {
+            sessions.add("session-" + i);
+        }
+
+        service.send(body, sessions);
+
+        verify(encoder).encode(body);
+        verify(executor, times(2)).execute(any());
+        verify(template, times(sessions.size())).send(destinationCaptor.capture(), any(Message.class));
+        assertEquals(sessions.size(), new HashSet<>(destinationCaptor.getAllValues()).size(),
+                     "Every session sent to once");
+    }
+
+    @Test
+    public void testSendToLargeAudienceWhenExecutorRejectsSendsInline() {
+        doThrow(new RejectedExecutionException("full")).when(executor).execute(any(Runnable.class));
+        List<String> sessions = new ArrayList<>();
+        for(int i = 0; i < WebNotifierService.FAN_OUT_CHUNK_SIZE * 2 + 10; i++) {
+            sessions.add("session-" + i);
+        }
+
+        service.send(body, sessions);
+
+        verify(template, times(sessions.size())).send(anyString(), any(Message.class));
+    }
+
+    @Test
+    public void testSendToLargeAudienceDoesNotWaitOnQueuedChunks() {
+        List<Runnable> queued = new ArrayList<>();
+        doAnswer(inv -> queued.add(inv.getArgument(0))).when(executor).execute(any(Runnable.class));
+        List<String> sessions = new ArrayList<>();
+        for(int i = 0; i < WebNotifierService.FAN_OUT_CHUNK_SIZE * 2 + 10; i++) {
+            sessions.add("session-" + i);
+        }
+
+        service.send(body, sessions);
+        queued.forEach(Runnable::run);
+
+        assertEquals(2, queued.size(), "Chunks handed to the executor");
+        verify(template, times(sessions.size())).send(destinationCaptor.capture(), any(Message.class));
+        assertEquals(sessions.size(), new HashSet<>(destinationCaptor.getAllValues()).size(),
+                     "Every session sent to once");
+    }
+}
@@ -0,0 +1,148 @@
+package com.awana.app.subscription.stomp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MultiValueMap;
+
+import com.awana.app.subscription.client.domain.NotificationSocket;
+import com.awana.common.metrics.MetricsRegistry;
+import com.awana.common.metrics.domain.MetricsSnapshot;
+import com.awana.test.factory.annotations.AwanaTest;
+
+/**
+ * Test class for the Exact Match Subscription Registry.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaTest
+public class ExactMatchSubscriptionRegistryTest {
+    private static final String GENERAL = NotificationSocket.TOPIC_GENERAL_NOTIFICATION;
+
+    private static final String USER_QUEUE = NotificationSocket.QUEUE_USER_NOTIFICATION + "-tab-1";
+
+    private MetricsRegistry metrics;
+
+    private ExactMatchSubscriptionRegistry registry;
+
+    @BeforeEach
+    public void setup() {
+        metrics = new MetricsRegistry();
+        registry = new ExactMatchSubscriptionRegistry(metrics);
+    }
+
+    @Test
+    public void testExactDestinationsResolveTheirSubscribers() {
+        registry.registerSubscription(subscribe("session-1", "sub-1", GENERAL));
+        registry.registerSubscription(subscribe("session-2", "sub-1", GENERAL));
+        registry.registerSubscription(subscribe("session-1", "sub-2", USER_QUEUE));
+
+        MultiValueMap<String, String> general = registry.findSubscriptions(message(GENERAL));
+        assertEquals(Arrays.asList("sub-1"), general.get("session-1"), "First session");
+        assertEquals(Arrays.asList("sub-1"), general.get("session-2"), "Second session");
+
+        MultiValueMap<String, String> queue = registry.findSubscriptions(message(USER_QUEUE));
+        assertEquals(1, queue.size(), "Queue sessions");
+        assertEquals(Arrays.asList("sub-2"), queue.get("session-1"), "Queue subscription");
+
+        assertTrue(registry.findSubscriptions(message("/topic/unknown")).isEmpty(), "Unknown destination");
+        assertEquals(Map.of(GENERAL, 2, USER_QUEUE, 1), registry.getSubscriberCounts(), "Subscriber counts");
+    }
+
+    @Test
+    public void testUnsubscribeAndDisconnectRemoveSubscribers() {
+        registry.registerSubscription(subscribe("session-1", "sub-1", GENERAL));
+        registry.registerSubscription(subscribe("session-1", "sub-2", USER_QUEUE));
+        registry.registerSubscription(subscribe("session-2", "sub-1", GENERAL));
+        registry.findSubscriptions(message(GENERAL));
+
+        registry.unregisterSubscription(unsubscribe("session-2", "sub-1"));
+        assertEquals(Arrays.asList("session-1"), List.copyOf(registry.findSubscriptions(message(GENERAL)).keySet()),
+                     "Unsubscribed session removed");
+
+        registry.unregisterAllSubscriptions("session-1");
+        assertTrue(registry.findSubscriptions(message(GENERAL)).isEmpty(), "Disconnected session removed");
+        assertTrue(registry.getSubscriberCounts().isEmpty(), "Empty destinations removed");
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(0, snapshot.getGauges().get("subscription.registry.destinations").intValue(), "Destinations");
+        assertEquals(0, snapshot.getGauges().get("subscription.registry.subscriptions").intValue(), "Subscriptions");
+    }
+
+    @Test
+    public void testPatternSubscriptionsAreMatched() {
+        registry.registerSubscription(subscribe("session-1", "sub-1", GENERAL));
+        registry.registerSubscription(subscribe("session-2", "sub-1", "/topic/**"));
+
+        MultiValueMap<String, String> general = registry.findSubscriptions(message(GENERAL));
+        assertEquals(2, general.size(), "Exact and pattern subscriber");
+        assertEquals(Arrays.asList("sub-1"), general.get("session-2"), "Pattern subscription");
+        assertEquals(1, metrics.snapshot().getGauges().get("subscription.registry.patterns").intValue(), "Patterns");
+        assertEquals(1, registry.getSubscriberCounts().get("/topic/**"), "Pattern counted");
+
+        registry.unregisterSubscription(unsubscribe("session-2", "sub-1"));
+        assertEquals(1, registry.findSubscriptions(message(GENERAL)).size(), "Pattern removed");
+        assertEquals(0, metrics.snapshot().getGauges().get("subscription.registry.patterns").intValue(), "Patterns");
+    }
+
+    @Test
+    public void testSelectorSubscriptionsAreFiltered() {
+        SimpMessageHeaderAccessor accessor = accessor(SimpMessageType.SUBSCRIBE, "session-1", "sub-1");
+        accessor.setDestination(GENERAL);
+        accessor.setNativeHeader("selector", "headers.priority == 'high'");
+        registry.registerSubscription(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+
+        assertTrue(registry.findSubscriptions(message(GENERAL)).isEmpty(), "Selector not matched");
+
+        SimpMessageHeaderAccessor high = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        high.setDestination(GENERAL);
+        high.setNativeHeader("priority", "high");
+        assertEquals(1, registry.findSubscriptions(MessageBuilder.createMessage(new byte[0], high.getMessageHeaders()))
+                .size(), "Selector matched");
+    }
+
+    @Test
+    public void testResubscribeReplacesDestination() {
+        registry.registerSubscription(subscribe("session-1", "sub-1", GENERAL));
+        registry.registerSubscription(subscribe("session-1", "sub-1", USER_QUEUE));
+
+        assertTrue(registry.findSubscriptions(message(GENERAL)).isEmpty(), "Old destination");
+        assertEquals(1, registry.findSubscriptions(message(USER_QUEUE)).size(), "New destination");
+        assertEquals(1, metrics.snapshot().getGauges().get("subscription.registry.subscriptions").intValue(),
+                     "Subscriptions");
+    }
+
+    private Message<byte[]> subscribe(String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = accessor(SimpMessageType.SUBSCRIBE, sessionId, subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> unsubscribe(String sessionId, String subscriptionId) {
+        SimpMessageHeaderAccessor accessor = accessor(SimpMessageType.UNSUBSCRIBE, sessionId, subscriptionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> message(String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private SimpMessageHeaderAccessor accessor(SimpMessageType type, String sessionId, String subscriptionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return accessor;
+    }
+}
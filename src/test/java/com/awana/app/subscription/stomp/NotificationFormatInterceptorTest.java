@@ -0,0 +1,118 @@
+package com.awana.app.subscription.stomp;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import com.awana.app.subscription.client.domain.NotificationSocket;
+import com.awana.app.subscription.notification.UserNotification;
+import com.awana.app.subscription.service.NotificationEncoder;
+import com.awana.app.subscription.service.NotificationFormat;
+import com.awana.common.metrics.MetricsRegistry;
+import com.awana.configs.ObjectMapperConfiguration;
+import com.awana.test.factory.annotations.AwanaTest;
+
+/**
+ * Test class for the Notification Format Interceptor.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaTest
+public class NotificationFormatInterceptorTest {
+
+    private MetricsRegistry metrics;
+
+    private NotificationFormatInterceptor interceptor;
+
+    private MessageChannel channel;
+
+    private byte[] json;
+
+    @BeforeEach
+    public void setup() {
+        metrics = new MetricsRegistry();
+        NotificationEncoder encoder = new NotificationEncoder(new ObjectMapperConfiguration().objectMapper());
+        interceptor = new NotificationFormatInterceptor(encoder, metrics);
+        channel = mock(MessageChannel.class);
+
+        UserNotification body = new UserNotification();
+        body.setName("Test User");
+        json = encoder.encode(body).getPayload();
+    }
+
+    @Test
+    public void testBinarySessionGetsTranscodedPayload() {
+        interceptor.preSend(connect("session-1", "application/cbor"), channel);
+
+        Message<?> sent = interceptor.preSend(message("session-1", json), channel);
+
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.wrap(sent);
+        assertEquals(NotificationFormat.CBOR.getContentType(), headers.getContentType(), "Content type");
+        assertTrue(MimeTypeUtils.APPLICATION_OCTET_STREAM.isCompatibleWith(headers.getContentType()),
+                   "Sent as a binary frame");
+        assertNotSame(json, sent.getPayload(), "Transcoded payload");
+        assertEquals("session-1", headers.getSessionId(), "Session");
+        assertEquals(1, metrics.snapshot().getGauges().get("subscription.format.binary-sessions").intValue(),
+                     "Binary sessions");
+    }
+
+    @Test
+    public void testSharedPayloadIsTranscodedOnce() {
+        interceptor.preSend(connect("session-1", "application/x-jackson-smile"), channel);
+        interceptor.preSend(connect("session-2", "application/x-jackson-smile"), channel);
+
+        Message<?> first = interceptor.preSend(message("session-1", json), channel);
+        Message<?> second = interceptor.preSend(message("session-2", json), channel);
+
+        assertSame(first.getPayload(), second.getPayload(), "Payload shared");
+        assertEquals(1L, metrics.snapshot().getCounters().get("subscription.format.transcoded"), "Transcodes");
+    }
+
+    @Test
+    public void testJsonSessionIsUnchanged() {
+        interceptor.preSend(connect("session-1", "application/json"), channel);
+        Message<?> message = message("session-1", json);
+
+        assertSame(message, interceptor.preSend(message, channel), "JSON session");
+        Message<?> other = message("session-2", json);
+        assertSame(other, interceptor.preSend(other, channel), "Session without accept header");
+    }
+
+    @Test
+    public void testDisconnectForgetsFormat() {
+        interceptor.preSend(connect("session-1", "application/cbor"), channel);
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.DISCONNECT);
+        accessor.setSessionId("session-1");
+        interceptor.preSend(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), channel);
+
+        Message<?> message = message("session-1", json);
+        assertSame(message, interceptor.preSend(message, channel), "Sent as JSON");
+        assertEquals(0, metrics.snapshot().getGauges().get("subscription.format.binary-sessions").intValue(),
+                     "Binary sessions");
+    }
+
+    private Message<byte[]> connect(String sessionId, String accept) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+        accessor.setSessionId(sessionId);
+        accessor.addNativeHeader(NotificationFormatInterceptor.ACCEPT_HEADER, accept);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> message(String sessionId, byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination(NotificationSocket.QUEUE_USER_NOTIFICATION + "-tab-1");
+        accessor.setContentType(NotificationEncoder.CONTENT_TYPE);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+}
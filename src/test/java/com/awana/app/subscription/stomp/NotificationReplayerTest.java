@@ -0,0 +1,215 @@
+package com.awana.app.subscription.stomp;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import com.awana.app.subscription.client.domain.NotificationSocket;
+import com.awana.app.subscription.client.domain.UserPrincipal;
+import com.awana.app.subscription.service.NotificationEncoder;
+import com.awana.app.subscription.service.NotificationLog;
+import com.awana.app.user.client.domain.User;
+import com.awana.common.metrics.MetricsRegistry;
+import com.awana.configs.ObjectMapperConfiguration;
+import com.awana.test.factory.annotations.AwanaTest;
+
+/**
+ * Test class for the Notification Replayer.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaTest
+public class NotificationReplayerTest {
+    private static final String SOCKET = NotificationSocket.QUEUE_USER_NOTIFICATION;
+
+    private NotificationLog notificationLog;
+
+    private MessageChannel channel;
+
+    private MetricsRegistry metrics;
+
+    private ReplayGate replayGate;
+
+    private NotificationReplayer replayer;
+
+    private UserPrincipal principal;
+
+    @BeforeEach
+    public void setup() {
+        notificationLog = mock(NotificationLog.class);
+        channel = mock(MessageChannel.class);
+        metrics = new MetricsRegistry();
+        replayGate = new ReplayGate(metrics);
+        replayer = createReplayer(channel);
+        principal = new UserPrincipal("tab-1", new User());
+    }
+
+    @Test
+    public void testMissedNotificationsAreSentToSubscription() {
+        List<byte[]> missed = Arrays.asList("a".getBytes(), "b".getBytes());
+        when(notificationLog.getLatestSequence(SOCKET)).thenReturn(50L);
+        when(notificationLog.getMissed(SOCKET, 41L, 50L, principal.getUser())).thenReturn(Optional.of(missed));
+
+        Map<String, Object> attributes = resume(SOCKET + ":41");
+        subscribeAndRegister(SOCKET + "-tab-1", attributes);
+
+        ArgumentCaptor<Message<?>> sent = ArgumentCaptor.forClass(Message.class);
+        verify(channel, times(2)).send(sent.capture());
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.wrap(sent.getValue());
+        assertSame(missed.get(1), sent.getValue().getPayload(), "Payload");
+        assertEquals(SimpMessageType.MESSAGE, headers.getMessageType(), "Message type");
+        assertEquals("session-1", headers.getSessionId(), "Session");
+        assertEquals("sub-1", headers.getSubscriptionId(), "Subscription");
+        assertEquals(SOCKET + "-tab-1", headers.getDestination(), "Destination");
+        assertEquals(NotificationEncoder.CONTENT_TYPE, headers.getContentType(), "Content type");
+
+        subscribeAndRegister(SOCKET + "-tab-1", attributes);
+        verify(notificationLog, times(1)).getMissed(anyString(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    public void testUnfillableGapSendsResync() {
+        when(notificationLog.getMissed(SOCKET, 41L, 99L, principal.getUser())).thenReturn(Optional.empty());
+        when(notificationLog.getLatestSequence(SOCKET)).thenReturn(99L);
+
+        subscribeAndRegister(SOCKET + "-tab-1", resume(SOCKET + ":41"));
+
+        ArgumentCaptor<Message<?>> sent = ArgumentCaptor.forClass(Message.class);
+        verify(channel).send(sent.capture());
+        String payload = new String((byte[]) sent.getValue().getPayload());
+        assertTrue(payload.contains("\"bodyType\":\"RESYNC\""), "Resync notification");
+        assertTrue(payload.contains("\"sequence\":99"), "Latest sequence");
+    }
+
+    @Test
+    public void testSubscribeWithoutResumePointSendsNothing() {
+        subscribeAndRegister(SOCKET + "-tab-1", new HashMap<>());
+        subscribeAndRegister(NotificationSocket.TOPIC_GENERAL_NOTIFICATION, resume(SOCKET + ":41"));
+
+        verifyNoInteractions(notificationLog, channel);
+    }
+
+    @Test
+    public void testLiveNotificationsDoNotOverlapTheReplay() {
+        ExecutorSubscribableChannel outbound = new ExecutorSubscribableChannel();
+        List<Object> sent = new ArrayList<>();
+        outbound.addInterceptor(replayGate);
+        outbound.subscribe(message -> sent.add(new String((byte[]) message.getPayload())));
+        replayer = createReplayer(outbound);
+        when(notificationLog.getLatestSequence(SOCKET)).thenReturn(50L);
+        when(notificationLog.getMissed(SOCKET, 41L, 50L, principal.getUser()))
+                .thenReturn(Optional.of(Arrays.asList("replay-45".getBytes(), "replay-50".getBytes())));
+
+        Message<byte[]> subscribe = subscribe(SOCKET + "-tab-1", resume(SOCKET + ":41"));
+        replayer.onRegistering(new SubscriptionRegisteringEvent(this, subscribe));
+        assertFalse(outbound.send(live(50)), "Live notification held before the replay");
+        assertFalse(outbound.send(live(51)), "Live notification held before the replay");
+        assertTrue(sent.isEmpty(), "Nothing sent before the subscription is registered");
+
+        replayer.onRegistered(new SubscriptionRegisteredEvent(this, subscribe));
+        outbound.send(live(45));
+        outbound.send(live(52));
+
+        assertEquals(Arrays.asList("replay-45", "replay-50", "live-51", "live-52"), sent, "Sent once and in order");
+        assertEquals(2L, metrics.snapshot().getCounters().get("subscription.replay.dropped"), "Dropped duplicates");
+    }
+
+    @Test
+    public void testRegisteredBeforeSubscribeEventDoesNotStall() {
+        ExecutorSubscribableChannel outbound = new ExecutorSubscribableChannel();
+        List<Object> sent = new ArrayList<>();
+        outbound.addInterceptor(replayGate);
+        outbound.subscribe(message -> sent.add(new String((byte[]) message.getPayload())));
+        replayer = createReplayer(outbound);
+        when(notificationLog.getLatestSequence(SOCKET)).thenReturn(50L);
+        when(notificationLog.getMissed(SOCKET, 41L, 50L, principal.getUser()))
+                .thenReturn(Optional.of(Arrays.asList("replay-50".getBytes())));
+        ExactMatchSubscriptionRegistry registry = new ExactMatchSubscriptionRegistry(metrics);
+        registry.setApplicationEventPublisher(event -> {
+            if(event instanceof SubscriptionRegisteringEvent) {
+                replayer.onRegistering((SubscriptionRegisteringEvent) event);
+            }
+            else if(event instanceof SubscriptionRegisteredEvent) {
+                replayer.onRegistered((SubscriptionRegisteredEvent) event);
+            }
+        });
+
+        registry.registerSubscription(subscribe(SOCKET + "-tab-1", resume(SOCKET + ":41")));
+
+        assertTrue(outbound.send(live(51)), "Live notification sent once registered");
+        assertEquals(Arrays.asList("replay-50", "live-51"), sent, "Nothing held before the subscribe event");
+    }
+
+    @Test
+    public void testGetSocket() {
+        assertEquals(SOCKET, NotificationReplayer.getSocket(SOCKET + "-tab-1", "tab-1"), "Session queue");
+        assertEquals(SOCKET, NotificationReplayer.getSocket("/user" + SOCKET, "tab-1"), "User prefix");
+        assertEquals(NotificationSocket.TOPIC_GENERAL_NOTIFICATION,
+                     NotificationReplayer.getSocket(NotificationSocket.TOPIC_GENERAL_NOTIFICATION, "tab-1"), "Topic");
+    }
+
+    @Test
+    public void testParseResumePoints() {
+        Map<String, Long> resume = ResumeHandshakeInterceptor
+                .parse(Arrays.asList("%2Fqueue%2Fuser%2Fnotification%3A41", "/topic/a:b:7", "bad", "/topic/b:x"));
+
+        assertEquals(2, resume.size(), "Valid points");
+        assertEquals(41L, resume.get(SOCKET), "Encoded point");
+        assertEquals(7L, resume.get("/topic/a:b"), "Split on last colon");
+    }
+
+    private NotificationReplayer createReplayer(MessageChannel outbound) {
+        return new NotificationReplayer(notificationLog,
+                                        new NotificationEncoder(new ObjectMapperConfiguration().objectMapper()),
+                                        outbound, replayGate);
+    }
+
+    private void subscribeAndRegister(String destination, Map<String, Object> attributes) {
+        Message<byte[]> message = subscribe(destination, attributes);
+        replayer.onRegistering(new SubscriptionRegisteringEvent(this, message));
+        replayer.onRegistered(new SubscriptionRegisteredEvent(this, message));
+    }
+
+    private Message<byte[]> live(long sequence) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId("session-1");
+        accessor.setSubscriptionId("sub-1");
+        accessor.setHeader(NotificationEncoder.SEQUENCE_HEADER, sequence);
+        return MessageBuilder.createMessage(("live-" + sequence).getBytes(), accessor.getMessageHeaders());
+    }
+
+    private Map<String, Object> resume(String... points) {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(ResumeHandshakeInterceptor.RESUME_ATTRIBUTE,
+                       ResumeHandshakeInterceptor.parse(Arrays.asList(points)));
+        return attributes;
+    }
+
+    private Message<byte[]> subscribe(String destination, Map<String, Object> attributes) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId("session-1");
+        accessor.setSubscriptionId("sub-1");
+        accessor.setDestination(destination);
+        accessor.setSessionAttributes(attributes);
+        accessor.setUser(principal);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,187 @@
+package com.awana.app.subscription.stomp;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.awana.app.subscription.client.domain.NotificationSocket;
+import com.awana.common.metrics.MetricsRegistry;
+import com.awana.test.factory.annotations.AwanaTest;
+
+/**
+ * Test class for the Outbound Session Queues.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaTest
+public class OutboundSessionQueuesTest {
+    private static final String USER_SOCKET = NotificationSocket.QUEUE_USER_NOTIFICATION + "-tab-1";
+
+    private static final String SYSTEM_SOCKET = NotificationSocket.QUEUE_SYSTEM_NOTIFICATION + "-tab-1";
+
+    private static final String LINK_SOCKET = NotificationSocket.QUEUE_SYSTEM_LINK_NOTIFICATION + "-tab-1";
+
+    private MetricsRegistry metrics;
+
+    private OutboundSessionQueues queues;
+
+    private WebSocketSession session;
+
+    private WebSocketHandler handler;
+
+    private MessageChannel channel;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        metrics = new MetricsRegistry();
+        queues = new OutboundSessionQueues(metrics, 2, 0);
+        session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("session-1");
+        channel = mock(MessageChannel.class);
+
+        handler = queues.decorate(mock(WebSocketHandler.class));
+        handler.afterConnectionEstablished(session);
+    }
+
+    @Test
+    public void testMessagesAreSentOneAtATime() {
+        Message<?> first = message("session-1", USER_SOCKET);
+        Message<?> second = message("session-1", USER_SOCKET);
+
+        assertSame(first, queues.preSend(first, channel), "First message is sent");
+        assertNull(queues.preSend(second, channel), "Second message waits");
+        assertEquals(1, queues.getQueued(), "Waiting messages");
+
+        handled(first);
+        verify(channel).send(same(second));
+        assertSame(second, queues.preSend(second, channel), "Released message is sent");
+        assertEquals(0, queues.getQueued(), "Waiting messages");
+    }
+
+    @Test
+    public void testFullQueueDropsOldest() {
+        Message<?> first = message("session-1", USER_SOCKET);
+        Message<?> second = message("session-1", USER_SOCKET);
+        Message<?> third = message("session-1", USER_SOCKET);
+        Message<?> fourth = message("session-1", USER_SOCKET);
+
+        queues.preSend(first, channel);
+        queues.preSend(second, channel);
+        queues.preSend(third, channel);
+        assertNull(queues.preSend(fourth, channel), "Fourth message waits");
+
+        assertEquals(2, queues.getQueued(), "Queue is bounded");
+        assertEquals(1L, metrics.snapshot().getCounters().get("subscription.outbound.dropped"), "Dropped count");
+
+        handled(first);
+        verify(channel).send(same(third));
+        verify(channel, never()).send(same(second));
+    }
+
+    @Test
+    public void testLatestOnlyReplacesWaitingMessage() {
+        Message<?> first = message("session-1", USER_SOCKET);
+        Message<?> oldStatus = message("session-1", SYSTEM_SOCKET);
+        Message<?> newStatus = message("session-1", SYSTEM_SOCKET);
+
+        queues.preSend(first, channel);
+        queues.preSend(oldStatus, channel);
+        queues.preSend(newStatus, channel);
+
+        assertEquals(1, queues.getQueued(), "Only the latest status waits");
+        assertEquals(1L, metrics.snapshot().getCounters().get("subscription.outbound.replaced"), "Replaced count");
+
+        handled(first);
+        verify(channel).send(same(newStatus));
+        verify(channel, never()).send(same(oldStatus));
+    }
+
+    @Test
+    public void testFullQueueDisconnectsForDisconnectPolicy() throws Exception {
+        queues.preSend(message("session-1", USER_SOCKET), channel);
+        queues.preSend(message("session-1", USER_SOCKET), channel);
+        queues.preSend(message("session-1", USER_SOCKET), channel);
+        assertNull(queues.preSend(message("session-1", LINK_SOCKET), channel), "Link message not sent");
+
+        verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertEquals(1L, metrics.snapshot().getCounters().get("subscription.outbound.disconnected"),
+                     "Disconnect count");
+        assertEquals(0, queues.getQueued(), "Queue cleared");
+        assertNull(queues.preSend(message("session-1", USER_SOCKET), channel), "Closing session gets nothing");
+    }
+
+    @Test
+    public void testSlowSessionsAreReported() {
+        queues.preSend(message("session-1", USER_SOCKET), channel);
+
+        assertEquals(1, metrics.snapshot().getGauges().get("subscription.outbound.slow").intValue(), "Slow sessions");
+    }
+
+    @Test
+    public void testUnknownAndClosedSessionsPassThrough() throws Exception {
+        Message<?> unknown = message("session-2", USER_SOCKET);
+        assertSame(unknown, queues.preSend(unknown, channel), "Unknown session");
+        assertSame(unknown, queues.preSend(unknown, channel), "Unknown session is not queued");
+
+        handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+        Message<?> first = message("session-1", USER_SOCKET);
+        Message<?> second = message("session-1", USER_SOCKET);
+        assertSame(first, queues.preSend(first, channel), "Closed session");
+        assertSame(second, queues.preSend(second, channel), "Closed session is not queued");
+    }
+
+    @Test
+    public void testNonNotificationMessagesPassThrough() {
+        queues.preSend(message("session-1", USER_SOCKET), channel);
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.HEARTBEAT);
+        accessor.setSessionId("session-1");
+        Message<?> heartbeat = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        assertSame(heartbeat, queues.preSend(heartbeat, channel), "Heartbeat is not queued");
+    }
+
+    @Test
+    public void testFailedSendReleasesNextMessage() {
+        Message<?> first = message("session-1", USER_SOCKET);
+        Message<?> second = message("session-1", USER_SOCKET);
+        queues.preSend(first, channel);
+        queues.preSend(second, channel);
+
+        queues.afterSendCompletion(first, channel, false, null);
+
+        verify(channel).send(same(second));
+    }
+
+    @Test
+    public void testPolicyUsesLongestMatchingSocket() {
+        assertEquals(OutboundPolicy.DROP_OLDEST, OutboundSessionQueues.getPolicy(USER_SOCKET), "User socket");
+        assertEquals(OutboundPolicy.LATEST_ONLY, OutboundSessionQueues.getPolicy(SYSTEM_SOCKET), "System socket");
+        assertEquals(OutboundPolicy.DISCONNECT, OutboundSessionQueues.getPolicy(LINK_SOCKET), "Link socket");
+        assertEquals(OutboundPolicy.DROP_OLDEST, OutboundSessionQueues.getPolicy("/queue/other"), "Default");
+        assertEquals(OutboundPolicy.DROP_OLDEST, OutboundSessionQueues.getPolicy(null), "No destination");
+    }
+
+    private void handled(Message<?> message) {
+        queues.afterMessageHandled(message, channel, mock(MessageHandler.class), null);
+    }
+
+    private Message<byte[]> message(String sessionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -5,6 +5,7 @@ import static org.mockito.Mockito.*;
 
 import java.net.URISyntaxException;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -13,7 +14,10 @@ import org.springframework.http.server.ServerHttpRequest;
 import com.awana.app.subscription.client.domain.UserPrincipal;
 import com.awana.app.user.client.domain.User;
 import com.awana.app.user.client.domain.WebRole;
-import com.awana.common.jwt.utility.JwtHolder;
+import com.awana.common.context.RequestContext;
+import com.awana.common.environment.AppEnvironmentService;
+import com.awana.common.jwt.domain.JwtPair;
+import com.awana.common.jwt.utility.JwtTokenUtil;
 import com.awana.test.factory.annotations.AwanaServiceTest;
 
 /**
@@ -26,21 +30,33 @@ import com.awana.test.factory.annotations.AwanaServiceTest;
 public class SubscriptionHandshakeHandlerTest {
 
     @Mock
-    private JwtHolder jwtHolder;
+    private AppEnvironmentService appEnvironmentService;
 
     @Mock
     private ServerHttpRequest request;
 
+    @InjectMocks
+    private JwtTokenUtil jwtTokenUtil;
+
     @InjectMocks
     private SubscriptionHandshakeHandler handler;
 
+    @AfterEach
+    public void cleanup() {
+        RequestContext.clear();
+    }
+
     @Test
     public void testDetermineUser() throws URISyntaxException {
         User currentUser = new User();
         currentUser.setId(12);
+        currentUser.setFirstName("Test");
+        currentUser.setLastName("User");
+        currentUser.setEmail("test@user.com");
         currentUser.setWebRole(WebRole.DEVELOPER);
 
-        when(jwtHolder.getUser()).thenReturn(currentUser);
+        when(appEnvironmentService.getSigningKey()).thenReturn("test-signing-key");
+        RequestContext.open(new JwtPair(jwtTokenUtil.generateToken(currentUser), appEnvironmentService));
 
         UserPrincipal u = (UserPrincipal) handler.determineUser(request, null, null);
 
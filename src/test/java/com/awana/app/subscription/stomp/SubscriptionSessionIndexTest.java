@@ -0,0 +1,137 @@
+package com.awana.app.subscription.stomp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.security.Principal;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import com.awana.app.subscription.client.domain.UserPrincipal;
+import com.awana.app.subscription.cluster.StandaloneClusterTransport;
+import com.awana.app.user.client.domain.User;
+import com.awana.app.user.client.domain.WebRole;
+import com.awana.common.metrics.MetricsRegistry;
+import com.awana.test.factory.annotations.AwanaTest;
+
+/**
+ * Test class for the Subscription Session Index.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaTest
+public class SubscriptionSessionIndexTest {
+
+    private MetricsRegistry metrics;
+
+    private SubscriptionSessionIndex index;
+
+    @BeforeEach
+    public void setup() {
+        metrics = new MetricsRegistry();
+        index = new SubscriptionSessionIndex(metrics, new StandaloneClusterTransport("node-1"));
+    }
+
+    @Test
+    public void testConnectIndexesEverySessionOfUser() {
+        index.onConnected(connected("session-1", principal("tab-1", 12, WebRole.ADMIN)));
+        index.onConnected(connected("session-2", principal("tab-2", 12, WebRole.ADMIN)));
+        index.onConnected(connected("session-3", principal("other", 5, WebRole.USER)));
+
+        assertEquals(new HashSet<>(Arrays.asList("tab-1", "tab-2")), new HashSet<>(index.getSessionsByUserId(12)),
+                     "User sessions");
+        assertEquals(Arrays.asList("other"), index.getSessionsByUserId(5), "Other user sessions");
+        assertEquals(Arrays.asList("other"), index.getSessionsByWebRole(WebRole.USER), "User role sessions");
+        assertTrue(index.getSessionsByWebRole(WebRole.DEVELOPER).isEmpty(), "No developer sessions");
+        assertEquals(3, index.size(), "Index size");
+        assertEquals(3, metrics.snapshot().getGauges().get("subscription.sessions").intValue(), "Session gauge");
+        assertEquals(2, metrics.snapshot().getGauges().get("subscription.sessions.users").intValue(), "User gauge");
+    }
+
+    @Test
+    public void testDisconnectRemovesSession() {
+        index.onConnected(connected("session-1", principal("tab-1", 12, WebRole.ADMIN)));
+        index.onConnected(connected("session-2", principal("tab-2", 12, WebRole.ADMIN)));
+
+        index.onDisconnect(disconnect("session-1"));
+        assertEquals(Arrays.asList("tab-2"), index.getSessionsByUserId(12), "Remaining session");
+        assertEquals(Arrays.asList("tab-2"), index.getSessionsByWebRole(WebRole.ADMIN), "Remaining role session");
+
+        index.onDisconnect(disconnect("session-2"));
+        index.onDisconnect(disconnect("session-2"));
+        assertTrue(index.getSessionsByUserId(12).isEmpty(), "No sessions left");
+        assertEquals(0, index.size(), "Index size");
+        assertEquals(0, metrics.snapshot().getGauges().get("subscription.sessions.users").intValue(), "User gauge");
+    }
+
+    @Test
+    public void testRemoteSessionsAreGroupedByNode() {
+        index.onConnected(connected("session-1", principal("tab-1", 12, WebRole.ADMIN)));
+        index.addRemote("node-2", "tab-2", 12, WebRole.ADMIN);
+        index.addRemote("node-3", "tab-3", 12, WebRole.ADMIN);
+
+        assertEquals(3, index.getSessionsByUserId(12).size(), "Sessions on every node");
+        assertEquals(1, index.getLocalSessions().size(), "Local sessions");
+
+        Map<String, List<String>> groups = index.groupByNode(Arrays.asList("tab-1", "tab-2", "tab-3", "unknown"));
+        assertEquals(Arrays.asList("tab-1", "unknown"), groups.get("node-1"), "Local and unknown sessions");
+        assertEquals(Arrays.asList("tab-2"), groups.get("node-2"), "Node 2 sessions");
+        assertEquals(Arrays.asList("tab-3"), groups.get("node-3"), "Node 3 sessions");
+    }
+
+    @Test
+    public void testRemoveNodeOnlyRemovesItsSessions() {
+        index.onConnected(connected("session-1", principal("tab-1", 12, WebRole.ADMIN)));
+        index.addRemote("node-2", "tab-2", 12, WebRole.ADMIN);
+        index.addRemote("node-2", "tab-3", 5, WebRole.USER);
+
+        index.removeNode("node-2");
+        assertEquals(Arrays.asList("tab-1"), index.getSessionsByUserId(12), "Local session kept");
+        assertTrue(index.getSessionsByWebRole(WebRole.USER).isEmpty(), "Remote role sessions removed");
+
+        index.removeNode("node-1");
+        index.removeRemote("tab-1");
+        assertEquals(1, index.size(), "Local sessions are only removed by disconnect");
+    }
+
+    @Test
+    public void testConnectWithoutUserPrincipalIsIgnored() {
+        index.onConnected(connected("session-1", () -> "anonymous"));
+
+        assertEquals(0, index.size(), "Index size");
+    }
+
+    private UserPrincipal principal(String name, int userId, WebRole role) {
+        User user = new User();
+        user.setId(userId);
+        user.setWebRole(role);
+        return new UserPrincipal(name, user);
+    }
+
+    private SessionConnectedEvent connected(String sessionId, Principal user) {
+        return new SessionConnectedEvent(this, message(StompCommand.CONNECTED, sessionId), user);
+    }
+
+    private SessionDisconnectEvent disconnect(String sessionId) {
+        return new SessionDisconnectEvent(this, message(StompCommand.DISCONNECT, sessionId), sessionId,
+                                          CloseStatus.NORMAL);
+    }
+
+    private Message<byte[]> message(StompCommand command, String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -13,7 +13,8 @@ import org.springframework.test.context.jdbc.Sql;
 import com.awana.app.user.client.domain.User;
 import com.awana.app.user.client.domain.WebRole;
 import com.awana.app.user.client.domain.request.UserGetRequest;
-import com.awana.common.exception.NotFoundException;
+import com.awana.sql.abstracts.SqlStatementCounter;
+import com.awana.test.factory.abstracts.BaseDaoTest;
 import com.awana.test.factory.annotations.AwanaDaoTest;
 import com.awana.utility.AwanaDAOTestConfig;
 import com.google.common.collect.Sets;
@@ -27,7 +28,7 @@ import com.google.common.collect.Sets;
 @Sql("/scripts/user/userProfileDAO/init.sql")
 @ContextConfiguration(classes = AwanaDAOTestConfig.class)
 @AwanaDaoTest
-public class UserProfileDAOTest {
+public class UserProfileDAOTest extends BaseDaoTest {
 
     @Autowired
     private UserProfileDAO dao;
@@ -63,7 +64,7 @@ public class UserProfileDAOTest {
 
     @Test
     public void testGetUserById() throws Exception {
-        User user = dao.getUserById(1);
+        User user = dao.getUserById(1).get();
 
         assertEquals("Test", user.getFirstName(), "First name");
         assertEquals("User", user.getLastName(), "Last name");
@@ -73,8 +74,43 @@ public class UserProfileDAOTest {
 
     @Test
     public void testGetUserByIdNotFound() throws Exception {
-        NotFoundException e = assertThrows(NotFoundException.class, () -> dao.getUserById(12));
-        assertEquals("User not found for id: '12'", e.getMessage(), "Message should match");
+        assertTrue(dao.getUserById(12).isEmpty(), "User should not be found");
+    }
+
+    @Test
+    public void testGetUserVersion() {
+        assertEquals(1L, dao.getUserVersion(1).get(), "Version should start at 1");
+        assertTrue(dao.getUserVersion(12).isEmpty(), "Version should not be found");
+    }
+
+    @Test
+    public void testUpdateUserIncrementsVersion() {
+        User userProfile = new User();
+        userProfile.setFirstName("Randy");
+        dao.updateUserProfile(1, userProfile);
+        dao.updateUserLastLoginToNow(1);
+
+        assertEquals(3L, dao.getUserVersion(1).get(), "Version should be bumped by each update");
+        assertEquals(1L, dao.getUserVersion(2).get(), "Other users should not change");
+    }
+
+    @Test
+    public void testGetUsersVersionChangesOnWrite() throws Exception {
+        UserGetRequest request = new UserGetRequest();
+        String initial = dao.getUsersVersion(request);
+        assertEquals("3.3.3", initial, "Initial version");
+
+        dao.updateUserLastLoginToNow(2);
+        String updated = dao.getUsersVersion(request);
+        assertNotEquals(initial, updated, "Update should change the version");
+
+        dao.deleteUser(3);
+        User user = new User();
+        user.setFirstName("Replacement");
+        user.setEmail("replacement@mail.com");
+        user.setWebRole(WebRole.USER);
+        dao.insertUser(user);
+        assertNotEquals(updated, dao.getUsersVersion(request), "Delete and insert should change the version");
     }
 
     @Test
@@ -90,7 +126,7 @@ public class UserProfileDAOTest {
         user.setWebRole(WebRole.ADMIN);
 
         int newUserId = dao.insertUser(user);
-        User insertedUser = dao.getUserById(newUserId);
+        User insertedUser = dao.getUserById(newUserId).get();
 
         assertEquals(4, insertedUser.getId(), "New user Id should be 4");
         assertEquals("NewUserInsert", insertedUser.getFirstName(), "User first name");
@@ -102,15 +138,36 @@ public class UserProfileDAOTest {
     @Test
     public void testUpdateUserValues() throws Exception {
         User userProfile = new User();
-        assertEquals("Test", dao.getUserById(1).getFirstName());
+        assertEquals("Test", dao.getUserById(1).get().getFirstName());
         userProfile.setFirstName("Randy");
         userProfile.setWebRole(WebRole.SYSTEM);
 
-        User returnedUser = dao.updateUserProfile(1, userProfile);
+        User returnedUser = dao.updateUserProfile(1, userProfile).get();
         assertEquals(userProfile.getFirstName(), returnedUser.getFirstName());
         assertEquals(WebRole.SYSTEM, returnedUser.getWebRole());
     }
 
+    @Test
+    public void testGetUsersSqlBudget() {
+        SqlStatementCounter counter = countSql(() -> dao.getUsers(new UserGetRequest()));
+
+        assertEquals(1, counter.getStatements(), "Statements");
+        assertEquals(3, counter.getRows(), "Rows");
+    }
+
+    @Test
+    public void testUpdateUserProfileSqlBudget() {
+        User userProfile = new User();
+        userProfile.setFirstName("Randy");
+
+        assertSqlBudget(3, () -> dao.updateUserProfile(1, userProfile));
+    }
+
+    @Test
+    public void testUpdateUserLastLoginToNowSqlBudget() {
+        assertSqlBudget(2, () -> dao.updateUserLastLoginToNow(1));
+    }
+
     @Test
     public void testUpdateUniqueEmail() {
         User userProfile = new User();
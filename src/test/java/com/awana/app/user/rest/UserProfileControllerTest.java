@@ -5,12 +5,15 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ContextConfiguration;
 
 import com.awana.InsiteMicroserviceApplication;
@@ -64,7 +67,7 @@ public class UserProfileControllerTest extends BaseControllerTest {
 
     @Test
     public void testGetCurrentUser() throws Exception {
-        when(service.getCurrentUser()).thenReturn(new User());
+        when(service.getCurrentUser()).thenReturn(Optional.of(new User()));
         check(get(USER_PROFILE_PATH + "/current-user", User.class), serializedNonNull(HttpStatus.OK));
 
         verify(service).getCurrentUser();
@@ -72,16 +75,56 @@ public class UserProfileControllerTest extends BaseControllerTest {
 
     @Test
     public void testGetUserById() throws Exception {
-        when(service.getUserById(anyInt())).thenReturn(new User());
+        when(service.getUserById(anyInt())).thenReturn(Optional.of(new User()));
         check(get(USER_PROFILE_PATH + "/3", User.class), serializedNonNull(HttpStatus.OK));
 
         verify(service).getUserById(3);
     }
 
+    @Test
+    public void testGetUserByIdNotModified() throws Exception {
+        when(service.getUserTag(anyInt())).thenReturn(Optional.of("user-3-2"));
+        addHeader(HttpHeaders.IF_NONE_MATCH, "\"user-3-2\"");
+        check(get(USER_PROFILE_PATH + "/3"), httpStatusEquals(HttpStatus.NOT_MODIFIED));
+
+        verify(service).getUserTag(3);
+        verify(service, never()).getUserById(anyInt());
+    }
+
+    @Test
+    public void testGetUserByIdModified() throws Exception {
+        when(service.getUserTag(anyInt())).thenReturn(Optional.of("user-3-3"));
+        when(service.getUserById(anyInt())).thenReturn(Optional.of(new User()));
+        addHeader(HttpHeaders.IF_NONE_MATCH, "\"user-3-2\"");
+        ResponseEntity<User> response = get(USER_PROFILE_PATH + "/3", User.class);
+
+        check(response, serializedNonNull(HttpStatus.OK));
+        assertEquals("\"user-3-3\"", response.getHeaders().getETag(), "ETag should be the new tag");
+        verify(service).getUserById(3);
+    }
+
+    @Test
+    public void testGetCurrentUserNotModified() throws Exception {
+        when(service.getCurrentUserTag()).thenReturn(Optional.of("user-1-1"));
+        addHeader(HttpHeaders.IF_NONE_MATCH, "\"user-1-1\"");
+        check(get(USER_PROFILE_PATH + "/current-user"), httpStatusEquals(HttpStatus.NOT_MODIFIED));
+
+        verify(service, never()).getCurrentUser();
+    }
+
+    @Test
+    public void testGetListOfUsersNotModified() throws Exception {
+        when(service.getUsersTag(any(UserGetRequest.class))).thenReturn("users-3.3.3");
+        addHeader(HttpHeaders.IF_NONE_MATCH, "\"users-3.3.3\"");
+        check(get(USER_PROFILE_PATH), httpStatusEquals(HttpStatus.NOT_MODIFIED));
+
+        verify(service, never()).getUsers(any(UserGetRequest.class));
+    }
+
     @Test
     @ControllerJwt(webRole = WebRole.USER)
     public void testGetUserByIdNonAdmin() throws Exception {
-        when(service.getUserById(anyInt())).thenReturn(new User());
+        when(service.getUserById(anyInt())).thenReturn(Optional.of(new User()));
         check(get(USER_PROFILE_PATH + "/3"), error(HttpStatus.FORBIDDEN, "Insufficient Permissions for role 'USER'"));
 
         verify(service, never()).getUserById(anyInt());
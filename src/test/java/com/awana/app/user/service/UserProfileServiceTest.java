@@ -6,6 +6,7 @@ import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -14,7 +15,6 @@ import org.mockito.Mock;
 import com.awana.app.user.client.domain.User;
 import com.awana.app.user.client.domain.request.UserGetRequest;
 import com.awana.app.user.dao.UserProfileDAO;
-import com.awana.common.exception.NotFoundException;
 import com.awana.common.jwt.utility.JwtHolder;
 import com.awana.test.factory.annotations.AwanaServiceTest;
 import com.awana.test.factory.data.UserFactoryData;
@@ -56,9 +56,9 @@ public class UserProfileServiceTest {
     public void testGetCurrentUser() throws Exception {
         User user = UserFactoryData.userData();
         when(jwtHolder.getUserId()).thenReturn(12);
-        when(userProfileDAO.getUserById(anyInt())).thenReturn(user);
+        when(userProfileDAO.getUserById(anyInt())).thenReturn(Optional.of(user));
 
-        User returnedUser = service.getCurrentUser();
+        User returnedUser = service.getCurrentUser().get();
 
         verify(jwtHolder).getUserId();
         verify(userProfileDAO).getUserById(eq(12));
@@ -68,9 +68,9 @@ public class UserProfileServiceTest {
     @Test
     public void testGetUserById() throws Exception {
         User user = UserFactoryData.userData();
-        when(userProfileDAO.getUserById(anyInt())).thenReturn(user);
+        when(userProfileDAO.getUserById(anyInt())).thenReturn(Optional.of(user));
 
-        User returnedUser = service.getUserById(12);
+        User returnedUser = service.getUserById(12).get();
 
         verify(userProfileDAO).getUserById(eq(12));
         assertEquals(user.getId(), returnedUser.getId(), "User id should be 12");
@@ -78,9 +78,35 @@ public class UserProfileServiceTest {
 
     @Test
     public void testGetUserByIdInvalidUserId() throws Exception {
-        when(userProfileDAO.getUserById(anyInt())).thenThrow(new NotFoundException("User", 100));
+        when(userProfileDAO.getUserById(anyInt())).thenReturn(Optional.empty());
 
-        assertThrows(NotFoundException.class, () -> service.getUserById(100));
+        assertTrue(service.getUserById(100).isEmpty(), "User should not be found");
         verify(userProfileDAO).getUserById(eq(100));
     }
+
+    @Test
+    public void testGetUserTag() {
+        when(userProfileDAO.getUserVersion(anyInt())).thenReturn(Optional.of(4L));
+
+        assertEquals("user-12-4", service.getUserTag(12).get(), "Tag should match");
+        verify(userProfileDAO).getUserVersion(eq(12));
+        verify(userProfileDAO, never()).getUserById(anyInt());
+    }
+
+    @Test
+    public void testGetCurrentUserTagUserNotFound() {
+        when(jwtHolder.getUserId()).thenReturn(12);
+        when(userProfileDAO.getUserVersion(anyInt())).thenReturn(Optional.empty());
+
+        assertTrue(service.getCurrentUserTag().isEmpty(), "Tag should be empty");
+        verify(userProfileDAO).getUserVersion(eq(12));
+    }
+
+    @Test
+    public void testGetUsersTag() {
+        when(userProfileDAO.getUsersVersion(any(UserGetRequest.class))).thenReturn("3.3.5");
+
+        assertEquals("users-3.3.5", service.getUsersTag(new UserGetRequest()), "Tag should match");
+        verify(userProfileDAO, never()).getUsers(any(UserGetRequest.class));
+    }
 }
@@ -0,0 +1,131 @@
+package com.awana.common.annotations.interceptors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import com.awana.app.user.client.domain.User;
+import com.awana.app.user.client.domain.WebRole;
+import com.awana.common.annotations.interfaces.HasAccess;
+import com.awana.common.context.RequestContext;
+import com.awana.common.environment.AppEnvironmentService;
+import com.awana.common.exception.InsufficientPermissionsException;
+import com.awana.common.jwt.domain.JwtPair;
+import com.awana.common.jwt.utility.JwtTokenUtil;
+import com.awana.test.factory.annotations.AwanaServiceTest;
+
+/**
+ * Test class for the Has Access Interceptor.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaServiceTest
+public class HasAccessInterceptorTest {
+
+    @Mock
+    private AppEnvironmentService appEnvironmentService;
+
+    @Mock
+    private ObjectProvider<RequestMappingHandlerMapping> handlerMappings;
+
+    @Mock
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @InjectMocks
+    private JwtTokenUtil jwtTokenUtil;
+
+    private HasAccessInterceptor interceptor;
+
+    private HandlerMethod developerHandler;
+
+    private HandlerMethod openHandler;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        TestController controller = new TestController();
+        developerHandler = new HandlerMethod(controller, TestController.class.getMethod("developer"));
+        openHandler = new HandlerMethod(controller, TestController.class.getMethod("open"));
+
+        when(handlerMappings.orderedStream()).thenReturn(Stream.of(handlerMapping));
+        when(handlerMapping.getHandlerMethods()).thenReturn(Map.of(RequestMappingInfo.paths("/developer").build(),
+                                                                   developerHandler,
+                                                                   RequestMappingInfo.paths("/open").build(),
+                                                                   openHandler));
+        interceptor = new HasAccessInterceptor(handlerMappings);
+        interceptor.afterSingletonsInstantiated();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        RequestContext.clear();
+    }
+
+    @Test
+    public void testRequiredRolesResolvedAtStartup() throws Exception {
+        assertEquals(WebRole.DEVELOPER, interceptor.getRequiredRole(developerHandler.getMethod()), "Required role");
+        assertNull(interceptor.getRequiredRole(openHandler.getMethod()), "Open handler has no role");
+    }
+
+    @Test
+    public void testPreHandleSufficientRole() {
+        open(WebRole.ADMIN);
+
+        assertTrue(interceptor.preHandle(null, null, developerHandler), "Admin should have access");
+    }
+
+    @Test
+    public void testPreHandleInsufficientRole() {
+        open(WebRole.USER);
+
+        InsufficientPermissionsException e = assertThrows(InsufficientPermissionsException.class,
+                                                          () -> interceptor.preHandle(null, null, developerHandler));
+        assertEquals("Insufficient Permissions for role 'USER'", e.getMessage(), "Exception message");
+    }
+
+    @Test
+    public void testPreHandleNoToken() {
+        assertThrows(InsufficientPermissionsException.class, () -> interceptor.preHandle(null, null, developerHandler));
+    }
+
+    @Test
+    public void testPreHandleUnannotatedHandler() {
+        assertTrue(interceptor.preHandle(null, null, openHandler), "Open handler should not need a token");
+        assertTrue(interceptor.preHandle(null, null, new Object()), "Non handler methods are skipped");
+    }
+
+    private void open(WebRole role) {
+        User user = new User();
+        user.setId(12);
+        user.setFirstName("Test");
+        user.setLastName("User");
+        user.setEmail("test@user.com");
+        user.setWebRole(role);
+
+        when(appEnvironmentService.getSigningKey()).thenReturn("test-signing-key");
+        RequestContext.open(new JwtPair(jwtTokenUtil.generateToken(user), appEnvironmentService));
+    }
+
+    /**
+     * Controller with a restricted and an open handler.
+     */
+    public static class TestController {
+
+        @HasAccess(WebRole.DEVELOPER)
+        public void developer() {}
+
+        public void open() {}
+    }
+}
@@ -0,0 +1,65 @@
+package com.awana.common.concurrent;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.awana.test.factory.annotations.AwanaTest;
+
+/**
+ * Test class for the Bounded Data Source.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaTest
+public class BoundedDataSourceTest {
+
+    private DataSource target;
+
+    private BoundedDataSource dataSource;
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(inv -> mock(Connection.class));
+        dataSource = new BoundedDataSource(target, 2, 50);
+    }
+
+    @Test
+    public void testGetConnectionBounded() throws SQLException {
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertEquals(2, dataSource.getActiveConnections(), "Active connections");
+        assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+    }
+
+    @Test
+    public void testCloseReleasesPermitOnce() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        dataSource.getConnection();
+
+        connection.close();
+        connection.close();
+
+        assertEquals(1, dataSource.getActiveConnections(), "Active connections");
+        assertNotNull(dataSource.getConnection(), "Connection after release");
+    }
+
+    @Test
+    public void testGetConnectionFailureReleasesPermit() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("Pool exhausted"));
+
+        assertThrows(SQLException.class, () -> dataSource.getConnection());
+        assertEquals(0, dataSource.getActiveConnections(), "Active connections");
+    }
+}
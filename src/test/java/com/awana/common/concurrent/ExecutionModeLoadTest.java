@@ -0,0 +1,192 @@
+package com.awana.common.concurrent;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.awana.app.authentication.dao.AuthenticationDAO;
+import com.awana.app.user.client.domain.User;
+import com.awana.app.user.client.domain.WebRole;
+import com.awana.app.user.dao.UserProfileDAO;
+import com.awana.common.jwt.utility.JwtTokenUtil;
+import com.awana.common.metrics.LatencyHistogram;
+import com.awana.common.metrics.domain.HistogramSnapshot;
+
+/**
+ * Load test comparing the platform and virtual thread execution modes. The
+ * DAOs are mocked with a fixed delay to stand in for blocking JDBC calls, the
+ * data source hands out mock connections so transactions still check one out,
+ * and authentication runs the real BCrypt check. Each mode is a subclass and the
+ * report printed after each class includes every mode run so far. The virtual
+ * mode is skipped on runtimes without virtual threads, which includes the java
+ * 17 the app is pinned to, instead of repeating the platform run. Run with
+ * {@code ./gradlew loadTest}, tuning with {@code -Dload.clients} and
+ * {@code -Dload.seconds}.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Tag("load")
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT,
+                properties = {"security.signing-key=load-test-signing-key", "spring.datasource.url=jdbc:mysql://localhost/load",
+                              "spring.datasource.username=load", "spring.datasource.password=load"})
+public abstract class ExecutionModeLoadTest {
+    private static final int CLIENTS = Integer.getInteger("load.clients", 200);
+
+    private static final int SECONDS = Integer.getInteger("load.seconds", 10);
+
+    private static final long DB_LATENCY_MILLIS = 20;
+
+    private static final String PASSWORD = "load-test-password";
+
+    private static final String PASSWORD_HASH = BCrypt.hashpw(PASSWORD, BCrypt.gensalt());
+
+    private static final Map<String, String> RESULTS = new TreeMap<>();
+
+    @MockBean
+    private DataSource dataSource;
+
+    @MockBean
+    private UserProfileDAO userDao;
+
+    @MockBean
+    private AuthenticationDAO authDao;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ExecutionMode executionMode;
+
+    @Value("${awana.threads.virtual}")
+    private boolean virtualRequested;
+
+    @Autowired
+    private JwtTokenUtil jwtTokenUtil;
+
+    private User user;
+
+    @AfterAll
+    public static void report() {
+        StringBuilder report = new StringBuilder(
+                String.format("%nExecution mode load test (%d clients, %ds)%n", CLIENTS, SECONDS));
+        RESULTS.forEach((k, v) -> report.append(String.format("%-60s %s%n", k, v)));
+        System.out.println(report);
+    }
+
+    @BeforeEach
+    public void setup() throws Exception {
+        assumeTrue(!virtualRequested || executionMode.isVirtual(), "Virtual threads are not supported");
+
+        user = new User();
+        user.setId(12);
+        user.setFirstName("Load");
+        user.setLastName("Test");
+        user.setEmail("load@test.com");
+        user.setWebRole(WebRole.ADMIN);
+
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(userDao.getUsers(any())).thenAnswer(inv -> {
+            Thread.sleep(DB_LATENCY_MILLIS);
+            return Arrays.asList(user);
+        });
+        when(authDao.getUserAuthPassword(anyString())).thenAnswer(inv -> {
+            Thread.sleep(DB_LATENCY_MILLIS);
+            return Optional.of(PASSWORD_HASH);
+        });
+    }
+
+    @Test
+    public void testUserProfileLoad() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/user-app/profile"))
+                .header("Authorization", "Bearer: " + jwtTokenUtil.generateToken(user)).GET().build();
+        run("GET /api/user-app/profile", request);
+    }
+
+    @Test
+    public void testAuthenticateLoad() throws Exception {
+        String body = String.format("{\"email\":\"%s\",\"password\":\"%s\"}", user.getEmail(), PASSWORD);
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/authenticate"))
+                .header("Content-Type", "application/json").POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        run("POST /api/authenticate", request);
+    }
+
+    /**
+     * Runs a closed loop of clients sending the request until the duration is
+     * up and records the result for the report.
+     */
+    private void run(String name, HttpRequest request) throws Exception {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        LatencyHistogram latency = new LatencyHistogram();
+        LongAdder errors = new LongAdder();
+        long begin = System.nanoTime();
+        long deadline = begin + TimeUnit.SECONDS.toNanos(SECONDS);
+
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        for(int i = 0; i < CLIENTS; i++) {
+            clients.execute(() -> {
+                while(System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if(response.statusCode() != 200) {
+                            errors.increment();
+                        }
+                    }
+                    catch(Exception e) {
+                        errors.increment();
+                    }
+                    latency.record(System.nanoTime() - start);
+                }
+            });
+        }
+        clients.shutdown();
+        assertTrue(clients.awaitTermination(SECONDS + 60, TimeUnit.SECONDS), "Clients should finish");
+        double elapsed = (System.nanoTime() - begin) / 1e9;
+
+        HistogramSnapshot snapshot = latency.snapshot();
+        String mode = virtualRequested ? "virtual" : "platform";
+        RESULTS.put(name + " [" + mode + "]",
+                    String.format("%8.1f req/s  p50 %6dms  p99 %6dms  errors %d", snapshot.getCount() / elapsed,
+                                  snapshot.getP50Micros() / 1000, snapshot.getP99Micros() / 1000, errors.sum()));
+        assertEquals(0, errors.sum(), "Load errors for " + name);
+    }
+
+    private URI uri(String path) {
+        return URI.create(String.format("http://localhost:%d%s", port, path));
+    }
+}
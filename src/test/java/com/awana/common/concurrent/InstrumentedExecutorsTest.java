@@ -0,0 +1,114 @@
+package com.awana.common.concurrent;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import com.awana.common.metrics.MetricsRegistry;
+import com.awana.common.metrics.domain.MetricsSnapshot;
+import com.awana.test.factory.annotations.AwanaTest;
+
+/**
+ * Test class for the Instrumented Executors.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaTest
+public class InstrumentedExecutorsTest {
+
+    private MetricsRegistry metrics;
+
+    private InstrumentedExecutors instrumentedExecutors;
+
+    @BeforeEach
+    public void setup() {
+        metrics = new MetricsRegistry();
+        instrumentedExecutors = new InstrumentedExecutors(metrics);
+    }
+
+    @Test
+    public void testExecutorReportsSaturation() throws InterruptedException {
+        AtomicInteger decorated = new AtomicInteger();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        instrumentedExecutors.instrument("test", executor, runnable -> {
+            decorated.incrementAndGet();
+            return runnable;
+        });
+        executor.initialize();
+
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(2);
+            executor.execute(() -> {
+                started.countDown();
+                await(release);
+                done.countDown();
+            });
+            executor.execute(done::countDown);
+            assertTrue(started.await(5, TimeUnit.SECONDS), "First task started");
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {}), "Pool is full");
+
+            MetricsSnapshot busy = metrics.snapshot();
+            assertEquals(1, busy.getGauges().get("executor.test.active").intValue(), "Active threads");
+            assertEquals(1, busy.getGauges().get("executor.test.queued").intValue(), "Queued tasks");
+            assertEquals(1, busy.getGauges().get("executor.test.pool").intValue(), "Pool size");
+            assertEquals(1L, busy.getCounters().get("executor.test.rejected"), "Rejected tasks");
+
+            release.countDown();
+            assertTrue(done.await(5, TimeUnit.SECONDS), "Tasks finished");
+            executor.shutdown();
+            assertTrue(executor.getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS), "Pool stopped");
+
+            MetricsSnapshot idle = metrics.snapshot();
+            assertEquals(2, idle.getHistograms().get("executor.test.wait").getCount(), "Wait samples");
+            assertEquals(2, idle.getHistograms().get("executor.test.run").getCount(), "Run samples");
+            assertEquals(3, decorated.get(), "Decorator applied to each submitted task");
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testSchedulerCountsOnlyDueTasks() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        instrumentedExecutors.instrument("scheduler", scheduler);
+        assertEquals(0, metrics.snapshot().getGauges().get("executor.scheduler.queued").intValue(),
+                     "Not initialized");
+        scheduler.initialize();
+
+        try {
+            scheduler.getScheduledExecutor().schedule(() -> {}, 1, TimeUnit.HOURS);
+
+            MetricsSnapshot snapshot = metrics.snapshot();
+            assertEquals(0, snapshot.getGauges().get("executor.scheduler.queued").intValue(), "Nothing due");
+            assertEquals(1, snapshot.getGauges().get("executor.scheduler.pool").intValue(), "Pool size");
+        }
+        finally {
+            scheduler.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
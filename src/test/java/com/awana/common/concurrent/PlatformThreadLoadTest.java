@@ -0,0 +1,12 @@
+package com.awana.common.concurrent;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Load test for the platform thread execution mode.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@TestPropertySource(properties = "awana.threads.virtual=false")
+public class PlatformThreadLoadTest extends ExecutionModeLoadTest {}
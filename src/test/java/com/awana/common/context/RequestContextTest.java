@@ -0,0 +1,108 @@
+package com.awana.common.context;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import com.awana.app.user.client.domain.User;
+import com.awana.app.user.client.domain.WebRole;
+import com.awana.common.environment.AppEnvironmentService;
+import com.awana.common.jwt.domain.JwtPair;
+import com.awana.common.jwt.utility.JwtTokenUtil;
+import com.awana.test.factory.annotations.AwanaServiceTest;
+
+/**
+ * Test class for the Request Context.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaServiceTest
+public class RequestContextTest {
+
+    @Mock
+    private AppEnvironmentService appEnvironmentService;
+
+    @InjectMocks
+    private JwtTokenUtil jwtTokenUtil;
+
+    private JwtPair pair;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        User user = new User();
+        user.setId(12);
+        user.setFirstName("Test");
+        user.setLastName("User");
+        user.setEmail("test@user.com");
+        user.setWebRole(WebRole.ADMIN);
+
+        when(appEnvironmentService.getSigningKey()).thenReturn("test-signing-key");
+        pair = new JwtPair(jwtTokenUtil.generateToken(user), appEnvironmentService);
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        RequestContext.clear();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testCurrentEmpty() {
+        RequestContext context = RequestContext.current();
+
+        assertFalse(context.isAuthenticated(), "Not authenticated");
+        assertNull(context.getWebRole(), "Web role");
+        assertNull(context.getUserId(), "User id");
+    }
+
+    @Test
+    public void testOpenAndClose() {
+        RequestContext.Scope scope = RequestContext.open(pair);
+        try(scope) {
+            assertEquals(WebRole.ADMIN, RequestContext.current().getWebRole(), "Web role");
+            assertEquals(12, RequestContext.current().getUserId(), "User id");
+            assertEquals("test@user.com", RequestContext.current().getUser().getEmail(), "User email");
+        }
+        assertFalse(RequestContext.current().isAuthenticated(), "Context should be restored");
+    }
+
+    @Test
+    public void testWrapPropagatesToExecutor() throws Exception {
+        RequestContext.open(pair);
+
+        CompletableFuture<Integer> userId = CompletableFuture
+                .supplyAsync(() -> RequestContext.current().getUserId(), r -> executor.execute(RequestContext.wrap(r)));
+        assertEquals(12, userId.get(), "User id on executor thread");
+
+        RequestContext.clear();
+        assertNull(executor.submit(() -> RequestContext.current().getUserId()).get(), "Executor thread cleared");
+    }
+
+    @Test
+    public void testCaptureAndRestore() throws Exception {
+        RequestContext.open(pair);
+        RequestContext captured = RequestContext.capture();
+        RequestContext.clear();
+
+        Integer userId = executor.submit(() -> {
+            RequestContext.Scope scope = captured.restore();
+            try(scope) {
+                return RequestContext.current().getUserId();
+            }
+        }).get();
+        assertEquals(12, userId, "Restored user id");
+    }
+}
@@ -0,0 +1,102 @@
+package com.awana.common.datetime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+
+import com.awana.test.factory.annotations.AwanaTest;
+
+/**
+ * Test class for the Timestamp Codec.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaTest
+public class TimestampCodecTest {
+
+    @Test
+    public void testPrintDateMatchesSimpleDateFormat() {
+        SimpleDateFormat format = new SimpleDateFormat(TimestampCodec.PATTERN);
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        long[] edges = {0, -1, -12_219_292_800_000L, 253_402_300_799_999L, 951_782_400_000L, 1_709_164_800_000L};
+        for(long millis : edges) {
+            assertEquals(format.format(new Date(millis)), TimestampCodec.print(new Date(millis)), "Date " + millis);
+        }
+
+        Random random = new Random(19);
+        for(int i = 0; i < 10_000; i++) {
+            long millis = -12_219_292_800_000L + (long) (random.nextDouble() * 265_621_593_600_000L);
+            assertEquals(format.format(new Date(millis)), TimestampCodec.print(new Date(millis)), "Date " + millis);
+        }
+    }
+
+    @Test
+    public void testPrintLocalDateTimeMatchesFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(TimestampCodec.PATTERN);
+        LocalDateTime[] dates = {LocalDateTime.of(1, 1, 1, 0, 0, 0), LocalDateTime.of(2024, 2, 29, 23, 59, 59, 999),
+                                 LocalDateTime.of(9999, 12, 31, 12, 5, 7), LocalDateTime.of(987, 6, 5, 4, 3, 2)};
+        for(LocalDateTime dt : dates) {
+            assertEquals(dt.format(formatter), TimestampCodec.print(dt), "Date time " + dt);
+        }
+    }
+
+    @Test
+    public void testWriteAtOffset() {
+        byte[] buffer = new byte[TimestampCodec.LENGTH + 2];
+
+        int end = TimestampCodec.write(LocalDateTime.of(2026, 10, 19, 8, 30, 0), buffer, 1);
+        assertEquals(TimestampCodec.LENGTH + 1, end, "End offset");
+        assertEquals("2026-10-19 08:30:00", new String(buffer, 1, TimestampCodec.LENGTH), "Written timestamp");
+        assertEquals(0, buffer[0], "Bytes before the offset are untouched");
+    }
+
+    @Test
+    public void testParse() {
+        assertEquals(LocalDateTime.of(2024, 2, 29, 23, 59, 59), TimestampCodec.parse("2024-02-29 23:59:59"), "Parsed");
+        assertEquals(new Date(0), TimestampCodec.parseDate("1970-01-01 00:00:00"), "Parsed date");
+    }
+
+    @Test
+    public void testParseInvalid() {
+        String[] invalid = {"", "2024-02-29", "2024-02-29T23:59:59", "2024-0a-29 23:59:59", "2023-02-29 00:00:00",
+                            "2024-13-01 00:00:00", "2024-01-01 24:00:00", "2024-01-01 00:00:00.0"};
+        for(String text : invalid) {
+            assertThrows(DateTimeParseException.class, () -> TimestampCodec.parse(text), "Invalid '" + text + "'");
+        }
+    }
+
+    @Test
+    public void testDateTimeMapperFallsBackOutsideRange() {
+        SimpleDateFormat format = new SimpleDateFormat(TimestampCodec.PATTERN);
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        Date julian = new Date(-20_000_000_000_000L);
+
+        assertFalse(TimestampCodec.canWrite(julian.getTime()), "Julian dates are not written by the codec");
+        assertEquals(format.format(julian), DateTimeMapper.printDate(julian), "Julian date");
+        assertEquals("+10000-01-01 00:00:00", DateTimeMapper.printDate(LocalDateTime.of(10000, 1, 1, 0, 0)),
+                     "Year past 9999");
+        assertEquals("0001-01-01 00:00:00", DateTimeMapper.printDate(LocalDateTime.of(0, 1, 1, 0, 0)),
+                     "Year zero is printed as its year of era");
+    }
+
+    @Test
+    public void testDateTimeMapperCachedFormats() {
+        Date date = new Date(1_709_164_800_000L);
+
+        assertEquals("02/29/2024", DateTimeMapper.printDate(date, "MM/dd/yyyy"), "UTC format");
+        assertEquals("02/28/2024 18", DateTimeMapper.printDate(date, "MM/dd/yyyy HH", "America/Chicago"),
+                     "Chicago format");
+        assertEquals("2024/02/29", DateTimeMapper.printDate(LocalDateTime.of(2024, 2, 29, 0, 0), "yyyy/MM/dd"),
+                     "Local date time format");
+        assertNull(DateTimeMapper.parseDate(null), "Null value");
+    }
+}
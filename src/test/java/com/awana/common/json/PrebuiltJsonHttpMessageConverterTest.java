@@ -0,0 +1,103 @@
+package com.awana.common.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.awana.app.authentication.client.domain.AuthToken;
+import com.awana.app.user.client.domain.User;
+import com.awana.app.user.client.domain.WebRole;
+import com.awana.common.exception.domain.ExceptionError;
+import com.awana.configs.ObjectMapperConfiguration;
+import com.awana.test.factory.annotations.AwanaTest;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Test class for the Prebuilt Json Http Message Converter.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaTest
+public class PrebuiltJsonHttpMessageConverterTest {
+    private static final Type USER_LIST = new TypeReference<List<User>>() {}.getType();
+
+    private ObjectMapper objectMapper;
+
+    private PrebuiltJsonHttpMessageConverter converter;
+
+    @BeforeEach
+    public void setup() {
+        ObjectMapperConfiguration configuration = new ObjectMapperConfiguration();
+        objectMapper = configuration.objectMapper();
+        converter = new PrebuiltJsonHttpMessageConverter(configuration.jsonCodecs(objectMapper));
+    }
+
+    @Test
+    public void testCanWriteRegisteredTypes() {
+        assertTrue(converter.canWrite(AuthToken.class, AuthToken.class, MediaType.APPLICATION_JSON), "Auth token");
+        assertTrue(converter.canWrite(USER_LIST, List.class, MediaType.APPLICATION_JSON), "User list");
+        assertTrue(converter.canWrite(Object.class, ExceptionError.class, null), "Declared as object");
+        assertFalse(converter.canWrite(String.class, String.class, MediaType.APPLICATION_JSON), "Unregistered type");
+        assertFalse(converter.canWrite(User.class, User.class, MediaType.TEXT_PLAIN), "Not JSON");
+        assertFalse(converter.canWrite(User.class, User.class, new MediaType(MediaType.APPLICATION_JSON,
+                                                                             StandardCharsets.UTF_16)),
+                    "Not UTF-8");
+    }
+
+    @Test
+    public void testWriteMatchesObjectMapper() throws Exception {
+        AuthToken token = new AuthToken("jwt", LocalDateTime.of(2026, 10, 19, 8, 30),
+                                        LocalDateTime.of(2026, 10, 19, 9, 30), user(1));
+        List<User> users = List.of(user(1), user(2));
+
+        assertEquals(objectMapper.writeValueAsString(token), write(token, AuthToken.class), "Auth token JSON");
+        assertEquals(objectMapper.writeValueAsString(users), write(users, USER_LIST), "User list JSON");
+    }
+
+    @Test
+    public void testRead() throws Exception {
+        MockHttpInputMessage input = new MockHttpInputMessage(objectMapper.writeValueAsBytes(user(3)));
+
+        assertTrue(converter.canRead(User.class, null, MediaType.APPLICATION_JSON), "Can read user");
+        User user = (User) converter.read(User.class, null, input);
+        assertEquals(3, user.getId(), "User id");
+        assertEquals(WebRole.ADMIN, user.getWebRole(), "User role");
+    }
+
+    @Test
+    public void testReadInvalid() {
+        MockHttpInputMessage input = new MockHttpInputMessage("{\"id\":".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(HttpMessageNotReadableException.class, () -> converter.read(User.class, null, input));
+    }
+
+    private String write(Object value, Type type) throws Exception {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(value, type, MediaType.APPLICATION_JSON, output);
+        assertEquals(MediaType.APPLICATION_JSON, output.getHeaders().getContentType(), "Content type");
+        return output.getBodyAsString(StandardCharsets.UTF_8);
+    }
+
+    private User user(int id) {
+        User user = new User();
+        user.setId(id);
+        user.setFirstName("Test");
+        user.setLastName("User " + id);
+        user.setEmail("user" + id + "@test.com");
+        user.setWebRole(WebRole.ADMIN);
+        user.setInsertDate(LocalDateTime.of(2026, 1, 1, 0, 0));
+        return user;
+    }
+}
@@ -0,0 +1,61 @@
+package com.awana.common.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.awana.common.metrics.domain.HistogramSnapshot;
+import com.awana.test.factory.annotations.AwanaTest;
+
+/**
+ * Test class for the Latency Histogram.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaTest
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketUpperBoundContainsValue() {
+        for(long value = 0; value < 1_000_000; value += 7) {
+            int bucket = LatencyHistogram.bucket(value);
+            assertTrue(value <= LatencyHistogram.upperBound(bucket), "Value should be within bucket " + value);
+            if(bucket > 0) {
+                assertTrue(value > LatencyHistogram.upperBound(bucket - 1), "Value should be above prior bucket " + value);
+            }
+        }
+    }
+
+    @Test
+    public void testSnapshotEmpty() {
+        HistogramSnapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertEquals(0, snapshot.getCount(), "Count");
+        assertEquals(0, snapshot.getP99Micros(), "P99");
+    }
+
+    @Test
+    public void testSnapshotPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for(int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.getCount(), "Count");
+        assertEquals(500, snapshot.getMeanMicros(), 1, "Mean");
+        assertEquals(500, snapshot.getP50Micros(), 500 * 0.125, "P50");
+        assertEquals(990, snapshot.getP99Micros(), 990 * 0.125, "P99");
+        assertEquals(1000, snapshot.getMaxMicros(), "Max");
+    }
+
+    @Test
+    public void testRecordNegativeValue() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+
+        assertEquals(1, histogram.snapshot().getCount(), "Count");
+        assertEquals(0, histogram.snapshot().getMaxMicros(), "Max");
+    }
+}
@@ -0,0 +1,70 @@
+package com.awana.common.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.awana.common.metrics.domain.MetricsSnapshot;
+import com.awana.common.metrics.domain.RouteSnapshot;
+import com.awana.test.factory.annotations.AwanaTest;
+
+/**
+ * Test class for the Metrics Registry.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaTest
+public class MetricsRegistryTest {
+
+    private MetricsRegistry registry;
+
+    @BeforeEach
+    public void setup() {
+        registry = new MetricsRegistry();
+    }
+
+    @Test
+    public void testRecordRequest() {
+        registry.recordRequest("GET /api/user-app/profile/{id}", 200, 1000, 5000);
+        registry.recordRequest("GET /api/user-app/profile/{id}", 404, 1000, 5000);
+        registry.recordRequest("GET /api/user-app/profile/{id}", 401, 1000, -1);
+
+        List<RouteSnapshot> routes = registry.getRouteSnapshots();
+        assertEquals(1, routes.size(), "Route count");
+
+        RouteSnapshot route = routes.get(0);
+        assertEquals(3, route.getRequests(), "Request count");
+        assertEquals(1, route.getStatuses().get("2xx"), "2xx count");
+        assertEquals(2, route.getStatuses().get("4xx"), "4xx count");
+        assertEquals(3, route.getValidation().getCount(), "Validation count");
+        assertEquals(2, route.getHandler().getCount(), "Handler count");
+    }
+
+    @Test
+    public void testRecordRequestOverflowRoute() {
+        for(int i = 0; i < MetricsRegistry.MAX_ROUTES + 10; i++) {
+            registry.recordRequest("GET /route/" + i, 200, 0, 0);
+        }
+
+        List<RouteSnapshot> routes = registry.getRouteSnapshots();
+        assertEquals(MetricsRegistry.MAX_ROUTES + 1, routes.size(), "Route count");
+        assertTrue(routes.stream().anyMatch(r -> r.getRoute().equals(MetricsRegistry.OVERFLOW_ROUTE)),
+                   "Overflow route");
+    }
+
+    @Test
+    public void testSnapshot() {
+        registry.counter("test.counter").add(3);
+        registry.registerGauge("test.gauge", () -> 7);
+        registry.histogram("test.histogram").record(2000);
+
+        MetricsSnapshot snapshot = registry.snapshot();
+        assertEquals(3, snapshot.getCounters().get("test.counter"), "Counter");
+        assertEquals(7, snapshot.getGauges().get("test.gauge"), "Gauge");
+        assertEquals(1, snapshot.getHistograms().get("test.histogram").getCount(), "Histogram");
+    }
+}
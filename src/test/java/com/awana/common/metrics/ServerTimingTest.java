@@ -0,0 +1,90 @@
+package com.awana.common.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.awana.test.factory.annotations.AwanaTest;
+
+/**
+ * Test class for the Server Timing spans and policy.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaTest
+public class ServerTimingTest {
+
+    @AfterEach
+    public void cleanup() {
+        ServerTiming.end();
+    }
+
+    @Test
+    public void testStartWithoutTimingIsNoop() {
+        assertNull(ServerTiming.current(), "No timing bound");
+        ServerTiming.Span first = ServerTiming.start(ServerTiming.SQL);
+        ServerTiming.Span second = ServerTiming.start(ServerTiming.TOKEN);
+        first.close();
+
+        assertSame(first, second, "Shared noop span");
+        assertNull(ServerTiming.current(), "Still no timing bound");
+    }
+
+    @Test
+    public void testSpansAddUpPerMetric() {
+        ServerTiming timing = ServerTiming.begin();
+        ServerTiming.start(ServerTiming.TOKEN).close();
+        ServerTiming.start(ServerTiming.SQL).close();
+        ServerTiming.start(ServerTiming.SQL).close();
+        ServerTiming.end();
+
+        String header = timing.toHeaderValue();
+        assertTrue(header.matches("token;dur=\\d+\\.\\d{3}, sql;dur=\\d+\\.\\d{3};desc=\"2 calls\""), header);
+        assertNull(ServerTiming.current(), "Timing removed");
+    }
+
+    @Test
+    public void testRecordFormatsMillis() {
+        ServerTiming timing = ServerTiming.begin();
+        timing.record(ServerTiming.BCRYPT, 1500000);
+        timing.record(ServerTiming.TOTAL, 2250000);
+
+        assertEquals("bcrypt;dur=1.500, total;dur=2.250", timing.toHeaderValue(), "Header value");
+    }
+
+    @Test
+    public void testPolicyDisabled() {
+        ServerTimingPolicy policy = new ServerTimingPolicy(false, 0);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(ServerTimingPolicy.REQUEST_HEADER, "true");
+
+        assertFalse(policy.shouldTime(request), "Header ignored when disabled");
+    }
+
+    @Test
+    public void testPolicyRequestHeader() {
+        ServerTimingPolicy policy = new ServerTimingPolicy(true, 0);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        assertFalse(policy.shouldTime(request), "Not asked for");
+
+        request.addHeader(ServerTimingPolicy.REQUEST_HEADER, "true");
+        assertTrue(policy.shouldTime(request), "Asked for");
+    }
+
+    @Test
+    public void testPolicySampleRate() {
+        assertTrue(new ServerTimingPolicy(false, 1).shouldTime(new MockHttpServletRequest()), "Always sampled");
+    }
+
+    @Test
+    public void testPolicySkipsSocketHandshake() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Upgrade", "websocket");
+        request.addHeader(ServerTimingPolicy.REQUEST_HEADER, "true");
+
+        assertFalse(new ServerTimingPolicy(true, 1).shouldTime(request), "Handshake not timed");
+    }
+}
@@ -0,0 +1,58 @@
+package com.awana.common.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import com.awana.common.metrics.domain.BeanStartupSnapshot;
+import com.awana.common.metrics.domain.StartupSnapshot;
+import com.awana.test.factory.annotations.AwanaTest;
+
+/**
+ * Test class for the Startup Report.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaTest
+public class StartupReportTest {
+
+    @Test
+    public void testDependenciesTakenOffBeanTime() throws Exception {
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(16);
+        StartupStep controller = startup.start(StartupReport.BEAN_STEP).tag("beanName", "controller");
+        StartupStep service = startup.start(StartupReport.BEAN_STEP).tag("beanName", "service");
+        Thread.sleep(30);
+        service.end();
+        startup.start("spring.context.refresh").end();
+        controller.end();
+
+        StartupSnapshot snapshot = StartupReport.build(startup.getBufferedTimeline().getEvents(), 100);
+
+        assertEquals(100, snapshot.getReadyMillis(), "Ready millis");
+        assertEquals(2, snapshot.getBeans(), "Bean count");
+        List<BeanStartupSnapshot> beans = snapshot.getSlowestBeans();
+        assertEquals("service", beans.get(0).getBean(), "Slowest bean");
+        assertEquals("controller", beans.get(1).getBean(), "Second bean");
+        assertTrue(beans.get(0).getSelfMicros() >= 30000, "Service self time");
+        assertTrue(beans.get(1).getTotalMicros() >= beans.get(0).getTotalMicros(), "Controller includes service");
+        assertTrue(beans.get(1).getSelfMicros() < beans.get(0).getSelfMicros(), "Controller excludes service");
+    }
+
+    @Test
+    public void testSlowestBeansAreCapped() {
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(64);
+        for(int i = 0; i < StartupReport.SLOWEST_BEANS + 5; i++) {
+            startup.start(StartupReport.BEAN_STEP).tag("beanName", "bean" + i).end();
+        }
+
+        StartupSnapshot snapshot = StartupReport.build(startup.getBufferedTimeline().getEvents(), 0);
+
+        assertEquals(StartupReport.SLOWEST_BEANS + 5, snapshot.getBeans(), "Bean count");
+        assertEquals(StartupReport.SLOWEST_BEANS, snapshot.getSlowestBeans().size(), "Slowest beans");
+    }
+}
@@ -0,0 +1,42 @@
+package com.awana.configs;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import com.awana.test.factory.annotations.AwanaTest;
+
+/**
+ * Test class for the Awana Config Environment Post Processor.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaTest
+public class AwanaConfigEnvironmentPostProcessorTest {
+    private static final String LOCATION = "config/awana-defaults-test.yml";
+
+    @Test
+    public void testDefaultsLoaded() {
+        StandardEnvironment environment = new StandardEnvironment();
+        new AwanaConfigEnvironmentPostProcessor(LOCATION).postProcessEnvironment(environment, null);
+
+        assertEquals("default", environment.getProperty("awana.defaults-test.name"), "Name");
+        assertEquals(64, environment.getProperty("awana.defaults-test.size", Integer.class), "Size");
+    }
+
+    @Test
+    public void testDefaultsOverridden() {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources()
+                .addFirst(new MapPropertySource("app", Map.of("awana.defaults-test.name", "app")));
+        new AwanaConfigEnvironmentPostProcessor(LOCATION).postProcessEnvironment(environment, null);
+
+        assertEquals("app", environment.getProperty("awana.defaults-test.name"), "Name");
+        assertEquals(64, environment.getProperty("awana.defaults-test.size", Integer.class), "Size");
+    }
+}
@@ -0,0 +1,36 @@
+package com.awana.gateway.domain.abstracts;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.awana.test.factory.annotations.AwanaTest;
+
+/**
+ * Test class for the Common Token Validator.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaTest
+public class CommonTokenValidatorTest {
+
+    @Test
+    public void testRequestPathIgnoresRawUri() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/api/subscription-app;x=1/%75sers");
+        request.setContextPath("/app");
+        request.setServletPath("/api/subscription-app/users");
+
+        assertEquals("/api/subscription-app/users", CommonTokenValidator.getRequestPath(request), "Request path");
+    }
+
+    @Test
+    public void testRequestPathWithPathInfo() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user-app/profile/3");
+        request.setServletPath("/api");
+        request.setPathInfo("/user-app/profile/3");
+
+        assertEquals("/api/user-app/profile/3", CommonTokenValidator.getRequestPath(request), "Request path");
+    }
+}
@@ -0,0 +1,173 @@
+package com.awana.gateway.load;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.awana.app.user.client.domain.User;
+import com.awana.common.jwt.utility.JwtTokenUtil;
+
+/**
+ * End to end load test of the authentication and user profile endpoints. The
+ * app runs on a random port against an in memory H2 database in MySQL mode,
+ * built from the db/migration scripts and seeded with {@code load.seed-users}
+ * users by the {@link LoadDataSeeder}. Each endpoint is then driven by the
+ * {@link LoadGenerator}, first with a closed workload of {@code load.clients}
+ * clients and then with an open workload arriving at {@code load.rate}
+ * requests a second, each for {@code load.seconds}.
+ *
+ * Every request picks a random seeded user so the lookups spread over the
+ * whole table. The profile listing is filtered by the email of that user since
+ * an unfiltered listing returns the whole table. The report has the
+ * throughput, latency percentiles and error rate of each endpoint and model.
+ * Closed runs must be error free. Open runs only report their errors since a
+ * rate above what the app can serve is expected to time out. Run with
+ * {@code ./gradlew httpLoadTest}, e.g. {@code -Dload.seed-users=1000000}.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@Tag("load")
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.MethodName.class)
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT,
+                properties = {"security.signing-key=load-test-signing-key",
+                              "spring.datasource.url=jdbc:h2:mem:load;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE;DB_CLOSE_DELAY=-1",
+                              "spring.datasource.driver-class-name=org.h2.Driver", "spring.datasource.username=sa",
+                              "spring.datasource.password="})
+public class EndpointLoadTest {
+    private static final int SEED_USERS = Integer.getInteger("load.seed-users", 1000);
+
+    private static final int CLIENTS = Integer.getInteger("load.clients", 20);
+
+    private static final int RATE = Integer.getInteger("load.rate", 100);
+
+    private static final int SECONDS = Integer.getInteger("load.seconds", 10);
+
+    private static final int TOKENS = Math.min(SEED_USERS, 1000);
+
+    private static final String PASSWORD = "load-test-password";
+
+    private static final List<LoadGenerator.Result> RESULTS = new ArrayList<>();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtTokenUtil jwtTokenUtil;
+
+    private final LoadGenerator generator = new LoadGenerator();
+
+    private final Map<String, Supplier<HttpRequest.Builder>> endpoints = new LinkedHashMap<>();
+
+    private String[] userTokens;
+
+    private String adminToken;
+
+    @BeforeAll
+    public static void seed(@Autowired DataSource dataSource) throws Exception {
+        LoadDataSeeder seeder = new LoadDataSeeder(dataSource);
+        seeder.buildTables();
+        seeder.seedUsers(SEED_USERS, BCrypt.hashpw(PASSWORD, BCrypt.gensalt()));
+    }
+
+    @AfterAll
+    public static void report() {
+        StringBuilder report = new StringBuilder(
+                String.format("%nEndpoint load test (%d users, %ds per run)%n", SEED_USERS, SECONDS));
+        RESULTS.forEach(r -> report.append(String.format("%-42s %-18s %s%n", r.getName(), r.getModel(), r)));
+        System.out.println(report);
+    }
+
+    @BeforeEach
+    public void setup() {
+        userTokens = new String[TOKENS];
+        for(int i = 0; i < TOKENS; i++) {
+            userTokens[i] = token(randomUser());
+        }
+        adminToken = token(1);
+
+        endpoints.put("POST /api/authenticate", () -> {
+            String body = String.format("{\"email\":\"%s\",\"password\":\"%s\"}",
+                                        LoadDataSeeder.email(randomUser()), PASSWORD);
+            return HttpRequest.newBuilder(uri("/api/authenticate")).header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body));
+        });
+        endpoints.put("POST /api/reauthenticate",
+                      () -> HttpRequest.newBuilder(uri("/api/reauthenticate")).header("Authorization", randomUserToken())
+                              .POST(HttpRequest.BodyPublishers.noBody()));
+        endpoints.put("GET /api/user-app/profile?email",
+                      () -> get("/api/user-app/profile?email=" + LoadDataSeeder.email(randomUser()), adminToken));
+        endpoints.put("GET /api/user-app/profile/{id}",
+                      () -> get("/api/user-app/profile/" + randomUser(), adminToken));
+        endpoints.put("GET /api/user-app/profile/current-user",
+                      () -> get("/api/user-app/profile/current-user", randomUserToken()));
+    }
+
+    @Test
+    public void testClosedWorkload() throws Exception {
+        for(Map.Entry<String, Supplier<HttpRequest.Builder>> endpoint : endpoints.entrySet()) {
+            LoadGenerator.Result result = generator.closed(endpoint.getKey(), CLIENTS, Duration.ofSeconds(SECONDS),
+                                                           endpoint.getValue());
+            RESULTS.add(result);
+            assertEquals(0, result.getErrors(), "Load errors for " + endpoint.getKey());
+        }
+    }
+
+    @Test
+    public void testOpenWorkload() throws Exception {
+        for(Map.Entry<String, Supplier<HttpRequest.Builder>> endpoint : endpoints.entrySet()) {
+            RESULTS.add(generator.open(endpoint.getKey(), RATE, Duration.ofSeconds(SECONDS), endpoint.getValue()));
+        }
+    }
+
+    private HttpRequest.Builder get(String path, String authorization) {
+        return HttpRequest.newBuilder(uri(path)).header("Authorization", authorization).GET();
+    }
+
+    private String token(int id) {
+        User user = new User();
+        user.setId(id);
+        user.setFirstName("Load");
+        user.setLastName("User" + id);
+        user.setEmail(LoadDataSeeder.email(id));
+        user.setWebRole(LoadDataSeeder.webRole(id));
+        return "Bearer: " + jwtTokenUtil.generateToken(user);
+    }
+
+    private String randomUserToken() {
+        return userTokens[ThreadLocalRandom.current().nextInt(TOKENS)];
+    }
+
+    private static int randomUser() {
+        return ThreadLocalRandom.current().nextInt(SEED_USERS) + 1;
+    }
+
+    private URI uri(String path) {
+        return URI.create(String.format("http://localhost:%d%s", port, path));
+    }
+}
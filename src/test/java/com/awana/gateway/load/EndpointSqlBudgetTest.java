@@ -0,0 +1,132 @@
+package com.awana.gateway.load;
+
+import static com.awana.test.factory.abstracts.RequestTestUtil.*;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.awana.app.user.client.domain.User;
+import com.awana.common.jwt.utility.JwtTokenUtil;
+
+/**
+ * Pins the sql budget of the authentication and user profile endpoints. The
+ * app runs against the same in memory H2 stack as the {@link EndpointLoadTest},
+ * with real services and DAOs, and {@code awana.sql.statement-header} on so
+ * each response carries the statements it ran. Every endpoint must stay within
+ * its statement budget and run no fragment more than once, so an added query
+ * or an N+1 lookup fails the build.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT,
+                properties = {"security.signing-key=sql-budget-signing-key", "awana.sql.statement-header=true",
+                              "spring.datasource.url=jdbc:h2:mem:budget;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE;DB_CLOSE_DELAY=-1",
+                              "spring.datasource.driver-class-name=org.h2.Driver", "spring.datasource.username=sa",
+                              "spring.datasource.password="})
+public class EndpointSqlBudgetTest {
+    private static final int SEED_USERS = 10;
+
+    private static final int USER_ID = 5;
+
+    private static final String PASSWORD = "sql-budget-password";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JwtTokenUtil jwtTokenUtil;
+
+    @BeforeAll
+    public static void seed(@Autowired DataSource dataSource) throws Exception {
+        LoadDataSeeder seeder = new LoadDataSeeder(dataSource);
+        seeder.buildTables();
+        seeder.seedUsers(SEED_USERS, BCrypt.hashpw(PASSWORD, BCrypt.gensalt()));
+    }
+
+    @Test
+    public void testAuthenticate() {
+        String body = String.format("{\"email\":\"%s\",\"password\":\"%s\"}", LoadDataSeeder.email(USER_ID),
+                                    PASSWORD);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        ResponseEntity<String> response = exchange("/api/authenticate", HttpMethod.POST,
+                                                   new HttpEntity<>(body, headers));
+
+        check(response, httpStatusEquals(HttpStatus.OK));
+        check(response, sqlBudget(2));
+        check(response, sqlRepeatLimit(1));
+    }
+
+    @Test
+    public void testReauthenticate() {
+        ResponseEntity<String> response = exchange("/api/reauthenticate", HttpMethod.POST, authorized(USER_ID));
+
+        check(response, httpStatusEquals(HttpStatus.OK));
+        check(response, sqlBudget(1));
+        check(response, sqlRepeatLimit(1));
+    }
+
+    @Test
+    public void testGetProfilesByEmail() {
+        ResponseEntity<String> response = exchange("/api/user-app/profile?email=" + LoadDataSeeder.email(USER_ID),
+                                                   HttpMethod.GET, authorized(1));
+
+        check(response, httpStatusEquals(HttpStatus.OK));
+        check(response, sqlBudget(2));
+        check(response, sqlRepeatLimit(1));
+    }
+
+    @Test
+    public void testGetProfileById() {
+        ResponseEntity<String> response = exchange("/api/user-app/profile/" + USER_ID, HttpMethod.GET,
+                                                   authorized(1));
+
+        check(response, httpStatusEquals(HttpStatus.OK));
+        check(response, sqlBudget(2));
+        check(response, sqlRepeatLimit(1));
+    }
+
+    @Test
+    public void testGetCurrentUser() {
+        ResponseEntity<String> response = exchange("/api/user-app/profile/current-user", HttpMethod.GET,
+                                                   authorized(USER_ID));
+
+        check(response, httpStatusEquals(HttpStatus.OK));
+        check(response, sqlBudget(2));
+        check(response, sqlRepeatLimit(1));
+    }
+
+    private ResponseEntity<String> exchange(String path, HttpMethod method, HttpEntity<?> request) {
+        return restTemplate.exchange(path, method, request, String.class);
+    }
+
+    private HttpEntity<Void> authorized(int id) {
+        User user = new User();
+        user.setId(id);
+        user.setFirstName("Budget");
+        user.setLastName("User" + id);
+        user.setEmail(LoadDataSeeder.email(id));
+        user.setWebRole(LoadDataSeeder.webRole(id));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.AUTHORIZATION, "Bearer: " + jwtTokenUtil.generateToken(user));
+        return new HttpEntity<>(headers);
+    }
+}
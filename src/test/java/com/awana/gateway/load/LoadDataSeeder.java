@@ -0,0 +1,105 @@
+package com.awana.gateway.load;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.awana.app.user.client.domain.WebRole;
+
+/**
+ * Builds the tables from the db/migration scripts and seeds them with load
+ * users. Every user gets the same password hash so seeding a large table does
+ * not spend its time in BCrypt. User {@code i} has the email
+ * {@code load<i>@test.com} and every {@link #ADMIN_EVERY}th user, starting
+ * with the first, is an admin.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public class LoadDataSeeder {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadDataSeeder.class);
+
+    public static final int ADMIN_EVERY = 100;
+
+    private static final int BATCH_SIZE = 10000;
+
+    private final JdbcTemplate template;
+
+    public LoadDataSeeder(DataSource dataSource) {
+        this.template = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Runs the db/migration scripts on the classpath in version order.
+     */
+    public void buildTables() throws IOException {
+        Resource[] scripts = new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/V*.sql");
+        Arrays.sort(scripts, Comparator.comparing(LoadDataSeeder::version, Arrays::compare));
+
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+        for(Resource script : scripts) {
+            LOGGER.info("Executing SQL script : '{}'", script.getFilename());
+            populator.addScript(script);
+        }
+        populator.execute(template.getDataSource());
+    }
+
+    /**
+     * Inserts the given number of users with their credentials.
+     *
+     * @param users        The number of users to insert.
+     * @param passwordHash The BCrypt hash to store for every user.
+     */
+    public void seedUsers(int users, String passwordHash) {
+        long begin = System.nanoTime();
+        for(int from = 1; from <= users; from += BATCH_SIZE) {
+            List<Object[]> profiles = new ArrayList<>(BATCH_SIZE);
+            List<Object[]> credentials = new ArrayList<>(BATCH_SIZE);
+            for(int id = from; id < from + BATCH_SIZE && id <= users; id++) {
+                profiles.add(new Object[] {id, "Load", "User" + id, email(id), webRole(id).toString()});
+                credentials.add(new Object[] {id, passwordHash});
+            }
+            template.batchUpdate("INSERT INTO user_profile (id, first_name, last_name, email, web_role) VALUES (?, ?, ?, ?, ?)",
+                                 profiles);
+            template.batchUpdate("INSERT INTO user_credentials (user_id, password) VALUES (?, ?)", credentials);
+        }
+        LOGGER.info("Seeded {} load users in {}ms", users, (System.nanoTime() - begin) / 1000000);
+    }
+
+    /**
+     * Email of the seeded user with the given id.
+     *
+     * @param id The id of the user.
+     * @return {@link String} of the email.
+     */
+    public static String email(int id) {
+        return String.format("load%d@test.com", id);
+    }
+
+    /**
+     * Role of the seeded user with the given id.
+     *
+     * @param id The id of the user.
+     * @return {@link WebRole} of the user.
+     */
+    public static WebRole webRole(int id) {
+        return id % ADMIN_EVERY == 1 ? WebRole.ADMIN : WebRole.USER;
+    }
+
+    private static int[] version(Resource script) {
+        String name = script.getFilename();
+        String version = name.substring(1, name.indexOf("__"));
+        return Arrays.stream(version.split("\\.")).mapToInt(Integer::parseInt).toArray();
+    }
+}
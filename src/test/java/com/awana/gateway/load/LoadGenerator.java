@@ -0,0 +1,200 @@
+package com.awana.gateway.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import com.awana.common.metrics.LatencyHistogram;
+import com.awana.common.metrics.domain.HistogramSnapshot;
+
+/**
+ * Sends http requests to the app under a closed or an open workload.
+ *
+ * In the closed model a fixed number of clients send requests back to back,
+ * so the rate drops as the app slows down. In the open model requests arrive
+ * at a fixed rate no matter how long earlier ones take. Latency is measured
+ * from when the request was due to be sent, so a stalled app shows up in the
+ * percentiles instead of lowering the rate.
+ *
+ * A request counts as an error if it fails or does not get a 2xx or 304.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public class LoadGenerator {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+
+    public LoadGenerator() {
+        this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5)).executor(Executors.newCachedThreadPool()).build();
+    }
+
+    /**
+     * Runs a closed workload of clients sending requests back to back.
+     *
+     * @param name     The name of the endpoint.
+     * @param clients  The number of clients.
+     * @param duration How long to send requests for.
+     * @param requests Supplies a builder of the next request to send.
+     * @return {@link Result} of the run.
+     */
+    public Result closed(String name, int clients, Duration duration, Supplier<HttpRequest.Builder> requests)
+            throws InterruptedException {
+        Result result = new Result(name, String.format("closed %d clients", clients));
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        for(int i = 0; i < clients; i++) {
+            pool.execute(() -> {
+                while(System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    try {
+                        HttpRequest request = requests.get().timeout(REQUEST_TIMEOUT).build();
+                        result.complete(start, client.send(request, HttpResponse.BodyHandlers.discarding()));
+                    }
+                    catch(Exception e) {
+                        result.fail(start);
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(duration.plus(REQUEST_TIMEOUT).toMillis(), TimeUnit.MILLISECONDS);
+        return result.finish();
+    }
+
+    /**
+     * Runs an open workload where requests arrive at a fixed rate.
+     *
+     * @param name     The name of the endpoint.
+     * @param rate     The number of requests to send each second.
+     * @param duration How long to send requests for.
+     * @param requests Supplies a builder of the next request to send.
+     * @return {@link Result} of the run.
+     */
+    public Result open(String name, int rate, Duration duration, Supplier<HttpRequest.Builder> requests)
+            throws InterruptedException {
+        Result result = new Result(name, String.format("open %d/s", rate));
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long total = duration.getSeconds() * rate;
+        long begin = System.nanoTime();
+        Phaser outstanding = new Phaser(1);
+
+        for(long i = 0; i < total; i++) {
+            long due = begin + i * interval;
+            long wait = due - System.nanoTime();
+            if(wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            HttpRequest request = requests.get().timeout(REQUEST_TIMEOUT).build();
+            outstanding.register();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if(error == null) {
+                            result.complete(due, response);
+                        }
+                        else {
+                            result.fail(due);
+                        }
+                        outstanding.arriveAndDeregister();
+                    });
+        }
+        try {
+            outstanding.awaitAdvanceInterruptibly(outstanding.arrive(), REQUEST_TIMEOUT.toMillis() * 2,
+                                                  TimeUnit.MILLISECONDS);
+        }
+        catch(TimeoutException e) {
+            // Requests still running are counted as missing in the result
+        }
+        return result.finish();
+    }
+
+    /**
+     * Result of a run against a single endpoint.
+     */
+    public static class Result {
+        private final String name;
+
+        private final String model;
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private final LongAdder errors = new LongAdder();
+
+        private final long begin = System.nanoTime();
+
+        private long elapsed;
+
+        private Result(String name, String model) {
+            this.name = name;
+            this.model = model;
+        }
+
+        private void complete(long start, HttpResponse<?> response) {
+            latency.record(System.nanoTime() - start);
+            int status = response.statusCode();
+            if((status < 200 || status >= 300) && status != 304) {
+                errors.increment();
+            }
+        }
+
+        private void fail(long start) {
+            latency.record(System.nanoTime() - start);
+            errors.increment();
+        }
+
+        private Result finish() {
+            elapsed = System.nanoTime() - begin;
+            return this;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getModel() {
+            return model;
+        }
+
+        public long getRequests() {
+            return latency.snapshot().getCount();
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        public double getThroughput() {
+            return getRequests() / (elapsed / 1e9);
+        }
+
+        public double getErrorRate() {
+            long requests = getRequests();
+            return requests == 0 ? 0 : (double) getErrors() / requests;
+        }
+
+        public HistogramSnapshot getLatency() {
+            return latency.snapshot();
+        }
+
+        @Override
+        public String toString() {
+            HistogramSnapshot snapshot = latency.snapshot();
+            return String.format("%8.1f req/s  p50 %7.1fms  p90 %7.1fms  p99 %7.1fms  max %7.1fms  errors %5.2f%%",
+                                 getThroughput(), snapshot.getP50Micros() / 1000.0, snapshot.getP90Micros() / 1000.0,
+                                 snapshot.getP99Micros() / 1000.0, snapshot.getMaxMicros() / 1000.0,
+                                 getErrorRate() * 100);
+        }
+    }
+}
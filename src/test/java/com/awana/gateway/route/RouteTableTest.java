@@ -0,0 +1,73 @@
+package com.awana.gateway.route;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import com.awana.app.user.client.domain.WebRole;
+import com.awana.test.factory.annotations.AwanaTest;
+
+/**
+ * Test class for the Route Table.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaTest
+public class RouteTableTest {
+
+    private RouteTable table;
+
+    @BeforeEach
+    public void setup() {
+        table = RouteTable.builder().permit(HttpMethod.POST, "/api/authenticate")
+                .permit(HttpMethod.GET, "/api/user-app/profile/{id}/public").permit(HttpMethod.OPTIONS, "/**")
+                .require("/api/subscription-app/**", WebRole.DEVELOPER, HttpMethod.GET, HttpMethod.POST).build();
+    }
+
+    @Test
+    public void testMatchExactRoute() {
+        Route route = table.match("POST", "/api/authenticate");
+
+        assertNotNull(route, "Route should match");
+        assertTrue(route.isPublic(), "Route should be public");
+    }
+
+    @Test
+    public void testMatchExactRouteWrongMethod() {
+        assertNull(table.match("GET", "/api/authenticate"), "Route should not match");
+    }
+
+    @Test
+    public void testMatchWildcardRoute() {
+        assertNotNull(table.match("GET", "/api/user-app/profile/12/public"), "Path variable route");
+        assertNull(table.match("GET", "/api/user-app/profile/12"), "Path variable route without suffix");
+        assertNotNull(table.match("OPTIONS", "/api/user-app/profile"), "Catch all route");
+    }
+
+    @Test
+    public void testMatchRoleRoute() {
+        Route route = table.match("POST", "/api/subscription-app/user/1/notification");
+
+        assertFalse(route.isPublic(), "Route should not be public");
+        assertEquals(WebRole.DEVELOPER, route.getRequiredRole(), "Required role");
+    }
+
+    @Test
+    public void testMatchPrefersLongestPrefix() {
+        Route route = table.match("OPTIONS", "/api/subscription-app/users");
+        assertEquals("/**", route.getPattern(), "Options route should not require a role");
+    }
+
+    @Test
+    public void testMatchUnknownMethod() {
+        assertNull(table.match("FAKE", "/api/authenticate"), "Unknown method");
+    }
+
+    @Test
+    public void testSize() {
+        assertEquals(5, table.size(), "Route count");
+    }
+}
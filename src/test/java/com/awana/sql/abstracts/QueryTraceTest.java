@@ -0,0 +1,155 @@
+package com.awana.sql.abstracts;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.awana.test.factory.annotations.AwanaTest;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Test class for the Query Trace.
+ *
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+@AwanaTest
+public class QueryTraceTest {
+    private static final String EVENT = "com.awana.SqlQuery";
+
+    @Test
+    public void testQueryEventsWhileRecording() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            QueryTrace.fragment("getUsers");
+            try(QueryTrace trace = QueryTrace.start()) {
+                trace.rows(List.of(1, 2, 3));
+            }
+            QueryTrace.fragment("getUserVersion");
+            try(QueryTrace trace = QueryTrace.start()) {
+                trace.rows(Optional.empty());
+            }
+            try(QueryTrace trace = QueryTrace.start()) {
+                trace.updated(4);
+            }
+        });
+
+        assertEquals(3, events.size(), "Event count");
+        assertEquals("getUsers", events.get(0).getString("fragment"), "First fragment");
+        assertEquals(3, events.get(0).getInt("rows"), "First rows");
+        assertEquals("getUserVersion", events.get(1).getString("fragment"), "Second fragment");
+        assertEquals(0, events.get(1).getInt("rows"), "Second rows");
+        assertNull(events.get(2).getString("fragment"), "Fragment is not carried over");
+        assertEquals(4, events.get(2).getInt("rows"), "Third rows");
+    }
+
+    @Test
+    public void testFailedQueryHasNoRows() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            QueryTrace.fragment("deleteUser");
+            QueryTrace trace = QueryTrace.start();
+            try(trace) {
+                throw new IllegalStateException("Query failed");
+            }
+            catch(IllegalStateException e) {
+                // expected
+            }
+        });
+
+        assertEquals(1, events.size(), "Event count");
+        assertEquals("deleteUser", events.get(0).getString("fragment"), "Fragment");
+        assertEquals(-1, events.get(0).getInt("rows"), "Rows");
+    }
+
+    @Test
+    public void testFragmentNotKeptWhenNotRecording() throws Exception {
+        QueryTrace.fragment("getUsers");
+
+        List<RecordedEvent> events = record(() -> {
+            try(QueryTrace trace = QueryTrace.start()) {
+                trace.updated(1);
+            }
+        });
+
+        assertEquals(1, events.size(), "Event count");
+        assertNull(events.get(0).getString("fragment"), "Fragment");
+    }
+
+    @Test
+    public void testStatementsCountedWhenBound() {
+        try(QueryTrace trace = QueryTrace.start()) {
+            trace.updated(1);
+        }
+
+        SqlStatementCounter counter = SqlStatementCounter.begin();
+        try {
+            try(QueryTrace trace = QueryTrace.start()) {
+                trace.rows(List.of(1, 2, 3));
+            }
+            try(QueryTrace trace = QueryTrace.start()) {
+                trace.updated(2);
+            }
+            QueryTrace trace = QueryTrace.start();
+            try(trace) {
+                throw new IllegalStateException("Query failed");
+            }
+            catch(IllegalStateException e) {
+                // expected
+            }
+        }
+        finally {
+            SqlStatementCounter.end();
+        }
+
+        assertEquals(3, counter.getStatements(), "Statements");
+        assertEquals(5, counter.getRows(), "Rows");
+        assertNull(SqlStatementCounter.current(), "Counter removed");
+    }
+
+    @Test
+    public void testRepeatedFragmentsCountedWhenBound() {
+        SqlStatementCounter counter = SqlStatementCounter.begin();
+        try {
+            for(String fragment : List.of("getUsers", "getUserVersion", "getUserVersion", "getUserVersion")) {
+                QueryTrace.fragment(fragment);
+                try(QueryTrace trace = QueryTrace.start()) {
+                    trace.rows(Optional.of(1));
+                }
+            }
+            try(QueryTrace trace = QueryTrace.start()) {
+                trace.updated(1);
+            }
+        }
+        finally {
+            SqlStatementCounter.end();
+        }
+
+        assertEquals(5, counter.getStatements(), "Statements");
+        assertEquals(Map.of("getUserVersion", 3), counter.getRepeatedFragments(), "Repeated fragments");
+    }
+
+    private static List<RecordedEvent> record(Runnable work) throws Exception {
+        Path file = Files.createTempFile("query-trace", ".jfr");
+        try(Recording recording = new Recording()) {
+            recording.enable(EVENT).withoutThreshold();
+            recording.start();
+            work.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals(EVENT)).collect(Collectors.toList());
+        }
+        finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
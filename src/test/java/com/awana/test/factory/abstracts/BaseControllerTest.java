@@ -69,6 +69,16 @@ public abstract class BaseControllerTest extends RequestTestUtil {
         }
     }
 
+    /**
+     * Adds a header to send with the next calls of the test.
+     * 
+     * @param name  The name of the header.
+     * @param value The value of the header.
+     */
+    protected void addHeader(String name, String value) {
+        headers.set(name, value);
+    }
+
     /**
      * Perform a GET call on the given api and expect an error.
      * 
@@ -0,0 +1,50 @@
+package com.awana.test.factory.abstracts;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+
+import com.awana.sql.abstracts.SqlStatementCounter;
+
+/**
+ * Base Test class for dao classes running sql against the test database.
+ * 
+ * @author Sam Butler
+ * @since October 19, 2026
+ */
+public abstract class BaseDaoTest {
+
+    @AfterEach
+    public void clearSqlCounter() {
+        SqlStatementCounter.end();
+    }
+
+    /**
+     * Counts the sql statements run by the given work.
+     * 
+     * @param work The dao calls to count.
+     * @return {@link SqlStatementCounter} of the work.
+     */
+    protected SqlStatementCounter countSql(Runnable work) {
+        SqlStatementCounter counter = SqlStatementCounter.begin();
+        try {
+            work.run();
+            return counter;
+        }
+        finally {
+            SqlStatementCounter.end();
+        }
+    }
+
+    /**
+     * Assert the given work runs no more sql statements than its budget. Pins the
+     * query budget of a dao call so a test fails when it regresses.
+     * 
+     * @param statements The most statements the work may run.
+     * @param work       The dao calls to count.
+     */
+    protected void assertSqlBudget(int statements, Runnable work) {
+        int ran = countSql(work).getStatements();
+        assertTrue(ran <= statements, String.format("Ran %d sql statements, budget is %d", ran, statements));
+    }
+}
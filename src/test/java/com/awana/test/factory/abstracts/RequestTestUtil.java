@@ -8,6 +8,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import com.awana.common.exception.domain.ExceptionError;
+import com.awana.common.metrics.SqlStatementHeaderAdvice;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
@@ -141,6 +142,63 @@ public abstract class RequestTestUtil {
         };
     }
 
+    /**
+     * Verify the request ran no more sql statements than its budget. Pins the
+     * query budget of an endpoint so a test fails when it regresses.
+     * 
+     * @param <T>        type of object from ResponseEntity
+     * @param statements The most statements the request may run
+     * @return Consumer to verify the response
+     */
+    public static <T> Consumer<ResponseEntity<T>> sqlBudget(int statements) {
+        return responseEntity -> assertSqlBudget(statements, responseEntity);
+    }
+
+    /**
+     * Assert that the statements counted in the {@code X-Sql-Statements} header
+     * of the ResponseEntity are within the budget.
+     * 
+     * @param statements The most statements the request may run
+     * @param given      ResponseEntity provided
+     */
+    public static void assertSqlBudget(int statements, ResponseEntity<?> given) {
+        String header = given.getHeaders().getFirst(SqlStatementHeaderAdvice.STATEMENTS_HEADER);
+        assertNotNull(header, "Sql statement header");
+        int ran = Integer.parseInt(header);
+        assertTrue(ran <= statements, String.format("Ran %d sql statements, budget is %d", ran, statements));
+    }
+
+    /**
+     * Verify no sql fragment ran more than the given times in the request. Pins
+     * the request against N+1 queries, where one fragment runs per row.
+     * 
+     * @param <T>   type of object from ResponseEntity
+     * @param times The most times a single fragment may run
+     * @return Consumer to verify the response
+     */
+    public static <T> Consumer<ResponseEntity<T>> sqlRepeatLimit(int times) {
+        return responseEntity -> assertSqlRepeatLimit(times, responseEntity);
+    }
+
+    /**
+     * Assert that every fragment in the {@code X-Sql-Repeated} header of the
+     * ResponseEntity ran no more than the given times.
+     * 
+     * @param times The most times a single fragment may run
+     * @param given ResponseEntity provided
+     */
+    public static void assertSqlRepeatLimit(int times, ResponseEntity<?> given) {
+        assertNotNull(given.getHeaders().getFirst(SqlStatementHeaderAdvice.STATEMENTS_HEADER), "Sql statement header");
+        String header = given.getHeaders().getFirst(SqlStatementHeaderAdvice.REPEATED_HEADER);
+        if(header == null) {
+            return;
+        }
+        for(String repeat : header.split(",")) {
+            int ran = Integer.parseInt(repeat.substring(repeat.lastIndexOf('=') + 1));
+            assertTrue(ran <= times, String.format("Fragment %s, limit is %d", repeat, times));
+        }
+    }
+
     /**
      * Assert that the expected HttpStatus matches the ResponseEntity provides
      * status code.
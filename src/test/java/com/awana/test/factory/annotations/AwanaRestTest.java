@@ -16,6 +16,6 @@ import com.awana.test.factory.resolver.ActiveProfileRestTestResolver;
  * @since July 31, 2021
  */
 @Retention(RetentionPolicy.RUNTIME)
-@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = "awana.sql.statement-header=true")
 @ActiveProfiles(resolver = ActiveProfileRestTestResolver.class)
 public @interface AwanaRestTest {}
\ No newline at end of file